@@ -44,7 +44,7 @@ public class CachedConnectionManagementStrategyTestCase extends AbstractMuleTest
   @Before
   public void before() throws Exception {
     when(connectionProvider.connect()).thenReturn(connection);
-    connectionStrategy = new CachedConnectionManagementStrategy<>(connectionProvider, muleContext);
+    connectionStrategy = new CachedConnectionManagementStrategy<>(connectionProvider, muleContext, false);
     when(connectionProvider.validate(connection)).thenReturn(ConnectionValidationResult.success());
   }
 
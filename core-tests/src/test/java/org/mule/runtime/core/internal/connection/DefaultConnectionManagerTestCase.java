@@ -6,32 +6,51 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.lang.System.clearProperty;
+import static java.lang.System.setProperty;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Answers.RETURNS_DEEP_STUBS;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mule.runtime.api.config.PoolingProfile.DEFAULT_MAX_POOL_WAIT;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
 import static org.mule.runtime.api.connection.ConnectionValidationResult.failure;
 import static org.mule.runtime.api.connection.ConnectionValidationResult.success;
 import static org.mule.runtime.core.api.config.MuleProperties.OBJECT_CONNECTION_MANAGER;
+import static org.mule.runtime.core.api.context.notification.ConnectionNotification.CONNECTION_CONNECTED;
+import static org.mule.runtime.core.internal.connection.ConnectionManagementStrategyFactory.WARM_UP_POOLED_CONNECTIONS_PROPERTY;
+import static org.mule.runtime.core.internal.connection.DefaultConnectionManager.CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY;
+import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.CachedConnectionProvider;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionHandler;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
 import org.mule.runtime.api.connection.PoolingConnectionProvider;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.context.notification.ServerNotification;
+import org.mule.runtime.core.api.retry.policy.NoRetryPolicyTemplate;
+import org.mule.runtime.core.api.scheduler.SchedulerConfig;
 import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.junit4.rule.SystemProperty;
 import org.mule.tck.testmodels.fruit.Apple;
 import org.mule.tck.testmodels.fruit.Banana;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
 import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.runners.MockitoJUnitRunner;
 
@@ -46,6 +65,9 @@ public class DefaultConnectionManagerTestCase extends AbstractMuleTestCase {
 
   private ConnectionProvider<Banana> testeableConnectionProvider;
 
+  @Rule
+  public SystemProperty circuitBreakerFailureThreshold = new SystemProperty(CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY, "2");
+
   @Mock(answer = RETURNS_DEEP_STUBS)
   private MuleContext muleContext;
 
@@ -159,4 +181,74 @@ public class DefaultConnectionManagerTestCase extends AbstractMuleTestCase {
     verify(connectionProvider, never()).disconnect(connection);
   }
 
+  @Test
+  public void noWarmUpOnStartByDefault() throws Exception {
+    Scheduler scheduler = mockWarmUpScheduler();
+    bindPoolingProvider();
+
+    connectionManager.start();
+    verify(testeableConnectionProvider, never()).connect();
+    verify(scheduler, never()).execute(any(Runnable.class));
+
+    connectionManager.stop();
+  }
+
+  @Test
+  public void warmUpOnStart() throws Exception {
+    Scheduler scheduler = mockWarmUpScheduler();
+    setProperty(WARM_UP_POOLED_CONNECTIONS_PROPERTY, "true");
+    try {
+      bindPoolingProvider();
+    } finally {
+      clearProperty(WARM_UP_POOLED_CONNECTIONS_PROPERTY);
+    }
+    verify(testeableConnectionProvider, never()).connect();
+
+    connectionManager.start();
+    verify(testeableConnectionProvider).connect();
+
+    ArgumentCaptor<ServerNotification> notification = ArgumentCaptor.forClass(ServerNotification.class);
+    verify(muleContext).fireNotification(notification.capture());
+    assertThat(notification.getValue().getAction(), is(CONNECTION_CONNECTED));
+
+    connectionManager.getConnection(config);
+    verify(testeableConnectionProvider).connect();
+
+    connectionManager.stop();
+    verify(scheduler).stop();
+  }
+
+  private Scheduler mockWarmUpScheduler() {
+    Scheduler scheduler = mock(Scheduler.class);
+    doAnswer(invocation -> {
+      ((Runnable) invocation.getArguments()[0]).run();
+      return null;
+    }).when(scheduler).execute(any(Runnable.class));
+    when(muleContext.getSchedulerService().ioScheduler(any(SchedulerConfig.class))).thenReturn(scheduler);
+    return scheduler;
+  }
+
+  private void bindPoolingProvider() throws Exception {
+    testeableConnectionProvider = mockConnectionProvider(PoolingConnectionProvider.class);
+    PoolingProfile poolingProfile = new PoolingProfile(2, 2, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_ONE);
+    connectionManager.bind(config, new PoolingConnectionProviderWrapper<>(testeableConnectionProvider, poolingProfile, true,
+                                                                          new NoRetryPolicyTemplate()));
+  }
+
+  @Test
+  public void circuitBreakerFailsFast() throws Exception {
+    ConnectionProvider<Banana> failingProvider = mock(ConnectionProvider.class);
+    when(failingProvider.connect()).thenThrow(new ConnectionException("backend down"));
+    connectionManager.bind(config, failingProvider);
+
+    for (int i = 0; i < 3; ++i) {
+      try {
+        connectionManager.getConnection(config);
+      } catch (ConnectionException e) {
+        // expected
+      }
+    }
+
+    verify(failingProvider, times(2)).connect();
+  }
 }
@@ -6,9 +6,11 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
@@ -17,12 +19,15 @@ import static org.mockito.Matchers.anyObject;
 import static org.mockito.Matchers.anyVararg;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.config.PoolingProfile.DEFAULT_MAX_POOL_WAIT;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
 import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_NONE;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ONE;
 import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
 import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_WAIT;
 import static org.mule.tck.MuleTestUtils.spyInjector;
@@ -37,11 +42,15 @@ import org.mule.runtime.api.lifecycle.Lifecycle;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
 import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.runners.MockitoJUnitRunner;
+import reactor.core.publisher.Mono;
 
 @RunWith(MockitoJUnitRunner.class)
 public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleContextTestCase {
@@ -55,6 +64,8 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
       new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE);
   private PoolingConnectionManagementStrategy<Lifecycle> strategy;
   private PoolingListener<Lifecycle> poolingListener;
+  private boolean warmUp = false;
+  private Executor refillExecutor = Runnable::run;
   private Injector injector;
 
   private ConnectionHandler<Lifecycle> connection1;
@@ -126,6 +137,25 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
     assertThat(strategy.getConnectionHandler(), is(notNullValue()));
   }
 
+  @Test
+  public void connectionReleasedTwiceFreesItsPlaceOnce() throws Exception {
+    // without idle connections, released connections are destroyed
+    poolingProfile = new PoolingProfile(1, 0, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_FAIL, INITIALISE_NONE);
+    initStrategy();
+
+    ConnectionHandler<Lifecycle> connectionHandler = strategy.getConnectionHandler();
+    connectionHandler.release();
+    connectionHandler.release();
+
+    assertThat(strategy.getConnectionHandler(), is(notNullValue()));
+    try {
+      strategy.getConnectionHandler();
+      fail("Was expecting the pool to be exhausted");
+    } catch (ConnectionException e) {
+      // expected
+    }
+  }
+
   @Test
   public void release() throws Exception {
     connection1.release();
@@ -139,6 +169,133 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
     verifyThat(Lifecycle::dispose);
   }
 
+  @Test
+  public void asyncBorrowWaitsForReleasedConnection() throws Exception {
+    AtomicReference<ConnectionHandler<Lifecycle>> waiting = new AtomicReference<>();
+    strategy.getConnectionHandlerAsync().subscribe(waiting::set);
+
+    assertThat(waiting.get(), is(nullValue()));
+    assertThat(strategy.getPoolStatistics().getWaitingRequests(), is(1));
+
+    Lifecycle released = connection1.getConnection();
+    connection1.release();
+
+    assertThat(waiting.get().getConnection(), is(sameInstance(released)));
+    assertThat(strategy.getPoolStatistics().getWaitingRequests(), is(0));
+    verify(connectionProvider, times(2)).connect();
+  }
+
+  @Test
+  public void borrowTimesOut() throws Exception {
+    poolingProfile = new PoolingProfile(1, 1, 50, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE);
+    initStrategy();
+    ConnectionHandler<Lifecycle> connectionHandler = strategy.getConnectionHandler();
+
+    try {
+      strategy.getConnectionHandler();
+      fail("Was expecting the borrow to time out");
+    } catch (ConnectionException e) {
+      assertThat(e.getCause(), instanceOf(NoSuchElementException.class));
+    }
+    assertThat(strategy.getPoolStatistics().getWaitingRequests(), is(0));
+
+    connectionHandler.release();
+    assertThat(strategy.getPoolStatistics().getIdleConnections(), is(1));
+  }
+
+  @Test
+  public void asyncBorrowTimesOut() throws Exception {
+    poolingProfile = new PoolingProfile(1, 1, 50, WHEN_EXHAUSTED_WAIT, INITIALISE_NONE);
+    initStrategy();
+    ConnectionHandler<Lifecycle> connectionHandler = strategy.getConnectionHandler();
+
+    AtomicReference<Throwable> error = new AtomicReference<>();
+    strategy.getConnectionHandlerAsync().doOnError(error::set).onErrorResume(e -> Mono.empty()).block();
+
+    assertThat(error.get(), instanceOf(ConnectionException.class));
+    assertThat(error.get().getCause(), instanceOf(NoSuchElementException.class));
+    assertThat(strategy.getPoolStatistics().getWaitingRequests(), is(0));
+
+    connectionHandler.release();
+    assertThat(strategy.getPoolStatistics().getIdleConnections(), is(1));
+  }
+
+  @Test
+  public void poolStatistics() throws Exception {
+    ConnectionPoolStatistics statistics = strategy.getPoolStatistics();
+    assertThat(statistics.getActiveConnections(), is(2));
+    assertThat(statistics.getIdleConnections(), is(0));
+    assertThat(statistics.getBorrowLatencies().getCount(), is(2L));
+
+    connection1.release();
+    assertThat(statistics.getActiveConnections(), is(1));
+    assertThat(statistics.getIdleConnections(), is(1));
+  }
+
+  @Test
+  public void releasedConnectionIsReused() throws Exception {
+    Lifecycle released = connection1.getConnection();
+    connection1.release();
+
+    assertThat(strategy.getConnectionHandler().getConnection(), is(sameInstance(released)));
+    verify(connectionProvider, times(2)).connect();
+  }
+
+  @Test
+  public void connectionReleasedAfterCloseIsDisconnected() throws Exception {
+    strategy.close();
+    connection1.release();
+
+    verify(connectionProvider).disconnect(connection1.getConnection());
+  }
+
+  @Test
+  public void noWarmUpUnlessEnabled() throws Exception {
+    poolingProfile = new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_ONE);
+    resetConnectionProvider();
+    initStrategy();
+
+    assertThat(strategy.getWarmUpTarget(), is(0));
+    strategy.warmUpConnection();
+    verify(connectionProvider, never()).connect();
+  }
+
+  @Test
+  public void warmUp() throws Exception {
+    poolingProfile = new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_ALL);
+    warmUp = true;
+    resetConnectionProvider();
+    initStrategy();
+
+    assertThat(strategy.getWarmUpTarget(), is(MAX_ACTIVE));
+    for (int i = 0; i <= MAX_ACTIVE; ++i) {
+      strategy.warmUpConnection();
+    }
+
+    verify(connectionProvider, times(MAX_ACTIVE)).connect();
+    assertThat(strategy.getPoolStatistics().getIdleConnections(), is(MAX_ACTIVE));
+
+    strategy.getConnectionHandler();
+    verify(connectionProvider, times(MAX_ACTIVE)).connect();
+  }
+
+  @Test
+  public void invalidatedConnectionIsRefilled() throws Exception {
+    poolingProfile = new PoolingProfile(MAX_ACTIVE, MAX_ACTIVE, DEFAULT_MAX_POOL_WAIT, WHEN_EXHAUSTED_WAIT, INITIALISE_ALL);
+    warmUp = true;
+    resetConnectionProvider();
+    initStrategy();
+    strategy.warmUpConnection();
+    strategy.warmUpConnection();
+
+    doThrow(new RuntimeException()).when(poolingListener).onReturn(any(Lifecycle.class));
+    strategy.getConnectionHandler().release();
+
+    verify(connectionProvider).disconnect(any(Lifecycle.class));
+    verify(connectionProvider, times(MAX_ACTIVE + 1)).connect();
+    assertThat(strategy.getPoolStatistics().getIdleConnections(), is(MAX_ACTIVE));
+  }
+
   @Test(expected = ConnectionException.class)
   public void failDueToInvalidConnection() throws ConnectionException {
     when(connectionProvider.validate(anyVararg())).thenReturn(ConnectionValidationResult
@@ -161,7 +318,8 @@ public class PoolingConnectionManagementStrategyTestCase extends AbstractMuleCon
   }
 
   private void initStrategy() {
-    strategy = new PoolingConnectionManagementStrategy<>(connectionProvider, poolingProfile, poolingListener, muleContext);
+    strategy = new PoolingConnectionManagementStrategy<>(connectionProvider, poolingProfile, poolingListener, muleContext,
+                                                        warmUp, refillExecutor);
   }
 
   private <T> void verifyThat(Assertion<T> assertion) throws Exception {
@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.core.api.context.notification.FlowStackElement;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.EmptyStackException;
+
+import org.junit.Test;
+
+@SmallTest
+public class DefaultFlowCallStackTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void pushAndPop() {
+    DefaultFlowCallStack stack = new DefaultFlowCallStack();
+    stack.push(new FlowStackElement("flow", null));
+    stack.push(new FlowStackElement("subFlow", null));
+    stack.setCurrentProcessorPath("subFlow/processors/0");
+
+    assertThat(stack.toString(), is("at subFlow(subFlow/processors/0)" + System.lineSeparator() + "at flow"));
+    assertThat(stack.pop().getFlowName(), is("subFlow"));
+    assertThat(stack.toString(), is("at flow"));
+  }
+
+  @Test
+  public void cloneIsIndependent() {
+    DefaultFlowCallStack stack = new DefaultFlowCallStack();
+    stack.push(new FlowStackElement("flow", null));
+    DefaultFlowCallStack cloned = stack.clone();
+
+    cloned.push(new FlowStackElement("subFlow", null));
+    stack.setCurrentProcessorPath("flow/processors/1");
+
+    assertThat(stack.toString(), is("at flow(flow/processors/1)"));
+    assertThat(cloned.toString(), is("at subFlow" + System.lineSeparator() + "at flow"));
+    assertThat(cloned.pop().getFlowName(), is("subFlow"));
+    assertThat(cloned.getElements().size(), is(1));
+  }
+
+  @Test
+  public void elementsFromTopToBottom() {
+    DefaultFlowCallStack stack = new DefaultFlowCallStack();
+    assertThat(stack.getElements(), is(empty()));
+    FlowStackElement flow = new FlowStackElement("flow", null);
+    FlowStackElement subFlow = new FlowStackElement("subFlow", null);
+    stack.push(flow);
+    stack.push(subFlow);
+    assertThat(stack.getElements(), contains(subFlow, flow));
+  }
+
+  @Test(expected = EmptyStackException.class)
+  public void popEmpty() {
+    new DefaultFlowCallStack().pop();
+  }
+}
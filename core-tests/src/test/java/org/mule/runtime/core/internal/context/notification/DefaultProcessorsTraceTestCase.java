@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class DefaultProcessorsTraceTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void emptyTrace() {
+    DefaultProcessorsTrace trace = new DefaultProcessorsTrace(4);
+    assertThat(trace.getExecutedProcessors(), is(empty()));
+    assertThat(trace.getDiscardedCount(), is(0L));
+  }
+
+  @Test
+  public void keepsExecutionOrder() {
+    DefaultProcessorsTrace trace = new DefaultProcessorsTrace(4);
+    trace.addExecutedProcessors("a");
+    trace.addExecutedProcessors("b");
+    trace.addExecutedProcessors("c");
+    assertThat(trace.getExecutedProcessors(), contains("a", "b", "c"));
+  }
+
+  @Test
+  public void discardsOldestWhenFull() {
+    DefaultProcessorsTrace trace = new DefaultProcessorsTrace(3);
+    for (String path : new String[] {"a", "b", "c", "d", "e"}) {
+      trace.addExecutedProcessors(path);
+    }
+    assertThat(trace.getExecutedProcessors(), contains("c", "d", "e"));
+    assertThat(trace.getDiscardedCount(), is(2L));
+  }
+
+  @Test
+  public void growsUpToCapacity() {
+    DefaultProcessorsTrace trace = new DefaultProcessorsTrace(40);
+    for (int i = 0; i < 50; ++i) {
+      trace.addExecutedProcessors(String.valueOf(i));
+    }
+    assertThat(trace.getExecutedProcessors().size(), is(40));
+    assertThat(trace.getExecutedProcessors().get(0), is("10"));
+    assertThat(trace.getExecutedProcessors().get(39), is("49"));
+  }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.api.context.notification.NotificationOverflowPolicy.CALLER_RUNS;
+import static org.mule.runtime.core.api.context.notification.NotificationOverflowPolicy.DROP_NEWEST;
+import static org.mule.runtime.core.api.context.notification.NotificationOverflowPolicy.DROP_OLDEST;
+
+import org.mule.runtime.core.api.context.notification.Event1;
+import org.mule.runtime.core.api.context.notification.NotificationOverflowPolicy;
+import org.mule.runtime.core.api.context.notification.ServerNotification;
+import org.mule.runtime.core.api.context.notification.ServerNotificationListener;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.Test;
+
+@SmallTest
+public class NotificationDispatcherTestCase extends AbstractMuleTestCase {
+
+  private final List<Runnable> tasks = new ArrayList<>();
+  private final Executor executor = tasks::add;
+  private final List<String> received = new ArrayList<>();
+  private final ServerNotificationListener<ServerNotification> listener =
+      notification -> received.add(notification.getResourceIdentifier());
+
+  @Test
+  public void deliversInBatchesWithSingleTask() {
+    NotificationDispatcher dispatcher = createDispatcher(10, 2, DROP_NEWEST);
+    dispatcher.dispatch(new Event1("1"));
+    dispatcher.dispatch(new Event1("2"));
+    dispatcher.dispatch(new Event1("3"));
+    assertThat(tasks, hasSize(1));
+
+    runTasks();
+
+    assertThat(received, contains("1", "2", "3"));
+    assertThat(dispatcher.getPendingCount(), is(0));
+  }
+
+  @Test
+  public void dropNewest() {
+    NotificationDispatcher dispatcher = createDispatcher(2, 10, DROP_NEWEST);
+    dispatcher.dispatch(new Event1("1"));
+    dispatcher.dispatch(new Event1("2"));
+    dispatcher.dispatch(new Event1("3"));
+
+    runTasks();
+
+    assertThat(received, contains("1", "2"));
+    assertThat(dispatcher.getDroppedCount(), is(1L));
+  }
+
+  @Test
+  public void dropOldest() {
+    NotificationDispatcher dispatcher = createDispatcher(2, 10, DROP_OLDEST);
+    dispatcher.dispatch(new Event1("1"));
+    dispatcher.dispatch(new Event1("2"));
+    dispatcher.dispatch(new Event1("3"));
+
+    runTasks();
+
+    assertThat(received, contains("2", "3"));
+    assertThat(dispatcher.getDroppedCount(), is(1L));
+  }
+
+  @Test
+  public void callerRuns() {
+    NotificationDispatcher dispatcher = createDispatcher(1, 10, CALLER_RUNS);
+    dispatcher.dispatch(new Event1("1"));
+    dispatcher.dispatch(new Event1("2"));
+    assertThat(received, contains("2"));
+
+    runTasks();
+
+    assertThat(received, contains("2", "1"));
+    assertThat(dispatcher.getDroppedCount(), is(0L));
+  }
+
+  @Test
+  public void rejectedDeliveryIsDropped() {
+    NotificationDispatcher dispatcher = new NotificationDispatcher(listener, task -> {
+      throw new RejectedExecutionException();
+    }, 10, 10, DROP_NEWEST);
+    dispatcher.dispatch(new Event1("1"));
+    dispatcher.dispatch(new Event1("2"));
+
+    assertThat(received, hasSize(0));
+    assertThat(dispatcher.getDroppedCount(), is(2L));
+  }
+
+  @Test
+  public void rejectedDeliveryRunsOnCallerWithCallerRuns() {
+    NotificationDispatcher dispatcher = new NotificationDispatcher(listener, task -> {
+      throw new RejectedExecutionException();
+    }, 10, 1, CALLER_RUNS);
+    dispatcher.dispatch(new Event1("1"));
+    dispatcher.dispatch(new Event1("2"));
+
+    assertThat(received, contains("1", "2"));
+    assertThat(dispatcher.getDroppedCount(), is(0L));
+    assertThat(dispatcher.getPendingCount(), is(0));
+  }
+
+  @Test
+  public void listenerFailureDoesNotStopDelivery() {
+    NotificationDispatcher dispatcher = new NotificationDispatcher(notification -> {
+      received.add(notification.getResourceIdentifier());
+      throw new IllegalStateException();
+    }, executor, 10, 10, DROP_NEWEST);
+    dispatcher.dispatch(new Event1("1"));
+    dispatcher.dispatch(new Event1("2"));
+
+    runTasks();
+
+    assertThat(received, contains("1", "2"));
+  }
+
+  private NotificationDispatcher createDispatcher(int bufferSize, int batchSize, NotificationOverflowPolicy overflowPolicy) {
+    return new NotificationDispatcher(listener, executor, bufferSize, batchSize, overflowPolicy);
+  }
+
+  private void runTasks() {
+    while (!tasks.isEmpty()) {
+      tasks.remove(0).run();
+    }
+  }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.keygenerator;
+
+import static org.junit.Assert.assertEquals;
+import static org.mule.runtime.api.message.Message.of;
+
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.internal.streaming.bytes.InMemoryCursorStreamProvider;
+import org.mule.runtime.core.internal.streaming.bytes.SimpleByteBufferManager;
+import org.mule.runtime.core.streaming.bytes.InMemoryCursorStreamConfig;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+
+@SmallTest
+public class Murmur3MuleEventKeyGeneratorTestCase extends AbstractMuleContextTestCase {
+
+  private static final String TEST_INPUT = "TEST";
+
+  private static final String TEST_HASH = "1b824f45fa871fd937f6fb34373b9b60";
+
+  private Murmur3MuleEventKeyGenerator keyGenerator = new Murmur3MuleEventKeyGenerator();
+
+  @Before
+  public void before() {
+    keyGenerator.setMuleContext(muleContext);
+  }
+
+  @Test
+  public void generatesKeyApplyingMurmur3ToPayload() throws Exception {
+    String key = (String) keyGenerator.generateKey(eventBuilder().message(of(TEST_INPUT)).build());
+    assertEquals(TEST_HASH, key);
+  }
+
+  @Test
+  public void generatesKeyApplyingMurmur3ToStreamedPayload() throws Exception {
+    CursorStreamProvider provider = new InMemoryCursorStreamProvider(new ByteArrayInputStream(TEST_INPUT.getBytes()),
+                                                                     InMemoryCursorStreamConfig.getDefault(),
+                                                                     new SimpleByteBufferManager());
+    String key = (String) keyGenerator.generateKey(eventBuilder().message(of(provider)).build());
+    assertEquals(TEST_HASH, key);
+  }
+}
@@ -11,11 +11,16 @@ import static org.junit.Assert.assertEquals;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.message.Message.of;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 import org.mule.runtime.core.api.DefaultMuleException;
 import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.internal.streaming.bytes.InMemoryCursorStreamProvider;
+import org.mule.runtime.core.internal.streaming.bytes.SimpleByteBufferManager;
+import org.mule.runtime.core.streaming.bytes.InMemoryCursorStreamConfig;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 import org.mule.tck.size.SmallTest;
 
+import java.io.ByteArrayInputStream;
 import java.io.NotSerializableException;
 
 import org.junit.Before;
@@ -41,6 +46,22 @@ public class SHA256MuleEventKeyGeneratorTestCase extends AbstractMuleContextTest
     assertEquals(TEST_HASH, key);
   }
 
+  @Test
+  public void generatesKeyApplyingSHA256ToStreamedPayload() throws Exception {
+    CursorStreamProvider provider = new InMemoryCursorStreamProvider(new ByteArrayInputStream(TEST_INPUT.getBytes()),
+                                                                     InMemoryCursorStreamConfig.getDefault(),
+                                                                     new SimpleByteBufferManager());
+    String key = (String) keyGenerator.generateKey(eventBuilder().message(of(provider)).build());
+    assertEquals(TEST_HASH, key);
+  }
+
+  @Test
+  public void reusesDigestAcrossEvents() throws Exception {
+    keyGenerator.generateKey(eventBuilder().message(of("OTHER")).build());
+    String key = (String) keyGenerator.generateKey(eventBuilder().message(of(TEST_INPUT)).build());
+    assertEquals(TEST_HASH, key);
+  }
+
   @Test(expected = NotSerializableException.class)
   public void failsToGenerateKeyWhenCannotReadPayload() throws Exception {
     Event event = mock(Event.class);
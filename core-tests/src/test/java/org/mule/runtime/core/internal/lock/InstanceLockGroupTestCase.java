@@ -60,6 +60,15 @@ public class InstanceLockGroupTestCase extends AbstractMuleTestCase {
     lockUnlockThenDestroy(5);
   }
 
+  @Test
+  public void testWhenTryLockFailsThenDestroy() throws Exception {
+    mockLockProvider = Mockito.mock(LockProvider.class, Answers.RETURNS_DEEP_STUBS.get());
+    InstanceLockGroup instanceLockGroup = new InstanceLockGroup(mockLockProvider);
+    assertThat(instanceLockGroup.tryLock("lockId"), is(false));
+    assertThat(instanceLockGroup.tryLock("lockId", 1, TimeUnit.MILLISECONDS), is(false));
+    Mockito.verify(mockLockProvider, VerificationModeFactory.times(2)).createLock("lockId");
+  }
+
   private void lockUnlockThenDestroy(int lockTimes) {
     mockLockProvider = Mockito.mock(LockProvider.class, Answers.RETURNS_DEEP_STUBS.get());
     InstanceLockGroup instanceLockGroup = new InstanceLockGroup(mockLockProvider);
@@ -58,6 +58,14 @@ public class ComponentStatisticsTestCase extends AbstractMuleTestCase {
     assertValues(stats, 1L, 50L, 50L, 50L, 50L);
   }
 
+  @Test
+  public void processSingleEventInNanos() {
+    ComponentStatistics stats = new ComponentStatistics();
+    stats.addExecutionTimeNanos(100300000L);
+    assertValues(stats, 1L, 100L, 100L, 100L, 100L);
+    assertThat(stats.getExecutionTimeHistogram().getMax(), equalTo(100300000L));
+  }
+
   @Test
   public void clearStats() {
     ComponentStatistics stats = new ComponentStatistics();
@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.management.stats;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+
+import org.junit.Test;
+
+public class LatencyHistogramTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void empty() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getMean(), equalTo(0L));
+    assertThat(histogram.getMax(), equalTo(0L));
+    assertThat(histogram.getPercentile(99), equalTo(0L));
+  }
+
+  @Test
+  public void smallValuesAreExact() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1);
+    histogram.record(2);
+    histogram.record(3);
+
+    assertThat(histogram.getCount(), equalTo(3L));
+    assertThat(histogram.getMean(), equalTo(2L));
+    assertThat(histogram.getMax(), equalTo(3L));
+    assertThat(histogram.getPercentile(50), equalTo(2L));
+    assertThat(histogram.getPercentile(100), equalTo(3L));
+  }
+
+  @Test
+  public void percentilesWithinPrecision() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    for (long i = 1; i <= 1000; ++i) {
+      histogram.record(i * 1000);
+    }
+
+    assertThat(histogram.getPercentile(50), allOf(greaterThanOrEqualTo(500000L), lessThanOrEqualTo(505000L)));
+    assertThat(histogram.getPercentile(90), allOf(greaterThanOrEqualTo(900000L), lessThanOrEqualTo(909000L)));
+    assertThat(histogram.getPercentile(99), allOf(greaterThanOrEqualTo(990000L), lessThanOrEqualTo(999900L)));
+    assertThat(histogram.getMax(), equalTo(1000000L));
+  }
+
+  @Test
+  public void longestLatenciesReportedAsMax() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(100);
+    histogram.record(Long.MAX_VALUE);
+
+    assertThat(histogram.getPercentile(50), equalTo(100L));
+    assertThat(histogram.getPercentile(100), equalTo(Long.MAX_VALUE));
+  }
+
+  @Test
+  public void clear() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1000);
+    histogram.clear();
+
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getPercentile(50), equalTo(0L));
+  }
+
+  @Test
+  public void intervalSnapshotResets() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1000);
+    histogram.record(3000);
+
+    LatencyHistogram.Snapshot snapshot = histogram.getIntervalSnapshot();
+    assertThat(snapshot.getCount(), equalTo(2L));
+    assertThat(snapshot.getMean(), equalTo(2000L));
+    assertThat(snapshot.getMax(), equalTo(3000L));
+    assertThat(histogram.getCount(), equalTo(0L));
+    assertThat(histogram.getSnapshot().getPercentile(100), equalTo(0L));
+  }
+
+  @Test
+  public void merge() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.record(1);
+    LatencyHistogram other = new LatencyHistogram();
+    other.record(3);
+    histogram.merge(other);
+
+    assertThat(histogram.getCount(), equalTo(2L));
+    assertThat(histogram.getMax(), equalTo(3L));
+    assertThat(histogram.getPercentile(100), equalTo(3L));
+  }
+
+  @Test
+  public void mergeIntoEmpty() {
+    LatencyHistogram histogram = new LatencyHistogram();
+    histogram.merge(new LatencyHistogram());
+    assertThat(histogram.getCount(), equalTo(0L));
+
+    LatencyHistogram other = new LatencyHistogram();
+    other.record(3);
+    histogram.merge(other);
+
+    assertThat(histogram.getCount(), equalTo(1L));
+    assertThat(histogram.getPercentile(100), equalTo(3L));
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.retry;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.internal.retry.CircuitBreaker.REJECTED;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import org.junit.Test;
+
+@SmallTest
+public class CircuitBreakerTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void opensAfterConsecutiveFailures() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(2, 60000);
+
+    long permit = circuitBreaker.tryAcquire();
+    assertThat(permit, is(not(REJECTED)));
+    circuitBreaker.onFailure(permit);
+    assertThat(circuitBreaker.isOpen(), is(false));
+    permit = circuitBreaker.tryAcquire();
+    assertThat(permit, is(not(REJECTED)));
+    circuitBreaker.onFailure(permit);
+
+    assertThat(circuitBreaker.isOpen(), is(true));
+    assertThat(circuitBreaker.tryAcquire(), is(REJECTED));
+  }
+
+  @Test
+  public void successResetsFailures() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(2, 60000);
+
+    circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+    circuitBreaker.onSuccess(circuitBreaker.tryAcquire());
+    circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+
+    assertThat(circuitBreaker.isOpen(), is(false));
+  }
+
+  @Test
+  public void singleTrialWhenHalfOpen() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(1, 0);
+    circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+
+    long trial = circuitBreaker.tryAcquire();
+    assertThat(trial, is(not(REJECTED)));
+    assertThat(circuitBreaker.tryAcquire(), is(REJECTED));
+
+    circuitBreaker.onSuccess(trial);
+    assertThat(circuitBreaker.isOpen(), is(false));
+    assertThat(circuitBreaker.tryAcquire(), is(not(REJECTED)));
+  }
+
+  @Test
+  public void failedTrialOpensAgain() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(3, 0);
+    for (int i = 0; i < 3; ++i) {
+      circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+    }
+
+    long trial = circuitBreaker.tryAcquire();
+    assertThat(trial, is(not(REJECTED)));
+    circuitBreaker.onFailure(trial);
+    assertThat(circuitBreaker.isOpen(), is(true));
+  }
+
+  @Test
+  public void cancelledTrialAllowsAnother() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(1, 0);
+    circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+
+    circuitBreaker.onCancel(circuitBreaker.tryAcquire());
+    assertThat(circuitBreaker.tryAcquire(), is(not(REJECTED)));
+  }
+
+  @Test
+  public void lateOutcomesOfOlderGenerationsAreIgnored() {
+    CircuitBreaker circuitBreaker = new CircuitBreaker(1, 60000);
+
+    long slowCall = circuitBreaker.tryAcquire();
+    long otherSlowCall = circuitBreaker.tryAcquire();
+    circuitBreaker.onFailure(circuitBreaker.tryAcquire());
+    assertThat(circuitBreaker.isOpen(), is(true));
+
+    circuitBreaker.onSuccess(slowCall);
+    circuitBreaker.onCancel(otherSlowCall);
+    assertThat(circuitBreaker.isOpen(), is(true));
+    assertThat(circuitBreaker.tryAcquire(), is(REJECTED));
+  }
+}
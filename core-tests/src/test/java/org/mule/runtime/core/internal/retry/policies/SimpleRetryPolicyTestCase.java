@@ -0,0 +1,153 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.retry.policies;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.core.api.retry.policy.SimpleRetryPolicyTemplate.RETRY_COUNT_FOREVER;
+import static org.mule.runtime.core.internal.retry.policies.SimpleRetryPolicy.MAX_DELAY;
+
+import org.mule.runtime.core.api.retry.RetryCallback;
+import org.mule.runtime.core.api.retry.RetryContext;
+import org.mule.runtime.core.api.retry.policy.RetryPolicyExhaustedException;
+import org.mule.runtime.core.api.retry.policy.SimpleRetryPolicyTemplate;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+
+@SmallTest
+public class SimpleRetryPolicyTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void constantDelayByDefault() {
+    SimpleRetryPolicy policy = new SimpleRetryPolicy(100, 5);
+    assertThat(policy.delayFor(1), is(100L));
+    assertThat(policy.delayFor(4), is(100L));
+  }
+
+  @Test
+  public void exponentialBackoff() {
+    SimpleRetryPolicy policy = new SimpleRetryPolicy(100, 5, 2, 500, 0);
+    assertThat(policy.delayFor(1), is(100L));
+    assertThat(policy.delayFor(2), is(200L));
+    assertThat(policy.delayFor(3), is(400L));
+    assertThat(policy.delayFor(4), is(500L));
+  }
+
+  @Test
+  public void backoffWithoutMaxFrequencyIsCapped() {
+    SimpleRetryPolicy policy = new SimpleRetryPolicy(100, RETRY_COUNT_FOREVER, 2, 0, 0);
+    assertThat(policy.delayFor(10), is(51200L));
+    assertThat(policy.delayFor(5000), is(MAX_DELAY));
+  }
+
+  @Test
+  public void jitter() {
+    SimpleRetryPolicy policy = new SimpleRetryPolicy(1000, 5, 1, 0, 0.5);
+    for (int i = 0; i < 100; ++i) {
+      assertThat(policy.delayFor(1), allOf(greaterThanOrEqualTo(500L), lessThanOrEqualTo(1500L)));
+    }
+  }
+
+  @Test
+  public void retryForeverNonBlocking() {
+    AtomicInteger attempts = new AtomicInteger();
+    Mono<Integer> failing = Mono.fromCallable(() -> {
+      if (attempts.incrementAndGet() < 5) {
+        throw new IllegalStateException();
+      }
+      return attempts.get();
+    });
+
+    Mono<Integer> retried = Mono.from(new SimpleRetryPolicy(1, RETRY_COUNT_FOREVER).applyPolicy(failing, e -> true, e -> {
+    }));
+    assertThat(retried.block(), is(5));
+  }
+
+  @Test
+  public void executeNonBlocking() throws Exception {
+    SimpleRetryPolicyTemplate template = new SimpleRetryPolicyTemplate(1, 3);
+    template.setBackoffMultiplier(2);
+    template.setNotifier(null);
+    AtomicInteger attempts = new AtomicInteger();
+
+    RetryContext context = template.executeNonBlocking(new FailingCallback(attempts, 2), Runnable::run).get();
+    assertThat(attempts.get(), is(3));
+    assertThat(context.isOk(), is(true));
+  }
+
+  @Test(expected = RetryPolicyExhaustedException.class)
+  public void executeNonBlockingExhausted() throws Throwable {
+    SimpleRetryPolicyTemplate template = new SimpleRetryPolicyTemplate(1, 2);
+    template.setNotifier(null);
+
+    try {
+      template.executeNonBlocking(new FailingCallback(new AtomicInteger(), 10), Runnable::run).get();
+    } catch (ExecutionException e) {
+      throw e.getCause();
+    }
+  }
+
+  @Test
+  public void interruptionCeasesRetriesAsWhenBlocking() throws Exception {
+    SimpleRetryPolicyTemplate template = new SimpleRetryPolicyTemplate(1, 3);
+    template.setNotifier(null);
+    AtomicInteger attempts = new AtomicInteger();
+    AtomicInteger nonBlockingAttempts = new AtomicInteger();
+
+    RetryContext context = template.execute(new FailingCallback(attempts, 10, InterruptedException::new), Runnable::run);
+    RetryContext nonBlockingContext =
+        template.executeNonBlocking(new FailingCallback(nonBlockingAttempts, 10, InterruptedException::new), Runnable::run).get();
+
+    assertThat(attempts.get(), is(1));
+    assertThat(nonBlockingAttempts.get(), is(1));
+    assertThat(nonBlockingContext.isOk(), is(context.isOk()));
+  }
+
+  private static class FailingCallback implements RetryCallback {
+
+    private final AtomicInteger attempts;
+    private final int failures;
+    private final Supplier<Exception> failure;
+
+    private FailingCallback(AtomicInteger attempts, int failures) {
+      this(attempts, failures, () -> new IllegalStateException("attempt " + attempts.get()));
+    }
+
+    private FailingCallback(AtomicInteger attempts, int failures, Supplier<Exception> failure) {
+      this.attempts = attempts;
+      this.failures = failures;
+      this.failure = failure;
+    }
+
+    @Override
+    public void doWork(RetryContext context) throws Exception {
+      if (attempts.incrementAndGet() <= failures) {
+        throw failure.get();
+      }
+    }
+
+    @Override
+    public String getWorkDescription() {
+      return "failing";
+    }
+
+    @Override
+    public Object getWorkOwner() {
+      return this;
+    }
+  }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipException;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class GZipBlockCompressorTestCase extends AbstractMuleTestCase {
+
+  private static final int BLOCK_SIZE = 4096;
+
+  private final byte[] data = createData(BLOCK_SIZE * 10 + 123);
+  private final ExecutorService executor = newFixedThreadPool(4);
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void parallelBlocksAreReadByGZipInputStream() throws Exception {
+    byte[] compressed = GZipBlockCompressor.compressInParallel(data, BLOCK_SIZE, executor);
+
+    assertThat(toByteArray(new GZIPInputStream(new ByteArrayInputStream(compressed))), is(data));
+  }
+
+  @Test
+  public void parallelBlocksAreUncompressedAsOneStream() throws Exception {
+    byte[] compressed = GZipBlockCompressor.compressInParallel(data, BLOCK_SIZE, executor);
+
+    try (InputStream uncompressed = new GZIPUncompressorInputStream(withoutAvailableBytes(compressed))) {
+      assertThat(toByteArray(uncompressed), is(data));
+    }
+  }
+
+  @Test
+  public void compressedStreamIsUncompressed() throws Exception {
+    InputStream compressed = new GZIPCompressorInputStream(new ByteArrayInputStream(data));
+
+    try (InputStream uncompressed = new GZIPUncompressorInputStream(compressed)) {
+      assertThat(toByteArray(uncompressed), is(data));
+    }
+  }
+
+  @Test(expected = ZipException.class)
+  public void corruptTrailer() throws Exception {
+    byte[] compressed = GZipBlockCompressor.compress(data);
+    compressed[compressed.length - 5]++;
+
+    toByteArray(new GZIPUncompressorInputStream(new ByteArrayInputStream(compressed)));
+  }
+
+  private static byte[] createData(int size) {
+    Random random = new Random(size);
+    byte[] bytes = new byte[size];
+    for (int i = 0; i < size; ++i) {
+      bytes[i] = (byte) ('a' + random.nextInt(16));
+    }
+    return bytes;
+  }
+
+  /**
+   * Cursors don't report the bytes which can be read without blocking, so additional GZIP members can't be detected that way.
+   */
+  private static InputStream withoutAvailableBytes(byte[] bytes) {
+    return new FilterInputStream(new ByteArrayInputStream(bytes)) {
+
+      @Override
+      public int available() {
+        return 0;
+      }
+    };
+  }
+}
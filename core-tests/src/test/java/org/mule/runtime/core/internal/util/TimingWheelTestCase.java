@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+@SmallTest
+public class TimingWheelTestCase extends AbstractMuleTestCase {
+
+  private static final int SCHEDULING_THREADS = 4;
+  private static final int ITEMS_PER_THREAD = 20000;
+
+  private final List<String> expired = new ArrayList<>();
+
+  @Test
+  public void expiresDueItems() throws Exception {
+    TimingWheel<String> wheel = new TimingWheel<>(10, 8, expired::add);
+    wheel.schedule("early", 10);
+    wheel.schedule("late", 60000);
+    assertThat(wheel.size(), is(2));
+
+    Thread.sleep(50);
+    wheel.advance();
+
+    assertThat(expired, is(asList("early")));
+    assertThat(wheel.size(), is(1));
+  }
+
+  @Test
+  public void itemsDueAfterSeveralRevolutions() throws Exception {
+    TimingWheel<String> wheel = new TimingWheel<>(1, 4, expired::add);
+    wheel.schedule("item", 200);
+
+    Thread.sleep(10);
+    wheel.advance();
+    assertThat(expired.isEmpty(), is(true));
+
+    Thread.sleep(250);
+    wheel.advance();
+    assertThat(expired, is(asList("item")));
+  }
+
+  @Test
+  public void concurrentlyScheduledItemsExpireOnce() throws Exception {
+    ConcurrentHashMap<Integer, AtomicInteger> expirations = new ConcurrentHashMap<>();
+    TimingWheel<Integer> wheel =
+        new TimingWheel<>(1, 4, item -> expirations.computeIfAbsent(item, key -> new AtomicInteger()).incrementAndGet());
+    AtomicBoolean scheduling = new AtomicBoolean(true);
+    Thread advancer = new Thread(() -> {
+      while (scheduling.get()) {
+        wheel.advance();
+      }
+    });
+    advancer.start();
+
+    ExecutorService executor = newFixedThreadPool(SCHEDULING_THREADS);
+    try {
+      List<Future<?>> schedulers = new ArrayList<>();
+      for (int thread = 0; thread < SCHEDULING_THREADS; ++thread) {
+        int firstItem = thread * ITEMS_PER_THREAD;
+        schedulers.add(executor.submit(() -> {
+          for (int item = firstItem; item < firstItem + ITEMS_PER_THREAD; ++item) {
+            wheel.schedule(item, 0);
+          }
+        }));
+      }
+      for (Future<?> scheduler : schedulers) {
+        scheduler.get();
+      }
+    } finally {
+      scheduling.set(false);
+      advancer.join();
+      executor.shutdownNow();
+    }
+
+    while (wheel.size() > 0) {
+      Thread.sleep(2);
+      wheel.advance();
+    }
+    assertThat(expirations.size(), is(SCHEDULING_THREADS * ITEMS_PER_THREAD));
+    for (AtomicInteger count : expirations.values()) {
+      assertThat(count.get(), is(1));
+    }
+  }
+
+  @Test
+  public void clear() {
+    TimingWheel<String> wheel = new TimingWheel<>(10, 8, expired::add);
+    wheel.schedule("item", 10);
+    wheel.clear();
+
+    assertThat(wheel.size(), is(0));
+  }
+}
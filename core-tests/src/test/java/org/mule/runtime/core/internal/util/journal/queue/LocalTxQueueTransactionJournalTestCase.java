@@ -7,6 +7,7 @@
 package org.mule.runtime.core.internal.util.journal.queue;
 
 import static java.lang.Math.abs;
+import static java.util.Arrays.asList;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.core.Is.is;
@@ -125,6 +126,21 @@ public class LocalTxQueueTransactionJournalTestCase extends AbstractMuleContextT
     assertThat(allEntries.size(), is(0));
   }
 
+  @Test
+  public void logAddAllAndRetrieve() throws Exception {
+    LocalTxQueueTransactionJournal transactionJournal =
+        new LocalTxQueueTransactionJournal(temporaryFolder.getRoot().getAbsolutePath(), muleContext);
+    transactionJournal.logAddAll(TX_ID, mockQueueInfo, asList(testEvent(), testEvent(), testEvent()));
+    transactionJournal.close();
+    transactionJournal = new LocalTxQueueTransactionJournal(temporaryFolder.getRoot().getAbsolutePath(), muleContext);
+    Multimap<Integer, LocalQueueTxJournalEntry> allEntries = transactionJournal.getAllLogEntries();
+    assertThat(allEntries.get(TX_ID).size(), is(3));
+    for (LocalQueueTxJournalEntry journalEntry : allEntries.get(TX_ID)) {
+      assertThat(journalEntry.getQueueName(), is(QUEUE_NAME));
+      assertThat(journalEntry.isAdd(), is(true));
+    }
+  }
+
   @Test
   public void logSeveralAddsThenCommitAndRetrieve() throws Exception {
     LocalTxQueueTransactionJournal transactionJournal =
@@ -228,6 +244,28 @@ public class LocalTxQueueTransactionJournalTestCase extends AbstractMuleContextT
     }
   }
 
+  @Test
+  public void compactFileKeepingPendingTransactions() throws Exception {
+    LocalTxQueueTransactionJournal transactionJournal =
+        new LocalTxQueueTransactionJournal(temporaryFolder.getRoot().getAbsolutePath(), muleContext);
+    transactionJournal.logAdd(TX_ID, mockQueueInfo, "pending");
+    for (int i = 0; i < 5000; i++) {
+      int txId = TX_ID + 1 + i;
+      addTransactionJournalEntry(transactionJournal, txId);
+      transactionJournal.logCommit(txId);
+    }
+    // the entries of the 5000 complete transactions are enough to trigger a checkpoint
+    assertThat(transactionJournal.getJournal().getCheckpoints(), is(1L));
+    assertThat(transactionJournal.getJournal().getPendingEntries(), is(1));
+    assertThat(getFirstLogFile().length(), lessThan((long) ONE_KB));
+    transactionJournal.close();
+
+    transactionJournal = new LocalTxQueueTransactionJournal(temporaryFolder.getRoot().getAbsolutePath(), muleContext);
+    Multimap<Integer, LocalQueueTxJournalEntry> allEntries = transactionJournal.getAllLogEntries();
+    assertThat(allEntries.size(), is(1));
+    assertThat(allEntries.get(TX_ID).iterator().next().getValue(), is("pending"));
+  }
+
   private void assertLogFileIsWithinBoundaries(File file) {
     assertThat(file.length(), lessThan(MAXIMUM_FILE_SIZE_EXPECTED));
   }
@@ -254,7 +292,11 @@ public class LocalTxQueueTransactionJournalTestCase extends AbstractMuleContextT
   }
 
   private void addTransactionJournalEntry(LocalTxQueueTransactionJournal transactionJournal) {
-    transactionJournal.logAdd(1, mockQueueInfo, "data");
+    addTransactionJournalEntry(transactionJournal, 1);
+  }
+
+  private void addTransactionJournalEntry(LocalTxQueueTransactionJournal transactionJournal, int txId) {
+    transactionJournal.logAdd(txId, mockQueueInfo, "data");
   }
 
 }
@@ -24,6 +24,7 @@ import org.mule.runtime.core.api.transaction.xa.ResourceManagerException;
 import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
 import java.io.Serializable;
+import java.util.List;
 
 import org.apache.commons.lang3.NotImplementedException;
 import org.junit.Rule;
@@ -74,6 +75,24 @@ public class LocalTxQueueTransactionRecovererTestCase extends AbstractMuleContex
     assertThat(testEvent().getContext().getId(), equalTo(muleEvent.getContext().getId()));
   }
 
+  @Test
+  public void drainWaitsForTheFirstItem() throws Exception {
+    Event event = testEvent();
+    new Thread(() -> {
+      try {
+        Thread.sleep(100);
+        inQueue.offer(event, 0, TIMEOUT);
+      } catch (Exception e) {
+        throw new RuntimeException(e);
+      }
+    }).start();
+
+    List<Serializable> values = persistentTransactionContext.drainTo(inQueue, 2, 100000);
+
+    assertThat(values.size(), is(1));
+    assertThat(((Event) values.get(0)).getContext().getId(), equalTo(event.getContext().getId()));
+  }
+
   @Test
   public void pollAndFailThenRecoverWithTwoElements() throws Exception {
     final String MESSAGE_CONTENT_2 = TEST_PAYLOAD + "2";
@@ -0,0 +1,131 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.queue;
+
+import static java.lang.System.currentTimeMillis;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.Executors.newFixedThreadPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Test;
+
+@SmallTest
+public class LockFreeQueueStoreDelegateTestCase extends AbstractMuleTestCase {
+
+  private static final int THREADS = 4;
+  private static final int ITEMS_PER_THREAD = 10000;
+  private static final long TIMEOUT = 5000;
+
+  private final ExecutorService executor = newFixedThreadPool(THREADS * 2);
+
+  @After
+  public void after() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  public void waitingConsumerIsWokenUp() throws Exception {
+    LockFreeQueueStoreDelegate queue = new LockFreeQueueStoreDelegate(0);
+    Future<Serializable> polled = executor.submit(() -> queue.poll(TIMEOUT));
+
+    Thread.sleep(100);
+    queue.putNow("value");
+
+    assertThat(polled.get(TIMEOUT, MILLISECONDS), is("value"));
+    assertThat(queue.getSize(), is(0));
+  }
+
+  @Test
+  public void waitingProducerIsWokenUp() throws Exception {
+    LockFreeQueueStoreDelegate queue = new LockFreeQueueStoreDelegate(1);
+    queue.putNow("first");
+    Future<Boolean> offered = executor.submit(() -> queue.offer("second", 0, TIMEOUT));
+
+    Thread.sleep(100);
+    assertThat(queue.poll(0), is("first"));
+
+    assertThat(offered.get(TIMEOUT, MILLISECONDS), is(true));
+    assertThat(queue.poll(0), is("second"));
+  }
+
+  @Test
+  public void waitingDrainIsWokenUp() throws Exception {
+    LockFreeQueueStoreDelegate queue = new LockFreeQueueStoreDelegate(0);
+    Future<List<Serializable>> drained = executor.submit(() -> queue.drainTo(2, TIMEOUT));
+
+    Thread.sleep(100);
+    queue.putNow("value");
+
+    assertThat(drained.get(TIMEOUT, MILLISECONDS), is(singletonList("value")));
+    assertThat(queue.getSize(), is(0));
+  }
+
+  @Test
+  public void producerIsNotStrandedBehindOneNeedingMoreRoom() throws Exception {
+    LockFreeQueueStoreDelegate queue = new LockFreeQueueStoreDelegate(4);
+    for (int i = 0; i < 4; ++i) {
+      queue.putNow("item-" + i);
+    }
+    // needs the queue to hold less than 2 items
+    Future<Boolean> largeOffer = executor.submit(() -> queue.offer("large", 2, TIMEOUT));
+    Thread.sleep(100);
+    // needs the queue to hold less than 4 items
+    Future<Boolean> smallOffer = executor.submit(() -> queue.offer("small", 0, TIMEOUT));
+    Thread.sleep(100);
+
+    long start = currentTimeMillis();
+    assertThat(queue.poll(0), is("item-0"));
+
+    assertThat(smallOffer.get(TIMEOUT, MILLISECONDS), is(true));
+    assertThat(currentTimeMillis() - start < TIMEOUT, is(true));
+    assertThat(largeOffer.isDone(), is(false));
+  }
+
+  @Test
+  public void concurrentProducersAndConsumers() throws Exception {
+    LockFreeQueueStoreDelegate queue = new LockFreeQueueStoreDelegate(16);
+    Set<Serializable> consumed = ConcurrentHashMap.newKeySet();
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < THREADS; ++i) {
+      final int thread = i;
+      futures.add(executor.submit(() -> {
+        for (int j = 0; j < ITEMS_PER_THREAD; ++j) {
+          assertThat(queue.offer(thread + "-" + j, 0, TIMEOUT), is(true));
+        }
+        return null;
+      }));
+      futures.add(executor.submit(() -> {
+        for (int j = 0; j < ITEMS_PER_THREAD; ++j) {
+          Serializable item = queue.poll(TIMEOUT);
+          assertThat(item != null, is(true));
+          consumed.add(item);
+        }
+        return null;
+      }));
+    }
+
+    for (Future<?> future : futures) {
+      future.get(TIMEOUT * 2, MILLISECONDS);
+    }
+    assertThat(consumed.size(), is(THREADS * ITEMS_PER_THREAD));
+    assertThat(queue.getSize(), is(0));
+  }
+}
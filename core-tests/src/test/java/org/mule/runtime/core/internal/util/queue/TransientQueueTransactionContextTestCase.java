@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.queue;
+
+import static java.util.Arrays.asList;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.core.api.util.queue.DefaultQueueConfiguration;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import org.junit.Test;
+
+public class TransientQueueTransactionContextTestCase extends AbstractMuleContextTestCase {
+
+  private static final int CAPACITY = 2;
+  private static final long TIMEOUT = 100;
+
+  private final TransientQueueTransactionContext transactionContext = new TransientQueueTransactionContext();
+
+  @Test
+  public void offerAllUpToCapacity() throws Exception {
+    DefaultQueueStore queue = createQueue();
+
+    assertThat(transactionContext.offerAll(queue, asList("a", "b"), TIMEOUT), is(true));
+    transactionContext.doCommit();
+
+    assertThat(queue.getSize(), is(CAPACITY));
+  }
+
+  @Test
+  public void offerAllOverCapacityIsRejected() throws Exception {
+    DefaultQueueStore queue = createQueue();
+
+    assertThat(transactionContext.offerAll(queue, asList("a", "b", "c"), TIMEOUT), is(false));
+    transactionContext.doCommit();
+
+    assertThat(queue.getSize(), is(0));
+  }
+
+  @Test
+  public void offerAllOverCapacityWithPreviousOfferIsRejected() throws Exception {
+    DefaultQueueStore queue = createQueue();
+
+    assertThat(transactionContext.offer(queue, "a", TIMEOUT), is(true));
+    assertThat(transactionContext.offerAll(queue, asList("b", "c"), TIMEOUT), is(false));
+    transactionContext.doCommit();
+
+    assertThat(queue.getSize(), is(1));
+  }
+
+  private DefaultQueueStore createQueue() {
+    return new DefaultQueueStore("transientQueue", muleContext, new DefaultQueueConfiguration(CAPACITY, false));
+  }
+}
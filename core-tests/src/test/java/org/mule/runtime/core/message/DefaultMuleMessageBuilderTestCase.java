@@ -12,6 +12,7 @@ import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.hasItem;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsCollectionWithSize.hasSize;
 import static org.mule.runtime.api.message.Message.of;
@@ -280,6 +281,15 @@ public class DefaultMuleMessageBuilderTestCase extends AbstractMuleTestCase {
     assertThat(copy.getPayload().getDataType().getMediaType(), is(XML));
   }
 
+  @Test
+  public void copyWithoutChangesKeepsPayloadAndAttributes() {
+    Message message = createTestMessage();
+    Message copy = new DefaultMessageBuilder(message).addOutboundProperty(PROPERTY_KEY, PROPERTY_VALUE).build();
+
+    assertThat(copy.getPayload(), sameInstance(message.getPayload()));
+    assertThat(copy.getAttributes(), sameInstance(message.getAttributes()));
+  }
+
   private Message createTestMessage() {
     return new DefaultMessageBuilder().payload(TEST_PAYLOAD).mediaType(TEXT).attributes(TEST_ATTR).build();
   }
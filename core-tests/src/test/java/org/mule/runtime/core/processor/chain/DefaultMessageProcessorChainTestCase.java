@@ -9,11 +9,13 @@ package org.mule.runtime.core.processor.chain;
 
 import static java.util.Arrays.asList;
 import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
 import static java.util.Optional.empty;
 import static java.util.stream.Collectors.toList;
 import static org.apache.commons.lang3.RandomStringUtils.randomNumeric;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.core.Is.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -36,11 +38,13 @@ import static org.mule.tck.junit4.AbstractReactiveProcessorTestCase.Mode.BLOCKIN
 import static org.mule.tck.junit4.AbstractReactiveProcessorTestCase.Mode.NON_BLOCKING;
 import static reactor.core.publisher.Flux.from;
 
+import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Lifecycle;
 import org.mule.runtime.api.message.ErrorType;
 import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.meta.AbstractAnnotatedObject;
 import org.mule.runtime.core.DefaultEventContext;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.EventContext;
@@ -52,6 +56,7 @@ import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.construct.FlowConstructAware;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.execution.ExceptionContextProvider;
+import org.mule.runtime.core.api.management.stats.ProcessorStatistics;
 import org.mule.runtime.core.api.processor.MessageProcessorBuilder;
 import org.mule.runtime.core.api.processor.MessageProcessorChain;
 import org.mule.runtime.core.api.processor.Processor;
@@ -75,6 +80,7 @@ import org.mule.tck.size.SmallTest;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.After;
@@ -745,6 +751,32 @@ public class DefaultMessageProcessorChainTestCase extends AbstractReactiveProces
     process(builder.build(), getTestEventUsingFlow("0"));
   }
 
+  @Test
+  public void processorStatistics() throws Exception {
+    flow.getStatistics().setProcessorStatisticsEnabled(true);
+    DefaultMessageProcessorChainBuilder builder = new DefaultMessageProcessorChainBuilder();
+    builder.chain(new LocatedAppendingMP("1", "flow/processors/0"), new LocatedAppendingMP("2", "flow/processors/1"));
+    assertEquals("012", process(builder.build(), getTestEventUsingFlow("0")).getMessage().getPayload().getValue());
+
+    Map<String, ProcessorStatistics> processorStatistics = flow.getStatistics().getProcessorStatistics();
+    assertThat(processorStatistics.keySet(), containsInAnyOrder("flow/processors/0", "flow/processors/1"));
+    for (ProcessorStatistics statistics : processorStatistics.values()) {
+      assertThat(statistics.getExecutionTimes().getCount(), is(1L));
+      assertThat(statistics.getQueueingDelays().getCount(), is(1L));
+      assertThat(statistics.getErrors(), is(0L));
+    }
+  }
+
+  @Test
+  public void processorStatisticsDisabled() throws Exception {
+    flow.getStatistics().setProcessorStatisticsEnabled(false);
+    DefaultMessageProcessorChainBuilder builder = new DefaultMessageProcessorChainBuilder();
+    builder.chain(new LocatedAppendingMP("1", "flow/processors/0"));
+    assertEquals("01", process(builder.build(), getTestEventUsingFlow("0")).getMessage().getPayload().getValue());
+
+    assertThat(flow.getStatistics().getProcessorStatistics().isEmpty(), is(true));
+  }
+
   @Override
   protected Event process(Processor messageProcessor, Event event) throws Exception {
     if (messageProcessor instanceof MuleContextAware) {
@@ -875,6 +907,23 @@ public class DefaultMessageProcessorChainTestCase extends AbstractReactiveProces
     }
   }
 
+  static class LocatedAppendingMP extends AbstractAnnotatedObject implements Processor {
+
+    private final String appendString;
+
+    public LocatedAppendingMP(String append, String location) {
+      this.appendString = append;
+      ComponentLocation componentLocation = mock(ComponentLocation.class);
+      when(componentLocation.getLocation()).thenReturn(location);
+      setAnnotations(singletonMap(LOCATION_KEY, componentLocation));
+    }
+
+    @Override
+    public Event process(Event event) throws MuleException {
+      return Event.builder(event).message(of(event.getMessage().getPayload().getValue() + appendString)).build();
+    }
+  }
+
   class AppendingInterceptingMP extends AbstractInterceptingMessageProcessor implements FlowConstructAware, Lifecycle {
 
     String appendString;
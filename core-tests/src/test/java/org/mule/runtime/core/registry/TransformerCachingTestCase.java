@@ -6,11 +6,16 @@
  */
 package org.mule.runtime.core.registry;
 
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static org.mule.runtime.api.metadata.DataType.BYTE_ARRAY;
 import static org.mule.runtime.api.metadata.DataType.INPUT_STREAM;
 import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.core.api.registry.TransformerResolver;
 import org.mule.runtime.core.api.transformer.DiscoverableTransformer;
 import org.mule.runtime.core.api.transformer.Transformer;
 import org.mule.runtime.core.api.transformer.TransformerException;
@@ -50,6 +55,100 @@ public class TransformerCachingTestCase extends AbstractMuleContextTestCase {
     assertTrue(trans instanceof InputStreamToByteArray);
   }
 
+  @Test
+  public void cachesResolvedTransformer() throws Exception {
+    DataType sourceType = DataType.fromType(FilterInputStream.class);
+    Transformer trans = muleContext.getRegistry().lookupTransformer(sourceType, BYTE_ARRAY);
+    assertThat(muleContext.getRegistry().lookupTransformer(DataType.fromType(FilterInputStream.class), BYTE_ARRAY),
+               sameInstance(trans));
+  }
+
+  @Test
+  public void unresolvableTransformerIsResolvedOnceRegistered() throws Exception {
+    DataType sourceType = DataType.fromType(Source.class);
+    DataType resultType = DataType.fromType(Target.class);
+    assertNoTransformer(sourceType, resultType);
+    // served from the cache
+    assertNoTransformer(sourceType, resultType);
+
+    muleContext.getRegistry().registerTransformer(new SourceToTarget());
+
+    assertThat(muleContext.getRegistry().lookupTransformer(sourceType, resultType), instanceOf(SourceToTarget.class));
+  }
+
+  @Test
+  public void unresolvableTransformerIsResolvedOnceANonConverterIsRegistered() throws Exception {
+    DataType sourceType = DataType.fromType(Source.class);
+    DataType resultType = DataType.fromType(Target.class);
+    muleContext.getRegistry().registerObject("byNameResolver", new ByNameTransformerResolver());
+    assertNoTransformer(sourceType, resultType);
+
+    Transformer transformer = new AbstractTransformer() {
+
+      @Override
+      protected Object doTransform(Object src, Charset enc) throws TransformerException {
+        return new Target();
+      }
+    };
+    transformer.setName(BY_NAME_TRANSFORMER);
+    muleContext.getRegistry().registerTransformer(transformer);
+
+    assertThat(muleContext.getRegistry().lookupTransformer(sourceType, resultType), sameInstance(transformer));
+  }
+
+  private void assertNoTransformer(DataType sourceType, DataType resultType) {
+    try {
+      muleContext.getRegistry().lookupTransformer(sourceType, resultType);
+      fail("No transformer was expected");
+    } catch (TransformerException e) {
+      // expected
+    }
+  }
+
+  private static final String BY_NAME_TRANSFORMER = "sourceToTargetByName";
+
+  private class ByNameTransformerResolver implements TransformerResolver {
+
+    @Override
+    public Transformer resolve(DataType source, DataType result) {
+      return muleContext.getRegistry().lookupTransformer(BY_NAME_TRANSFORMER);
+    }
+
+    @Override
+    public void transformerChange(Transformer transformer, RegistryAction registryAction) {
+      // no-op
+    }
+  }
+
+  public static class Source {
+  }
+
+  public static class Target {
+  }
+
+  public static class SourceToTarget extends AbstractTransformer implements DiscoverableTransformer {
+
+    public SourceToTarget() {
+      registerSourceType(DataType.fromType(Source.class));
+      setReturnDataType(DataType.fromType(Target.class));
+    }
+
+    @Override
+    protected Object doTransform(Object src, Charset outputEncoding) throws TransformerException {
+      return new Target();
+    }
+
+    @Override
+    public int getPriorityWeighting() {
+      return 0;
+    }
+
+    @Override
+    public void setPriorityWeighting(int weighting) {
+      // no-op
+    }
+  }
+
   public static class FilterInputStreamToByteArray extends AbstractTransformer implements DiscoverableTransformer {
 
     public FilterInputStreamToByteArray() {
@@ -145,6 +145,24 @@ public class AsynchronousUntilSuccessfulProcessingStrategyTestCase extends Abstr
     waitUntilRouteIsExecuted();
   }
 
+  @Test
+  public void retryMetrics() throws Exception {
+    when(mockUntilSuccessfulConfiguration.getDlqMP()).thenReturn(mockDLQ);
+    failRoute = () -> {
+      throw new RuntimeException(EXPECTED_FAILURE_MSG);
+    };
+    routeCountDownLatch = new CountDownLatch(DEFAULT_TRIES);
+    AsynchronousUntilSuccessfulProcessingStrategy processingStrategy = createProcessingStrategy();
+    processingStrategy.route(event, mock(FlowConstruct.class));
+    waitUntilRouteIsExecuted();
+    waitUntilExceptionIsHandled();
+
+    assertThat(processingStrategy.getProcessAttempts(), is((long) DEFAULT_TRIES));
+    assertThat(processingStrategy.getExhaustedRetries(), is(1L));
+    assertThat(processingStrategy.getPendingRetries(), is(0));
+    assertThat(objectStore.allKeys().isEmpty(), is(true));
+  }
+
   @Test
   public void alwaysFailUsingFailureExpression() throws Exception {
     when(mockUntilSuccessfulConfiguration.getDlqMP()).thenReturn(null);
@@ -317,6 +335,22 @@ public class AsynchronousUntilSuccessfulProcessingStrategyTestCase extends Abstr
     verify(mockFlow.getExceptionListener(), never()).handleException(any(MessagingException.class), eq(event));
   }
 
+  @Test
+  public void pendingEventsAreProcessedWhenRestarted() throws Exception {
+    routeCountDownLatch = new Latch();
+    AsynchronousUntilSuccessfulProcessingStrategy processingStrategy = createProcessingStrategy();
+    processingStrategy.stop();
+
+    processingStrategy.route(event, mock(FlowConstruct.class));
+    assertThat(objectStore.allKeys().size(), is(1));
+    verify(mockRoute, never()).process(any(Event.class));
+
+    when(muleContext.isStarted()).thenReturn(true);
+    processingStrategy.start();
+    waitUntilRouteIsExecuted();
+    verify(mockRoute, times(1)).process(any(Event.class));
+  }
+
   private void executeUntilSuccessfulFailingRoute(FailCallback failCallback) throws Exception {
     failRoute = failCallback;
     routeCountDownLatch = new CountDownLatch(DEFAULT_TRIES);
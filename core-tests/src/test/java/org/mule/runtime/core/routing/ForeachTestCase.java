@@ -294,6 +294,16 @@ public class ForeachTestCase extends AbstractReactiveProcessorTestCase {
     assertThat(processedEvents.get(1).getMessageAsString(muleContext), is("[3]:foo:zas"));
   }
 
+  @Test
+  public void variableRemovedInSingleIteration() throws Exception {
+    Foreach foreachMp = createForeach(singletonList(event -> Event.builder(event).removeVariable("toRemove").build()));
+
+    Event result = process(foreachMp, eventBuilder().message(of(singletonList("bar"))).addVariable("toRemove", "value").build());
+
+    assertThat(result.getVariableNames().contains("toRemove"), is(false));
+    assertThat(result.getMessage().getPayload().getValue(), is(singletonList("bar")));
+  }
+
   private void assertSimpleProcessedMessages() {
     assertEquals(ERR_NUMBER_MESSAGES, 2, processedEvents.size());
     assertTrue(ERR_PAYLOAD_TYPE, processedEvents.get(0).getMessage().getPayload().getValue() instanceof String);
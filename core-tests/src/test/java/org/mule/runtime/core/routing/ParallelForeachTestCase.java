@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import static java.lang.Thread.sleep;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.Assert.assertThat;
+import static org.mule.runtime.api.message.Message.of;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ParallelForeachTestCase extends AbstractMuleContextTestCase {
+
+  private static final List<Integer> ELEMENTS = asList(1, 2, 3, 4, 5, 6, 7, 8);
+
+  private ParallelForeach parallelForeach;
+
+  @After
+  public void after() throws MuleException {
+    if (parallelForeach != null) {
+      parallelForeach.stop();
+      parallelForeach.dispose();
+    }
+  }
+
+  @Test
+  public void boundedConcurrency() throws Exception {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    createParallelForeach(event -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      pause(50);
+      running.decrementAndGet();
+      return event;
+    }, 3, false);
+
+    Event result = parallelForeach.process(eventBuilder().message(of(ELEMENTS)).build());
+
+    assertThat(maxRunning.get(), greaterThan(1));
+    assertThat(maxRunning.get(), lessThanOrEqualTo(3));
+    assertThat(result.getMessage().getPayload().getValue(), is(ELEMENTS));
+  }
+
+  @Test
+  public void keepsCorrelationSequence() throws Exception {
+    Map<Integer, Integer> sequences = new ConcurrentHashMap<>();
+    createParallelForeach(event -> {
+      sequences.put((Integer) event.getMessage().getPayload().getValue(), event.getGroupCorrelation().getSequence().get());
+      return event;
+    }, 4, false);
+
+    parallelForeach.process(eventBuilder().message(of(ELEMENTS)).build());
+
+    assertThat(sequences.size(), is(ELEMENTS.size()));
+    sequences.forEach((element, sequence) -> assertThat(sequence, is(element)));
+  }
+
+  @Test
+  public void collectResultsInOrder() throws Exception {
+    createParallelForeach(event -> {
+      Integer element = (Integer) event.getMessage().getPayload().getValue();
+      // later elements finish first
+      pause((ELEMENTS.size() - element) * 10);
+      return Event.builder(event).message(of(element * 10)).build();
+    }, 4, true);
+
+    Event result = parallelForeach.process(eventBuilder().message(of(ELEMENTS)).build());
+
+    List<Object> payloads = ((Collection<Message>) result.getMessage().getPayload().getValue()).stream()
+        .map(message -> message.getPayload().getValue()).collect(toList());
+    assertThat(payloads, contains(10, 20, 30, 40, 50, 60, 70, 80));
+  }
+
+  private static void pause(long millis) {
+    try {
+      sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private void createParallelForeach(Processor processor, int maxConcurrency, boolean collectResults) throws MuleException {
+    parallelForeach = new ParallelForeach();
+    parallelForeach.setMuleContext(muleContext);
+    parallelForeach.setMessageProcessors(singletonList(processor));
+    parallelForeach.setMaxConcurrency(maxConcurrency);
+    parallelForeach.setCollectResults(collectResults);
+    parallelForeach.initialise();
+    parallelForeach.start();
+  }
+}
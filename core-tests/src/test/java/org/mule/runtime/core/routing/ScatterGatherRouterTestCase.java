@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.sleep;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toList;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assert.fail;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.tck.MuleTestUtils.getTestFlow;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.core.api.DefaultMuleException;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.exception.MessagingException;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.tck.junit4.AbstractMuleContextTestCase;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class ScatterGatherRouterTestCase extends AbstractMuleContextTestCase {
+
+  private ScatterGatherRouter router;
+
+  @After
+  public void after() throws MuleException {
+    if (router != null) {
+      router.stop();
+      router.dispose();
+    }
+  }
+
+  @Test
+  public void quorumReachedDespiteFailingRoute() throws Exception {
+    router = new ScatterGatherRouter();
+    router.setQuorum(2);
+    createRouter(payload("a"), failing(), payload("b"));
+
+    Event result = router.process(eventBuilder().message(of("0")).build());
+
+    assertThat(payloads(result), contains("a", "b"));
+  }
+
+  @Test
+  public void quorumNotReached() throws Exception {
+    router = new ScatterGatherRouter();
+    router.setQuorum(2);
+    createRouter(failing(), payload("a"), failing());
+
+    try {
+      router.process(eventBuilder().message(of("0")).build());
+      fail("The quorum should not have been reached");
+    } catch (CompositeRoutingException e) {
+      assertThat(e.getExceptionForRouteIndex(0), is(notNullValue()));
+      assertThat(e.getExceptionForRouteIndex(1), is(nullValue()));
+      assertThat(e.getExceptionForRouteIndex(2), is(notNullValue()));
+    }
+  }
+
+  @Test
+  public void slowRouteIsCancelledOnTimeout() throws Exception {
+    CountDownLatch neverReleased = new CountDownLatch(1);
+    router = new ScatterGatherRouter();
+    router.setTimeout(100);
+    createRouter(payload("a"), event -> {
+      try {
+        neverReleased.await(10, SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      return event;
+    });
+
+    long start = currentTimeMillis();
+    try {
+      router.process(eventBuilder().message(of("0")).build());
+      fail("The slow route should have timed out");
+    } catch (MessagingException e) {
+      assertThat(e.getCause(), instanceOf(TimeoutException.class));
+    }
+    assertThat(currentTimeMillis() - start, lessThan(SECONDS.toMillis(10)));
+  }
+
+  @Test
+  public void boundedConcurrency() throws Exception {
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+    Processor route = event -> {
+      maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+      pause(50);
+      running.decrementAndGet();
+      return event;
+    };
+    router = new ScatterGatherRouter();
+    router.setMaxConcurrency(2);
+    createRouter(route, route, route, route, route);
+
+    Event result = router.process(eventBuilder().message(of("0")).build());
+
+    assertThat(maxRunning.get(), greaterThan(1));
+    assertThat(maxRunning.get(), lessThanOrEqualTo(2));
+    assertThat(payloads(result), contains("0", "0", "0", "0", "0"));
+  }
+
+  @Test
+  public void routeLatenciesByRouteIndex() throws Exception {
+    Processor route = payload("a");
+    router = new ScatterGatherRouter();
+    createRouter(route, route);
+    router.getRouterStatistics().setEnabled(true);
+
+    router.process(eventBuilder().message(of("0")).build());
+
+    assertThat(router.getRouterStatistics().getRouteLatency("route-0").getCount(), is(1L));
+    assertThat(router.getRouterStatistics().getRouteLatency("route-1").getCount(), is(1L));
+  }
+
+  private void createRouter(Processor... routes) throws MuleException {
+    for (Processor route : routes) {
+      router.addRoute(route);
+    }
+    router.setFlowConstruct(getTestFlow(muleContext));
+    initialiseIfNeeded(router, true, muleContext);
+    router.start();
+  }
+
+  private static Processor payload(String payload) {
+    return event -> Event.builder(event).message(of(payload)).build();
+  }
+
+  private static Processor failing() {
+    return event -> {
+      throw new DefaultMuleException("Route failure");
+    };
+  }
+
+  private static List<Object> payloads(Event result) {
+    return ((Collection<Message>) result.getMessage().getPayload().getValue()).stream()
+        .map(message -> message.getPayload().getValue()).collect(toList());
+  }
+
+  private static void pause(long millis) {
+    try {
+      sleep(millis);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+}
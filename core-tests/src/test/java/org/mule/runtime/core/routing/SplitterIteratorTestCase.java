@@ -10,11 +10,13 @@ package org.mule.runtime.core.routing;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.mule.runtime.api.metadata.DataType.fromType;
+import static org.mule.runtime.core.routing.outbound.AbstractMessageSequenceSplitter.DISCARD_RESULTS;
 
 import org.mule.runtime.api.el.BindingContext;
 import org.mule.runtime.api.message.Message;
@@ -29,6 +31,7 @@ import org.mule.tck.junit4.AbstractMuleTestCase;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -64,6 +67,26 @@ public class SplitterIteratorTestCase extends AbstractMuleTestCase {
     assertListValues(values);
   }
 
+  @Test
+  public void reduceResultsWithIteratorInput() throws Exception {
+    AtomicInteger sum = new AtomicInteger();
+    splitter.setResultsReducer((accumulated, resultEvent) -> {
+      sum.addAndGet((Integer) resultEvent.getMessage().getPayload().getValue());
+      return accumulated;
+    });
+
+    Event result = splitter.process(muleEvent);
+    assertThat(result, is(sameInstance(muleEvent)));
+    assertThat(sum.get(), is(0 + 1 + 2));
+  }
+
+  @Test
+  public void discardResultsWithIteratorInput() throws Exception {
+    splitter.setResultsReducer(DISCARD_RESULTS);
+
+    assertThat(splitter.process(muleEvent), is(sameInstance(muleEvent)));
+  }
+
   private List<TypedValue<?>> createListOfIntegers() {
     List<TypedValue<?>> integers = new ArrayList<>(3);
     for (int i = 0; i < 3; i++) {
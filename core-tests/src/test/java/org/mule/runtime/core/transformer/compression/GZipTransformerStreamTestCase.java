@@ -6,15 +6,27 @@
  */
 package org.mule.runtime.core.transformer.compression;
 
+import static org.apache.commons.io.IOUtils.toByteArray;
+import static org.hamcrest.CoreMatchers.is;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import static org.mule.runtime.core.api.Event.setCurrentEvent;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.getBorrowedDeflaters;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.getBorrowedInflaters;
 
 import org.mule.runtime.api.lifecycle.InitialisationException;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 import org.mule.runtime.core.api.transformer.Transformer;
 import org.mule.runtime.core.internal.transformer.compression.GZipCompressTransformer;
 import org.mule.runtime.core.internal.transformer.compression.GZipUncompressTransformer;
+import org.mule.runtime.core.streaming.StreamingManager;
 
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.After;
+import org.junit.Test;
 
 /**
  * Tests {@link GZipCompressTransformer} and its counterpart, the {@link GZipUncompressTransformer} with streams as inputs.
@@ -50,6 +62,54 @@ public class GZipTransformerStreamTestCase extends GZipTransformerTestCase {
 
     return transformer;
   }
-}
 
+  @After
+  public void clearCurrentEvent() {
+    setCurrentEvent(null);
+  }
+
+  @Test
+  public void repeatableStreamIsCompressedIntoRepeatableStream() throws Exception {
+    setCurrentEvent(testEvent());
+    int borrowedDeflaters = getBorrowedDeflaters();
+
+    CursorStreamProvider compressed =
+        (CursorStreamProvider) getTransformer().transform(repeatable(new ByteArrayInputStream(TEST_DATA.getBytes())));
+    assertThat(getBorrowedDeflaters(), is(borrowedDeflaters + 1));
+
+    try (InputStream cursor = compressed.openCursor()) {
+      assertThat(new String(toByteArray(new GZIPInputStream(cursor))), is(TEST_DATA));
+    }
+    InputStream cursor = compressed.openCursor();
+    assertThat(new String(toByteArray(new GZIPInputStream(cursor))), is(TEST_DATA));
+
+    compressed.close();
+    cursor.close();
+    assertThat(getBorrowedDeflaters(), is(borrowedDeflaters));
+  }
 
+  @Test
+  public void repeatableStreamIsUncompressedIntoRepeatableStream() throws Exception {
+    setCurrentEvent(testEvent());
+    int borrowedInflaters = getBorrowedInflaters();
+
+    CursorStreamProvider uncompressed =
+        (CursorStreamProvider) getRoundTripTransformer().transform(repeatable((InputStream) getResultData()));
+    assertThat(getBorrowedInflaters(), is(borrowedInflaters + 1));
+
+    try (InputStream cursor = uncompressed.openCursor()) {
+      assertThat(new String(toByteArray(cursor)), is(TEST_DATA));
+    }
+    InputStream cursor = uncompressed.openCursor();
+    assertThat(new String(toByteArray(cursor)), is(TEST_DATA));
+
+    uncompressed.close();
+    cursor.close();
+    assertThat(getBorrowedInflaters(), is(borrowedInflaters));
+  }
+
+  private CursorStreamProvider repeatable(InputStream stream) throws Exception {
+    return (CursorStreamProvider) muleContext.getRegistry().lookupObject(StreamingManager.class).forBytes()
+        .getDefaultCursorProviderFactory().of(testEvent(), stream);
+  }
+}
@@ -310,6 +310,12 @@ public class DataTypeBuilderTestCase extends AbstractMuleTestCase {
     assertThat(builder1.build(), sameInstance(builder2.build()));
   }
 
+  @Test
+  public void cachedInstancesFromObject() {
+    assertThat(DataType.fromObject("value"), sameInstance(DataType.fromType(String.class)));
+    assertThat(DataType.fromObject(new ArrayList<>()), sameInstance(DataType.fromType(ArrayList.class)));
+  }
+
   @Test
   public void cacheClean() throws InterruptedException, ClassNotFoundException {
     ClassLoader custom = new ClassLoader(this.getClass().getClassLoader()) {
@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.util;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.junit.Assert.assertThat;
+
+import org.mule.runtime.core.internal.util.PersistentCaseInsensitiveMap;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.commons.lang3.SerializationUtils;
+import org.junit.Test;
+
+@SmallTest
+public class PersistentCaseInsensitiveMapTestCase extends AbstractMuleTestCase {
+
+  @Test
+  public void caseInsensitive() {
+    PersistentCaseInsensitiveMap<String> map = PersistentCaseInsensitiveMap.<String>empty().with("FOO", "bar");
+
+    assertThat(map.get("foo"), is("bar"));
+    assertThat(map.containsKey("FoO"), is(true));
+    assertThat(map.keySet(), containsInAnyOrder("FOO"));
+  }
+
+  @Test
+  public void replaceKeepsOriginalKey() {
+    PersistentCaseInsensitiveMap<String> map = PersistentCaseInsensitiveMap.<String>empty().with("FOO", "bar").with("foo", "baz");
+
+    assertThat(map.size(), is(1));
+    assertThat(map.get("FOO"), is("baz"));
+    assertThat(map.keySet(), containsInAnyOrder("FOO"));
+  }
+
+  @Test
+  public void modificationsDoNotAffectOriginal() {
+    PersistentCaseInsensitiveMap<String> original = PersistentCaseInsensitiveMap.<String>empty().with("a", "1").with("b", "2");
+    PersistentCaseInsensitiveMap<String> added = original.with("c", "3");
+    PersistentCaseInsensitiveMap<String> removed = original.without("A");
+
+    assertThat(original.size(), is(2));
+    assertThat(original.get("c"), is(nullValue()));
+    assertThat(added.size(), is(3));
+    assertThat(added.get("c"), is("3"));
+    assertThat(removed.size(), is(1));
+    assertThat(removed.get("a"), is(nullValue()));
+    assertThat(original.get("a"), is("1"));
+  }
+
+  @Test
+  public void removeMissingReturnsSameMap() {
+    PersistentCaseInsensitiveMap<String> map = PersistentCaseInsensitiveMap.<String>empty().with("a", "1");
+    assertThat(map.without("b"), is(sameInstance(map)));
+  }
+
+  @Test
+  public void manyEntries() {
+    Map<String, Integer> expected = new HashMap<>();
+    PersistentCaseInsensitiveMap<Integer> map = PersistentCaseInsensitiveMap.empty();
+    for (int i = 0; i < 2000; ++i) {
+      map = map.with("Key" + i, i);
+      expected.put("Key" + i, i);
+    }
+    assertThat(map, equalTo(expected));
+
+    for (int i = 0; i < 2000; i += 2) {
+      map = map.without("KEY" + i);
+      expected.remove("Key" + i);
+    }
+    assertThat(map, equalTo(expected));
+    assertThat(map.get("key1999"), is(1999));
+
+    for (int i = 1; i < 2000; i += 2) {
+      map = map.without("key" + i);
+    }
+    assertThat(map.isEmpty(), is(true));
+  }
+
+  @Test
+  public void collidingKeys() {
+    // "a_" and "b@" have the same hash
+    PersistentCaseInsensitiveMap<String> map = PersistentCaseInsensitiveMap.<String>empty().with("a_", "1").with("b@", "2");
+
+    assertThat(map.get("A_"), is("1"));
+    assertThat(map.get("B@"), is("2"));
+    assertThat(map.without("A_").get("b@"), is("2"));
+    assertThat(map.without("A_").size(), is(1));
+  }
+
+  @Test
+  public void copyOf() {
+    Map<String, String> source = new HashMap<>();
+    source.put("a", "1");
+    source.put("B", "2");
+    PersistentCaseInsensitiveMap<String> map = PersistentCaseInsensitiveMap.copyOf(source);
+
+    assertThat(map.get("b"), is("2"));
+    assertThat(PersistentCaseInsensitiveMap.copyOf(map), is(sameInstance(map)));
+  }
+
+  @Test
+  public void serialize() {
+    PersistentCaseInsensitiveMap<String> map = PersistentCaseInsensitiveMap.<String>empty().with("FOO", "bar").with("doo", "car");
+    PersistentCaseInsensitiveMap<String> deserialized = SerializationUtils.clone(map);
+
+    assertThat(deserialized, equalTo(map));
+    assertThat(deserialized.get("foo"), is("bar"));
+  }
+}
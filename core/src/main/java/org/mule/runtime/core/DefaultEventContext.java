@@ -10,6 +10,8 @@ import static java.lang.System.identityHashCode;
 import static java.time.OffsetTime.now;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
+import static java.util.concurrent.atomic.AtomicReferenceFieldUpdater.newUpdater;
+import static org.mule.runtime.core.internal.util.rx.Operators.requestUnbounded;
 import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.EventContext;
@@ -22,6 +24,7 @@ import org.mule.runtime.core.api.management.stats.ProcessingTime;
 import java.io.Serializable;
 import java.time.OffsetTime;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import org.reactivestreams.Publisher;
 import reactor.core.publisher.Mono;
@@ -35,6 +38,9 @@ public final class DefaultEventContext extends AbstractEventContext implements S
 
   private static final long serialVersionUID = -3664490832964509653L;
 
+  private static final AtomicReferenceFieldUpdater<DefaultEventContext, ProcessorsTrace> PROCESSORS_TRACE_UPDATER =
+      newUpdater(DefaultEventContext.class, ProcessorsTrace.class, "processorsTrace");
+
   /**
    * Builds a new execution context with the given parameters.
    *
@@ -99,7 +105,8 @@ public final class DefaultEventContext extends AbstractEventContext implements S
   private final String sourceName;
 
   private final ProcessingTime processingTime;
-  private final ProcessorsTrace processorsTrace = new DefaultProcessorsTrace();
+  // only created when the processors are traced, see getProcessorsTrace()
+  private volatile ProcessorsTrace processorsTrace;
 
   @Override
   public String getId() {
@@ -148,7 +155,12 @@ public final class DefaultEventContext extends AbstractEventContext implements S
 
   @Override
   public ProcessorsTrace getProcessorsTrace() {
-    return processorsTrace;
+    ProcessorsTrace trace = processorsTrace;
+    if (trace == null) {
+      PROCESSORS_TRACE_UPDATER.compareAndSet(this, null, new DefaultProcessorsTrace());
+      trace = processorsTrace;
+    }
+    return trace;
   }
 
   @Override
@@ -177,6 +189,9 @@ public final class DefaultEventContext extends AbstractEventContext implements S
     this.sourceName = location.getComponentIdentifier().getIdentifier().getName();
     this.processingTime = ProcessingTime.newInstance(flow);
     this.correlationId = correlationId;
+    if (processingTime != null) {
+      Mono.from(getResponsePublisher()).doFinally(signal -> processingTime.addFlowExecutionLatency()).subscribe(requestUnbounded());
+    }
   }
 
   @Override
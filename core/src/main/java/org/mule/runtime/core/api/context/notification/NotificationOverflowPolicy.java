@@ -0,0 +1,31 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.context.notification;
+
+/**
+ * What to do with an asynchronous {@link ServerNotification} when the buffer of pending notifications of a listener is full.
+ *
+ * @since 4.0
+ */
+public enum NotificationOverflowPolicy {
+
+  /**
+   * The new notification is discarded.
+   */
+  DROP_NEWEST,
+
+  /**
+   * The oldest pending notification is discarded to make room for the new one.
+   */
+  DROP_OLDEST,
+
+  /**
+   * The new notification is delivered to the listener in the thread that fired it. Nothing is lost, but the firing thread is
+   * slowed down and notifications may reach the listener out of order. This is the default.
+   */
+  CALLER_RUNS
+}
@@ -6,8 +6,11 @@
  */
 package org.mule.runtime.core.api.context.notification;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.System.getProperty;
 import static java.util.Collections.unmodifiableMap;
 import static java.util.Collections.unmodifiableSet;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.scheduler.Scheduler;
@@ -15,14 +18,15 @@ import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.util.ClassUtils;
 import org.mule.runtime.core.internal.context.notification.Configuration;
+import org.mule.runtime.core.internal.context.notification.NotificationDispatcher;
 import org.mule.runtime.core.internal.context.notification.Policy;
 import org.mule.runtime.core.privileged.context.notification.OptimisedNotificationHandler;
 
 import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.slf4j.Logger;
 
@@ -51,15 +55,31 @@ import org.slf4j.Logger;
  * <li>Disabling an event or interface disables all uses of that class or any subclass.</li>
  * <li>Enquiring whether an event is enabled returns true if any subclass is enabled.</li>
  * </ul>
+ *
+ * <p>
+ * Asynchronous notifications are buffered per listener and delivered in batches, in the order they were fired. The size of those
+ * buffers, the size of the batches and what to do when a buffer is full can be set through this object or the
+ * {@link #BUFFER_SIZE_PROPERTY}, {@link #BATCH_SIZE_PROPERTY} and {@link #OVERFLOW_POLICY_PROPERTY} system properties. By
+ * default a notification that doesn't fit in the buffer is delivered by the thread that fired it; discarding notifications has
+ * to be explicitly chosen.
+ * </p>
  */
 public class ServerNotificationManager implements ServerNotificationHandler, MuleContextAware {
 
   private static final Logger logger = getLogger(ServerNotificationManager.class);
 
+  public static final String BUFFER_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.bufferSize";
+  public static final String BATCH_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.batchSize";
+  public static final String OVERFLOW_POLICY_PROPERTY = SYSTEM_PROPERTY_PREFIX + "notifications.overflowPolicy";
+
   private boolean dynamic = false;
-  private Configuration configuration = new Configuration();
-  private ReentrantReadWriteLock disposeLock = new ReentrantReadWriteLock();
+  private volatile Configuration configuration = new Configuration();
   private AtomicBoolean disposed = new AtomicBoolean(false);
+  private int bufferSize = getInteger(BUFFER_SIZE_PROPERTY, 1024);
+  private int batchSize = getInteger(BATCH_SIZE_PROPERTY, 64);
+  private NotificationOverflowPolicy overflowPolicy =
+      NotificationOverflowPolicy.valueOf(getProperty(OVERFLOW_POLICY_PROPERTY, NotificationOverflowPolicy.CALLER_RUNS.name()));
+  private final Map<ServerNotificationListener, NotificationDispatcher> dispatchers = new ConcurrentHashMap<>();
   private MuleContext muleContext;
   private Scheduler notificationsLiteScheduler;
   private Scheduler notificationsIoScheduler;
@@ -78,6 +98,28 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
     this.dynamic = dynamic;
   }
 
+  /**
+   * @param bufferSize the maximum amount of asynchronous notifications pending to be delivered to each listener
+   */
+  public void setNotificationBufferSize(int bufferSize) {
+    this.bufferSize = bufferSize;
+  }
+
+  /**
+   * @param batchSize the maximum amount of asynchronous notifications delivered to a listener by a single task
+   */
+  public void setNotificationBatchSize(int batchSize) {
+    this.batchSize = batchSize;
+  }
+
+  /**
+   * @param overflowPolicy what to do with an asynchronous notification when the buffer of its listener is full. Defaults to
+   *        {@link NotificationOverflowPolicy#CALLER_RUNS}, so no notification is lost unless a dropping policy is chosen.
+   */
+  public void setNotificationOverflowPolicy(NotificationOverflowPolicy overflowPolicy) {
+    this.overflowPolicy = overflowPolicy;
+  }
+
   /**
    * Do not make this object {@link org.mule.runtime.api.lifecycle.Initialisable}. It needs to be initialised before every other
    * object to send notifications.
@@ -113,6 +155,7 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
    */
   public void removeListener(ServerNotificationListener<?> listener) {
     configuration.removeListener(listener);
+    dispatchers.remove(listener);
   }
 
   public void disableInterface(Class<? extends ServerNotificationListener> iface) {
@@ -140,32 +183,49 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
 
   @Override
   public void fireNotification(ServerNotification notification) {
-    disposeLock.readLock().lock();
-    try {
-      if (disposed.get()) {
-        logger.warn("Notification not enqueued after ServerNotificationManager disposal: " + notification);
-        return;
-      }
+    if (disposed.get()) {
+      logger.warn("Notification not enqueued after ServerNotificationManager disposal: " + notification);
+      return;
+    }
 
-      notification.setMuleContext(muleContext);
-      if (notification instanceof SynchronousServerEvent) {
-        notifyListeners(notification, (listener, nfn) -> listener.onNotification(nfn));
-      } else {
-        notifyListeners(notification, (listener, nfn) -> {
-          if (listener.isBlocking()) {
-            notificationsIoScheduler.submit(() -> listener.onNotification(nfn));
-          } else {
-            notificationsLiteScheduler.submit(() -> listener.onNotification(nfn));
-          }
-        });
-      }
-    } finally {
-      disposeLock.readLock().unlock();
+    notification.setMuleContext(muleContext);
+    if (notification instanceof SynchronousServerEvent) {
+      notifyListeners(notification, (listener, nfn) -> listener.onNotification(nfn));
+    } else {
+      notifyListeners(notification, (listener, nfn) -> dispatcherFor(listener).dispatch(nfn));
     }
   }
 
   protected void notifyListeners(ServerNotification notification, NotifierCallback notifier) {
-    configuration.getPolicy().dispatch(notification, notifier);
+    Configuration currentConfiguration = configuration;
+    if (currentConfiguration != null) {
+      currentConfiguration.getPolicy().dispatch(notification, notifier);
+    }
+  }
+
+  private NotificationDispatcher dispatcherFor(ServerNotificationListener listener) {
+    NotificationDispatcher dispatcher = dispatchers.get(listener);
+    if (dispatcher == null) {
+      dispatcher = dispatchers.computeIfAbsent(listener, l -> new NotificationDispatcher(l, l.isBlocking()
+          ? notificationsIoScheduler : notificationsLiteScheduler, bufferSize, batchSize, overflowPolicy));
+    }
+    return dispatcher;
+  }
+
+  /**
+   * @return the amount of asynchronous notifications discarded because the buffer of their listener was full
+   */
+  public long getDroppedNotificationsCount() {
+    return dispatchers.values().stream().mapToLong(NotificationDispatcher::getDroppedCount).sum();
+  }
+
+  /**
+   * @param listener a registered listener
+   * @return the amount of asynchronous notifications for the given {@code listener} discarded because its buffer was full
+   */
+  public long getDroppedNotificationsCount(ServerNotificationListener<?> listener) {
+    NotificationDispatcher dispatcher = dispatchers.get(listener);
+    return dispatcher == null ? 0 : dispatcher.getDroppedCount();
   }
 
   @Override
@@ -185,22 +245,20 @@ public class ServerNotificationManager implements ServerNotificationHandler, Mul
    * died
    */
   public void dispose() {
-    disposeLock.writeLock().lock();
-    try {
-      if (notificationsLiteScheduler != null) {
-        notificationsLiteScheduler.stop();
-        notificationsLiteScheduler = null;
-      }
-      if (notificationsIoScheduler != null) {
-        notificationsIoScheduler.stop();
-        notificationsIoScheduler = null;
-      }
-
-      disposed.set(true);
-      configuration = null;
-    } finally {
-      disposeLock.writeLock().unlock();
+    // set first so no new notifications are dispatched while the schedulers are stopped. Notifications already being dispatched
+    // are counted as dropped if the scheduler rejects them.
+    disposed.set(true);
+    if (notificationsLiteScheduler != null) {
+      notificationsLiteScheduler.stop();
+      notificationsLiteScheduler = null;
     }
+    if (notificationsIoScheduler != null) {
+      notificationsIoScheduler.stop();
+      notificationsIoScheduler = null;
+    }
+
+    dispatchers.clear();
+    configuration = null;
   }
 
   /**
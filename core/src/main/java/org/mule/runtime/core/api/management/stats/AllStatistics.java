@@ -10,6 +10,7 @@ import org.mule.runtime.core.internal.management.stats.ApplicationStatistics;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -84,4 +85,42 @@ public class AllStatistics {
   public FlowConstructStatistics getApplicationStatistics() {
     return appStats;
   }
+
+  /**
+   * @return a snapshot of the processing latencies of each flow construct, by name
+   */
+  public synchronized Map<String, LatencyHistogram.Snapshot> getProcessingLatencies() {
+    Map<String, LatencyHistogram.Snapshot> snapshots = new LinkedHashMap<>();
+    for (FlowConstructStatistics statistics : flowConstructStats.values()) {
+      snapshots.put(statistics.getName(), statistics.getProcessingLatencies().getSnapshot());
+    }
+    return snapshots;
+  }
+
+  /**
+   * Takes a snapshot of the processing latencies of each flow construct and resets them, so the next call reports the latencies
+   * of the following interval.
+   *
+   * @return the snapshots of the processing latencies since the previous call, by flow construct name
+   */
+  public synchronized Map<String, LatencyHistogram.Snapshot> getIntervalProcessingLatencies() {
+    Map<String, LatencyHistogram.Snapshot> snapshots = new LinkedHashMap<>();
+    for (FlowConstructStatistics statistics : flowConstructStats.values()) {
+      if (statistics != appStats) {
+        snapshots.put(statistics.getName(), statistics.getProcessingLatencies().getIntervalSnapshot());
+      }
+    }
+    return snapshots;
+  }
+
+  /**
+   * @return the statistics of the processors of every flow construct that has them enabled, by processor location
+   */
+  public synchronized Map<String, ProcessorStatistics> getProcessorStatistics() {
+    Map<String, ProcessorStatistics> processorStatistics = new LinkedHashMap<>();
+    for (FlowConstructStatistics statistics : flowConstructStats.values()) {
+      processorStatistics.putAll(statistics.getProcessorStatistics());
+    }
+    return processorStatistics;
+  }
 }
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.api.management.stats;
 
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
 import org.mule.runtime.core.api.util.StringUtils;
 
 import org.slf4j.Logger;
@@ -33,6 +35,7 @@ public class ComponentStatistics implements Statistics {
   private long intervalTime = 0;
   private long currentIntervalStartTime = 0;
   private boolean statIntervalTimeEnabled = false;
+  private final LatencyHistogram executionTimes = new LatencyHistogram();
 
   /**
    * The constructor added to initialize the interval time in ms that stats are measured for from the property statIntervalTime.
@@ -68,6 +71,7 @@ public class ComponentStatistics implements Statistics {
     executedEvent = 0;
     totalExecTime = 0;
     averageExecutionTime = 0;
+    executionTimes.clear();
   }
 
   /**
@@ -222,6 +226,18 @@ public class ComponentStatistics implements Statistics {
     averageExecutionTime = totalExecTime / executedEvent;
   }
 
+  /**
+   * Add a new execution-time measurement for processing an event, with the precision needed by the
+   * {@link #getExecutionTimeHistogram() histogram}.
+   *
+   * @param timeNanos The total event time to be logged/recorded, in nanoseconds, as measured with {@link System#nanoTime()}.
+   * @see #addExecutionTime(long)
+   */
+  public synchronized void addExecutionTimeNanos(long timeNanos) {
+    addExecutionTime(NANOSECONDS.toMillis(timeNanos));
+    executionTimes.record(timeNanos);
+  }
+
   /**
    * Returns the average execution time, rounded downwards.
    * 
@@ -231,4 +247,13 @@ public class ComponentStatistics implements Statistics {
     return averageExecutionTime;
   }
 
+  /**
+   * The distribution of the times added through {@link #addExecutionTimeNanos(long)} since last cleared.
+   *
+   * @return the histogram of execution times, in nanoseconds.
+   */
+  public LatencyHistogram getExecutionTimeHistogram() {
+    return executionTimes;
+  }
+
 }
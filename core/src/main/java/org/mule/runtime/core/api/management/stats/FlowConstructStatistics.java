@@ -7,6 +7,12 @@
 
 package org.mule.runtime.core.api.management.stats;
 
+import static java.util.Collections.emptyMap;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
+
+import java.util.Map;
+
 /**
  * Maintains different statistics for {@link org.mule.runtime.core.api.construct.FlowConstruct} instances
  */
@@ -42,6 +48,53 @@ public interface FlowConstructStatistics extends Statistics {
    */
   void addFlowExecutionBranchTime(long time, long total);
 
+  /**
+   * Adds the time elapsed from the reception of an event until its response was completed. Ignored by default.
+   *
+   * @param latencyNanos the elapsed time, in nanoseconds
+   */
+  default void addFlowExecutionLatency(long latencyNanos) {
+    // Nothing to do by default
+  }
+
+  /**
+   * @return the histogram of the latencies added through {@link #addFlowExecutionLatency(long)}. An empty one by default.
+   */
+  default LatencyHistogram getProcessingLatencies() {
+    return new LatencyHistogram();
+  }
+
+  /**
+   * @return whether the time and errors of each processor of the flow construct are being recorded. {@code false} by default.
+   */
+  default boolean isProcessorStatisticsEnabled() {
+    return false;
+  }
+
+  /**
+   * Enables or disables the recording of the time and errors of each processor of the flow construct. This is a dynamic parameter
+   * and is independent from {@link #setEnabled(boolean)}. Ignored by default.
+   */
+  default void setProcessorStatisticsEnabled(boolean enabled) {
+    // Nothing to do by default
+  }
+
+  /**
+   * @param location the location of a processor of the flow construct
+   * @return the statistics of the processor at the given {@code location}, created if there were none. By default, statistics
+   *         that are not kept.
+   */
+  default ProcessorStatistics getProcessorStatistics(ComponentLocation location) {
+    return new ProcessorStatistics(location.getLocation());
+  }
+
+  /**
+   * @return the statistics of the processors of the flow construct that were recorded, by location. None by default.
+   */
+  default Map<String, ProcessorStatistics> getProcessorStatistics() {
+    return emptyMap();
+  }
+
   long getAverageProcessingTime();
 
   long getProcessedEvents();
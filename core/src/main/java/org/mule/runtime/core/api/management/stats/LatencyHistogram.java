@@ -0,0 +1,274 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.ceil;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free histogram of latencies, expressed in nanoseconds.
+ * <p>
+ * Each power of two is split in {@link #SUB_BUCKETS} buckets, so recording a value is a couple of bit operations and an atomic
+ * increment, and the reported percentiles are less than 1% above the actual recorded values. Latencies are tracked with that
+ * precision up to 2^41 nanoseconds (about 36 minutes); longer ones are reported as the maximum.
+ * <p>
+ * The buckets take about 35KB, so they are only allocated when the first latency is recorded. Histograms of disabled statistics
+ * never record any, and cost just a few counters.
+ * <p>
+ * Reading percentiles iterates all the buckets, so consumers that need several values should take a {@link #getSnapshot()
+ * snapshot}. {@link #getIntervalSnapshot()} also resets the histogram, to report the latencies of consecutive intervals.
+ *
+ * @since 4.0
+ */
+public class LatencyHistogram implements Serializable {
+
+  private static final long serialVersionUID = -2349234651739512387L;
+
+  private static final int SUB_BUCKET_BITS = 7;
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+  private static final int MAX_EXPONENT = 40;
+  private static final long MAX_TRACKED_VALUE = (1L << (MAX_EXPONENT + 1)) - 1;
+  private static final int BUCKETS = (MAX_EXPONENT - SUB_BUCKET_BITS + 2) * SUB_BUCKETS;
+  private static final long[] NO_RECORDED_BUCKETS = new long[BUCKETS];
+
+  private volatile AtomicLongArray buckets;
+  private final LongAdder count = new LongAdder();
+  private final LongAdder total = new LongAdder();
+  private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+  /**
+   * Records a latency
+   *
+   * @param latencyNanos the latency to record, in nanoseconds. Negative values are recorded as zero.
+   */
+  public void record(long latencyNanos) {
+    long value = latencyNanos < 0 ? 0 : latencyNanos;
+    getOrCreateBuckets().incrementAndGet(bucketFor(value));
+    count.increment();
+    total.add(value);
+    max.accumulate(value);
+  }
+
+  /**
+   * @return the amount of recorded latencies
+   */
+  public long getCount() {
+    return count.sum();
+  }
+
+  /**
+   * @return the average of the recorded latencies, in nanoseconds, or zero if none was recorded
+   */
+  public long getMean() {
+    long currentCount = count.sum();
+    return currentCount == 0 ? 0 : total.sum() / currentCount;
+  }
+
+  /**
+   * @return the maximum recorded latency, in nanoseconds
+   */
+  public long getMax() {
+    return max.get();
+  }
+
+  /**
+   * Returns an upper bound of the latency below which the given percentage of the recorded latencies fall.
+   *
+   * @param percentile a value between 0 and 100
+   * @return the latency for the given {@code percentile}, in nanoseconds, or zero if none was recorded
+   */
+  public long getPercentile(double percentile) {
+    return getSnapshot().getPercentile(percentile);
+  }
+
+  /**
+   * Adds all the latencies recorded in {@code other} to this histogram.
+   *
+   * @param other the histogram to merge into this one
+   */
+  public void merge(LatencyHistogram other) {
+    final AtomicLongArray otherBuckets = other.buckets;
+    if (otherBuckets != null) {
+      for (int i = 0; i < BUCKETS; ++i) {
+        long bucketCount = otherBuckets.get(i);
+        if (bucketCount != 0) {
+          getOrCreateBuckets().addAndGet(i, bucketCount);
+        }
+      }
+    }
+    count.add(other.count.sum());
+    total.add(other.total.sum());
+    max.accumulate(other.max.get());
+  }
+
+  /**
+   * @return an immutable copy of the current state of this histogram
+   */
+  public Snapshot getSnapshot() {
+    final AtomicLongArray currentBuckets = buckets;
+    if (currentBuckets == null) {
+      return new Snapshot(NO_RECORDED_BUCKETS, count.sum(), total.sum(), max.get());
+    }
+    long[] copy = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; ++i) {
+      copy[i] = currentBuckets.get(i);
+    }
+    return new Snapshot(copy, count.sum(), total.sum(), max.get());
+  }
+
+  /**
+   * Takes a {@link #getSnapshot() snapshot} and clears this histogram, so the next call only reports the latencies recorded in
+   * between. Latencies recorded concurrently are reported either in this snapshot or in the next one.
+   *
+   * @return an immutable copy of the state of this histogram before being cleared
+   */
+  public Snapshot getIntervalSnapshot() {
+    final AtomicLongArray currentBuckets = buckets;
+    if (currentBuckets == null) {
+      return new Snapshot(NO_RECORDED_BUCKETS, count.sumThenReset(), total.sumThenReset(), max.getThenReset());
+    }
+    long[] copy = new long[BUCKETS];
+    for (int i = 0; i < BUCKETS; ++i) {
+      copy[i] = currentBuckets.getAndSet(i, 0);
+    }
+    return new Snapshot(copy, count.sumThenReset(), total.sumThenReset(), max.getThenReset());
+  }
+
+  /**
+   * Discards all the recorded latencies
+   */
+  public void clear() {
+    final AtomicLongArray currentBuckets = buckets;
+    if (currentBuckets != null) {
+      for (int i = 0; i < BUCKETS; ++i) {
+        currentBuckets.set(i, 0);
+      }
+    }
+    count.reset();
+    total.reset();
+    max.reset();
+  }
+
+  private AtomicLongArray getOrCreateBuckets() {
+    AtomicLongArray currentBuckets = buckets;
+    if (currentBuckets == null) {
+      synchronized (this) {
+        currentBuckets = buckets;
+        if (currentBuckets == null) {
+          currentBuckets = new AtomicLongArray(BUCKETS);
+          buckets = currentBuckets;
+        }
+      }
+    }
+    return currentBuckets;
+  }
+
+  private static int bucketFor(long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    } else if (value > MAX_TRACKED_VALUE) {
+      return BUCKETS - 1;
+    }
+    int exponent = Long.SIZE - 1 - numberOfLeadingZeros(value);
+    int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+    return (exponent - SUB_BUCKET_BITS + 1) * SUB_BUCKETS + subBucket;
+  }
+
+  private static long upperBoundOf(int bucket) {
+    if (bucket < SUB_BUCKETS) {
+      return bucket;
+    }
+    int shift = bucket / SUB_BUCKETS - 1;
+    long subBucket = bucket % SUB_BUCKETS;
+    return ((SUB_BUCKETS + subBucket + 1) << shift) - 1;
+  }
+
+  @Override
+  public String toString() {
+    return getSnapshot().toString();
+  }
+
+  /**
+   * Immutable state of a {@link LatencyHistogram} at a given moment.
+   */
+  public static final class Snapshot implements Serializable {
+
+    private static final long serialVersionUID = 4137512085218360271L;
+
+    private final long[] buckets;
+    private final long count;
+    private final long total;
+    private final long max;
+
+    private Snapshot(long[] buckets, long count, long total, long max) {
+      this.buckets = buckets;
+      this.count = count;
+      this.total = total;
+      this.max = max;
+    }
+
+    /**
+     * @return the amount of recorded latencies
+     */
+    public long getCount() {
+      return count;
+    }
+
+    /**
+     * @return the average of the recorded latencies, in nanoseconds, or zero if none was recorded
+     */
+    public long getMean() {
+      return count == 0 ? 0 : total / count;
+    }
+
+    /**
+     * @return the maximum recorded latency, in nanoseconds
+     */
+    public long getMax() {
+      return max;
+    }
+
+    /**
+     * Returns an upper bound of the latency below which the given percentage of the recorded latencies fall.
+     *
+     * @param percentile a value between 0 and 100
+     * @return the latency for the given {@code percentile}, in nanoseconds, or zero if none was recorded
+     */
+    public long getPercentile(double percentile) {
+      long bucketsCount = 0;
+      for (long bucketCount : buckets) {
+        bucketsCount += bucketCount;
+      }
+      if (bucketsCount == 0) {
+        return 0;
+      }
+
+      long target = (long) ceil(bucketsCount * Math.min(Math.max(percentile, 0), 100) / 100);
+      long accumulated = 0;
+      for (int i = 0; i < BUCKETS; ++i) {
+        accumulated += buckets[i];
+        if (accumulated >= target && accumulated > 0) {
+          // the last bucket also holds the latencies that are too long to be tracked
+          return i == BUCKETS - 1 ? max : Math.min(upperBoundOf(i), max);
+        }
+      }
+      return max;
+    }
+
+    @Override
+    public String toString() {
+      return "LatencyHistogram[count: " + count + ", mean: " + getMean() + "ns, p50: " + getPercentile(50) + "ns, p90: "
+          + getPercentile(90) + "ns, p99: " + getPercentile(99) + "ns, p99.9: " + getPercentile(99.9) + "ns, max: " + max
+          + "ns]";
+    }
+  }
+}
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.api.management.stats;
 
+import static java.lang.System.nanoTime;
+
 import org.mule.runtime.core.api.construct.FlowConstruct;
 
 import java.io.Serializable;
@@ -23,6 +25,7 @@ public class ProcessingTime implements Serializable {
 
   private AtomicLong accumulator = new AtomicLong();
   private FlowConstructStatistics statistics;
+  private final long startNanos = nanoTime();
 
   /**
    * Create a ProcessingTime for the specified MuleSession.
@@ -61,6 +64,15 @@ public class ProcessingTime implements Serializable {
     }
   }
 
+  /**
+   * Add the time elapsed since this processing started to the flow construct's latency histogram
+   */
+  public void addFlowExecutionLatency() {
+    if (statistics.isEnabled()) {
+      statistics.addFlowExecutionLatency(nanoTime() - startNanos);
+    }
+  }
+
   /**
    * Convert processing time to effective processing time. If processing took less than a tick, we consider it to have been one
    * millisecond
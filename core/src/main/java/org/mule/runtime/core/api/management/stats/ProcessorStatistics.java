@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.api.management.stats;
+
+import static java.lang.String.format;
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock free timings of a single processor of a flow, identified by its location.
+ * <p>
+ * For each execution it records the time the processor took to process the event and the queueing delay, which is the time the
+ * event waited since it was published to the processor until the processing strategy actually executed it.
+ *
+ * @since 4.0
+ */
+public class ProcessorStatistics implements Serializable {
+
+  private static final long serialVersionUID = 4728381526349276182L;
+
+  private final String location;
+  private final LatencyHistogram executionTimes = new LatencyHistogram();
+  private final LatencyHistogram queueingDelays = new LatencyHistogram();
+  private final LongAdder errors = new LongAdder();
+
+  public ProcessorStatistics(String location) {
+    this.location = location;
+  }
+
+  /**
+   * Records an execution of the processor
+   *
+   * @param queueingDelayNanos the time the event waited to be processed, in nanoseconds
+   * @param executionNanos the time the processor took to process the event, in nanoseconds
+   */
+  public void addExecution(long queueingDelayNanos, long executionNanos) {
+    queueingDelays.record(queueingDelayNanos);
+    executionTimes.record(executionNanos);
+  }
+
+  /**
+   * Indicates that the processor failed to process an event
+   */
+  public void incErrors() {
+    errors.increment();
+  }
+
+  /**
+   * @return the location of the processor these statistics belong to
+   */
+  public String getLocation() {
+    return location;
+  }
+
+  /**
+   * @return the histogram of the times the processor took to process events
+   */
+  public LatencyHistogram getExecutionTimes() {
+    return executionTimes;
+  }
+
+  /**
+   * @return the histogram of the times events waited to be processed
+   */
+  public LatencyHistogram getQueueingDelays() {
+    return queueingDelays;
+  }
+
+  /**
+   * @return the amount of events the processor failed to process
+   */
+  public long getErrors() {
+    return errors.sum();
+  }
+
+  /**
+   * Resets all the statistic state
+   */
+  public void clear() {
+    executionTimes.clear();
+    queueingDelays.clear();
+    errors.reset();
+  }
+
+  @Override
+  public String toString() {
+    return format("%s: execution {%s}, queueing {%s}, errors=%d", location, executionTimes.getSnapshot(),
+                  queueingDelays.getSnapshot(), getErrors());
+  }
+}
@@ -6,11 +6,14 @@
  */
 package org.mule.runtime.core.api.management.stats;
 
+import static java.util.Collections.unmodifiableMap;
+
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * <code>RouterStatistics</code> TODO
@@ -34,6 +37,7 @@ public class RouterStatistics implements Statistics {
   private long totalRouted;
   private long totalReceived;
   private Map routed;
+  private final Map<String, LatencyHistogram> routeLatencies = new ConcurrentHashMap<>();
   private int type;
 
   public synchronized void clear() {
@@ -42,6 +46,7 @@ public class RouterStatistics implements Statistics {
     totalReceived = 0;
     caughtInCatchAll = 0;
     routed.clear();
+    routeLatencies.clear();
   }
 
   /**
@@ -109,6 +114,20 @@ public class RouterStatistics implements Statistics {
     totalReceived++;
   }
 
+  /**
+   * Records the time a route took to process a message
+   *
+   * @param routeName The name of the route
+   * @param latencyNanos the time the route took, in nanoseconds
+   */
+  public void recordRouteLatency(String routeName, long latencyNanos) {
+    if (routeName == null) {
+      return;
+    }
+
+    routeLatencies.computeIfAbsent(routeName, name -> new LatencyHistogram()).record(latencyNanos);
+  }
+
   /**
    * Increment no routed message
    */
@@ -172,4 +191,18 @@ public class RouterStatistics implements Statistics {
   public Map getRouted() {
     return routed;
   }
+
+  /**
+   * @return the latencies of the route with the given name, or {@code null} if none was recorded
+   */
+  public LatencyHistogram getRouteLatency(String routeName) {
+    return routeLatencies.get(routeName);
+  }
+
+  /**
+   * @return the latencies recorded for each route, by route name
+   */
+  public Map<String, LatencyHistogram> getRouteLatencies() {
+    return unmodifiableMap(routeLatencies);
+  }
 }
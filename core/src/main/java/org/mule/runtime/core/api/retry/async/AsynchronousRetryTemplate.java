@@ -16,6 +16,7 @@ import org.mule.runtime.core.internal.retry.async.FutureRetryContext;
 import org.mule.runtime.core.internal.retry.async.RetryWorker;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 /**
@@ -44,6 +45,11 @@ public class AsynchronousRetryTemplate implements RetryPolicyTemplate {
     return context;
   }
 
+  @Override
+  public CompletableFuture<RetryContext> executeNonBlocking(RetryCallback callback, Executor workManager) {
+    return delegate.executeNonBlocking(callback, workManager);
+  }
+
   @Override
   public RetryPolicy createRetryInstance() {
     return delegate.createRetryInstance();
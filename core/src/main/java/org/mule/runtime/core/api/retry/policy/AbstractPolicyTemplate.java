@@ -6,6 +6,9 @@
  */
 package org.mule.runtime.core.api.retry.policy;
 
+import static reactor.core.publisher.Flux.from;
+import static reactor.core.scheduler.Schedulers.fromExecutor;
+
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.context.MuleContextAware;
 import org.mule.runtime.core.api.retry.RetryCallback;
@@ -15,10 +18,12 @@ import org.mule.runtime.core.internal.retry.DefaultRetryContext;
 
 import java.io.InterruptedIOException;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 /**
  * Base class for RetryPolicyTemplate implementations. Uses ConnectNotifier as RetryNotifier by default.
@@ -62,7 +67,7 @@ public abstract class AbstractPolicyTemplate implements RetryPolicyTemplate, Mul
           if (notifier != null) {
             notifier.onFailure(context, cause);
           }
-          if (cause instanceof InterruptedException || cause instanceof InterruptedIOException) {
+          if (isInterruption(cause)) {
             logger.error("Process was interrupted (InterruptedException), ceasing process");
             break;
           } else {
@@ -86,6 +91,60 @@ public abstract class AbstractPolicyTemplate implements RetryPolicyTemplate, Mul
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Each attempt is performed on the {@code workManager} and the wait between attempts is scheduled through the
+   * {@link RetryPolicy#applyPolicy(org.reactivestreams.Publisher, java.util.function.Predicate, java.util.function.Consumer)
+   * non blocking form} of the {@link RetryPolicy}, so no thread is held while waiting.
+   * <p>
+   * As with {@link #execute(RetryCallback, Executor)}, an interrupted attempt ceases the retries and completes with the context.
+   */
+  @Override
+  public CompletableFuture<RetryContext> executeNonBlocking(RetryCallback callback, Executor workManager) {
+    RetryPolicy policy = createRetryInstance();
+    DefaultRetryContext context = new DefaultRetryContext(callback.getWorkDescription(), metaInfo);
+    context.setMuleContext(muleContext);
+
+    Mono<RetryContext> attempt = Mono.<RetryContext>fromCallable(() -> {
+      callback.doWork(context);
+      if (notifier != null) {
+        notifier.onSuccess(context);
+      }
+      return context;
+    }).doOnError(e -> {
+      if (logger.isDebugEnabled()) {
+        logger.debug("Error executing policy", e);
+      }
+      if (notifier != null) {
+        notifier.onFailure(context, e);
+      }
+    });
+    if (workManager != null) {
+      attempt = attempt.subscribeOn(fromExecutor(workManager));
+    }
+
+    return from(policy.applyPolicy(attempt, e -> !isInterruption(e), e -> {
+      if (!isInterruption(e)) {
+        context.setFailed(e);
+      }
+    }))
+        .next()
+        .onErrorResume(AbstractPolicyTemplate::isInterruption, e -> {
+          logger.error("Process was interrupted (InterruptedException), ceasing process");
+          return Mono.just(context);
+        })
+        .onErrorMap(e -> {
+          context.setFailed(e);
+          return new RetryPolicyExhaustedException(e, callback.getWorkOwner());
+        })
+        .toFuture();
+  }
+
+  private static boolean isInterruption(Throwable e) {
+    return e instanceof InterruptedException || e instanceof InterruptedIOException;
+  }
+
   @Override
   public RetryNotifier getNotifier() {
     return notifier;
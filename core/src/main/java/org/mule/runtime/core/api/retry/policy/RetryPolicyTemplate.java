@@ -12,6 +12,7 @@ import org.mule.runtime.core.api.retry.RetryContext;
 import org.mule.runtime.core.api.retry.RetryNotifier;
 
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -46,6 +47,35 @@ public interface RetryPolicyTemplate {
    */
   RetryContext execute(RetryCallback callback, Executor workManager) throws Exception;
 
+  /**
+   * Applies the retry policy without holding a thread while waiting between attempts.
+   * <p>
+   * This default implementation performs the blocking {@link #execute(RetryCallback, Executor)} on the {@code workManager}, or
+   * on the calling thread if there is none.
+   *
+   * @param callback a callback with the logic to be executed on each retry
+   * @param workManager the executor on which the retry operations are to be executed
+   * @return a {@link CompletableFuture} completed with the {@link RetryContext} once the work succeeds, or exceptionally once the
+   *         policy is exhausted
+   * @since 4.0
+   */
+  default CompletableFuture<RetryContext> executeNonBlocking(RetryCallback callback, Executor workManager) {
+    CompletableFuture<RetryContext> result = new CompletableFuture<>();
+    Runnable execution = () -> {
+      try {
+        result.complete(execute(callback, workManager));
+      } catch (Throwable t) {
+        result.completeExceptionally(t);
+      }
+    };
+    if (workManager != null) {
+      workManager.execute(execution);
+    } else {
+      execution.run();
+    }
+    return result;
+  }
+
   /**
    * Applies the retry policy in a non blocking manner by transforming
    * the given {@code publisher} into one configured to apply the retry
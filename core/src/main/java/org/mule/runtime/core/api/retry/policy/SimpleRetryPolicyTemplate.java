@@ -13,6 +13,10 @@ import org.slf4j.LoggerFactory;
 
 /**
  * This policy allows the user to configure how many times a retry should be attempted and how long to wait between retries.
+ * <p>
+ * By default the wait between retries is constant. Setting a {@link #setBackoffMultiplier(double) backoff multiplier} makes it
+ * grow exponentially up to the {@link #setMaxFrequency(long) max frequency}, and a {@link #setJitter(double) jitter} randomizes
+ * it so that reconnections of many clients are spread over time.
  */
 public class SimpleRetryPolicyTemplate extends AbstractPolicyTemplate {
 
@@ -27,6 +31,9 @@ public class SimpleRetryPolicyTemplate extends AbstractPolicyTemplate {
 
   protected volatile int count = DEFAULT_RETRY_COUNT;
   protected volatile long frequency = DEFAULT_FREQUENCY;
+  protected volatile double backoffMultiplier = 1;
+  protected volatile long maxFrequency = 0;
+  protected volatile double jitter = 0;
 
   public SimpleRetryPolicyTemplate() {
     super();
@@ -53,8 +60,43 @@ public class SimpleRetryPolicyTemplate extends AbstractPolicyTemplate {
     this.count = count;
   }
 
+  public double getBackoffMultiplier() {
+    return backoffMultiplier;
+  }
+
+  /**
+   * @param backoffMultiplier the factor by which the wait between retries is multiplied after each retry. {@code 1} keeps the
+   *        wait constant.
+   */
+  public void setBackoffMultiplier(double backoffMultiplier) {
+    this.backoffMultiplier = backoffMultiplier;
+  }
+
+  public long getMaxFrequency() {
+    return maxFrequency;
+  }
+
+  /**
+   * @param maxFrequency the maximum time to wait between retries when using a {@link #setBackoffMultiplier(double) backoff
+   *        multiplier}, or {@code 0} for no maximum
+   */
+  public void setMaxFrequency(long maxFrequency) {
+    this.maxFrequency = maxFrequency;
+  }
+
+  public double getJitter() {
+    return jitter;
+  }
+
+  /**
+   * @param jitter the fraction, between {@code 0} and {@code 1}, by which each wait is randomly shortened or lengthened
+   */
+  public void setJitter(double jitter) {
+    this.jitter = jitter;
+  }
+
   public RetryPolicy createRetryInstance() {
-    return new SimpleRetryPolicy(frequency, count);
+    return new SimpleRetryPolicy(frequency, count, backoffMultiplier, maxFrequency, jitter);
   }
 
   @Override
@@ -63,6 +105,13 @@ public class SimpleRetryPolicyTemplate extends AbstractPolicyTemplate {
     sb.append("SimpleRetryPolicy");
     sb.append("{frequency=").append(frequency);
     sb.append(", retryCount=").append(count);
+    if (backoffMultiplier != 1) {
+      sb.append(", backoffMultiplier=").append(backoffMultiplier);
+      sb.append(", maxFrequency=").append(maxFrequency);
+    }
+    if (jitter > 0) {
+      sb.append(", jitter=").append(jitter);
+    }
     sb.append('}');
 
     return sb.toString();
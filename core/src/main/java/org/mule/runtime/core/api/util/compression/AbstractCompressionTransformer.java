@@ -6,8 +6,16 @@
  */
 package org.mule.runtime.core.api.util.compression;
 
+import static org.mule.runtime.core.api.Event.getCurrentEvent;
+import static org.mule.runtime.core.api.util.StreamingUtils.streamingContent;
+
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.registry.RegistrationException;
+import org.mule.runtime.core.streaming.StreamingManager;
 import org.mule.runtime.core.transformer.AbstractTransformer;
 
+import java.io.InputStream;
+
 /**
  * <code>AbstractCompressionTransformer</code> is a base class for all transformers that can compress or uncompress data when they
  * performa message transformation. Compression is done via a pluggable strategy.
@@ -16,6 +24,7 @@ import org.mule.runtime.core.transformer.AbstractTransformer;
 public abstract class AbstractCompressionTransformer extends AbstractTransformer {
 
   private CompressionStrategy strategy;
+  private StreamingManager streamingManager;
 
   /**
    * default constructor required for discovery
@@ -32,4 +41,33 @@ public abstract class AbstractCompressionTransformer extends AbstractTransformer
     this.strategy = strategy;
   }
 
+  /**
+   * Turns the stream resulting from transforming a repeatable stream into a repeatable stream as well, so the transformed
+   * content can be consumed several times without being materialized. The content is only compressed or uncompressed as the
+   * cursors read it, and buffered by the streaming manager of the current event.
+   *
+   * @param stream the transformed stream
+   * @return a {@link org.mule.runtime.api.streaming.bytes.CursorStreamProvider}, or the given {@code stream} if there's no
+   *         event to manage it
+   */
+  protected Object toRepeatableStream(InputStream stream) {
+    Event event = getCurrentEvent();
+    StreamingManager streamingManager = getStreamingManager();
+    if (event == null || streamingManager == null) {
+      return stream;
+    }
+    return streamingContent(stream, streamingManager.forBytes().getDefaultCursorProviderFactory(), event);
+  }
+
+  private StreamingManager getStreamingManager() {
+    if (streamingManager == null && muleContext != null) {
+      try {
+        streamingManager = muleContext.getRegistry().lookupObject(StreamingManager.class);
+      } catch (RegistrationException e) {
+        logger.warn("Could not obtain the streaming manager, transformed streams won't be repeatable: " + e.getMessage());
+      }
+    }
+    return streamingManager;
+  }
+
 }
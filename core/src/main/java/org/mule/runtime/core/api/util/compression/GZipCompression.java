@@ -6,16 +6,20 @@
  */
 package org.mule.runtime.core.api.util.compression;
 
+import static java.lang.Integer.getInteger;
 import static org.apache.commons.io.IOUtils.copy;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.util.IOUtils.closeQuietly;
 
 import org.mule.runtime.core.internal.transformer.compression.GZIPCompressorInputStream;
+import org.mule.runtime.core.internal.transformer.compression.GZIPUncompressorInputStream;
+import org.mule.runtime.core.internal.transformer.compression.GZipBlockCompressor;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.Executor;
 import java.util.zip.GZIPInputStream;
-import java.util.zip.GZIPOutputStream;
 
 import org.apache.commons.io.output.ByteArrayOutputStream;
 import org.slf4j.Logger;
@@ -28,11 +32,36 @@ public class GZipCompression implements CompressionStrategy {
 
   public static final int DEFAULT_BUFFER_SIZE = 32768;
 
+  /**
+   * When set, byte arrays larger than this amount of bytes are split in blocks of this size which are compressed in parallel on
+   * the executor given through {@link #setParallelCompressionExecutor(Executor)}.
+   */
+  public static final String PARALLEL_BLOCK_SIZE_PROPERTY = SYSTEM_PROPERTY_PREFIX + "gzip.parallelBlockSize";
+
+  private static final int PARALLEL_BLOCK_SIZE = getInteger(PARALLEL_BLOCK_SIZE_PROPERTY, 0);
+
   /**
    * The logger for this class
    */
   private static final Logger logger = LoggerFactory.getLogger(GZipCompression.class);
 
+  private Executor parallelCompressionExecutor;
+
+  /**
+   * @return whether byte arrays may be compressed in parallel, according to {@link #PARALLEL_BLOCK_SIZE_PROPERTY}
+   */
+  public boolean isParallelCompressionEnabled() {
+    return PARALLEL_BLOCK_SIZE > 0;
+  }
+
+  /**
+   * @param parallelCompressionExecutor where the blocks of large byte arrays are compressed, or {@code null} to compress them in
+   *        the calling thread
+   */
+  public void setParallelCompressionExecutor(Executor parallelCompressionExecutor) {
+    this.parallelCompressionExecutor = parallelCompressionExecutor;
+  }
+
   /**
    * Determines if a byte array is compressed. The java.util.zip GZip implementaiton does not expose the GZip header so it is
    * difficult to determine if a string is compressed.
@@ -54,8 +83,8 @@ public class GZipCompression implements CompressionStrategy {
    * 
    * @param bytes An array of bytes to compress
    * @return a compressed byte array
-   * @throws java.io.IOException if it fails to write to a GZIPOutputStream
-   * @see java.util.zip.GZIPOutputStream
+   * @throws java.io.IOException if the data can't be compressed
+   * @see #PARALLEL_BLOCK_SIZE_PROPERTY
    */
   public byte[] compressByteArray(byte[] bytes) throws IOException {
     // TODO add strict behaviour as option
@@ -71,31 +100,15 @@ public class GZipCompression implements CompressionStrategy {
       logger.debug("Compressing message of size: " + bytes.length);
     }
 
-    ByteArrayOutputStream baos = null;
-    GZIPOutputStream gzos = null;
+    byte[] compressedByteArray = isParallelCompressionEnabled() && parallelCompressionExecutor != null
+        ? GZipBlockCompressor.compressInParallel(bytes, PARALLEL_BLOCK_SIZE, parallelCompressionExecutor)
+        : GZipBlockCompressor.compress(bytes);
 
-    try {
-      baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
-      gzos = new GZIPOutputStream(baos);
-
-      gzos.write(bytes, 0, bytes.length);
-      gzos.finish();
-      gzos.close();
-
-      byte[] compressedByteArray = baos.toByteArray();
-      baos.close();
-
-      if (logger.isDebugEnabled()) {
-        logger.debug("Compressed message to size: " + compressedByteArray.length);
-      }
-
-      return compressedByteArray;
-    } catch (IOException ioex) {
-      throw ioex;
-    } finally {
-      closeQuietly(gzos);
-      closeQuietly(baos);
+    if (logger.isDebugEnabled()) {
+      logger.debug("Compressed message to size: " + compressedByteArray.length);
     }
+
+    return compressedByteArray;
   }
 
   public InputStream compressInputStream(InputStream is) throws IOException {
@@ -124,12 +137,12 @@ public class GZipCompression implements CompressionStrategy {
     }
 
     ByteArrayInputStream bais = null;
-    GZIPInputStream gzis = null;
+    GZIPUncompressorInputStream gzis = null;
     ByteArrayOutputStream baos = null;
 
     try {
       bais = new ByteArrayInputStream(bytes);
-      gzis = new GZIPInputStream(bais);
+      gzis = new GZIPUncompressorInputStream(bais);
       baos = new ByteArrayOutputStream(DEFAULT_BUFFER_SIZE);
 
       copy(gzis, baos);
@@ -154,7 +167,7 @@ public class GZipCompression implements CompressionStrategy {
   }
 
   public InputStream uncompressInputStream(InputStream is) throws IOException {
-    return new GZIPInputStream(is);
+    return new GZIPUncompressorInputStream(is);
   }
 
 }
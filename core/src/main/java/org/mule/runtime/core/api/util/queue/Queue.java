@@ -12,6 +12,9 @@ import org.mule.runtime.api.meta.NamedObject;
 import org.mule.runtime.api.store.ObjectStoreException;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Interface for mule queues used for VM.
@@ -43,6 +46,36 @@ public interface Queue extends NamedObject {
 
   boolean offer(Serializable object, long timeout) throws InterruptedException, ObjectStoreException;
 
+  /**
+   * Puts all the given objects in this queue, waiting if necessary.
+   * 
+   * @param objects the objects to put, in order
+   */
+  default void putAll(Collection<? extends Serializable> objects) throws InterruptedException, ObjectStoreException {
+    for (Serializable object : objects) {
+      put(object);
+    }
+  }
+
+  /**
+   * Retrieves up to {@code maxItems} objects from this queue, waiting up to {@code timeout} milliseconds for the first one if the
+   * queue is empty.
+   * 
+   * @param maxItems the maximum amount of objects to retrieve
+   * @param timeout the maximum time to wait for an object to be available
+   * @return the retrieved objects, in order. Empty if none was available.
+   */
+  default List<Serializable> drainTo(int maxItems, long timeout) throws InterruptedException {
+    List<Serializable> items = new ArrayList<>();
+    for (Serializable item = poll(timeout); item != null; item = poll(0)) {
+      items.add(item);
+      if (items.size() >= maxItems) {
+        break;
+      }
+    }
+    return items;
+  }
+
   /**
    * Discards all the elements in the queue
    * 
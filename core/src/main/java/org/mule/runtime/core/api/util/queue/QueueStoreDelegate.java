@@ -8,7 +8,9 @@
 package org.mule.runtime.core.api.util.queue;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * A DefaultQueueStore delegates the actual work of processing its queue to one of these.
@@ -30,6 +32,21 @@ public interface QueueStoreDelegate {
    */
   Serializable poll(long timeout) throws InterruptedException;
 
+  /**
+   * Removes up to {@code maxItems} members from the front of the queue, waiting up to {@code timeout} for the first one if the
+   * queue is empty
+   */
+  default List<Serializable> drainTo(int maxItems, long timeout) throws InterruptedException {
+    List<Serializable> items = new ArrayList<>();
+    for (Serializable item = poll(timeout); item != null; item = poll(0)) {
+      items.add(item);
+      if (items.size() >= maxItems) {
+        break;
+      }
+    }
+    return items;
+  }
+
   /**
    * return, but do not remove, the first member of the queue
    */
@@ -25,16 +25,19 @@ import org.mule.runtime.api.exception.MuleException;
 final class CachedConnectionManagementStrategy<C> extends ConnectionManagementStrategy<C> {
 
   private final ConnectionHandlerAdapter<C> connection;
+  private final boolean warmUp;
 
   /**
    * Creates a new instance
    *
    * @param connectionProvider the {@link ConnectionProvider} used to manage the connections
    * @param muleContext the owning {@link MuleContext}
+   * @param warmUp whether the connection is to be established ahead of time instead of on first use
    */
-  CachedConnectionManagementStrategy(ConnectionProvider<C> connectionProvider, MuleContext muleContext) {
+  CachedConnectionManagementStrategy(ConnectionProvider<C> connectionProvider, MuleContext muleContext, boolean warmUp) {
     super(connectionProvider, muleContext);
     connection = new CachedConnectionHandler<>(connectionProvider, muleContext);
+    this.warmUp = warmUp;
   }
 
   /**
@@ -48,6 +51,21 @@ final class CachedConnectionManagementStrategy<C> extends ConnectionManagementSt
     return connection;
   }
 
+  @Override
+  int getWarmUpTarget() {
+    return warmUp ? 1 : 0;
+  }
+
+  /**
+   * Establishes the cached connection
+   *
+   * @throws ConnectionException if the connection could not be established
+   */
+  @Override
+  void warmUpConnection() throws ConnectionException {
+    connection.getConnection();
+  }
+
   /**
    * Invokes {@link ConnectionHandlerAdapter#close()} on the cached connection
    *
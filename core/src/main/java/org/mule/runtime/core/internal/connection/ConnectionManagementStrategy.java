@@ -13,6 +13,8 @@ import org.mule.runtime.core.api.Closeable;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.api.exception.MuleException;
 
+import reactor.core.publisher.Mono;
+
 /**
  * Strategy to implement different connection management mechanisms.
  * <p>
@@ -48,6 +50,31 @@ abstract class ConnectionManagementStrategy<C> implements Closeable {
    */
   abstract ConnectionHandler<C> getConnectionHandler() throws ConnectionException;
 
+  /**
+   * Non blocking version of {@link #getConnectionHandler()}. Strategies which may have to wait for a connection to be available
+   * override this method so that the wait doesn't hold a thread.
+   *
+   * @return a {@link Mono} of a {@link ConnectionHandler}
+   */
+  Mono<ConnectionHandler<C>> getConnectionHandlerAsync() {
+    return Mono.fromCallable(this::getConnectionHandler);
+  }
+
+  /**
+   * @return the amount of connections that are to be established ahead of time, so that the first requests don't pay for them.
+   *         This implementation returns {@code 0}
+   */
+  int getWarmUpTarget() {
+    return 0;
+  }
+
+  /**
+   * Establishes one of the {@link #getWarmUpTarget()} connections. This implementation does nothing.
+   *
+   * @throws ConnectionException if the connection could not be established
+   */
+  void warmUpConnection() throws ConnectionException {}
+
   /**
    * Closes all connections and resources allocated through {@code this} instance.
    *
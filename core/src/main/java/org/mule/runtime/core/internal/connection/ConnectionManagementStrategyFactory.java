@@ -6,9 +6,12 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.lang.Boolean.getBoolean;
 import static org.mule.runtime.api.meta.model.connection.ConnectionManagementType.CACHED;
 import static org.mule.runtime.api.meta.model.connection.ConnectionManagementType.NONE;
 import static org.mule.runtime.api.meta.model.connection.ConnectionManagementType.POOLING;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
 import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.CachedConnectionProvider;
 import org.mule.runtime.api.connection.ConnectionProvider;
@@ -17,6 +20,8 @@ import org.mule.runtime.api.connection.PoolingListener;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.api.meta.model.connection.ConnectionManagementType;
 
+import java.util.concurrent.Executor;
+
 /**
  * Creates instances of {@link ConnectionManagementStrategy}
  *
@@ -24,18 +29,32 @@ import org.mule.runtime.api.meta.model.connection.ConnectionManagementType;
  */
 final class ConnectionManagementStrategyFactory {
 
+  /**
+   * Whether cached connections are established when the connection manager starts instead of on first use.
+   */
+  static final String WARM_UP_CACHED_CONNECTIONS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "connection.cached.warmUp";
+
+  /**
+   * Whether pools establish the connections set by their {@link PoolingProfile#getInitialisationPolicy() initialisation policy}
+   * when the connection manager starts, and keep them ready afterwards, instead of establishing connections on first use.
+   */
+  static final String WARM_UP_POOLED_CONNECTIONS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "connection.pool.warmUp";
+
   private final PoolingProfile defaultPoolingProfile;
   private final MuleContext muleContext;
+  private final Executor refillExecutor;
 
   /**
    * Creates a new instance
    *
    * @param defaultPoolingProfile the {@link PoolingProfile} that will be used to configure the pool of connections
    * @param muleContext the owning {@link MuleContext}
+   * @param refillExecutor the {@link Executor} on which pools establish invalidated connections again
    */
-  ConnectionManagementStrategyFactory(PoolingProfile defaultPoolingProfile, MuleContext muleContext) {
+  ConnectionManagementStrategyFactory(PoolingProfile defaultPoolingProfile, MuleContext muleContext, Executor refillExecutor) {
     this.defaultPoolingProfile = defaultPoolingProfile;
     this.muleContext = muleContext;
+    this.refillExecutor = refillExecutor;
   }
 
   /**
@@ -60,7 +79,8 @@ final class ConnectionManagementStrategyFactory {
   }
 
   private <C> ConnectionManagementStrategy<C> cached(ConnectionProvider<C> connectionProvider) {
-    return new CachedConnectionManagementStrategy<>(connectionProvider, muleContext);
+    return new CachedConnectionManagementStrategy<>(connectionProvider, muleContext,
+                                                    getBoolean(WARM_UP_CACHED_CONNECTIONS_PROPERTY));
   }
 
   private <C> ConnectionManagementStrategy<C> withoutManagement(ConnectionProvider<C> connectionProvider) {
@@ -76,7 +96,8 @@ final class ConnectionManagementStrategyFactory {
 
     return poolingProfile.isDisabled() ? withoutManagement(connectionProvider)
         : new PoolingConnectionManagementStrategy<>(connectionProvider, poolingProfile,
-                                                    (PoolingListener<C>) unwrap(connectionProvider), muleContext);
+                                                    (PoolingListener<C>) unwrap(connectionProvider), muleContext,
+                                                    getBoolean(WARM_UP_POOLED_CONNECTIONS_PROPERTY), refillExecutor);
   }
 
   private <C> ConnectionManagementType getManagementType(ConnectionProvider<C> connectionProvider) {
@@ -7,12 +7,17 @@
 package org.mule.runtime.core.internal.connection;
 
 import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.connection.ConnectionHandler;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.core.api.connector.ConnectionManager;
 import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.core.api.retry.policy.RetryPolicy;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 
+import java.util.Optional;
+
+import reactor.core.publisher.Mono;
+
 /**
  * Interface for {@link ConnectionManager} implementations which expands its contract with non API functionality
  *
@@ -44,4 +49,22 @@ public interface ConnectionManagerAdapter extends ConnectionManager, Stoppable {
    * @return a {@link PoolingProfile}
    */
   PoolingProfile getDefaultPoolingProfile();
+
+  /**
+   * Non blocking version of {@link #getConnection(Object)}. If the connections of the {@code config} are pooled and the pool is
+   * exhausted, no thread is held while waiting for a connection to be returned.
+   *
+   * @param config the config which owns the connection
+   * @param <C> the generic type of the connection
+   * @return a {@link Mono} of a {@link ConnectionHandler}
+   */
+  <C> Mono<ConnectionHandler<C>> getConnectionAsync(Object config);
+
+  /**
+   * Returns the metrics of the pool of connections of the given {@code config}
+   *
+   * @param config the config which owns the connections
+   * @return the {@link ConnectionPoolStatistics}, or an empty {@link Optional} if the config's connections are not pooled
+   */
+  Optional<ConnectionPoolStatistics> getPoolStatistics(Object config);
 }
@@ -0,0 +1,546 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import static java.lang.System.nanoTime;
+import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.lang.Math.min;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ALL;
+import static org.mule.runtime.api.config.PoolingProfile.INITIALISE_ONE;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_FAIL;
+import static org.mule.runtime.api.config.PoolingProfile.WHEN_EXHAUSTED_GROW;
+import static org.mule.runtime.core.api.rx.Exceptions.checkedFunction;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.config.PoolingProfile;
+import org.mule.runtime.api.connection.ConnectionProvider;
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
+
+import java.lang.ref.WeakReference;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import reactor.core.publisher.Mono;
+
+/**
+ * Lock free pool of the connections created by a {@link ConnectionProvider}, configured through a {@link PoolingProfile}.
+ * <p>
+ * Idle connections are kept in a concurrent LIFO deque and each connection tracks its own state, so borrowing and returning a
+ * connection are a couple of CAS operations. A thread first tries to reuse the connection it returned last, which is usually
+ * still idle and hot in its caches.
+ * <p>
+ * When the pool is exhausted and the {@link PoolingProfile#getExhaustedAction() exhausted action} is to wait, the requests are
+ * queued and returned connections are handed off to them directly. Requests can wait blocking, through {@link #borrow()}, or
+ * without blocking, through {@link #borrowAsync()}.
+ * <p>
+ * Idle connections are evicted by the threads using the pool, at most once every
+ * {@link PoolingProfile#getEvictionCheckIntervalMillis() eviction check interval}.
+ * <p>
+ * When warm up is enabled, the {@link PoolingProfile#getInitialisationPolicy() initialisation policy} sets how many connections
+ * the pool keeps ready: one for {@link PoolingProfile#INITIALISE_ONE} and {@link PoolingProfile#getMaxIdle() max idle} for
+ * {@link PoolingProfile#INITIALISE_ALL}. Those are established through {@link #prefill()} and, when invalidated or evicted, are
+ * established again in the background. Otherwise connections are only established when borrowed.
+ *
+ * @param <C> the generic type of the pooled connections
+ * @since 4.0
+ */
+class ConnectionPool<C> implements ConnectionPoolStatistics {
+
+  private static final Logger LOGGER = getLogger(ConnectionPool.class);
+
+  private static final String EXHAUSTED_MESSAGE = "Connection pool is exhausted";
+
+  /**
+   * Completes a waiting request when there is no connection to hand off to it but it can create a new one.
+   */
+  @SuppressWarnings("rawtypes")
+  private static final PooledConnection CREATE_PERMIT = new PooledConnection<>(null);
+
+  private final ConnectionProvider<C> connectionProvider;
+  private final int maxActive;
+  private final int maxIdle;
+  private final long maxWait;
+  private final int exhaustedAction;
+  private final long minEvictionNanos;
+  private final long evictionIntervalNanos;
+  private final int warmUpTarget;
+  private final Executor refillExecutor;
+
+  private final ConcurrentLinkedDeque<PooledConnection<C>> idle = new ConcurrentLinkedDeque<>();
+  private final ConcurrentLinkedDeque<CompletableFuture<PooledConnection<C>>> waiters = new ConcurrentLinkedDeque<>();
+  private final ThreadLocal<WeakReference<PooledConnection<C>>> lastReleased = new ThreadLocal<>();
+  private final AtomicInteger total = new AtomicInteger();
+  private final AtomicInteger idleCount = new AtomicInteger();
+  private final AtomicLong lastEviction = new AtomicLong(nanoTime());
+  private final AtomicBoolean refilling = new AtomicBoolean();
+  private final LatencyHistogram borrowLatencies = new LatencyHistogram();
+  private volatile boolean closed = false;
+
+  /**
+   * Creates a new instance
+   *
+   * @param connectionProvider the {@link ConnectionProvider} used to create and destroy the connections
+   * @param poolingProfile the {@link PoolingProfile} which configures the pool
+   * @param warmUp whether the connections set by the initialisation policy are to be kept ready
+   * @param refillExecutor the {@link Executor} on which connections are established again in the background
+   */
+  ConnectionPool(ConnectionProvider<C> connectionProvider, PoolingProfile poolingProfile, boolean warmUp,
+                 Executor refillExecutor) {
+    this.connectionProvider = connectionProvider;
+    this.maxActive = poolingProfile.getMaxActive();
+    this.maxIdle = poolingProfile.getMaxIdle();
+    this.maxWait = poolingProfile.getMaxWait();
+    this.exhaustedAction = poolingProfile.getExhaustedAction();
+    this.minEvictionNanos = MILLISECONDS.toNanos(poolingProfile.getMinEvictionMillis());
+    this.evictionIntervalNanos = MILLISECONDS.toNanos(poolingProfile.getEvictionCheckIntervalMillis());
+    this.warmUpTarget = warmUp ? getWarmUpTarget(poolingProfile) : 0;
+    this.refillExecutor = refillExecutor;
+  }
+
+  private static int getWarmUpTarget(PoolingProfile poolingProfile) {
+    int target = 0;
+    if (poolingProfile.getInitialisationPolicy() == INITIALISE_ONE) {
+      target = 1;
+    } else if (poolingProfile.getInitialisationPolicy() == INITIALISE_ALL) {
+      target = poolingProfile.getMaxIdle();
+    }
+    return poolingProfile.getMaxActive() > 0 ? min(target, poolingProfile.getMaxActive()) : target;
+  }
+
+  /**
+   * @return the amount of connections the pool keeps ready, as set by its initialisation policy when warm up is enabled
+   */
+  int getWarmUpTarget() {
+    return warmUpTarget;
+  }
+
+  /**
+   * Establishes a new idle connection if the pool holds less connections than its {@link #getWarmUpTarget() warm up target}.
+   *
+   * @return whether a connection was established
+   * @throws Exception if the connection could not be established
+   */
+  boolean prefill() throws Exception {
+    if (closed || total.get() >= warmUpTarget || !reserveCapacity()) {
+      return false;
+    }
+    release(create());
+    return true;
+  }
+
+  /**
+   * Obtains a connection from the pool, creating or waiting for one if none is idle.
+   *
+   * @return a borrowed connection, which has to be {@link #release(PooledConnection) released} or
+   *         {@link #invalidate(PooledConnection) invalidated}
+   * @throws NoSuchElementException if the pool is exhausted or closed
+   * @throws Exception if the connection could not be created
+   */
+  PooledConnection<C> borrow() throws Exception {
+    long startNanos = nanoTime();
+    PooledConnection<C> pooled = pollAvailable();
+    if (pooled == null) {
+      CompletableFuture<PooledConnection<C>> waiter = enqueueWaiter();
+      try {
+        pooled = maxWait > 0 ? waiter.get(maxWait, MILLISECONDS) : waiter.get();
+      } catch (TimeoutException e) {
+        abandon(waiter);
+        throw new NoSuchElementException(EXHAUSTED_MESSAGE);
+      } catch (InterruptedException e) {
+        abandon(waiter);
+        Thread.currentThread().interrupt();
+        throw e;
+      } catch (ExecutionException e) {
+        throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+      }
+    }
+
+    pooled = createIfPermit(pooled);
+    borrowLatencies.record(nanoTime() - startNanos);
+    return pooled;
+  }
+
+  /**
+   * Non blocking version of {@link #borrow()}, for reactive operations. When the pool is exhausted the request is queued
+   * without holding any thread until a connection is available.
+   *
+   * @return a {@link Mono} of a borrowed connection
+   */
+  Mono<PooledConnection<C>> borrowAsync() {
+    return Mono.defer(() -> {
+      long startNanos = nanoTime();
+      PooledConnection<C> pooled;
+      try {
+        pooled = pollAvailable();
+      } catch (Exception e) {
+        return Mono.error(e);
+      }
+
+      Mono<PooledConnection<C>> borrowed;
+      if (pooled != null) {
+        borrowed = Mono.just(pooled);
+      } else {
+        CompletableFuture<PooledConnection<C>> waiter = enqueueWaiter();
+        borrowed = Mono.fromFuture(waiter).doOnCancel(() -> abandon(waiter));
+        if (maxWait > 0) {
+          // the timeout cancels the waiter, which abandons it
+          borrowed = borrowed.timeout(ofMillis(maxWait))
+              .onErrorMap(TimeoutException.class, e -> new NoSuchElementException(EXHAUSTED_MESSAGE));
+        }
+      }
+      return borrowed.map(checkedFunction(p -> {
+        PooledConnection<C> created = createIfPermit(p);
+        borrowLatencies.record(nanoTime() - startNanos);
+        return created;
+      }));
+    });
+  }
+
+  /**
+   * @return an idle or newly created connection, or {@code null} if the caller has to wait for one
+   */
+  private PooledConnection<C> pollAvailable() throws Exception {
+    if (closed) {
+      throw new NoSuchElementException("Connection pool is closed");
+    }
+    evictIfNeeded();
+
+    PooledConnection<C> pooled = claimLastReleased();
+    if (pooled == null) {
+      pooled = pollIdle();
+    }
+    if (pooled != null) {
+      return pooled;
+    }
+
+    if (reserveCapacity()) {
+      return create();
+    } else if (exhaustedAction == WHEN_EXHAUSTED_GROW) {
+      total.incrementAndGet();
+      return create();
+    } else if (exhaustedAction == WHEN_EXHAUSTED_FAIL) {
+      throw new NoSuchElementException(EXHAUSTED_MESSAGE);
+    }
+    return null;
+  }
+
+  private CompletableFuture<PooledConnection<C>> enqueueWaiter() {
+    CompletableFuture<PooledConnection<C>> waiter = new CompletableFuture<>();
+    waiters.add(waiter);
+    // a connection may have been released between the poll and the enqueue
+    dispatch();
+    return waiter;
+  }
+
+  /**
+   * Gives up a waiting request. If a connection was handed off to it concurrently, the connection goes back to the pool. Giving
+   * up a request that was already given up does nothing.
+   */
+  private void abandon(CompletableFuture<PooledConnection<C>> waiter) {
+    if (waiter.completeExceptionally(new NoSuchElementException(EXHAUSTED_MESSAGE))) {
+      waiters.remove(waiter);
+      return;
+    } else if (waiter.isCompletedExceptionally()) {
+      return;
+    }
+
+    PooledConnection<C> handedOff = waiter.getNow(null);
+    if (handedOff == CREATE_PERMIT) {
+      total.decrementAndGet();
+      dispatch();
+    } else if (handedOff != null) {
+      release(handedOff);
+    }
+  }
+
+  private PooledConnection<C> createIfPermit(PooledConnection<C> pooled) throws Exception {
+    return pooled == CREATE_PERMIT ? create() : pooled;
+  }
+
+  /**
+   * Creates a new connection. The capacity for it has to be already reserved in {@link #total}.
+   */
+  private PooledConnection<C> create() throws Exception {
+    try {
+      return new PooledConnection<>(connectionProvider.connect());
+    } catch (Exception e) {
+      total.decrementAndGet();
+      dispatch();
+      throw e;
+    }
+  }
+
+  private boolean reserveCapacity() {
+    int current;
+    do {
+      current = total.get();
+      if (maxActive > 0 && current >= maxActive) {
+        return false;
+      }
+    } while (!total.compareAndSet(current, current + 1));
+    return true;
+  }
+
+  private PooledConnection<C> claimLastReleased() {
+    WeakReference<PooledConnection<C>> reference = lastReleased.get();
+    PooledConnection<C> pooled = reference != null ? reference.get() : null;
+    if (pooled != null && pooled.claim()) {
+      idleCount.decrementAndGet();
+      return pooled;
+    }
+    return null;
+  }
+
+  private PooledConnection<C> pollIdle() {
+    PooledConnection<C> pooled;
+    while ((pooled = idle.pollFirst()) != null) {
+      pooled.queued.set(false);
+      // connections reused by the thread that released them are skipped
+      if (pooled.claim()) {
+        idleCount.decrementAndGet();
+        return pooled;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Returns a borrowed connection to the pool, handing it off to a waiting request if there is any. Connections which were
+   * already returned to the pool idle or destroyed are ignored.
+   *
+   * @param pooled the connection to return
+   */
+  void release(PooledConnection<C> pooled) {
+    if (pooled.state.get() != PooledConnection.BORROWED) {
+      return;
+    }
+    if (closed) {
+      destroy(pooled);
+      return;
+    }
+
+    CompletableFuture<PooledConnection<C>> waiter;
+    while ((waiter = waiters.poll()) != null) {
+      if (waiter.complete(pooled)) {
+        return;
+      }
+    }
+
+    if (maxIdle >= 0 && idleCount.get() >= maxIdle) {
+      destroy(pooled);
+    } else {
+      makeIdle(pooled);
+      lastReleased.set(pooled.reference);
+      dispatch();
+    }
+  }
+
+  /**
+   * Destroys a borrowed connection which is no longer usable, freeing its place in the pool. Connections which were already
+   * returned to the pool idle or destroyed are ignored.
+   *
+   * @param pooled the connection to destroy
+   */
+  void invalidate(PooledConnection<C> pooled) {
+    destroy(pooled);
+  }
+
+  private void makeIdle(PooledConnection<C> pooled) {
+    pooled.lastReturnedNanos = nanoTime();
+    idleCount.incrementAndGet();
+    pooled.state.set(PooledConnection.IDLE);
+    if (pooled.queued.compareAndSet(false, true)) {
+      idle.offerFirst(pooled);
+    }
+  }
+
+  private void destroy(PooledConnection<C> pooled) {
+    // claimed so that a connection released or invalidated twice only frees its place once
+    if (!pooled.state.compareAndSet(PooledConnection.BORROWED, PooledConnection.DESTROYED)) {
+      return;
+    }
+    total.decrementAndGet();
+    try {
+      connectionProvider.disconnect(pooled.connection);
+    } catch (Exception e) {
+      LOGGER.warn("Exception was found trying to disconnect connection of type " + pooled.connection.getClass().getName(), e);
+    }
+    if (!closed) {
+      dispatch();
+      scheduleRefill();
+    }
+  }
+
+  private void scheduleRefill() {
+    if (total.get() >= warmUpTarget || !refilling.compareAndSet(false, true)) {
+      return;
+    }
+
+    try {
+      refillExecutor.execute(() -> {
+        try {
+          while (prefill()) {
+            // keep establishing connections until the warm up target is met
+          }
+        } catch (Exception e) {
+          LOGGER.warn("Could not establish connection to refill the pool", e);
+        } finally {
+          refilling.set(false);
+        }
+      });
+    } catch (RuntimeException e) {
+      refilling.set(false);
+      LOGGER.debug("Could not schedule the refill of the pool", e);
+    }
+  }
+
+  /**
+   * Hands off idle connections, or the permit to create new ones, to the waiting requests until either of them runs out.
+   */
+  private void dispatch() {
+    while (!waiters.isEmpty()) {
+      PooledConnection<C> pooled = pollIdle();
+      if (pooled == null) {
+        if (!reserveCapacity()) {
+          return;
+        }
+        pooled = CREATE_PERMIT;
+      }
+
+      CompletableFuture<PooledConnection<C>> waiter = waiters.poll();
+      if (waiter == null || !waiter.complete(pooled)) {
+        if (pooled == CREATE_PERMIT) {
+          total.decrementAndGet();
+        } else {
+          makeIdle(pooled);
+        }
+      }
+    }
+  }
+
+  private void evictIfNeeded() {
+    if (evictionIntervalNanos <= 0 || minEvictionNanos <= 0) {
+      return;
+    }
+    long now = nanoTime();
+    long last = lastEviction.get();
+    if (now - last < evictionIntervalNanos || !lastEviction.compareAndSet(last, now)) {
+      return;
+    }
+
+    for (Iterator<PooledConnection<C>> iterator = idle.iterator(); iterator.hasNext();) {
+      PooledConnection<C> pooled = iterator.next();
+      // evicted connections would only be refilled
+      if (total.get() <= warmUpTarget) {
+        return;
+      }
+      if (now - pooled.lastReturnedNanos >= minEvictionNanos && pooled.claim()) {
+        iterator.remove();
+        pooled.queued.set(false);
+        idleCount.decrementAndGet();
+        destroy(pooled);
+      }
+    }
+  }
+
+  /**
+   * Closes the pool, destroying the idle connections and failing the waiting requests. Borrowed connections are destroyed when
+   * released.
+   */
+  void close() {
+    closed = true;
+    PooledConnection<C> pooled;
+    while ((pooled = pollIdle()) != null) {
+      destroy(pooled);
+    }
+    CompletableFuture<PooledConnection<C>> waiter;
+    while ((waiter = waiters.poll()) != null) {
+      waiter.completeExceptionally(new NoSuchElementException("Connection pool is closed"));
+    }
+  }
+
+  @Override
+  public int getActiveConnections() {
+    return Math.max(0, total.get() - idleCount.get());
+  }
+
+  @Override
+  public int getIdleConnections() {
+    return idleCount.get();
+  }
+
+  @Override
+  public int getWaitingRequests() {
+    return waiters.size();
+  }
+
+  @Override
+  public LatencyHistogram getBorrowLatencies() {
+    return borrowLatencies;
+  }
+
+  /**
+   * A connection of the pool along with its pooling state.
+   *
+   * @param <C> the generic type of the connection
+   */
+  static final class PooledConnection<C> {
+
+    private static final int BORROWED = 0;
+    private static final int IDLE = 1;
+    private static final int DESTROYED = 2;
+
+    private final C connection;
+    private final AtomicInteger state = new AtomicInteger(BORROWED);
+    private final AtomicBoolean queued = new AtomicBoolean();
+    private final WeakReference<PooledConnection<C>> reference = new WeakReference<>(this);
+    private volatile long lastReturnedNanos;
+    private volatile long lastValidatedNanos;
+    private volatile boolean validated = false;
+
+    PooledConnection(C connection) {
+      this.connection = connection;
+    }
+
+    private boolean claim() {
+      return state.compareAndSet(IDLE, BORROWED);
+    }
+
+    /**
+     * @return the pooled connection
+     */
+    C getConnection() {
+      return connection;
+    }
+
+    /**
+     * @param intervalNanos the maximum time a connection can go without being validated
+     * @return whether the connection was never validated or was validated more than {@code intervalNanos} ago
+     */
+    boolean requiresValidation(long intervalNanos) {
+      return !validated || nanoTime() - lastValidatedNanos >= intervalNanos;
+    }
+
+    /**
+     * Records that the connection was just validated successfully
+     */
+    void validated() {
+      lastValidatedNanos = nanoTime();
+      validated = true;
+    }
+  }
+}
@@ -0,0 +1,37 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.connection;
+
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
+
+/**
+ * Metrics of the pool of connections of a config.
+ *
+ * @since 4.0
+ */
+public interface ConnectionPoolStatistics {
+
+  /**
+   * @return the amount of connections currently borrowed from the pool
+   */
+  int getActiveConnections();
+
+  /**
+   * @return the amount of connections available in the pool
+   */
+  int getIdleConnections();
+
+  /**
+   * @return the amount of requests waiting for a connection to be available
+   */
+  int getWaitingRequests();
+
+  /**
+   * @return the histogram of the time it took to obtain connections from the pool, including the wait for an available one
+   */
+  LatencyHistogram getBorrowLatencies();
+}
@@ -6,12 +6,22 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Long.getLong;
+import static java.lang.String.format;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 import static org.mule.runtime.api.connection.ConnectionValidationResult.failure;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.context.notification.ConnectionNotification.CONNECTION_CONNECTED;
+import static org.mule.runtime.core.api.context.notification.ConnectionNotification.CONNECTION_FAILED;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.assertNotStopping;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.internal.retry.CircuitBreaker.REJECTED;
 import static org.slf4j.LoggerFactory.getLogger;
+import static reactor.core.Exceptions.unwrap;
 
 import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.ConnectionException;
@@ -21,16 +31,24 @@ import org.mule.runtime.api.connection.ConnectionValidationResult;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Lifecycle;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.util.Reference;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.connector.ConnectionManager;
+import org.mule.runtime.core.api.context.notification.ConnectionNotification;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyTemplate;
 import org.mule.runtime.core.api.retry.policy.NoRetryPolicyTemplate;
+import org.mule.runtime.core.internal.retry.CircuitBreaker;
 import org.mule.runtime.extension.api.runtime.ConfigurationInstance;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
@@ -38,9 +56,14 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import javax.inject.Inject;
 
 import org.slf4j.Logger;
+import reactor.core.publisher.Mono;
 
 /**
  * Implementation of {@link ConnectionManager} which manages connections opened on a specific application.
+ * <p>
+ * When started, the connections that each binding is configured to keep ready are established in parallel, and the progress is
+ * reported through {@link ConnectionNotification}s. Connections of pools which are invalidated afterwards are established again
+ * in the background.
  *
  * @since 4.0
  */
@@ -48,7 +71,20 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter,
 
   private static final Logger LOGGER = getLogger(DefaultConnectionManager.class);
 
+  /**
+   * The amount of consecutive failures to obtain a connection of a config which open its {@link CircuitBreaker}. While open,
+   * connections of that config fail fast instead of hitting the backend. {@code 0}, the default, disables the circuit breakers.
+   */
+  static final String CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY =
+      SYSTEM_PROPERTY_PREFIX + "connection.circuitBreaker.failureThreshold";
+
+  /**
+   * The time, in milliseconds, a {@link CircuitBreaker} stays open before letting a connection attempt through.
+   */
+  static final String CIRCUIT_BREAKER_OPEN_MILLIS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "connection.circuitBreaker.openMillis";
+
   private final Map<Reference<Object>, ConnectionManagementStrategy> connections = new HashMap<>();
+  private final Map<Reference<Object>, CircuitBreaker> circuitBreakers = new ConcurrentHashMap<>();
   private final ReadWriteLock readWriteLock = new ReentrantReadWriteLock();
   private final Lock readLock = readWriteLock.readLock();
   private final Lock writeLock = readWriteLock.writeLock();
@@ -56,6 +92,9 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter,
   private final RetryPolicyTemplate retryPolicyTemplate;
   private final PoolingProfile defaultPoolingProfile;
   private final ConnectionManagementStrategyFactory managementStrategyFactory;
+  private final int circuitBreakerFailureThreshold;
+  private final long circuitBreakerOpenMillis;
+  private volatile Scheduler warmUpScheduler;
 
   /**
    * Creates a new instance
@@ -67,7 +106,9 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter,
     this.muleContext = muleContext;
     this.defaultPoolingProfile = new PoolingProfile();
     this.retryPolicyTemplate = new NoRetryPolicyTemplate();
-    managementStrategyFactory = new ConnectionManagementStrategyFactory(defaultPoolingProfile, muleContext);
+    this.circuitBreakerFailureThreshold = getInteger(CIRCUIT_BREAKER_FAILURE_THRESHOLD_PROPERTY, 0);
+    this.circuitBreakerOpenMillis = getLong(CIRCUIT_BREAKER_OPEN_MILLIS_PROPERTY, 30000L);
+    managementStrategyFactory = new ConnectionManagementStrategyFactory(defaultPoolingProfile, muleContext, this::executeWarmUp);
   }
 
   /**
@@ -94,6 +135,10 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter,
     if (previous != null) {
       close(previous);
     }
+
+    if (warmUpScheduler != null) {
+      warmUp(owner, managementStrategy);
+    }
   }
 
   /**
@@ -189,6 +234,7 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter,
     writeLock.lock();
     try {
       managementStrategy = connections.remove(new Reference<>(config));
+      circuitBreakers.remove(new Reference<>(config));
     } finally {
       writeLock.unlock();
     }
@@ -203,19 +249,105 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter,
    */
   @Override
   public <C> ConnectionHandler<C> getConnection(Object config) throws ConnectionException {
-    ConnectionManagementStrategy<C> handlingStrategy = null;
-    readLock.lock();
+    ConnectionManagementStrategy<C> handlingStrategy = getManagementStrategy(config);
+
+    if (handlingStrategy == null) {
+      throw new ConnectionException("No ConnectionProvider has been registered for owner " + config);
+    }
+
+    CircuitBreaker circuitBreaker = getCircuitBreaker(config);
+    if (circuitBreaker == null) {
+      return handlingStrategy.getConnectionHandler();
+    }
+
+    final long permit = circuitBreaker.tryAcquire();
+    if (permit == REJECTED) {
+      throw circuitBreakerOpen(config);
+    }
     try {
-      handlingStrategy = connections.get(new Reference<>(config));
-    } finally {
-      readLock.unlock();
+      ConnectionHandler<C> connectionHandler = handlingStrategy.getConnectionHandler();
+      circuitBreaker.onSuccess(permit);
+      return connectionHandler;
+    } catch (ConnectionException e) {
+      recordFailure(circuitBreaker, permit, e);
+      throw e;
+    } catch (RuntimeException e) {
+      circuitBreaker.onCancel(permit);
+      throw e;
     }
+  }
 
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public <C> Mono<ConnectionHandler<C>> getConnectionAsync(Object config) {
+    ConnectionManagementStrategy<C> handlingStrategy = getManagementStrategy(config);
     if (handlingStrategy == null) {
-      throw new ConnectionException("No ConnectionProvider has been registered for owner " + config);
+      return Mono.error(new ConnectionException("No ConnectionProvider has been registered for owner " + config));
+    }
+
+    CircuitBreaker circuitBreaker = getCircuitBreaker(config);
+    if (circuitBreaker == null) {
+      return handlingStrategy.getConnectionHandlerAsync();
     }
 
-    return handlingStrategy.getConnectionHandler();
+    return Mono.defer(() -> {
+      final long permit = circuitBreaker.tryAcquire();
+      if (permit == REJECTED) {
+        return Mono.<ConnectionHandler<C>>error(circuitBreakerOpen(config));
+      }
+      return handlingStrategy.getConnectionHandlerAsync()
+          .doOnSuccess(connectionHandler -> circuitBreaker.onSuccess(permit))
+          .doOnError(e -> recordFailure(circuitBreaker, permit, unwrap(e)))
+          .doOnCancel(() -> circuitBreaker.onCancel(permit));
+    });
+  }
+
+  /**
+   * @return the {@link CircuitBreaker} of the given {@code config}, or {@code null} if circuit breakers are disabled
+   */
+  private CircuitBreaker getCircuitBreaker(Object config) {
+    if (circuitBreakerFailureThreshold <= 0) {
+      return null;
+    }
+    return circuitBreakers.computeIfAbsent(new Reference<>(config),
+                                           k -> new CircuitBreaker(circuitBreakerFailureThreshold, circuitBreakerOpenMillis));
+  }
+
+  private ConnectionException circuitBreakerOpen(Object config) {
+    return new ConnectionException(format("Connections of %s are failing, not attempting to connect for up to %d ms", config,
+                                          circuitBreakerOpenMillis));
+  }
+
+  private void recordFailure(CircuitBreaker circuitBreaker, long permit, Throwable failure) {
+    if (failure.getCause() instanceof NoSuchElementException) {
+      // an exhausted pool says nothing about the availability of the backend
+      circuitBreaker.onCancel(permit);
+    } else {
+      circuitBreaker.onFailure(permit);
+    }
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public Optional<ConnectionPoolStatistics> getPoolStatistics(Object config) {
+    ConnectionManagementStrategy<?> handlingStrategy = getManagementStrategy(config);
+    if (handlingStrategy instanceof PoolingConnectionManagementStrategy) {
+      return of(((PoolingConnectionManagementStrategy<?>) handlingStrategy).getPoolStatistics());
+    }
+    return empty();
+  }
+
+  private <C> ConnectionManagementStrategy<C> getManagementStrategy(Object config) {
+    readLock.lock();
+    try {
+      return connections.get(new Reference<>(config));
+    } finally {
+      readLock.unlock();
+    }
   }
 
   /**
@@ -225,13 +357,19 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter,
    */
   @Override
   public void stop() throws MuleException {
+    Scheduler scheduler = warmUpScheduler;
+    warmUpScheduler = null;
     writeLock.lock();
     try {
       connections.values().stream().forEach(this::close);
       connections.clear();
+      circuitBreakers.clear();
     } finally {
       writeLock.unlock();
     }
+    if (scheduler != null) {
+      scheduler.stop();
+    }
   }
 
   // TODO: MULE-9082
@@ -256,6 +394,52 @@ public final class DefaultConnectionManager implements ConnectionManagerAdapter,
   @Override
   public void start() throws MuleException {
     startIfNeeded(retryPolicyTemplate);
+    warmUpScheduler = muleContext.getSchedulerService()
+        .ioScheduler(muleContext.getSchedulerBaseConfig().withName("connection-manager.warm-up"));
+
+    readLock.lock();
+    try {
+      connections.forEach((owner, managementStrategy) -> warmUp(owner.get(), managementStrategy));
+    } finally {
+      readLock.unlock();
+    }
+  }
+
+  /**
+   * Establishes in parallel the connections the {@code managementStrategy} is to keep ready, firing a
+   * {@link ConnectionNotification} for each of them.
+   */
+  private void warmUp(Object owner, ConnectionManagementStrategy<?> managementStrategy) {
+    int target = managementStrategy.getWarmUpTarget();
+    AtomicInteger established = new AtomicInteger();
+    try {
+      for (int i = 0; i < target; ++i) {
+        executeWarmUp(() -> {
+          try {
+            managementStrategy.warmUpConnection();
+            fireWarmUpNotification(owner, established.incrementAndGet(), target, CONNECTION_CONNECTED);
+          } catch (Exception e) {
+            LOGGER.warn("Could not establish connection of " + owner + " ahead of time", e);
+            fireWarmUpNotification(owner, established.get(), target, CONNECTION_FAILED);
+          }
+        });
+      }
+    } catch (RejectedExecutionException e) {
+      LOGGER.debug("Connection warm-up rejected, the connection manager is stopping", e);
+    }
+  }
+
+  private void fireWarmUpNotification(Object owner, int established, int target, int action) {
+    muleContext.fireNotification(new ConnectionNotification(null, format("%s (warm-up %d/%d)", owner, established, target),
+                                                            action));
+  }
+
+  private void executeWarmUp(Runnable task) {
+    Scheduler scheduler = warmUpScheduler;
+    if (scheduler == null) {
+      throw new RejectedExecutionException("Connection manager is not started");
+    }
+    scheduler.execute(task);
   }
 
   /**
@@ -9,8 +9,8 @@ package org.mule.runtime.core.internal.connection;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.PoolingListener;
+import org.mule.runtime.core.internal.connection.ConnectionPool.PooledConnection;
 
-import org.apache.commons.pool.ObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -24,18 +24,20 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
 
   private static final Logger LOGGER = LoggerFactory.getLogger(PoolingConnectionHandler.class);
 
+  private final PooledConnection<C> pooled;
   private final C connection;
-  private final ObjectPool<C> pool;
+  private final ConnectionPool<C> pool;
   private final PoolingListener poolingListener;
 
   /**
    * Creates a new instance
    *
-   * @param connection the connection to be wrapped
+   * @param pooled the pooled connection to be wrapped
    * @param pool the pool from which the {@code connection} was obtained and to which it has to be returned
    */
-  PoolingConnectionHandler(C connection, ObjectPool<C> pool, PoolingListener poolingListener) {
-    this.connection = connection;
+  PoolingConnectionHandler(PooledConnection<C> pooled, ConnectionPool<C> pool, PoolingListener poolingListener) {
+    this.pooled = pooled;
+    this.connection = pooled.getConnection();
     this.pool = pool;
     this.poolingListener = poolingListener;
   }
@@ -58,16 +60,12 @@ final class PoolingConnectionHandler<C> implements ConnectionHandlerAdapter<C> {
       poolingListener.onReturn(connection);
 
       returnAttempted = true;
-      pool.returnObject(connection);
+      pool.release(pooled);
     } catch (Exception e) {
       LOGGER.warn("Could not return connection to the pool. Connection has been destroyed", e);
     } finally {
       if (!returnAttempted) {
-        try {
-          pool.invalidateObject(connection);
-        } catch (Exception e) {
-          LOGGER.warn("Exception was found trying to invalidate connection of type " + connection.getClass().getName(), e);
-        }
+        pool.invalidate(pooled);
       }
     }
   }
@@ -6,24 +6,30 @@
  */
 package org.mule.runtime.core.internal.connection;
 
+import static java.lang.Boolean.parseBoolean;
+import static java.lang.Long.getLong;
+import static java.lang.System.getProperty;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+import static org.mule.runtime.core.api.rx.Exceptions.checkedFunction;
+
 import org.mule.runtime.api.config.PoolingProfile;
 import org.mule.runtime.api.connection.ConnectionException;
 import org.mule.runtime.api.connection.ConnectionHandler;
 import org.mule.runtime.api.connection.ConnectionProvider;
 import org.mule.runtime.api.connection.ConnectionValidationResult;
 import org.mule.runtime.api.connection.PoolingListener;
-import org.mule.runtime.core.api.DefaultMuleException;
-import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.internal.connection.ConnectionPool.PooledConnection;
 
 import java.util.NoSuchElementException;
+import java.util.concurrent.Executor;
 
-import org.apache.commons.pool.ObjectPool;
-import org.apache.commons.pool.PoolableObjectFactory;
-import org.apache.commons.pool.impl.GenericObjectPool;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Mono;
 
 /**
  * A {@link ConnectionManagementStrategy} which returns connections obtained from a {@link #pool}
@@ -37,9 +43,23 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
   private static final String NULL_VALIDATION_RESULT_ERROR_MESSAGE =
       "Error validating connection. ConnectionValidationResult can not be null";
 
+  /**
+   * Whether pooled connections are validated each time they are borrowed. When disabled, they are only validated when created
+   * and when they haven't been validated for {@link #VALIDATION_INTERVAL_PROPERTY} milliseconds.
+   */
+  static final String VALIDATE_ON_BORROW_PROPERTY = SYSTEM_PROPERTY_PREFIX + "connection.pool.validateOnBorrow";
+
+  /**
+   * The maximum time, in milliseconds, a pooled connection can be reused without being validated when
+   * {@link #VALIDATE_ON_BORROW_PROPERTY} is disabled.
+   */
+  static final String VALIDATION_INTERVAL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "connection.pool.validationIntervalMillis";
+
   private final PoolingProfile poolingProfile;
-  private final ObjectPool<C> pool;
+  private final ConnectionPool<C> pool;
   private final PoolingListener<C> poolingListener;
+  private final boolean validateOnBorrow;
+  private final long validationIntervalNanos;
 
   /**
    * Creates a new instance
@@ -48,13 +68,18 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
    * @param poolingProfile the {@link PoolingProfile} which configures the {@link #pool}
    * @param poolingListener a {@link PoolingListener}
    * @param muleContext the application's {@link MuleContext}
+   * @param warmUp whether the connections set by the initialisation policy are to be established ahead of time
+   * @param refillExecutor the {@link Executor} on which invalidated connections are established again in the background
    */
   PoolingConnectionManagementStrategy(ConnectionProvider<C> connectionProvider, PoolingProfile poolingProfile,
-                                      PoolingListener<C> poolingListener, MuleContext muleContext) {
+                                      PoolingListener<C> poolingListener, MuleContext muleContext, boolean warmUp,
+                                      Executor refillExecutor) {
     super(connectionProvider, muleContext);
     this.poolingProfile = poolingProfile;
     this.poolingListener = poolingListener;
-    pool = createPool();
+    this.validateOnBorrow = parseBoolean(getProperty(VALIDATE_ON_BORROW_PROPERTY, "true"));
+    this.validationIntervalNanos = MILLISECONDS.toNanos(getLong(VALIDATION_INTERVAL_PROPERTY, 30000L));
+    pool = new ConnectionPool<>(connectionProvider, poolingProfile, warmUp, refillExecutor);
   }
 
   /**
@@ -65,97 +90,111 @@ final class PoolingConnectionManagementStrategy<C> extends ConnectionManagementS
    */
   @Override
   public ConnectionHandler<C> getConnectionHandler() throws ConnectionException {
+    PooledConnection<C> pooled;
     try {
-      C connection = borrowConnection();
-      ConnectionValidationResult validationResult = connectionProvider.validate(connection);
-
-      if (validationResult == null) {
-        LOGGER.debug(NULL_VALIDATION_RESULT_ERROR_MESSAGE);
-        pool.invalidateObject(connection);
-        throw new ConnectionException(NULL_VALIDATION_RESULT_ERROR_MESSAGE);
-      } else if (!validationResult.isValid()) {
-        pool.invalidateObject(connection);
-        if (LOGGER.isDebugEnabled()) {
-          LOGGER.debug("Error validating connection: {}. Invalidating connection.", validationResult.getMessage());
-        }
-        throw new ConnectionException(validationResult.getMessage(), validationResult.getException());
+      pooled = pool.borrow();
+    } catch (Exception e) {
+      throw toConnectionException(e);
+    }
+    return prepare(pooled);
+  }
+
+  /**
+   * Returns a {@link Mono} of a {@link ConnectionHandler} which wraps a connection obtained from the {@link #pool}. No thread is
+   * blocked while waiting for a connection to be available.
+   *
+   * @return a {@link Mono} of a {@link ConnectionHandler}
+   */
+  @Override
+  Mono<ConnectionHandler<C>> getConnectionHandlerAsync() {
+    return pool.borrowAsync()
+        .onErrorMap(e -> !(e instanceof ConnectionException), this::toConnectionException)
+        .map(checkedFunction(this::prepare));
+  }
+
+  private ConnectionHandler<C> prepare(PooledConnection<C> pooled) throws ConnectionException {
+    C connection = pooled.getConnection();
+    try {
+      poolingListener.onBorrow(connection);
+      if (validateOnBorrow || pooled.requiresValidation(validationIntervalNanos)) {
+        validate(pooled);
       }
 
-      return new PoolingConnectionHandler<>(connection, pool, poolingListener);
+      return new PoolingConnectionHandler<>(pooled, pool, poolingListener);
     } catch (ConnectionException e) {
+      pool.invalidate(pooled);
       throw e;
-    } catch (NoSuchElementException e) {
-      throw new ConnectionException("Connection pool is exhausted");
     } catch (Exception e) {
-      throw new ConnectionException("An exception was found trying to obtain a connection", e);
+      pool.invalidate(pooled);
+      throw toConnectionException(e);
     }
   }
 
-  private C borrowConnection() throws Exception {
-    C connection = pool.borrowObject();
-    try {
-      poolingListener.onBorrow(connection);
-    } catch (Exception e) {
-      pool.invalidateObject(connection);
-      throw e;
+  private void validate(PooledConnection<C> pooled) throws ConnectionException {
+    ConnectionValidationResult validationResult = connectionProvider.validate(pooled.getConnection());
+
+    if (validationResult == null) {
+      LOGGER.debug(NULL_VALIDATION_RESULT_ERROR_MESSAGE);
+      throw new ConnectionException(NULL_VALIDATION_RESULT_ERROR_MESSAGE);
+    } else if (!validationResult.isValid()) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Error validating connection: {}. Invalidating connection.", validationResult.getMessage());
+      }
+      throw new ConnectionException(validationResult.getMessage(), validationResult.getException());
+    }
+    pooled.validated();
+  }
+
+  private ConnectionException toConnectionException(Throwable e) {
+    if (e instanceof ConnectionException) {
+      return (ConnectionException) e;
+    } else if (e instanceof NoSuchElementException) {
+      return new ConnectionException(e.getMessage(), e);
     }
+    return new ConnectionException("An exception was found trying to obtain a connection", e);
+  }
 
-    return connection;
+  /**
+   * @return the amount of connections the {@link #pool} keeps ready, as set by the
+   *         {@link PoolingProfile#getInitialisationPolicy() initialisation policy} when warm up is enabled
+   */
+  @Override
+  int getWarmUpTarget() {
+    return pool.getWarmUpTarget();
   }
 
   /**
-   * Closes the pool, causing the contained connections to be closed as well.
+   * Establishes a new idle connection in the {@link #pool}, unless it already holds {@link #getWarmUpTarget()} connections.
    *
-   * @throws MuleException
+   * @throws ConnectionException if the connection could not be established
    */
-  // TODO: MULE-9082 - pool.close() doesn't destroy unreturned connections
   @Override
-  public void close() throws MuleException {
+  void warmUpConnection() throws ConnectionException {
     try {
-      pool.close();
+      pool.prefill();
     } catch (Exception e) {
-      throw new DefaultMuleException(createStaticMessage("Could not close connection pool"), e);
+      throw toConnectionException(e);
     }
   }
 
-  private ObjectPool<C> createPool() {
-    GenericObjectPool.Config config = new GenericObjectPool.Config();
-    config.maxIdle = poolingProfile.getMaxIdle();
-    config.maxActive = poolingProfile.getMaxActive();
-    config.maxWait = poolingProfile.getMaxWait();
-    config.whenExhaustedAction = (byte) poolingProfile.getExhaustedAction();
-    config.minEvictableIdleTimeMillis = poolingProfile.getMinEvictionMillis();
-    config.timeBetweenEvictionRunsMillis = poolingProfile.getEvictionCheckIntervalMillis();
-    GenericObjectPool genericPool = new GenericObjectPool(new ObjectFactoryAdapter(), config);
-
-    return genericPool;
+  /**
+   * @return the metrics of the {@link #pool}
+   */
+  ConnectionPoolStatistics getPoolStatistics() {
+    return pool;
   }
 
-  public PoolingProfile getPoolingProfile() {
-    return poolingProfile;
+  /**
+   * Closes the pool, causing the contained connections to be closed as well.
+   *
+   * @throws MuleException
+   */
+  @Override
+  public void close() throws MuleException {
+    pool.close();
   }
 
-  private class ObjectFactoryAdapter implements PoolableObjectFactory<C> {
-
-    @Override
-    public C makeObject() throws Exception {
-      return connectionProvider.connect();
-    }
-
-    @Override
-    public void destroyObject(C connection) throws Exception {
-      connectionProvider.disconnect(connection);
-    }
-
-    @Override
-    public boolean validateObject(C obj) {
-      return false;
-    }
-
-    @Override
-    public void activateObject(C connection) throws Exception {}
-
-    @Override
-    public void passivateObject(C connection) throws Exception {}
+  public PoolingProfile getPoolingProfile() {
+    return poolingProfile;
   }
 }
@@ -6,59 +6,82 @@
  */
 package org.mule.runtime.core.internal.context.notification;
 
+import static java.util.Collections.emptyList;
+
 import org.mule.runtime.core.api.context.notification.FlowCallStack;
 import org.mule.runtime.core.api.context.notification.FlowStackElement;
 
+import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.EmptyStackException;
 import java.util.List;
-import java.util.Stack;
 
 /**
  * Keeps context information about the executing flows and its callers in order to provide augmented troubleshooting information
  * for an application developer.
+ * <p>
+ * The elements are kept in an immutable linked list, so {@link #clone() cloning} this stack for each new event just shares the
+ * current elements instead of copying them, and an empty stack doesn't allocate anything besides itself.
+ * <p>
+ * The stack may be shared by the threads processing the same flow. Modifications are synchronized, and readers get a consistent
+ * view of the elements without locking because the nodes are never modified.
  */
 public class DefaultFlowCallStack implements FlowCallStack {
 
-  private static final long serialVersionUID = -8683711977929802819L;
+  private static final long serialVersionUID = 5423795407315623461L;
 
-  private Stack<FlowStackElement> innerStack = new Stack<>();
+  private volatile StackNode top;
 
   /**
    * Adds an element to the top of this stack
-   * 
+   *
    * @param flowStackElement the element to add
    */
-  public void push(FlowStackElement flowStackElement) {
-    innerStack.push(flowStackElement);
+  public synchronized void push(FlowStackElement flowStackElement) {
+    top = new StackNode(flowStackElement, top);
   }
 
   /**
    * Adds a message processor path to the list of processors that were invoked as part of the processing of this stack's event.
-   * 
+   *
    * @param processorPath the path to mark as invoked.
    * @throws EmptyStackException if this stack is empty.
    */
-  public void setCurrentProcessorPath(String processorPath) {
-    FlowStackElement topElement = innerStack.pop();
-    innerStack.push(new FlowStackElement(topElement.getFlowName(), processorPath));
+  public synchronized void setCurrentProcessorPath(String processorPath) {
+    StackNode current = checkNotEmpty();
+    top = new StackNode(new FlowStackElement(current.element.getFlowName(), processorPath), current.next);
   }
 
   /**
    * Removes the top-most element from this stack.
-   * 
+   *
    * @return the top-most element of this stack.
    * @throws EmptyStackException if this stack is empty.
    */
-  public FlowStackElement pop() {
-    return innerStack.pop();
+  public synchronized FlowStackElement pop() {
+    StackNode current = checkNotEmpty();
+    top = current.next;
+    return current.element;
+  }
+
+  private StackNode checkNotEmpty() {
+    StackNode current = top;
+    if (current == null) {
+      throw new EmptyStackException();
+    }
+    return current;
   }
 
   @Override
   public List<FlowStackElement> getElements() {
-    List<FlowStackElement> elementsCloned = new ArrayList<>();
-    for (int i = innerStack.size() - 1; i >= 0; --i) {
-      elementsCloned.add(innerStack.get(i));
+    StackNode current = top;
+    if (current == null) {
+      return emptyList();
+    }
+
+    List<FlowStackElement> elementsCloned = new ArrayList<>(current.size);
+    for (; current != null; current = current.next) {
+      elementsCloned.add(current.element);
     }
     return elementsCloned;
   }
@@ -66,22 +89,35 @@ public class DefaultFlowCallStack implements FlowCallStack {
   @Override
   public DefaultFlowCallStack clone() {
     DefaultFlowCallStack cloned = new DefaultFlowCallStack();
-    for (int i = 0; i < innerStack.size(); ++i) {
-      cloned.innerStack.push(innerStack.get(i));
-    }
-
+    // nodes are immutable, so both stacks can share them and diverge on their next push or pop
+    cloned.top = top;
     return cloned;
   }
 
   @Override
   public String toString() {
     StringBuilder stackString = new StringBuilder();
-    for (int i = innerStack.size() - 1; i >= 0; --i) {
-      stackString.append("at ").append(innerStack.get(i).toString());
-      if (i != 0) {
+    for (StackNode current = top; current != null; current = current.next) {
+      stackString.append("at ").append(current.element.toString());
+      if (current.next != null) {
         stackString.append(System.lineSeparator());
       }
     }
     return stackString.toString();
   }
+
+  private static final class StackNode implements Serializable {
+
+    private static final long serialVersionUID = 1804385913724385067L;
+
+    private final FlowStackElement element;
+    private final StackNode next;
+    private final int size;
+
+    private StackNode(FlowStackElement element, StackNode next) {
+      this.element = element;
+      this.next = next;
+      this.size = next == null ? 1 : next.size + 1;
+    }
+  }
 }
@@ -6,33 +6,85 @@
  */
 package org.mule.runtime.core.internal.context.notification;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
 import org.mule.runtime.core.api.context.notification.ProcessorsTrace;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
 /**
  * Keeps context information about the message processors that were executed as part of the processing of an event.
+ * <p>
+ * Only the last {@link #MAX_EXECUTED_PROCESSORS} paths are kept, in a ring buffer that is allocated when the first path is added,
+ * so long flows and loops don't grow the trace indefinitely and an event that isn't traced doesn't pay for it.
  */
 public class DefaultProcessorsTrace implements ProcessorsTrace {
 
   private static final long serialVersionUID = 5327053121687733907L;
 
-  private List<String> executedProcessors = Collections.synchronizedList(new ArrayList<String>());
+  /**
+   * The maximum amount of executed processor paths kept by each trace. Older paths are discarded.
+   */
+  public static final int MAX_EXECUTED_PROCESSORS = getInteger(SYSTEM_PROPERTY_PREFIX + "flowTrace.maxProcessors", 1024);
+
+  private final int capacity;
+  private String[] executedProcessors;
+  private long executedCount;
+
+  public DefaultProcessorsTrace() {
+    this(MAX_EXECUTED_PROCESSORS);
+  }
+
+  /**
+   * @param capacity the maximum amount of executed processor paths to keep
+   */
+  public DefaultProcessorsTrace(int capacity) {
+    this.capacity = capacity;
+  }
 
   /**
    * Adds a message processor path to the list of processors that were executed as part of the processing of this event.
-   * 
+   *
    * @param processorPath the path to mask as executed.
    */
-  public void addExecutedProcessors(String processorPath) {
-    executedProcessors.add(processorPath);
+  public synchronized void addExecutedProcessors(String processorPath) {
+    if (capacity <= 0) {
+      return;
+    }
+    if (executedProcessors == null) {
+      executedProcessors = new String[min(capacity, 16)];
+    } else if (executedCount == executedProcessors.length && executedCount < capacity) {
+      // grow until the capacity is reached, the ring only wraps afterwards
+      String[] grown = new String[(int) min(capacity, executedCount * 2)];
+      System.arraycopy(executedProcessors, 0, grown, 0, executedProcessors.length);
+      executedProcessors = grown;
+    }
+    executedProcessors[(int) (executedCount % executedProcessors.length)] = processorPath;
+    ++executedCount;
   }
 
   @Override
-  public List<String> getExecutedProcessors() {
-    return new ArrayList<>(executedProcessors);
+  public synchronized List<String> getExecutedProcessors() {
+    if (executedProcessors == null) {
+      return emptyList();
+    }
+
+    int retained = (int) min(executedCount, executedProcessors.length);
+    List<String> executed = new ArrayList<>(retained);
+    for (long i = executedCount - retained; i < executedCount; ++i) {
+      executed.add(executedProcessors[(int) (i % executedProcessors.length)]);
+    }
+    return executed;
   }
 
+  /**
+   * @return the amount of executed processor paths that were discarded because the capacity of this trace was exceeded.
+   */
+  public synchronized long getDiscardedCount() {
+    return executedProcessors == null ? 0 : executedCount - min(executedCount, executedProcessors.length);
+  }
 }
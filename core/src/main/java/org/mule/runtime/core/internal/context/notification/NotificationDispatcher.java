@@ -0,0 +1,177 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.context.notification;
+
+import static org.mule.runtime.core.api.context.notification.NotificationOverflowPolicy.CALLER_RUNS;
+import static org.mule.runtime.core.api.context.notification.NotificationOverflowPolicy.DROP_OLDEST;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.core.api.context.notification.NotificationOverflowPolicy;
+import org.mule.runtime.core.api.context.notification.ServerNotification;
+import org.mule.runtime.core.api.context.notification.ServerNotificationListener;
+
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.slf4j.Logger;
+
+/**
+ * Delivers asynchronous notifications to a single listener.
+ * <p>
+ * Notifications are buffered in a bounded queue and delivered in batches by a task submitted to the given {@link Executor}. At
+ * most one such task exists at any time, so the listener receives the notifications in the order they were fired and the cost of
+ * submitting a task is shared by all the notifications in a batch. When the buffer is full, the
+ * {@link NotificationOverflowPolicy} decides what happens with the new notification.
+ * <p>
+ * The listener is never called concurrently. With {@link NotificationOverflowPolicy#CALLER_RUNS}, the thread firing a
+ * notification that doesn't fit in the buffer waits for the batch being delivered and then delivers it, ahead of the ones still
+ * buffered. If the executor rejects the delivery, the firing thread delivers the buffered notifications itself instead of
+ * discarding them.
+ *
+ * @since 4.0
+ */
+public class NotificationDispatcher {
+
+  private static final Logger logger = getLogger(NotificationDispatcher.class);
+
+  private final ServerNotificationListener listener;
+  private final Executor executor;
+  private final Queue<ServerNotification> buffer;
+  private final int batchSize;
+  private final NotificationOverflowPolicy overflowPolicy;
+
+  private final Object deliveryLock = new Object();
+  private final AtomicBoolean draining = new AtomicBoolean(false);
+  private final LongAdder dropped = new LongAdder();
+  private final AtomicBoolean overflowLogged = new AtomicBoolean(false);
+
+  public NotificationDispatcher(ServerNotificationListener listener, Executor executor, int bufferSize, int batchSize,
+                                NotificationOverflowPolicy overflowPolicy) {
+    this.listener = listener;
+    this.executor = executor;
+    this.buffer = new ArrayBlockingQueue<>(bufferSize);
+    this.batchSize = batchSize;
+    this.overflowPolicy = overflowPolicy;
+  }
+
+  /**
+   * Enqueues the notification to be delivered asynchronously.
+   *
+   * @param notification the notification to deliver
+   */
+  public void dispatch(ServerNotification notification) {
+    if (!buffer.offer(notification)) {
+      if (overflowPolicy == CALLER_RUNS) {
+        synchronized (deliveryLock) {
+          deliver(notification);
+        }
+        return;
+      } else if (overflowPolicy == DROP_OLDEST) {
+        do {
+          if (buffer.poll() != null) {
+            dropped();
+          }
+        } while (!buffer.offer(notification));
+      } else {
+        dropped();
+        return;
+      }
+    }
+    scheduleDrain();
+  }
+
+  private void scheduleDrain() {
+    while (draining.compareAndSet(false, true)) {
+      try {
+        executor.execute(this::drain);
+        return;
+      } catch (RuntimeException e) {
+        // the scheduler is being stopped or not available
+        if (logger.isDebugEnabled()) {
+          logger.debug("Could not schedule the delivery of notifications to listener " + listener, e);
+        }
+        if (overflowPolicy != CALLER_RUNS) {
+          draining.set(false);
+          discardPending();
+          return;
+        }
+
+        deliverBatch();
+        if (buffer.isEmpty()) {
+          return;
+        }
+      }
+    }
+  }
+
+  private void drain() {
+    deliverBatch();
+
+    // notifications enqueued while the flag was set won't have scheduled a drain
+    if (!buffer.isEmpty()) {
+      scheduleDrain();
+    }
+  }
+
+  private void deliverBatch() {
+    try {
+      synchronized (deliveryLock) {
+        for (int i = 0; i < batchSize; ++i) {
+          ServerNotification notification = buffer.poll();
+          if (notification == null) {
+            break;
+          }
+          deliver(notification);
+        }
+      }
+    } finally {
+      draining.set(false);
+    }
+  }
+
+  private void deliver(ServerNotification notification) {
+    try {
+      listener.onNotification(notification);
+    } catch (Exception e) {
+      // Exceptions from listeners do not affect the notification processing
+      if (logger.isDebugEnabled()) {
+        logger.debug("Listener " + listener + " failed to process notification " + notification, e);
+      }
+    }
+  }
+
+  private void dropped() {
+    dropped.increment();
+    if (overflowLogged.compareAndSet(false, true)) {
+      logger.warn("The notifications buffer of listener {} is full, notifications are being discarded because of the {} overflow"
+          + " policy. Further discarded notifications are only counted.", listener, overflowPolicy);
+    }
+  }
+
+  private void discardPending() {
+    while (buffer.poll() != null) {
+      dropped.increment();
+    }
+  }
+
+  /**
+   * @return the amount of notifications that were discarded because the buffer was full or the executor rejected the delivery
+   */
+  public long getDroppedCount() {
+    return dropped.sum();
+  }
+
+  /**
+   * @return the amount of notifications waiting to be delivered
+   */
+  public int getPendingCount() {
+    return buffer.size();
+  }
+}
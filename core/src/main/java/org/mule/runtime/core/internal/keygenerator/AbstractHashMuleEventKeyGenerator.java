@@ -0,0 +1,118 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.keygenerator;
+
+import static org.mule.runtime.core.api.util.IOUtils.closeQuietly;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.MuleEventKeyGenerator;
+import org.mule.runtime.core.api.context.MuleContextAware;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.NotSerializableException;
+import java.io.Serializable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Base class for {@link MuleEventKeyGenerator}s that generate the key hashing the event's message payload.
+ * <p>
+ * {@link CursorStreamProvider} payloads are hashed incrementally through a cursor, so the payload is never fully loaded in
+ * memory. Any other payload is hashed over its byte array representation.
+ *
+ * @since 4.0
+ */
+public abstract class AbstractHashMuleEventKeyGenerator implements MuleEventKeyGenerator, MuleContextAware {
+
+  private static final Logger logger = LoggerFactory.getLogger(AbstractHashMuleEventKeyGenerator.class);
+
+  private static final int BUFFER_SIZE = 8 * 1024;
+  private static final ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[BUFFER_SIZE]);
+
+  private MuleContext muleContext;
+
+  @Override
+  public Serializable generateKey(Event event) throws NotSerializableException {
+    try {
+      Object payload = event.getMessage() != null ? event.getMessage().getPayload().getValue() : null;
+      HashFunction hash = newHash();
+      if (payload instanceof CursorStreamProvider) {
+        update(hash, ((CursorStreamProvider) payload).openCursor());
+      } else {
+        byte[] bytes = toBytes(event, payload);
+        hash.update(bytes, 0, bytes.length);
+      }
+      String key = hash.digest();
+
+      if (logger.isDebugEnabled()) {
+        logger.debug(String.format("Generated key for event: %s key: %s", event, key));
+      }
+
+      return key;
+    } catch (Exception e) {
+      // TODO: The exception may not necessarily be caused by a serialization problem, but we still throw
+      // NotSerializableException to keep backwards compatibility. The interface needs to be changed.
+
+      NotSerializableException notSerializableException = new NotSerializableException(e.getMessage());
+      notSerializableException.initCause(e);
+
+      throw notSerializableException;
+    }
+  }
+
+  private void update(HashFunction hash, InputStream cursor) throws IOException {
+    byte[] buffer = buffers.get();
+    try {
+      int read;
+      while ((read = cursor.read(buffer)) != -1) {
+        hash.update(buffer, 0, read);
+      }
+    } finally {
+      closeQuietly(cursor);
+    }
+  }
+
+  /**
+   * Provides the bytes to hash for a payload that is not streamed.
+   *
+   * @param event the event being hashed
+   * @param payload the payload of the event's message
+   * @return the byte array representation of the payload
+   * @throws MuleException if the payload could not be converted
+   */
+  protected byte[] toBytes(Event event, Object payload) throws MuleException {
+    return payload instanceof byte[] ? (byte[]) payload : event.getMessageAsBytes(muleContext);
+  }
+
+  /**
+   * @return a {@link HashFunction} ready to hash a new payload. Only used by the current thread.
+   */
+  protected abstract HashFunction newHash();
+
+  @Override
+  public void setMuleContext(MuleContext context) {
+    this.muleContext = context;
+  }
+
+  /**
+   * Incrementally computes the hash of a payload.
+   */
+  protected interface HashFunction {
+
+    void update(byte[] bytes, int offset, int length);
+
+    /**
+     * @return the hexadecimal representation of the hash of all the bytes provided so far
+     */
+    String digest();
+  }
+}
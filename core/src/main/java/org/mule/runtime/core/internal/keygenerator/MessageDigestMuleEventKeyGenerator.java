@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.keygenerator;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
+import org.mule.runtime.core.api.util.StringUtils;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * Implements {@link org.mule.runtime.core.api.MuleEventKeyGenerator} applying a {@link MessageDigest} algorithm to the event's
+ * message payload.
+ * <p>
+ * {@link MessageDigest} instances are reused on a per thread basis.
+ *
+ * @since 4.0
+ */
+public class MessageDigestMuleEventKeyGenerator extends AbstractHashMuleEventKeyGenerator {
+
+  private final ThreadLocal<MessageDigest> digests;
+
+  /**
+   * @param algorithm the name of the {@link MessageDigest} algorithm to apply
+   */
+  public MessageDigestMuleEventKeyGenerator(String algorithm) {
+    digests = ThreadLocal.withInitial(() -> {
+      try {
+        return MessageDigest.getInstance(algorithm);
+      } catch (NoSuchAlgorithmException e) {
+        throw new MuleRuntimeException(e);
+      }
+    });
+  }
+
+  @Override
+  protected HashFunction newHash() {
+    MessageDigest md = digests.get();
+    md.reset();
+    return new HashFunction() {
+
+      @Override
+      public void update(byte[] bytes, int offset, int length) {
+        md.update(bytes, offset, length);
+      }
+
+      @Override
+      public String digest() {
+        return StringUtils.toHexString(md.digest());
+      }
+    };
+  }
+}
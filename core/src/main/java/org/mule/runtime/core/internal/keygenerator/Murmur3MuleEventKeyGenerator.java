@@ -0,0 +1,40 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.keygenerator;
+
+import static com.google.common.hash.Hashing.murmur3_128;
+
+import com.google.common.hash.Hasher;
+
+/**
+ * Implements {@link org.mule.runtime.core.api.MuleEventKeyGenerator} applying the 128 bits MurmurHash3 function to the event's
+ * message payload.
+ * <p>
+ * This hash is not cryptographic, but it is much faster than {@link SHA256MuleEventKeyGenerator} and collisions are still
+ * unlikely enough for detecting duplicated messages that are not deliberately crafted to collide.
+ *
+ * @since 4.0
+ */
+public class Murmur3MuleEventKeyGenerator extends AbstractHashMuleEventKeyGenerator {
+
+  @Override
+  protected HashFunction newHash() {
+    Hasher hasher = murmur3_128().newHasher();
+    return new HashFunction() {
+
+      @Override
+      public void update(byte[] bytes, int offset, int length) {
+        hasher.putBytes(bytes, offset, length);
+      }
+
+      @Override
+      public String digest() {
+        return hasher.hash().toString();
+      }
+    };
+  }
+}
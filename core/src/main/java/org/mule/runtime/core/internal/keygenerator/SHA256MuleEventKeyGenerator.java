@@ -6,52 +6,14 @@
  */
 package org.mule.runtime.core.internal.keygenerator;
 
-import org.mule.runtime.core.api.MuleContext;
-import org.mule.runtime.core.api.Event;
-import org.mule.runtime.core.api.MuleEventKeyGenerator;
-import org.mule.runtime.core.api.context.MuleContextAware;
-import org.mule.runtime.core.api.util.StringUtils;
-
-import java.io.NotSerializableException;
-import java.io.Serializable;
-import java.security.MessageDigest;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
 /**
  * Implements {@link org.mule.runtime.core.api.MuleEventKeyGenerator} applying SHA-256 digest to the event's message payload.
+ * <p>
+ * {@link java.security.MessageDigest} instances are reused on a per thread basis.
  */
-public class SHA256MuleEventKeyGenerator implements MuleEventKeyGenerator, MuleContextAware {
-
-  private static final Logger logger = LoggerFactory.getLogger(SHA256MuleEventKeyGenerator.class);
-  private MuleContext muleContext;
-
-  @Override
-  public Serializable generateKey(Event event) throws NotSerializableException {
-    try {
-      byte[] bytesOfMessage = event.getMessageAsBytes(muleContext);
-      MessageDigest md = MessageDigest.getInstance("SHA-256");
-      String key = StringUtils.toHexString(md.digest(bytesOfMessage));
-
-      if (logger.isDebugEnabled()) {
-        logger.debug(String.format("Generated key for event: %s key: %s", event, key));
-      }
-
-      return key;
-    } catch (Exception e) {
-      // TODO: The exception may not necessarily be caused by a serialization problem, but we still throw
-      // NotSerializableException to keep backwards compatibility. The interface needs to be changed.
-
-      NotSerializableException notSerializableException = new NotSerializableException(e.getMessage());
-      notSerializableException.initCause(e);
-
-      throw notSerializableException;
-    }
-  }
+public class SHA256MuleEventKeyGenerator extends MessageDigestMuleEventKeyGenerator {
 
-  @Override
-  public void setMuleContext(MuleContext context) {
-    this.muleContext = context;
+  public SHA256MuleEventKeyGenerator() {
+    super("SHA-256");
   }
 }
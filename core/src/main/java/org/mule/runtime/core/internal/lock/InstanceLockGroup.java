@@ -8,77 +8,54 @@ package org.mule.runtime.core.internal.lock;
 
 import org.mule.runtime.core.api.lock.LockProvider;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.Lock;
 
 /**
  * {@link LockGroup} implementation for holding references to created locks inside a mule instance.
+ * <p>
+ * Each entry counts the threads holding or waiting for its lock and is removed once that count drops to zero. Entries are created
+ * and released atomically through {@link ConcurrentHashMap#compute}, so threads using different lock ids don't contend with each
+ * other.
  */
 public class InstanceLockGroup implements LockGroup {
 
-  private Map<String, LockEntry> locks;
-  private Object lockAccessMonitor = new Object();
-  private LockProvider lockProvider;
+  private final ConcurrentMap<String, LockEntry> locks = new ConcurrentHashMap<>();
+  private final LockProvider lockProvider;
 
   public InstanceLockGroup(LockProvider lockProvider) {
     this.lockProvider = lockProvider;
-    this.locks = new HashMap<>();
   }
 
   @Override
   public void lock(String lockId) {
-    LockEntry lockEntry;
-    synchronized (lockAccessMonitor) {
-      if (locks.containsKey(lockId)) {
-        lockEntry = locks.get(lockId);
-      } else {
-        lockEntry = new LockEntry(lockProvider.createLock(lockId));
-        locks.put(lockId, lockEntry);
-      }
-      lockEntry.incrementLockCount();
-      lockAccessMonitor.notifyAll();
-    }
-    lockEntry.getLock().lock();
+    acquireEntry(lockId).getLock().lock();
   }
 
   @Override
   public void unlock(String key) {
-    synchronized (lockAccessMonitor) {
-      LockEntry lockEntry = locks.get(key);
-      if (lockEntry != null) {
-        lockEntry.decrementLockCount();
-        if (!lockEntry.hasPendingLocks()) {
-          locks.remove(key);
-        }
+    LockEntry lockEntry = locks.get(key);
+    if (lockEntry != null) {
+      try {
         lockEntry.getLock().unlock();
+      } finally {
+        releaseEntry(key);
       }
-      lockAccessMonitor.notifyAll();
     }
   }
 
   @Override
   public boolean tryLock(String lockId, long timeout, TimeUnit timeUnit) throws InterruptedException {
-    LockEntry lockEntry;
-    synchronized (lockAccessMonitor) {
-      if (locks.containsKey(lockId)) {
-        lockEntry = locks.get(lockId);
-      } else {
-        lockEntry = new LockEntry(lockProvider.createLock(lockId));
-        locks.put(lockId, lockEntry);
-      }
-      lockEntry.incrementLockCount();
-      lockAccessMonitor.notifyAll();
-    }
-    boolean lockAcquired = lockEntry.getLock().tryLock(timeout, timeUnit);
-    if (!lockAcquired) {
-      synchronized (lockAccessMonitor) {
-        lockEntry.decrementLockCount();
-        if (!lockEntry.hasPendingLocks()) {
-          locks.remove(lockId);
-        }
+    LockEntry lockEntry = acquireEntry(lockId);
+    boolean lockAcquired = false;
+    try {
+      lockAcquired = lockEntry.getLock().tryLock(timeout, timeUnit);
+    } finally {
+      if (!lockAcquired) {
+        releaseEntry(lockId);
       }
     }
     return lockAcquired;
@@ -86,24 +63,13 @@ public class InstanceLockGroup implements LockGroup {
 
   @Override
   public boolean tryLock(String lockId) {
-    LockEntry lockEntry;
-    synchronized (lockAccessMonitor) {
-      if (locks.containsKey(lockId)) {
-        lockEntry = locks.get(lockId);
-      } else {
-        lockEntry = new LockEntry(lockProvider.createLock(lockId));
-        locks.put(lockId, lockEntry);
-      }
-      lockEntry.incrementLockCount();
-      lockAccessMonitor.notifyAll();
-    }
-    boolean lockAcquired = lockEntry.getLock().tryLock();
-    if (!lockAcquired) {
-      synchronized (lockAccessMonitor) {
-        lockEntry.decrementLockCount();
-        if (!lockEntry.hasPendingLocks()) {
-          locks.remove(lockId);
-        }
+    LockEntry lockEntry = acquireEntry(lockId);
+    boolean lockAcquired = false;
+    try {
+      lockAcquired = lockEntry.getLock().tryLock();
+    } finally {
+      if (!lockAcquired) {
+        releaseEntry(lockId);
       }
     }
     return lockAcquired;
@@ -111,18 +77,33 @@ public class InstanceLockGroup implements LockGroup {
 
   @Override
   public void lockInterruptibly(String lockId) throws InterruptedException {
-    LockEntry lockEntry;
-    synchronized (lockAccessMonitor) {
-      if (locks.containsKey(lockId)) {
-        lockEntry = locks.get(lockId);
-      } else {
-        lockEntry = new LockEntry(lockProvider.createLock(lockId));
-        locks.put(lockId, lockEntry);
+    LockEntry lockEntry = acquireEntry(lockId);
+    boolean lockAcquired = false;
+    try {
+      lockEntry.getLock().lockInterruptibly();
+      lockAcquired = true;
+    } finally {
+      if (!lockAcquired) {
+        releaseEntry(lockId);
       }
-      lockEntry.incrementLockCount();
-      lockAccessMonitor.notifyAll();
     }
-    lockEntry.getLock().lockInterruptibly();
+  }
+
+  private LockEntry acquireEntry(String lockId) {
+    return locks.compute(lockId, (key, lockEntry) -> {
+      if (lockEntry == null) {
+        lockEntry = new LockEntry(lockProvider.createLock(key));
+      }
+      lockEntry.incrementLockCount();
+      return lockEntry;
+    });
+  }
+
+  private void releaseEntry(String lockId) {
+    locks.computeIfPresent(lockId, (key, lockEntry) -> {
+      lockEntry.decrementLockCount();
+      return lockEntry.hasPendingLocks() ? lockEntry : null;
+    });
   }
 
   public static class LockEntry {
@@ -153,8 +134,6 @@ public class InstanceLockGroup implements LockGroup {
 
   @Override
   public void dispose() {
-    synchronized (lockAccessMonitor) {
-      locks.clear();
-    }
+    locks.clear();
   }
 }
@@ -6,8 +6,17 @@
  */
 package org.mule.runtime.core.internal.management.stats;
 
+import static java.lang.Boolean.getBoolean;
+import static java.util.Collections.unmodifiableMap;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
+import org.mule.runtime.core.api.management.stats.ProcessorStatistics;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
@@ -17,11 +26,19 @@ public abstract class AbstractFlowConstructStatistics implements FlowConstructSt
 
   private static final long serialVersionUID = 5337576392583767442L;
 
+  /**
+   * System property to enable the {@link ProcessorStatistics} of all the flow constructs by default.
+   */
+  public static final String PROCESSOR_STATISTICS_ENABLED_PROPERTY = SYSTEM_PROPERTY_PREFIX + "processorStatistics.enabled";
+
   protected final String flowConstructType;
   protected String name;
   protected boolean enabled = false;
   private long samplePeriod = 0;
   protected final AtomicLong receivedEvents = new AtomicLong(0);
+  protected final LatencyHistogram processingLatencies = new LatencyHistogram();
+  private volatile boolean processorStatisticsEnabled = getBoolean(PROCESSOR_STATISTICS_ENABLED_PROPERTY);
+  private final Map<String, ProcessorStatistics> processorStatistics = new ConcurrentHashMap<>();
 
   public AbstractFlowConstructStatistics(String flowConstructType, String name) {
     this.name = name;
@@ -53,6 +70,8 @@ public abstract class AbstractFlowConstructStatistics implements FlowConstructSt
 
   public synchronized void clear() {
     receivedEvents.set(0);
+    processingLatencies.clear();
+    processorStatistics.values().forEach(ProcessorStatistics::clear);
     samplePeriod = System.currentTimeMillis();
   }
 
@@ -65,6 +84,38 @@ public abstract class AbstractFlowConstructStatistics implements FlowConstructSt
     return receivedEvents.get();
   }
 
+  @Override
+  public void addFlowExecutionLatency(long latencyNanos) {
+    processingLatencies.record(latencyNanos);
+  }
+
+  @Override
+  public LatencyHistogram getProcessingLatencies() {
+    return processingLatencies;
+  }
+
+  @Override
+  public boolean isProcessorStatisticsEnabled() {
+    return processorStatisticsEnabled;
+  }
+
+  @Override
+  public void setProcessorStatisticsEnabled(boolean enabled) {
+    processorStatisticsEnabled = enabled;
+  }
+
+  @Override
+  public ProcessorStatistics getProcessorStatistics(ComponentLocation location) {
+    String path = location.getLocation();
+    ProcessorStatistics statistics = processorStatistics.get(path);
+    return statistics != null ? statistics : processorStatistics.computeIfAbsent(path, ProcessorStatistics::new);
+  }
+
+  @Override
+  public Map<String, ProcessorStatistics> getProcessorStatistics() {
+    return unmodifiableMap(processorStatistics);
+  }
+
   public String getFlowConstructType() {
     return flowConstructType;
   }
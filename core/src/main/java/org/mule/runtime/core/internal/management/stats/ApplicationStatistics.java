@@ -8,6 +8,7 @@ package org.mule.runtime.core.internal.management.stats;
 
 import org.mule.runtime.core.api.management.stats.AllStatistics;
 import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.api.management.stats.LatencyHistogram;
 
 /**
  * Aggregate statistics for all services and flows in an application. Do this by looping through all of the applications'
@@ -118,4 +119,18 @@ public class ApplicationStatistics extends DefaultFlowConstructStatistics {
     }
     return total;
   }
+
+  /**
+   * @return a new histogram with the latencies of all the flows merged
+   */
+  @Override
+  public LatencyHistogram getProcessingLatencies() {
+    LatencyHistogram merged = new LatencyHistogram();
+    for (FlowConstructStatistics stats : parent.getServiceStatistics()) {
+      if (!(stats instanceof ApplicationStatistics)) {
+        merged.merge(stats.getProcessingLatencies());
+      }
+    }
+    return merged;
+  }
 }
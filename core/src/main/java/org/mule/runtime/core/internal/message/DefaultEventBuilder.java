@@ -9,6 +9,7 @@ package org.mule.runtime.core.internal.message;
 
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.ofNullable;
+import static org.mule.runtime.core.internal.util.PersistentCaseInsensitiveMap.copyOf;
 import static org.mule.runtime.core.api.util.SystemUtils.getDefaultEncoding;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.message.Error;
@@ -33,13 +34,12 @@ import org.mule.runtime.core.api.session.DefaultMuleSession;
 import org.mule.runtime.core.api.store.DeserializationPostInitialisable;
 import org.mule.runtime.core.api.transformer.TransformerException;
 import org.mule.runtime.core.internal.context.notification.DefaultFlowCallStack;
-import org.mule.runtime.core.internal.util.CopyOnWriteCaseInsensitiveMap;
+import org.mule.runtime.core.internal.util.PersistentCaseInsensitiveMap;
 
 import java.io.IOException;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.nio.charset.Charset;
-import java.util.HashMap;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Optional;
@@ -54,14 +54,14 @@ public class DefaultEventBuilder implements Event.Builder {
 
   private EventContext context;
   private Message message;
-  private Map<String, TypedValue<Object>> flowVariables = new HashMap<>();
-  private Map<String, TypedValue<Object>> moduleProperties = new HashMap<>();
-  private Map<String, TypedValue<Object>> moduleParameters = new HashMap<>();
+  private PersistentCaseInsensitiveMap<TypedValue<Object>> flowVariables = PersistentCaseInsensitiveMap.empty();
+  private PersistentCaseInsensitiveMap<TypedValue<Object>> moduleProperties = PersistentCaseInsensitiveMap.empty();
+  private PersistentCaseInsensitiveMap<TypedValue<Object>> moduleParameters = PersistentCaseInsensitiveMap.empty();
   private Error error;
   private FlowConstruct flow;
   private GroupCorrelation groupCorrelation = new GroupCorrelation(null, null);
   private String legacyCorrelationId;
-  private FlowCallStack flowCallStack = new DefaultFlowCallStack();
+  private FlowCallStack flowCallStack;
   private ReplyToHandler replyToHandler;
   private Object replyToDestination;
   private MuleSession session = new DefaultMuleSession();
@@ -71,6 +71,7 @@ public class DefaultEventBuilder implements Event.Builder {
 
   public DefaultEventBuilder(EventContext messageContext) {
     this.context = messageContext;
+    this.flowCallStack = new DefaultFlowCallStack();
   }
 
   public DefaultEventBuilder(Event event) {
@@ -87,9 +88,16 @@ public class DefaultEventBuilder implements Event.Builder {
     this.error = event.getError().orElse(null);
     this.notificationsEnabled = event.isNotificationsEnabled();
 
-    event.getVariableNames().forEach(key -> this.flowVariables.put(key, event.getVariable(key)));
-    this.moduleProperties = event.getProperties();
-    this.moduleParameters = event.getParameters();
+    if (event instanceof EventImplementation) {
+      // the maps are immutable, so they are shared with the original event until modified
+      this.flowVariables = ((EventImplementation) event).variables;
+    } else {
+      for (String key : event.getVariableNames()) {
+        this.flowVariables = this.flowVariables.with(key, event.getVariable(key));
+      }
+    }
+    this.moduleProperties = copyOf(event.getProperties());
+    this.moduleParameters = copyOf(event.getParameters());
   }
 
   public DefaultEventBuilder(EventContext messageContext, Event event) {
@@ -108,13 +116,13 @@ public class DefaultEventBuilder implements Event.Builder {
 
   @Override
   public Event.Builder variables(Map<String, Object> flowVariables) {
-    copyFromTo(flowVariables, this.flowVariables);
+    this.flowVariables = toTypedValues(flowVariables);
     return this;
   }
 
   @Override
   public Event.Builder addVariable(String key, Object value) {
-    flowVariables.put(key, new TypedValue<>(value, DataType.fromObject(value)));
+    flowVariables = flowVariables.with(key, new TypedValue<>(value, DataType.fromObject(value)));
     this.modified = true;
     return this;
 
@@ -122,32 +130,36 @@ public class DefaultEventBuilder implements Event.Builder {
 
   @Override
   public Event.Builder addVariable(String key, Object value, DataType dataType) {
-    flowVariables.put(key, new TypedValue<>(value, dataType));
+    flowVariables = flowVariables.with(key, new TypedValue<>(value, dataType));
     this.modified = true;
     return this;
   }
 
   @Override
   public Event.Builder removeVariable(String key) {
-    this.modified = flowVariables.remove(key) != null;
+    PersistentCaseInsensitiveMap<TypedValue<Object>> remaining = flowVariables.without(key);
+    this.modified = remaining != flowVariables;
+    flowVariables = remaining;
     return this;
   }
 
   @Override
   public Builder properties(Map<String, Object> properties) {
-    copyFromTo(properties, this.moduleProperties);
+    this.moduleProperties = toTypedValues(properties);
     return this;
   }
 
   @Override
   public Builder parameters(Map<String, Object> parameters) {
-    copyFromTo(parameters, this.moduleParameters);
+    this.moduleParameters = toTypedValues(parameters);
     return this;
   }
 
   @Override
   public Event.Builder removeParameter(String key) {
-    this.modified = moduleParameters.remove(key) != null;
+    PersistentCaseInsensitiveMap<TypedValue<Object>> remaining = moduleParameters.without(key);
+    this.modified = remaining != moduleParameters;
+    moduleParameters = remaining;
     return this;
   }
 
@@ -221,10 +233,13 @@ public class DefaultEventBuilder implements Event.Builder {
     }
   }
 
-  private void copyFromTo(Map<String, Object> source, Map<String, TypedValue<Object>> target) {
-    target.clear();
-    source.forEach((s, o) -> target.put(s, new TypedValue<>(o, DataType.fromObject(o))));
+  private PersistentCaseInsensitiveMap<TypedValue<Object>> toTypedValues(Map<String, Object> source) {
+    PersistentCaseInsensitiveMap<TypedValue<Object>> target = PersistentCaseInsensitiveMap.empty();
+    for (Map.Entry<String, Object> entry : source.entrySet()) {
+      target = target.with(entry.getKey(), new TypedValue<>(entry.getValue(), DataType.fromObject(entry.getValue())));
+    }
     this.modified = true;
+    return target;
   }
 
   /**
@@ -255,11 +270,11 @@ public class DefaultEventBuilder implements Event.Builder {
 
     private final boolean notificationsEnabled;
 
-    private final CopyOnWriteCaseInsensitiveMap<String, TypedValue> variables = new CopyOnWriteCaseInsensitiveMap<>();
-    private final Map<String, TypedValue<Object>> properties;
-    private final Map<String, TypedValue<Object>> parameters;
+    private final PersistentCaseInsensitiveMap<TypedValue<Object>> variables;
+    private final PersistentCaseInsensitiveMap<TypedValue<Object>> properties;
+    private final PersistentCaseInsensitiveMap<TypedValue<Object>> parameters;
 
-    private FlowCallStack flowCallStack = new DefaultFlowCallStack();
+    private FlowCallStack flowCallStack;
     private final String legacyCorrelationId;
     private final Error error;
 
@@ -267,8 +282,9 @@ public class DefaultEventBuilder implements Event.Builder {
     private String flowName;
 
     // Use this constructor from the builder
-    private EventImplementation(EventContext context, Message message, Map<String, TypedValue<Object>> variables,
-                                Map<String, TypedValue<Object>> properties, Map<String, TypedValue<Object>> parameters,
+    private EventImplementation(EventContext context, Message message, PersistentCaseInsensitiveMap<TypedValue<Object>> variables,
+                                PersistentCaseInsensitiveMap<TypedValue<Object>> properties,
+                                PersistentCaseInsensitiveMap<TypedValue<Object>> parameters,
                                 FlowConstruct flowConstruct, MuleSession session,
                                 Object replyToDestination, ReplyToHandler replyToHandler,
                                 FlowCallStack flowCallStack, GroupCorrelation groupCorrelation, Error error,
@@ -280,7 +296,7 @@ public class DefaultEventBuilder implements Event.Builder {
       }
       this.session = session;
       this.message = message;
-      variables.forEach((s, value) -> this.variables.put(s, new TypedValue<>(value.getValue(), value.getDataType())));
+      this.variables = variables;
       this.properties = properties;
       this.parameters = parameters;
 
@@ -467,7 +483,7 @@ public class DefaultEventBuilder implements Event.Builder {
       if (flowName != null && flowConstruct instanceof Pipeline) {
         ((Pipeline) flowConstruct).getSerializationEventContextCache().put(context.getId(), context);
       }
-      for (Map.Entry<String, TypedValue> entry : variables.entrySet()) {
+      for (Map.Entry<String, TypedValue<Object>> entry : variables.entrySet()) {
         Object value = entry.getValue();
         if (value != null && !(value instanceof Serializable)) {
           String message = String.format(
@@ -489,7 +505,7 @@ public class DefaultEventBuilder implements Event.Builder {
 
     @Override
     public <T> TypedValue<T> getVariable(String key) {
-      TypedValue<T> typedValue = variables.get(key);
+      TypedValue<T> typedValue = (TypedValue<T>) variables.get(key);
 
       if (typedValue == null) {
         throw new NoSuchElementException("The flow variable '" + key + "' does not exist.");
@@ -67,6 +67,12 @@ public class DefaultMessageBuilder
   private Object attributes = NULL_ATTRIBUTES;
   private DataType attributesDataType;
 
+  /**
+   * Payload and attributes of the message this builder copies, which are reused as they are if not changed.
+   */
+  private LazyTypedValue sourcePayload;
+  private LazyTypedValue sourceAttributes;
+
   private ExceptionPayload exceptionPayload;
 
   private Map<String, TypedValue<Serializable>> inboundProperties = new CaseInsensitiveMapWrapper<>();
@@ -98,10 +104,15 @@ public class DefaultMessageBuilder
 
   public DefaultMessageBuilder(org.mule.runtime.api.message.Message message) {
     requireNonNull(message);
-    this.payload = message.getPayload().getValue();
-    this.dataType = message.getPayload().getDataType();
-    this.attributes = message.getAttributes().getValue();
-    this.attributesDataType = message.getAttributes().getDataType();
+    if (message instanceof MessageImplementation) {
+      this.sourcePayload = ((MessageImplementation) message).payload;
+      this.sourceAttributes = ((MessageImplementation) message).attributes;
+    } else {
+      this.sourcePayload = new LazyTypedValue(message.getPayload());
+      this.sourceAttributes = new LazyTypedValue(message.getAttributes());
+    }
+    this.payload = sourcePayload.getValue();
+    this.attributes = sourceAttributes.getValue();
 
     if (message instanceof InternalMessage) {
       copyMessageAttributes((InternalMessage) message);
@@ -150,9 +161,10 @@ public class DefaultMessageBuilder
 
   @Override
   public CollectionBuilder itemMediaType(MediaType mediaType) {
-    if (dataType instanceof DefaultCollectionDataType) {
+    DataType currentDataType = dataType == null && sourcePayload != null ? sourcePayload.get().getDataType() : dataType;
+    if (currentDataType instanceof DefaultCollectionDataType) {
       dataType =
-          ((DataTypeBuilder.DataTypeCollectionTypeBuilder) DataType.builder(this.dataType)).itemMediaType(mediaType).build();
+          ((DataTypeBuilder.DataTypeCollectionTypeBuilder) DataType.builder(currentDataType)).itemMediaType(mediaType).build();
     } else {
       throw new IllegalStateException("Item MediaType cannot be set, because payload is not a collection");
     }
@@ -288,25 +300,56 @@ public class DefaultMessageBuilder
 
   @Override
   public InternalMessage build() {
-    return new MessageImplementation(new TypedValue(payload, resolveDataType()),
-                                     new TypedValue(attributes, resolveAttributesDataType()),
+    return new MessageImplementation(typedValue(payload, dataType, sourcePayload),
+                                     typedValue(attributes, attributesDataType, sourceAttributes),
                                      inboundProperties, outboundProperties, inboundAttachments,
                                      outboundAttachments, exceptionPayload);
   }
 
-  private DataType resolveDataType() {
-    if (dataType == null) {
-      return DataType.fromObject(payload);
-    } else {
-      return DataType.builder(dataType).fromObject(payload).build();
+  private static LazyTypedValue typedValue(Object value, DataType dataType, LazyTypedValue source) {
+    if (dataType == null && source != null) {
+      if (value == source.getValue()) {
+        return source;
+      }
+      // a new value keeps the data type of the copied one, as when a data type is set explicitly
+      dataType = source.get().getDataType();
     }
+    return new LazyTypedValue(value, dataType);
   }
 
-  private DataType resolveAttributesDataType() {
-    if (attributesDataType == null) {
-      return DataType.fromObject(attributes);
-    } else {
-      return DataType.builder(attributesDataType).fromObject(attributes).build();
+  /**
+   * Holds a value along with the {@link DataType} set for it, if any, and resolves the actual {@link DataType} of the value
+   * only once it is required. Most intermediate messages are never asked for the type of their payload or attributes.
+   */
+  private static final class LazyTypedValue {
+
+    private final Object value;
+    private final DataType dataType;
+    private volatile TypedValue typedValue;
+
+    private LazyTypedValue(Object value, DataType dataType) {
+      this.value = value;
+      this.dataType = dataType;
+    }
+
+    private LazyTypedValue(TypedValue typedValue) {
+      this(typedValue.getValue(), typedValue.getDataType());
+      this.typedValue = typedValue;
+    }
+
+    private Object getValue() {
+      return value;
+    }
+
+    private TypedValue get() {
+      // concurrent resolutions get equal results, so there's no need to synchronize
+      TypedValue resolved = typedValue;
+      if (resolved == null) {
+        resolved = new TypedValue(value, dataType == null ? DataType.fromObject(value)
+            : DataType.builder(dataType).fromObject(value).build());
+        typedValue = resolved;
+      }
+      return resolved;
     }
   }
 
@@ -348,19 +391,20 @@ public class DefaultMessageBuilder
      */
     private transient Map<String, DataHandler> outboundAttachments = new HashMap<>();
 
-    private transient TypedValue typedValue;
+    private transient LazyTypedValue payload;
+    private transient LazyTypedValue attributes;
     private TypedValue typedAttributes;
 
     private Map<String, TypedValue<Serializable>> inboundMap = new CaseInsensitiveMapWrapper<>();
     private Map<String, TypedValue<Serializable>> outboundMap = new CaseInsensitiveMapWrapper<>();
 
-    private MessageImplementation(TypedValue typedValue, TypedValue typedAttributes,
+    private MessageImplementation(LazyTypedValue payload, LazyTypedValue attributes,
                                   Map<String, TypedValue<Serializable>> inboundProperties,
                                   Map<String, TypedValue<Serializable>> outboundProperties,
                                   Map<String, DataHandler> inboundAttachments, Map<String, DataHandler> outboundAttachments,
                                   ExceptionPayload exceptionPayload) {
-      this.typedValue = typedValue;
-      this.typedAttributes = typedAttributes;
+      this.payload = payload;
+      this.attributes = attributes;
       this.inboundMap.putAll(inboundProperties);
       this.outboundMap.putAll(outboundProperties);
       this.inboundAttachments = inboundAttachments;
@@ -460,7 +504,7 @@ public class DefaultMessageBuilder
 
     @Override
     public TypedValue getPayload() {
-      return typedValue;
+      return payload.get();
     }
 
     public static class SerializedDataHandler implements Serializable {
@@ -504,6 +548,7 @@ public class DefaultMessageBuilder
     }
 
     private void writeObject(ObjectOutputStream out) throws Exception {
+      typedAttributes = attributes.get();
       out.defaultWriteObject();
       serializeValue(out);
       out.writeObject(serializeAttachments(inboundAttachments));
@@ -527,6 +572,7 @@ public class DefaultMessageBuilder
     }
 
     protected void serializeValue(ObjectOutputStream out) throws Exception {
+      TypedValue typedValue = getPayload();
       if (typedValue.getValue() == null || typedValue.getValue() instanceof Serializable) {
         out.writeBoolean(true);
         out.writeObject(typedValue.getValue());
@@ -569,7 +615,8 @@ public class DefaultMessageBuilder
 
     private void readObject(ObjectInputStream in) throws Exception {
       in.defaultReadObject();
-      typedValue = new TypedValue(deserializeValue(in), (DataType) in.readObject());
+      payload = new LazyTypedValue(new TypedValue(deserializeValue(in), (DataType) in.readObject()));
+      attributes = new LazyTypedValue(typedAttributes);
       inboundAttachments = deserializeAttachments((Map<String, SerializedDataHandler>) in.readObject());
       outboundAttachments = deserializeAttachments((Map<String, SerializedDataHandler>) in.readObject());
     }
@@ -596,7 +643,7 @@ public class DefaultMessageBuilder
 
     @Override
     public TypedValue getAttributes() {
-      return typedAttributes;
+      return attributes.get();
     }
 
     @Override
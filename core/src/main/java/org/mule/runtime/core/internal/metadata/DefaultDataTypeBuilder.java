@@ -44,7 +44,6 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
 
 import javax.activation.DataHandler;
 import javax.activation.DataSource;
@@ -58,7 +57,27 @@ public class DefaultDataTypeBuilder
     implements DataTypeBuilder, DataTypeBuilder.DataTypeCollectionTypeBuilder, DataTypeBuilder.DataTypeFunctionTypeBuilder,
     DataTypeBuilder.DataTypeMapTypeBuilder {
 
-  private static ConcurrentHashMap<String, ProxyIndicator> proxyClassCache = new ConcurrentHashMap<>();
+  private static final ClassValue<Boolean> proxyClasses = new ClassValue<Boolean>() {
+
+    @Override
+    protected Boolean computeValue(Class<?> type) {
+      return Proxy.isProxyClass(type);
+    }
+  };
+
+  /**
+   * The {@link DataType} for each class when nothing else than the type is set in the builder, which is what happens for most
+   * payloads. Resolving these doesn't need to hash the builder as {@link #dataTypeCache} does.
+   */
+  private static final ClassValue<DataType> defaultDataTypes = new ClassValue<DataType>() {
+
+    @Override
+    protected DataType computeValue(Class<?> type) {
+      DefaultDataTypeBuilder builder = new DefaultDataTypeBuilder();
+      builder.typeRef = new WeakReference<>(type);
+      return builder.doBuild();
+    }
+  };
 
   private static LoadingCache<DefaultDataTypeBuilder, DataType> dataTypeCache =
       newBuilder().weakValues().build(new CacheLoader<DefaultDataTypeBuilder, DataType>() {
@@ -132,47 +151,10 @@ public class DefaultDataTypeBuilder
   }
 
   /**
-   * Cache which classes are proxies. Very experimental
+   * Cache which classes are proxies.
    */
   protected static <T> boolean isProxyClass(Class<T> type) {
-    String typeName = type.getName();
-    ProxyIndicator indicator = proxyClassCache.get(typeName);
-    if (indicator != null) {
-      Class classInMap = indicator.getTargetClass();
-      if (classInMap == type) {
-        return indicator.isProxy();
-      } else if (classInMap != null) {
-        // We have duplicate class names from different active classloaders. Skip the
-        // optimization for this one
-        return Proxy.isProxyClass(type);
-      }
-    }
-    // Either there's no indicator in the map or there's one that is due to be replaced
-    boolean isProxy = Proxy.isProxyClass(type);
-    proxyClassCache.put(typeName, new ProxyIndicator(type, isProxy));
-    return isProxy;
-  }
-
-  /**
-   * map value
-   */
-  private static final class ProxyIndicator {
-
-    private final WeakReference<Class> targetClassRef;
-    private final boolean isProxy;
-
-    ProxyIndicator(Class targetClass, boolean proxy) {
-      this.targetClassRef = new WeakReference<>(targetClass);
-      isProxy = proxy;
-    }
-
-    public Class getTargetClass() {
-      return targetClassRef.get();
-    }
-
-    public boolean isProxy() {
-      return isProxy;
-    }
+    return proxyClasses.get(type);
   }
 
   @Override
@@ -487,9 +469,17 @@ public class DefaultDataTypeBuilder
       return new DefaultFunctionDataType(type, returnType, parametersType != null ? parametersType : newArrayList(), mediaType,
                                          isConsumable(type));
     }
+    if (hasDefaultParams()) {
+      return defaultDataTypes.get(type);
+    }
     return dataTypeCache.getUnchecked(this);
   }
 
+  private boolean hasDefaultParams() {
+    return mediaType == MediaType.ANY && itemTypeBuilder == null && keyTypeBuilder == null && valueTypeBuilder == null
+        && returnType == null && parametersType == null;
+  }
+
   protected DataType doBuild() {
     Class<?> type = this.typeRef.get();
     if (Collection.class.isAssignableFrom(type) || Iterator.class.isAssignableFrom(type)) {
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.registry;
+
+import org.mule.runtime.api.metadata.DataType;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Caches values resolved for a pair of source and result {@link DataType}s.
+ * <p>
+ * Values are kept in a map of maps keyed by the {@link DataType}s themselves, so a hit doesn't need to build any composite key.
+ * <p>
+ * Each {@link #clear()} starts a new generation. A value resolved in a previous generation is discarded instead of cached, so a
+ * resolution that raced with an invalidation cannot leave stale entries behind.
+ *
+ * @param <V> the type of the cached values
+ * @since 4.0
+ */
+public class DataTypePairCache<V> {
+
+  private final ConcurrentMap<DataType, ConcurrentMap<DataType, V>> cache = new ConcurrentHashMap<>(8);
+  private final AtomicLong generation = new AtomicLong();
+
+  /**
+   * @return the value cached for the given pair, or {@code null} if there is none
+   */
+  public V get(DataType source, DataType result) {
+    ConcurrentMap<DataType, V> resultsCache = cache.get(source);
+    return resultsCache == null ? null : resultsCache.get(result);
+  }
+
+  /**
+   * @return the current generation, to be obtained before resolving a value that will later be {@link #put cached}.
+   */
+  public long getGeneration() {
+    return generation.get();
+  }
+
+  /**
+   * Caches a value for the given pair unless there is one already or the cache was cleared after {@code resolvedGeneration}.
+   *
+   * @param resolvedGeneration the {@link #getGeneration() generation} obtained before the value was resolved
+   * @return the value cached for the pair, which may be one added concurrently, or {@code value} if it couldn't be cached
+   */
+  public V put(DataType source, DataType result, V value, long resolvedGeneration) {
+    if (generation.get() != resolvedGeneration) {
+      return value;
+    }
+
+    ConcurrentMap<DataType, V> resultsCache = cache.computeIfAbsent(source, s -> new ConcurrentHashMap<>(4));
+    V concurrentlyAdded = resultsCache.putIfAbsent(result, value);
+    if (concurrentlyAdded != null) {
+      return concurrentlyAdded;
+    }
+
+    if (generation.get() != resolvedGeneration) {
+      // cleared while caching
+      resultsCache.remove(result, value);
+    }
+    return value;
+  }
+
+  /**
+   * Discards all the cached values, including the ones being resolved at the moment of this call.
+   */
+  public void clear() {
+    generation.incrementAndGet();
+    cache.clear();
+  }
+}
@@ -31,8 +31,6 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -54,7 +52,7 @@ public class TypeBasedTransformerResolver implements TransformerResolver, MuleCo
 
   private MuleContext muleContext;
 
-  protected Map<String, Transformer> exactTransformerCache = new ConcurrentHashMap/* <String, Transformer> */(8);
+  protected DataTypePairCache<Transformer> exactTransformerCache = new DataTypePairCache<>();
 
   protected TransformerResolver graphTransformerResolver = new GraphTransformerResolver();
 
@@ -80,10 +78,11 @@ public class TypeBasedTransformerResolver implements TransformerResolver, MuleCo
 
   @Override
   public Transformer resolve(DataType source, DataType result) throws ResolverException {
-    Transformer transformer = exactTransformerCache.get(source.toString() + result.toString());
+    Transformer transformer = exactTransformerCache.get(source, result);
     if (transformer != null) {
       return transformer;
     }
+    long generation = exactTransformerCache.getGeneration();
 
     List<Transformer> trans = muleContext.getRegistry().lookupTransformers(source, result);
 
@@ -124,7 +123,7 @@ public class TypeBasedTransformerResolver implements TransformerResolver, MuleCo
     }
 
     if (transformer != null) {
-      exactTransformerCache.put(source.toString() + result.toString(), transformer);
+      transformer = exactTransformerCache.put(source, result, transformer, generation);
     }
     return transformer;
   }
@@ -0,0 +1,139 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.retry;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Fails fast calls to a backend which is known to be down.
+ * <p>
+ * The breaker starts closed, letting every call through. After {@code failureThreshold} consecutive failures it opens, rejecting
+ * every call for {@code openMillis}. After that time a single trial call is let through: if it succeeds the breaker closes
+ * again, otherwise it opens for another period.
+ * <p>
+ * Each change of state starts a new generation, and the permit of a call is the generation it was let through in. The outcome of
+ * a call permitted in an older generation is ignored, so that a slow call that started before the breaker opened can't close it.
+ * <p>
+ * This implementation is thread-safe and lock free.
+ *
+ * @since 4.0
+ */
+public final class CircuitBreaker {
+
+  /**
+   * Returned by {@link #tryAcquire()} when the call is rejected
+   */
+  public static final long REJECTED = -1;
+
+  private static final int CLOSED = 0;
+  private static final int OPEN = 1;
+  private static final int HALF_OPEN = 2;
+
+  private static final class State {
+
+    private final int mode;
+    private final long generation;
+    private final long openedAt;
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+
+    private State(int mode, long generation, long openedAt) {
+      this.mode = mode;
+      this.generation = generation;
+      this.openedAt = openedAt;
+    }
+  }
+
+  private final int failureThreshold;
+  private final long openNanos;
+
+  private final AtomicReference<State> state = new AtomicReference<>(new State(CLOSED, 0, 0));
+
+  /**
+   * Creates a new instance
+   *
+   * @param failureThreshold the amount of consecutive failures that open the breaker
+   * @param openMillis the time the breaker stays open before letting a trial call through
+   */
+  public CircuitBreaker(int failureThreshold, long openMillis) {
+    this.failureThreshold = failureThreshold;
+    this.openNanos = MILLISECONDS.toNanos(openMillis);
+  }
+
+  /**
+   * @return the permit of the call, or {@link #REJECTED} if it may not be performed. Each permitted call has to be followed by a
+   *         call to {@link #onSuccess(long)}, {@link #onFailure(long)} or {@link #onCancel(long)} with its permit
+   */
+  public long tryAcquire() {
+    State current = state.get();
+    if (current.mode == CLOSED) {
+      return current.generation;
+    }
+    if (current.mode == OPEN && nanoTime() - current.openedAt >= openNanos) {
+      State trial = new State(HALF_OPEN, current.generation + 1, current.openedAt);
+      if (state.compareAndSet(current, trial)) {
+        return trial.generation;
+      }
+    }
+    return REJECTED;
+  }
+
+  /**
+   * Records that a permitted call succeeded, closing the breaker
+   *
+   * @param permit the permit returned by {@link #tryAcquire()} for the call
+   */
+  public void onSuccess(long permit) {
+    State current = state.get();
+    if (current.generation != permit) {
+      return;
+    }
+    if (current.mode == CLOSED) {
+      current.consecutiveFailures.set(0);
+    } else if (current.mode == HALF_OPEN) {
+      state.compareAndSet(current, new State(CLOSED, current.generation + 1, 0));
+    }
+  }
+
+  /**
+   * Records that a permitted call failed, opening the breaker if it was the trial call or if the failure threshold is reached
+   *
+   * @param permit the permit returned by {@link #tryAcquire()} for the call
+   */
+  public void onFailure(long permit) {
+    State current = state.get();
+    if (current.generation != permit) {
+      return;
+    }
+    if (current.mode == HALF_OPEN
+        || (current.mode == CLOSED && current.consecutiveFailures.incrementAndGet() >= failureThreshold)) {
+      state.compareAndSet(current, new State(OPEN, current.generation + 1, nanoTime()));
+    }
+  }
+
+  /**
+   * Records that a permitted call was abandoned without an outcome, so that another trial call can be let through
+   *
+   * @param permit the permit returned by {@link #tryAcquire()} for the call
+   */
+  public void onCancel(long permit) {
+    State current = state.get();
+    if (current.generation == permit && current.mode == HALF_OPEN) {
+      state.compareAndSet(current, new State(OPEN, current.generation + 1, current.openedAt));
+    }
+  }
+
+  /**
+   * @return whether calls are currently being rejected
+   */
+  public boolean isOpen() {
+    return state.get().mode != CLOSED;
+  }
+}
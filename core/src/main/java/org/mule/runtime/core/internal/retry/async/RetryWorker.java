@@ -24,7 +24,7 @@ public class RetryWorker implements Runnable {
 
   private final RetryCallback callback;
   private final Executor workManager;
-  private Exception exception = null;
+  private volatile Exception exception = null;
   private final FutureRetryContext context = new FutureRetryContext();
   private final RetryPolicyTemplate delegate;
   private Latch startLatch;
@@ -52,13 +52,15 @@ public class RetryWorker implements Runnable {
       logger.warn("Retry thread interrupted for callback: " + callback.getWorkDescription());
       return;
     }
-    try {
-      context.setDelegateContext(delegate.execute(callback, workManager));
-    } catch (Exception e) {
-      this.exception = e;
-      logger.error("Error retrying work", e);
-
-    }
+    // the retries are scheduled without holding this thread
+    delegate.executeNonBlocking(callback, workManager).whenComplete((retryContext, e) -> {
+      if (e != null) {
+        this.exception = e instanceof Exception ? (Exception) e : new Exception(e);
+        logger.error("Error retrying work", e);
+      } else {
+        context.setDelegateContext(retryContext);
+      }
+    });
   }
 
   public Exception getException() {
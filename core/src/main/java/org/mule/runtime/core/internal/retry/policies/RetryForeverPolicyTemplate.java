@@ -24,7 +24,7 @@ public class RetryForeverPolicyTemplate extends SimpleRetryPolicyTemplate {
 
   @Override
   public RetryPolicy createRetryInstance() {
-    return new SimpleRetryPolicy(frequency, RETRY_COUNT_FOREVER);
+    return new SimpleRetryPolicy(frequency, RETRY_COUNT_FOREVER, backoffMultiplier, maxFrequency, jitter);
   }
 
   @Override
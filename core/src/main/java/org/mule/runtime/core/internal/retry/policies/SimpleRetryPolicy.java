@@ -6,7 +6,11 @@
  */
 package org.mule.runtime.core.internal.retry.policies;
 
+import static java.lang.Math.min;
+import static java.lang.Math.pow;
+import static java.lang.Math.round;
 import static java.time.Duration.ofMillis;
+import static java.util.concurrent.TimeUnit.DAYS;
 import static reactor.core.publisher.Flux.from;
 import static reactor.core.publisher.Flux.range;
 import static reactor.core.publisher.Mono.delay;
@@ -16,6 +20,7 @@ import org.mule.runtime.core.api.retry.policy.RetryPolicy;
 import org.mule.runtime.core.api.retry.policy.PolicyStatus;
 import org.mule.runtime.core.api.retry.policy.SimpleRetryPolicyTemplate;
 
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -28,27 +33,66 @@ import reactor.util.function.Tuples;
 
 /**
  * Allows to configure how many times a retry should be attempted and how long to wait between retries.
+ * <p>
+ * The wait can grow exponentially with each attempt, by a {@code backoffMultiplier} and up to a {@code maxFrequency}, and be
+ * randomized by a {@code jitter} factor so that many clients failing at once don't retry in lockstep.
  */
 public class SimpleRetryPolicy implements RetryPolicy {
 
   protected static final Logger logger = LoggerFactory.getLogger(SimpleRetryPolicy.class);
 
+  /**
+   * The maximum time to wait between retries, in milliseconds, when there is no {@code maxFrequency}. Without it, the wait of an
+   * exponential backoff eventually becomes infinite.
+   */
+  static final long MAX_DELAY = DAYS.toMillis(1);
+
   protected RetryCounter retryCounter;
 
   private volatile int count = SimpleRetryPolicyTemplate.DEFAULT_RETRY_COUNT;
   private volatile long frequency = SimpleRetryPolicyTemplate.DEFAULT_FREQUENCY;
+  private final double backoffMultiplier;
+  private final long maxFrequency;
+  private final double jitter;
 
   public SimpleRetryPolicy(long frequency, int retryCount) {
+    this(frequency, retryCount, 1, 0, 0);
+  }
+
+  /**
+   * @param frequency the time to wait before the first retry, in milliseconds
+   * @param retryCount how many times to retry, or {@link SimpleRetryPolicyTemplate#RETRY_COUNT_FOREVER}
+   * @param backoffMultiplier the factor by which the wait is multiplied after each retry
+   * @param maxFrequency the maximum time to wait between retries, in milliseconds, or {@code 0} for no maximum
+   * @param jitter the fraction, between {@code 0} and {@code 1}, by which each wait is randomly shortened or lengthened
+   */
+  public SimpleRetryPolicy(long frequency, int retryCount, double backoffMultiplier, long maxFrequency, double jitter) {
     this.frequency = frequency;
     this.count = retryCount;
+    this.backoffMultiplier = backoffMultiplier;
+    this.maxFrequency = maxFrequency;
+    this.jitter = jitter;
     retryCounter = new RetryCounter();
   }
 
+  /**
+   * @param attempt the number of the retry about to be performed, starting at {@code 1}
+   * @return the time to wait before the given retry, in milliseconds
+   */
+  protected long delayFor(int attempt) {
+    double delay = frequency * pow(backoffMultiplier, attempt - 1);
+    delay = min(delay, maxFrequency > 0 ? maxFrequency : MAX_DELAY);
+    if (jitter > 0) {
+      delay *= 1 + jitter * (2 * ThreadLocalRandom.current().nextDouble() - 1);
+    }
+    return round(delay);
+  }
+
   @Override
   public <T> Publisher<T> applyPolicy(Publisher<T> publisher,
                                       Predicate<Throwable> shouldRetry,
                                       Consumer<Throwable> onExhausted) {
-    final int actualCount = count + 1;
+    final int actualCount = count != SimpleRetryPolicyTemplate.RETRY_COUNT_FOREVER ? count + 1 : Integer.MAX_VALUE;
     return from(publisher).retryWhen(errors -> errors.zipWith(range(1, actualCount), Tuples::of)
         .flatMap(tuple -> {
           final Throwable exception = tuple.getT1();
@@ -56,7 +100,7 @@ public class SimpleRetryPolicy implements RetryPolicy {
             onExhausted.accept(exception);
             return (Mono<T>) error(exception);
           } else {
-            return delay(ofMillis(frequency));
+            return delay(ofMillis(delayFor(tuple.getT2())));
           }
         }));
   }
@@ -66,14 +110,16 @@ public class SimpleRetryPolicy implements RetryPolicy {
     if (isExhausted() || !isApplicableTo(cause)) {
       return PolicyStatus.policyExhausted(cause);
     } else {
+      int attempt = retryCounter.current().get() + 1;
+      long delay = delayFor(attempt);
       if (logger.isInfoEnabled()) {
-        logger.info("Waiting for " + frequency + "ms before reconnecting. Failed attempt " + (retryCounter.current().get() + 1)
+        logger.info("Waiting for " + delay + "ms before reconnecting. Failed attempt " + attempt
             + " of " + (count != SimpleRetryPolicyTemplate.RETRY_COUNT_FOREVER ? String.valueOf(count) : "unlimited"));
       }
 
       try {
         retryCounter.current().getAndIncrement();
-        Thread.sleep(frequency);
+        Thread.sleep(delay);
         return PolicyStatus.policyOk();
       } catch (InterruptedException e) {
         // If we get an interrupt exception, some one is telling us to stop
@@ -6,6 +6,9 @@
  */
 package org.mule.runtime.core.internal.transformer.compression;
 
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.borrowDeflater;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.release;
+
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.zip.CRC32;
@@ -15,6 +18,8 @@ import java.util.zip.DeflaterInputStream;
 
 /**
  * Implements an input stream for compressing input data in the GZIP compression format.
+ * <p>
+ * The {@link Deflater} is taken from the {@link ZipCodecPool} and returned to it once the stream is closed.
  */
 public class GZIPCompressorInputStream extends DeflaterInputStream {
 
@@ -22,7 +27,7 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
   private final static int GZIP_MAGIC = 0x8b1f;
 
   // Writes GZIP member header.
-  private final static byte[] HEADER = {(byte) GZIP_MAGIC, // Magic number (short)
+  final static byte[] HEADER = {(byte) GZIP_MAGIC, // Magic number (short)
       (byte) (GZIP_MAGIC >> 8), // Magic number (short)
       Deflater.DEFLATED, // Compression method (CM)
       0, // Flags (FLG)
@@ -35,7 +40,7 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
   };
 
   // Trailer length in bytes.
-  private final static int TRAILER_LENGTH = 8;
+  final static int TRAILER_LENGTH = 8;
 
   // If true, the GZIP trailer has been written.
   private boolean trailerWritten = false;
@@ -43,6 +48,8 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
   // Internal buffer for GZIP header and trailer.
   private Buffer buffer;
 
+  private boolean deflaterReleased = false;
+
   /**
    * Helper inner class containing the length and position of the internal buffer.
    */
@@ -78,7 +85,7 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
    * @param in The uncompressed {@link InputStream}.
    */
   public GZIPCompressorInputStream(InputStream in) {
-    super(new CheckedInputStream(in, new CRC32()), new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+    super(new CheckedInputStream(in, new CRC32()), borrowDeflater());
     buffer = new Buffer();
   }
 
@@ -115,6 +122,18 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
     }
   }
 
+  @Override
+  public void close() throws IOException {
+    try {
+      super.close();
+    } finally {
+      if (!deflaterReleased) {
+        deflaterReleased = true;
+        release(def);
+      }
+    }
+  }
+
   /**
    * Writes GZIP member trailer to a byte array, starting at a given offset.
    *
@@ -138,7 +157,7 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
    * @return The amount of bytes written.
    * @throws IOException If an I/O error is produced.
    */
-  private int writeInt(int i, byte[] buf, int offset) throws IOException {
+  static int writeInt(int i, byte[] buf, int offset) throws IOException {
     int count = writeShort(i & 0xffff, buf, offset);
     count += writeShort((i >> 16) & 0xffff, buf, offset + 2);
     return count;
@@ -153,7 +172,7 @@ public class GZIPCompressorInputStream extends DeflaterInputStream {
    * @return The amount of bytes written.
    * @throws IOException If an I/O error is produced.
    */
-  private int writeShort(int s, byte[] buf, int offset) throws IOException {
+  private static int writeShort(int s, byte[] buf, int offset) throws IOException {
     buf[offset] = (byte) (s & 0xff);
     buf[offset + 1] = (byte) ((s >> 8) & 0xff);
     return 2;
@@ -0,0 +1,220 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.borrowInflater;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.release;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.util.zip.CRC32;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.Deflater;
+import java.util.zip.InflaterInputStream;
+import java.util.zip.ZipException;
+
+/**
+ * Implements an input stream for uncompressing data in the GZIP compression format, like {@link java.util.zip.GZIPInputStream}
+ * does, but using an {@link java.util.zip.Inflater} from the {@link ZipCodecPool} which is returned to it once the stream is
+ * closed.
+ * <p>
+ * Several concatenated GZIP members are read as a single stream.
+ */
+public class GZIPUncompressorInputStream extends InflaterInputStream {
+
+  // GZIP header magic number.
+  private final static int GZIP_MAGIC = 0x8b1f;
+
+  // Header flags.
+  private final static int FHCRC = 2;
+  private final static int FEXTRA = 4;
+  private final static int FNAME = 8;
+  private final static int FCOMMENT = 16;
+
+  // Length of the fixed part of the header and of the trailer, in bytes.
+  private final static int HEADER_LENGTH = 10;
+  private final static int TRAILER_LENGTH = 8;
+
+  private final static int BUFFER_SIZE = 512;
+
+  // CRC-32 of the uncompressed data of the current member.
+  private final CRC32 crc = new CRC32();
+
+  private boolean eos = false;
+  private boolean closed = false;
+  private boolean inflaterReleased = false;
+
+  /**
+   * Creates a new {@link GZIPUncompressorInputStream} from a compressed {@link InputStream}, reading the header of the first
+   * GZIP member.
+   *
+   * @param in The compressed {@link InputStream}.
+   * @throws ZipException If the data is not in the GZIP format.
+   * @throws IOException If an I/O error is produced.
+   */
+  public GZIPUncompressorInputStream(InputStream in) throws IOException {
+    super(in, borrowInflater(), BUFFER_SIZE);
+    try {
+      readHeader(in);
+    } catch (IOException | RuntimeException e) {
+      releaseInflater();
+      throw e;
+    }
+  }
+
+  @Override
+  public int read(byte[] b, int off, int len) throws IOException {
+    if (closed) {
+      throw new IOException("Stream closed");
+    }
+    if (eos) {
+      return -1;
+    }
+    int count = super.read(b, off, len);
+    if (count == -1) {
+      if (readTrailer()) {
+        eos = true;
+      } else {
+        // another member follows
+        return read(b, off, len);
+      }
+    } else {
+      crc.update(b, off, count);
+    }
+    return count;
+  }
+
+  @Override
+  public void close() throws IOException {
+    if (!closed) {
+      closed = true;
+      try {
+        super.close();
+      } finally {
+        releaseInflater();
+      }
+    }
+  }
+
+  private void releaseInflater() {
+    if (!inflaterReleased) {
+      inflaterReleased = true;
+      release(inf);
+    }
+  }
+
+  /**
+   * Reads a GZIP member header.
+   *
+   * @return The amount of bytes read.
+   */
+  private int readHeader(InputStream in) throws IOException {
+    CheckedInputStream checkedIn = new CheckedInputStream(in, crc);
+    crc.reset();
+    if (readUShort(checkedIn) != GZIP_MAGIC) {
+      throw new ZipException("Not in GZIP format");
+    }
+    if (readUByte(checkedIn) != Deflater.DEFLATED) {
+      throw new ZipException("Unsupported compression method");
+    }
+    int flags = readUByte(checkedIn);
+    // modification time, extra flags and operating system
+    skipBytes(checkedIn, 6);
+    int count = HEADER_LENGTH;
+    if ((flags & FEXTRA) == FEXTRA) {
+      int extraLength = readUShort(checkedIn);
+      skipBytes(checkedIn, extraLength);
+      count += extraLength + 2;
+    }
+    if ((flags & FNAME) == FNAME) {
+      do {
+        count++;
+      } while (readUByte(checkedIn) != 0);
+    }
+    if ((flags & FCOMMENT) == FCOMMENT) {
+      do {
+        count++;
+      } while (readUByte(checkedIn) != 0);
+    }
+    if ((flags & FHCRC) == FHCRC) {
+      int headerCrc = (int) crc.getValue() & 0xffff;
+      if (readUShort(checkedIn) != headerCrc) {
+        throw new ZipException("Corrupt GZIP header");
+      }
+      count += 2;
+    }
+    crc.reset();
+    return count;
+  }
+
+  /**
+   * Reads and checks a GZIP member trailer, and the header of the next member if there is one.
+   *
+   * @return {@code true} if the end of the compressed data was reached.
+   */
+  private boolean readTrailer() throws IOException {
+    InputStream trailerIn = this.in;
+    // the trailer may have already been read into the buffer along with the compressed data
+    int remaining = inf.getRemaining();
+    if (remaining > 0) {
+      trailerIn = new SequenceInputStream(new ByteArrayInputStream(buf, len - remaining, remaining), new FilterInputStream(in) {
+
+        @Override
+        public void close() throws IOException {
+          // the underlying stream is closed along with this one
+        }
+      });
+    }
+    if (readUInt(trailerIn) != crc.getValue() || readUInt(trailerIn) != (inf.getBytesWritten() & 0xffffffffL)) {
+      throw new ZipException("Corrupt GZIP trailer");
+    }
+
+    // unlike GZIPInputStream, this doesn't rely on available() to tell whether another member follows, since many streams
+    // (cursors among them) don't report it
+    int consumed = TRAILER_LENGTH;
+    try {
+      consumed += readHeader(trailerIn);
+    } catch (IOException e) {
+      // either the end of the data or trailing garbage, which is ignored as GZIPInputStream does
+      return true;
+    }
+    inf.reset();
+    if (remaining > consumed) {
+      inf.setInput(buf, len - remaining + consumed, remaining - consumed);
+    }
+    return false;
+  }
+
+  private long readUInt(InputStream in) throws IOException {
+    long low = readUShort(in);
+    return ((long) readUShort(in) << 16) | low;
+  }
+
+  private int readUShort(InputStream in) throws IOException {
+    int low = readUByte(in);
+    return (readUByte(in) << 8) | low;
+  }
+
+  private int readUByte(InputStream in) throws IOException {
+    int b = in.read();
+    if (b == -1) {
+      throw new EOFException();
+    }
+    return b;
+  }
+
+  private void skipBytes(InputStream in, int count) throws IOException {
+    while (count > 0) {
+      readUByte(in);
+      count--;
+    }
+  }
+}
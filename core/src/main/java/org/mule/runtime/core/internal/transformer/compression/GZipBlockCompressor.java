@@ -0,0 +1,150 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.lang.Math.min;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static org.mule.runtime.core.internal.transformer.compression.GZIPCompressorInputStream.HEADER;
+import static org.mule.runtime.core.internal.transformer.compression.GZIPCompressorInputStream.TRAILER_LENGTH;
+import static org.mule.runtime.core.internal.transformer.compression.GZIPCompressorInputStream.writeInt;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.borrowDeflater;
+import static org.mule.runtime.core.internal.transformer.compression.ZipCodecPool.release;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+/**
+ * Compresses byte arrays in the GZIP format using the {@link Deflater} instances of the {@link ZipCodecPool}.
+ * <p>
+ * Large arrays may be split in blocks which are compressed in parallel as independent GZIP members. The concatenation of those
+ * members is a valid GZIP stream which uncompresses to the original data, at the cost of a slightly lower compression ratio
+ * since each block is compressed without the history of the previous ones.
+ *
+ * @since 4.0
+ */
+public final class GZipBlockCompressor {
+
+  private static final int OUTPUT_BUFFER_SIZE = 8192;
+
+  private GZipBlockCompressor() {}
+
+  /**
+   * Compresses the given bytes as a single GZIP member.
+   *
+   * @param bytes the data to compress
+   * @return the compressed data
+   */
+  public static byte[] compress(byte[] bytes) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(min(bytes.length / 2, OUTPUT_BUFFER_SIZE) + HEADER.length);
+    writeMember(bytes, 0, bytes.length, out);
+    return out.toByteArray();
+  }
+
+  /**
+   * Compresses the given bytes as consecutive GZIP members of up to {@code blockSize} uncompressed bytes each, compressing the
+   * blocks in parallel. The first block is compressed by the calling thread and the rest are dispatched to {@code executor}, or
+   * compressed by the calling thread as well if the {@code executor} rejects them.
+   *
+   * @param bytes the data to compress
+   * @param blockSize the maximum amount of uncompressed bytes of each member
+   * @param executor where the blocks are compressed
+   * @return the compressed data
+   */
+  public static byte[] compressInParallel(byte[] bytes, int blockSize, Executor executor) throws IOException {
+    if (bytes.length <= blockSize) {
+      return compress(bytes);
+    }
+
+    int blocks = (bytes.length + blockSize - 1) / blockSize;
+    List<CompletableFuture<byte[]>> pendingMembers = new ArrayList<>(blocks - 1);
+    for (int block = 1; block < blocks; ++block) {
+      int offset = block * blockSize;
+      try {
+        pendingMembers.add(supplyAsync(() -> {
+          try {
+            return compressBlock(bytes, offset, blockSize);
+          } catch (IOException e) {
+            throw new UncheckedIOException(e);
+          }
+        }, executor));
+      } catch (RejectedExecutionException e) {
+        // the executor is busy, so the calling thread compresses this block
+        pendingMembers.add(completedFuture(compressBlock(bytes, offset, blockSize)));
+      }
+    }
+
+    byte[][] members = new byte[blocks][];
+    members[0] = compressBlock(bytes, 0, blockSize);
+    try {
+      for (int block = 1; block < blocks; ++block) {
+        members[block] = pendingMembers.get(block - 1).get();
+      }
+    } catch (InterruptedException e) {
+      currentThread().interrupt();
+      throw new InterruptedIOException("Interrupted while compressing in parallel");
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof UncheckedIOException) {
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      }
+      throw new IOException(e.getCause());
+    }
+
+    int length = 0;
+    for (byte[] member : members) {
+      length += member.length;
+    }
+    byte[] result = new byte[length];
+    int position = 0;
+    for (byte[] member : members) {
+      System.arraycopy(member, 0, result, position, member.length);
+      position += member.length;
+    }
+    return result;
+  }
+
+  private static byte[] compressBlock(byte[] bytes, int offset, int blockSize) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream(blockSize / 2);
+    writeMember(bytes, offset, min(blockSize, bytes.length - offset), out);
+    return out.toByteArray();
+  }
+
+  private static void writeMember(byte[] bytes, int offset, int length, ByteArrayOutputStream out) throws IOException {
+    out.write(HEADER, 0, HEADER.length);
+
+    Deflater deflater = borrowDeflater();
+    try {
+      deflater.setInput(bytes, offset, length);
+      deflater.finish();
+      byte[] buffer = new byte[OUTPUT_BUFFER_SIZE];
+      while (!deflater.finished()) {
+        int count = deflater.deflate(buffer);
+        out.write(buffer, 0, count);
+      }
+    } finally {
+      release(deflater);
+    }
+
+    CRC32 crc = new CRC32();
+    crc.update(bytes, offset, length);
+    byte[] trailer = new byte[TRAILER_LENGTH];
+    writeInt((int) crc.getValue(), trailer, 0);
+    writeInt(length, trailer, 4);
+    out.write(trailer, 0, trailer.length);
+  }
+}
@@ -6,7 +6,9 @@
  */
 package org.mule.runtime.core.internal.transformer.compression;
 
+import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 import org.mule.runtime.core.api.transformer.TransformerException;
 import org.mule.runtime.core.api.util.compression.AbstractCompressionTransformer;
@@ -17,10 +19,13 @@ import java.io.Serializable;
 import java.nio.charset.Charset;
 
 /**
- * <code>GZipCompressTransformer</code> is a transformer compressing objects into byte arrays.
+ * <code>GZipCompressTransformer</code> is a transformer compressing objects into byte arrays. Streams are compressed into
+ * streams, which are repeatable if the source was repeatable.
  */
 public class GZipCompressTransformer extends AbstractCompressionTransformer {
 
+  private Scheduler parallelCompressionScheduler;
+
   public GZipCompressTransformer() {
     super();
     this.setStrategy(new GZipCompression());
@@ -32,11 +37,30 @@ public class GZipCompressTransformer extends AbstractCompressionTransformer {
     this.setReturnDataType(DataType.OBJECT);
   }
 
+  @Override
+  public void initialise() throws InitialisationException {
+    super.initialise();
+    if (getStrategy() instanceof GZipCompression && ((GZipCompression) getStrategy()).isParallelCompressionEnabled()) {
+      parallelCompressionScheduler = muleContext.getSchedulerService().cpuIntensiveScheduler();
+      ((GZipCompression) getStrategy()).setParallelCompressionExecutor(parallelCompressionScheduler);
+    }
+  }
+
+  @Override
+  public void dispose() {
+    if (parallelCompressionScheduler != null) {
+      ((GZipCompression) getStrategy()).setParallelCompressionExecutor(null);
+      parallelCompressionScheduler.stop();
+      parallelCompressionScheduler = null;
+    }
+    super.dispose();
+  }
+
   @Override
   public Object doTransform(Object src, Charset outputEncoding) throws TransformerException {
     try {
       if (src instanceof CursorStreamProvider) {
-        return getStrategy().compressInputStream(((CursorStreamProvider) src).openCursor());
+        return toRepeatableStream(getStrategy().compressInputStream(((CursorStreamProvider) src).openCursor()));
       }
       if (src instanceof InputStream) {
         return getStrategy().compressInputStream((InputStream) src);
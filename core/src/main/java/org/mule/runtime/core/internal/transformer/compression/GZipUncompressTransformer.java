@@ -38,7 +38,7 @@ public class GZipUncompressTransformer extends AbstractCompressionTransformer {
   public Object doTransform(Object src, Charset outputEncoding) throws TransformerException {
     try {
       if (src instanceof CursorStreamProvider) {
-        return getStrategy().uncompressInputStream(((CursorStreamProvider) src).openCursor());
+        return toRepeatableStream(getStrategy().uncompressInputStream(((CursorStreamProvider) src).openCursor()));
       }
       if (src instanceof InputStream) {
         return getStrategy().uncompressInputStream((InputStream) src);
@@ -0,0 +1,116 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.transformer.compression;
+
+import static java.lang.Runtime.getRuntime;
+import static java.util.zip.Deflater.DEFAULT_COMPRESSION;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Keeps the {@link Deflater} and {@link Inflater} instances used for GZIP compression so they can be reused.
+ * <p>
+ * Each instance holds native memory which is only released once it is ended or finalized, so creating one for each compressed
+ * or uncompressed stream puts pressure on both the native memory and the finalizer. Instances released when the pool is
+ * already full are ended right away.
+ *
+ * @since 4.0
+ */
+public final class ZipCodecPool {
+
+  private static final int CAPACITY = getRuntime().availableProcessors() * 2;
+
+  private static final Pool<Deflater> deflaters =
+      new Pool<>(() -> new Deflater(DEFAULT_COMPRESSION, true), Deflater::reset, Deflater::end);
+  private static final Pool<Inflater> inflaters = new Pool<>(() -> new Inflater(true), Inflater::reset, Inflater::end);
+
+  private ZipCodecPool() {}
+
+  /**
+   * @return a {@link Deflater} for raw deflate data with the default compression level
+   */
+  public static Deflater borrowDeflater() {
+    return deflaters.borrow();
+  }
+
+  /**
+   * Returns a {@link Deflater} obtained through {@link #borrowDeflater()} to the pool. It must not be used afterwards.
+   */
+  public static void release(Deflater deflater) {
+    deflaters.release(deflater);
+  }
+
+  /**
+   * @return an {@link Inflater} for raw deflate data
+   */
+  public static Inflater borrowInflater() {
+    return inflaters.borrow();
+  }
+
+  /**
+   * Returns an {@link Inflater} obtained through {@link #borrowInflater()} to the pool. It must not be used afterwards.
+   */
+  public static void release(Inflater inflater) {
+    inflaters.release(inflater);
+  }
+
+  /**
+   * @return the number of {@link Deflater} instances borrowed which have not been released yet
+   */
+  public static int getBorrowedDeflaters() {
+    return deflaters.borrowed.get();
+  }
+
+  /**
+   * @return the number of {@link Inflater} instances borrowed which have not been released yet
+   */
+  public static int getBorrowedInflaters() {
+    return inflaters.borrowed.get();
+  }
+
+  private static final class Pool<T> {
+
+    private final ConcurrentLinkedQueue<T> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger borrowed = new AtomicInteger();
+    private final Supplier<T> factory;
+    private final Consumer<T> reset;
+    private final Consumer<T> end;
+
+    private Pool(Supplier<T> factory, Consumer<T> reset, Consumer<T> end) {
+      this.factory = factory;
+      this.reset = reset;
+      this.end = end;
+    }
+
+    private T borrow() {
+      borrowed.incrementAndGet();
+      T item = idle.poll();
+      if (item == null) {
+        return factory.get();
+      }
+      idleCount.decrementAndGet();
+      return item;
+    }
+
+    private void release(T item) {
+      borrowed.decrementAndGet();
+      if (idleCount.incrementAndGet() <= CAPACITY) {
+        reset.accept(item);
+        idle.offer(item);
+      } else {
+        idleCount.decrementAndGet();
+        end.accept(item);
+      }
+    }
+  }
+}
@@ -0,0 +1,409 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static java.lang.Character.toLowerCase;
+import static java.lang.Character.toUpperCase;
+import static java.lang.Integer.bitCount;
+import static java.util.Collections.unmodifiableList;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Immutable {@link Map} with {@link String} keys that are compared ignoring their case, as in
+ * {@link org.mule.runtime.core.api.util.CaseInsensitiveHashMap}.
+ * <p>
+ * The entries are kept in a hash array mapped trie, so {@link #with(String, Object)} and {@link #without(String)} return a new
+ * map in {@code O(log n)} that shares all the entries not in the path of the modified key with this map, instead of copying
+ * them. This makes it suitable for state that is copied and slightly modified often, like the variables of an event.
+ * <p>
+ * The methods from {@link Map} that would modify this map throw {@link UnsupportedOperationException}.
+ *
+ * @param <V> the type of the values
+ * @since 4.0
+ */
+public final class PersistentCaseInsensitiveMap<V> extends AbstractMap<String, V> implements Serializable {
+
+  private static final long serialVersionUID = 2814736459182730611L;
+
+  private static final int BITS = 5;
+  private static final int MASK = (1 << BITS) - 1;
+
+  private static final PersistentCaseInsensitiveMap<?> EMPTY = new PersistentCaseInsensitiveMap<>(null, 0);
+
+  /**
+   * @return an empty map
+   */
+  @SuppressWarnings("unchecked")
+  public static <V> PersistentCaseInsensitiveMap<V> empty() {
+    return (PersistentCaseInsensitiveMap<V>) EMPTY;
+  }
+
+  /**
+   * @param map the entries of the new map
+   * @return a map with the entries of {@code map}, or {@code map} itself if it is already a {@link PersistentCaseInsensitiveMap}
+   */
+  @SuppressWarnings("unchecked")
+  public static <V> PersistentCaseInsensitiveMap<V> copyOf(Map<String, ? extends V> map) {
+    if (map instanceof PersistentCaseInsensitiveMap) {
+      return (PersistentCaseInsensitiveMap<V>) map;
+    }
+    PersistentCaseInsensitiveMap<V> copy = empty();
+    for (Entry<String, ? extends V> entry : map.entrySet()) {
+      copy = copy.with(entry.getKey(), entry.getValue());
+    }
+    return copy;
+  }
+
+  private final BitmapNode root;
+  private final int size;
+
+  private PersistentCaseInsensitiveMap(BitmapNode root, int size) {
+    this.root = root;
+    this.size = size;
+  }
+
+  /**
+   * Returns a map with the entries of this one plus the given one. If there is already an entry for a key that only differs in
+   * case with {@code key}, that entry keeps its key and gets the new {@code value}.
+   *
+   * @param key the key of the entry to add
+   * @param value the value of the entry to add
+   * @return the new map
+   */
+  public PersistentCaseInsensitiveMap<V> with(String key, V value) {
+    Objects.requireNonNull(key);
+    int hash = hash(key);
+    Leaf existing = root == null ? null : root.find(key, hash, 0);
+    if (existing != null && existing.value == value) {
+      return this;
+    }
+
+    Leaf leaf = new Leaf(existing != null ? existing.key : key, hash, value);
+    BitmapNode newRoot = root == null ? new BitmapNode(bit(hash, 0), new Object[] {leaf}) : root.put(leaf, 0);
+    return new PersistentCaseInsensitiveMap<>(newRoot, existing != null ? size : size + 1);
+  }
+
+  /**
+   * @param key the key of the entry to remove, in any case
+   * @return a map with the entries of this one but the one for {@code key}, or this map if there is no such entry
+   */
+  public PersistentCaseInsensitiveMap<V> without(String key) {
+    if (root == null || key == null) {
+      return this;
+    }
+    int hash = hash(key);
+    if (root.find(key, hash, 0) == null) {
+      return this;
+    }
+
+    Object newRoot = root.remove(key, hash, 0);
+    if (newRoot == null) {
+      return empty();
+    } else if (newRoot instanceof Leaf) {
+      // the root is always a bitmap node, even if it only holds one entry
+      Leaf leaf = (Leaf) newRoot;
+      newRoot = new BitmapNode(bit(leaf.hash, 0), new Object[] {leaf});
+    }
+    return new PersistentCaseInsensitiveMap<>((BitmapNode) newRoot, size - 1);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public V get(Object key) {
+    Leaf leaf = find(key);
+    return leaf == null ? null : (V) leaf.value;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return find(key) != null;
+  }
+
+  private Leaf find(Object key) {
+    if (root == null || !(key instanceof String)) {
+      return null;
+    }
+    return root.find((String) key, hash((String) key), 0);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public Set<Entry<String, V>> entrySet() {
+    return new AbstractSet<Entry<String, V>>() {
+
+      @Override
+      @SuppressWarnings({"unchecked", "rawtypes"})
+      public Iterator<Entry<String, V>> iterator() {
+        List<Entry<String, V>> entries = new ArrayList<>(size);
+        if (root != null) {
+          root.collect((List) entries);
+        }
+        return unmodifiableList(entries).iterator();
+      }
+
+      @Override
+      public int size() {
+        return size;
+      }
+    };
+  }
+
+  /**
+   * Consistent with {@link String#equalsIgnoreCase(String)}, without creating a lower case copy of the key.
+   */
+  private static int hash(String key) {
+    int hash = 0;
+    for (int i = 0; i < key.length(); ++i) {
+      hash = 31 * hash + toLowerCase(toUpperCase(key.charAt(i)));
+    }
+    // spread the bits so keys differing in the last characters don't share the first levels of the trie
+    return hash ^ (hash >>> 16);
+  }
+
+  private static int bit(int hash, int shift) {
+    return 1 << ((hash >>> shift) & MASK);
+  }
+
+  private static final class Leaf implements Entry<String, Object>, Serializable {
+
+    private static final long serialVersionUID = -3829610480523714326L;
+
+    private final String key;
+    private final int hash;
+    private final Object value;
+
+    private Leaf(String key, int hash, Object value) {
+      this.key = key;
+      this.hash = hash;
+      this.value = value;
+    }
+
+    private boolean matches(String otherKey, int otherHash) {
+      return hash == otherHash && key.equalsIgnoreCase(otherKey);
+    }
+
+    @Override
+    public String getKey() {
+      return key;
+    }
+
+    @Override
+    public Object getValue() {
+      return value;
+    }
+
+    @Override
+    public Object setValue(Object value) {
+      throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Entry)) {
+        return false;
+      }
+      Entry<?, ?> other = (Entry<?, ?>) obj;
+      return key.equals(other.getKey()) && Objects.equals(value, other.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+      return key.hashCode() ^ Objects.hashCode(value);
+    }
+
+    @Override
+    public String toString() {
+      return key + "=" + value;
+    }
+  }
+
+  /**
+   * Inner node of the trie. Each slot holds a {@link Leaf}, a nested {@link BitmapNode} or, once all the bits of the hash were
+   * used, a {@link CollisionNode}.
+   */
+  private static final class BitmapNode implements Serializable {
+
+    private static final long serialVersionUID = 6271049365013829414L;
+
+    private final int bitmap;
+    private final Object[] slots;
+
+    private BitmapNode(int bitmap, Object[] slots) {
+      this.bitmap = bitmap;
+      this.slots = slots;
+    }
+
+    private int index(int bit) {
+      return bitCount(bitmap & (bit - 1));
+    }
+
+    private Leaf find(String key, int hash, int shift) {
+      int bit = bit(hash, shift);
+      if ((bitmap & bit) == 0) {
+        return null;
+      }
+      Object slot = slots[index(bit)];
+      if (slot instanceof Leaf) {
+        return ((Leaf) slot).matches(key, hash) ? (Leaf) slot : null;
+      } else if (slot instanceof BitmapNode) {
+        return ((BitmapNode) slot).find(key, hash, shift + BITS);
+      } else {
+        return ((CollisionNode) slot).find(key);
+      }
+    }
+
+    private BitmapNode put(Leaf leaf, int shift) {
+      int bit = bit(leaf.hash, shift);
+      int index = index(bit);
+      if ((bitmap & bit) == 0) {
+        Object[] newSlots = new Object[slots.length + 1];
+        System.arraycopy(slots, 0, newSlots, 0, index);
+        newSlots[index] = leaf;
+        System.arraycopy(slots, index, newSlots, index + 1, slots.length - index);
+        return new BitmapNode(bitmap | bit, newSlots);
+      }
+
+      Object slot = slots[index];
+      Object newSlot;
+      if (slot instanceof Leaf) {
+        Leaf existing = (Leaf) slot;
+        newSlot = existing.matches(leaf.key, leaf.hash) ? leaf : merge(existing, leaf, shift + BITS);
+      } else if (slot instanceof BitmapNode) {
+        newSlot = ((BitmapNode) slot).put(leaf, shift + BITS);
+      } else {
+        newSlot = ((CollisionNode) slot).put(leaf);
+      }
+      return withSlot(index, newSlot);
+    }
+
+    /**
+     * @return the node without the entry for {@code key}, or {@code null} if it becomes empty, or its only {@link Leaf} if there
+     *         is nothing else left so the parent can inline it.
+     */
+    private Object remove(String key, int hash, int shift) {
+      int bit = bit(hash, shift);
+      int index = index(bit);
+      Object slot = slots[index];
+      Object newSlot;
+      if (slot instanceof Leaf) {
+        newSlot = null;
+      } else if (slot instanceof BitmapNode) {
+        newSlot = ((BitmapNode) slot).remove(key, hash, shift + BITS);
+      } else {
+        newSlot = ((CollisionNode) slot).remove(key);
+      }
+
+      if (newSlot != null) {
+        return withSlot(index, newSlot);
+      }
+      if (slots.length == 1) {
+        return null;
+      }
+      if (slots.length == 2 && slots[1 - index] instanceof Leaf) {
+        return slots[1 - index];
+      }
+      Object[] newSlots = new Object[slots.length - 1];
+      System.arraycopy(slots, 0, newSlots, 0, index);
+      System.arraycopy(slots, index + 1, newSlots, index, slots.length - index - 1);
+      return new BitmapNode(bitmap & ~bit, newSlots);
+    }
+
+    private BitmapNode withSlot(int index, Object newSlot) {
+      Object[] newSlots = slots.clone();
+      newSlots[index] = newSlot;
+      return new BitmapNode(bitmap, newSlots);
+    }
+
+    private void collect(List<Leaf> entries) {
+      for (Object slot : slots) {
+        if (slot instanceof Leaf) {
+          entries.add((Leaf) slot);
+        } else if (slot instanceof BitmapNode) {
+          ((BitmapNode) slot).collect(entries);
+        } else {
+          for (Leaf leaf : ((CollisionNode) slot).leaves) {
+            entries.add(leaf);
+          }
+        }
+      }
+    }
+
+    private static Object merge(Leaf first, Leaf second, int shift) {
+      if (shift >= Integer.SIZE) {
+        return new CollisionNode(new Leaf[] {first, second});
+      }
+      int firstBit = bit(first.hash, shift);
+      int secondBit = bit(second.hash, shift);
+      if (firstBit == secondBit) {
+        return new BitmapNode(firstBit, new Object[] {merge(first, second, shift + BITS)});
+      }
+      // slots are ordered by their position in the bitmap, the bits can't be compared as the highest one is negative
+      boolean firstBefore = ((first.hash >>> shift) & MASK) < ((second.hash >>> shift) & MASK);
+      return new BitmapNode(firstBit | secondBit, firstBefore ? new Object[] {first, second} : new Object[] {second, first});
+    }
+  }
+
+  /**
+   * Holds the entries of keys with the same hash.
+   */
+  private static final class CollisionNode implements Serializable {
+
+    private static final long serialVersionUID = -1586301937530165384L;
+
+    private final Leaf[] leaves;
+
+    private CollisionNode(Leaf[] leaves) {
+      this.leaves = leaves;
+    }
+
+    private Leaf find(String key) {
+      for (Leaf leaf : leaves) {
+        if (leaf.key.equalsIgnoreCase(key)) {
+          return leaf;
+        }
+      }
+      return null;
+    }
+
+    private CollisionNode put(Leaf leaf) {
+      for (int i = 0; i < leaves.length; ++i) {
+        if (leaves[i].key.equalsIgnoreCase(leaf.key)) {
+          Leaf[] newLeaves = leaves.clone();
+          newLeaves[i] = leaf;
+          return new CollisionNode(newLeaves);
+        }
+      }
+      Leaf[] newLeaves = new Leaf[leaves.length + 1];
+      System.arraycopy(leaves, 0, newLeaves, 0, leaves.length);
+      newLeaves[leaves.length] = leaf;
+      return new CollisionNode(newLeaves);
+    }
+
+    private Object remove(String key) {
+      List<Leaf> remaining = new ArrayList<>(leaves.length);
+      for (Leaf leaf : leaves) {
+        if (!leaf.key.equalsIgnoreCase(key)) {
+          remaining.add(leaf);
+        }
+      }
+      return remaining.size() == 1 ? remaining.get(0) : new CollisionNode(remaining.toArray(new Leaf[remaining.size()]));
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util;
+
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Hashed timing wheel which keeps track of the due time of a large amount of items with a single timer.
+ * <p>
+ * Time is divided in ticks of a fixed duration and each item is put in the bucket of the tick it is due on, modulo the size of
+ * the wheel. Scheduling an item is {@code O(1)} regardless of how many are pending, and {@link #advance()}, which is to be
+ * invoked periodically by a single thread, only visits the buckets of the elapsed ticks. Items expire at the end of the tick
+ * they are due on, so the precision is that of the tick duration.
+ * <p>
+ * This implementation is thread-safe for scheduling. Each item is expired exactly once, even if it is scheduled while the wheel
+ * advances past its bucket.
+ *
+ * @param <T> the generic type of the scheduled items
+ * @since 4.0
+ */
+public final class TimingWheel<T> {
+
+  private final long tickNanos;
+  private final ConcurrentLinkedQueue<Entry<T>>[] buckets;
+  private final Consumer<T> onExpired;
+  private final long startNanos = nanoTime();
+  private final AtomicInteger size = new AtomicInteger();
+  private volatile long currentTick = 0;
+
+  /**
+   * Creates a new instance
+   *
+   * @param tickMillis the duration of each tick
+   * @param wheelSize the amount of buckets of the wheel
+   * @param onExpired the action to perform with each item once it is due
+   */
+  @SuppressWarnings("unchecked")
+  public TimingWheel(long tickMillis, int wheelSize, Consumer<T> onExpired) {
+    this.tickNanos = MILLISECONDS.toNanos(tickMillis);
+    this.buckets = new ConcurrentLinkedQueue[wheelSize];
+    for (int i = 0; i < wheelSize; ++i) {
+      buckets[i] = new ConcurrentLinkedQueue<>();
+    }
+    this.onExpired = onExpired;
+  }
+
+  /**
+   * Schedules an item to expire after the given delay
+   *
+   * @param item the item to schedule
+   * @param delayMillis the time after which the item is due
+   */
+  public void schedule(T item, long delayMillis) {
+    long dueTick = max(currentTick + 1, (nanoTime() - startNanos + MILLISECONDS.toNanos(delayMillis)) / tickNanos + 1);
+    Entry<T> entry = new Entry<>(item, dueTick);
+    ConcurrentLinkedQueue<Entry<T>> bucket = buckets[(int) (dueTick % buckets.length)];
+    size.incrementAndGet();
+    bucket.add(entry);
+
+    // the wheel may have gone past the bucket while the entry was being added
+    if (dueTick <= currentTick && entry.claim()) {
+      bucket.remove(entry);
+      size.decrementAndGet();
+      onExpired.accept(item);
+    }
+  }
+
+  /**
+   * Expires the items due on the ticks elapsed since the last invocation. Not to be invoked concurrently.
+   */
+  public void advance() {
+    long nowTick = (nanoTime() - startNanos) / tickNanos;
+    while (currentTick < nowTick) {
+      long tick = currentTick + 1;
+      currentTick = tick;
+      for (Iterator<Entry<T>> iterator = buckets[(int) (tick % buckets.length)].iterator(); iterator.hasNext();) {
+        Entry<T> entry = iterator.next();
+        if (entry.dueTick <= tick) {
+          iterator.remove();
+          // schedule may have expired it already
+          if (entry.claim()) {
+            size.decrementAndGet();
+            onExpired.accept(entry.item);
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Removes all the scheduled items without expiring them
+   */
+  public void clear() {
+    for (ConcurrentLinkedQueue<Entry<T>> bucket : buckets) {
+      bucket.clear();
+    }
+    size.set(0);
+  }
+
+  /**
+   * @return the amount of items which are not yet due
+   */
+  public int size() {
+    return size.get();
+  }
+
+  private static final class Entry<T> {
+
+    private final T item;
+    private final long dueTick;
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    private Entry(T item, long dueTick) {
+      this.item = item;
+      this.dueTick = dueTick;
+    }
+
+    /**
+     * @return whether the caller is the one to expire this entry
+     */
+    private boolean claim() {
+      return claimed.compareAndSet(false, true);
+    }
+  }
+}
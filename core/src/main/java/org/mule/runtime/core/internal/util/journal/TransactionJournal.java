@@ -6,6 +6,10 @@
  */
 package org.mule.runtime.core.internal.util.journal;
 
+import static java.lang.Integer.getInteger;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
+
+import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.util.Preconditions;
 
 import com.google.common.collect.LinkedHashMultimap;
@@ -25,6 +29,9 @@ import org.slf4j.LoggerFactory;
  *
  * Keeps a memory cache of the log entries for performance reasons. Once a transaction finishes the client of this class must
  * manually remove the entries related to such transaction to clear the cache.
+ *
+ * Once enough entries of finished transactions accumulate in a file, the file is compacted to hold just the entries of the
+ * pending transactions, so recovery after a failure doesn't need to go through the whole history of the journal.
  */
 public class TransactionJournal<T, K extends JournalEntry<T>> {
 
@@ -34,6 +41,12 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
   private static final int MAXIMUM_LOG_FILE_ENTRIES = 50000;
   private static final int ONE_MEGABYTE_IN_BYTES = 1024 * 1024;
 
+  /**
+   * Number of entries of finished transactions after which a journal file is compacted.
+   */
+  public static final String CHECKPOINT_INTERVAL_PROPERTY = SYSTEM_PROPERTY_PREFIX + "transactionJournal.checkpointInterval";
+  private static final int DEFAULT_CHECKPOINT_INTERVAL = 10000;
+
   private transient Logger logger = LoggerFactory.getLogger(getClass());
 
   private final TransactionCompletePredicate transactionCompletePredicate;
@@ -57,6 +70,9 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
    */
   private Long clearFileMinimumSizeInBytes;
 
+  private final int checkpointInterval = getInteger(CHECKPOINT_INTERVAL_PROPERTY, DEFAULT_CHECKPOINT_INTERVAL);
+  private long checkpoints = 0;
+
   /**
    * @param logFilesDirectory directory used to store the journal files.
    */
@@ -77,7 +93,12 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
     this.notCurrentLogFile =
         new TransactionJournalFile(logFile2, journalEntrySerializer, transactionCompletePredicate, clearFileMinimumSizeInBytes);
     this.transactionCompletePredicate = transactionCompletePredicate;
-
+    int pendingEntries = getPendingEntries();
+    if (pendingEntries > 0) {
+      logger.info(String.format("Recovered %d pending tx log entries in %d ms", pendingEntries, getRecoveryDurationMillis()));
+    } else if (logger.isDebugEnabled()) {
+      logger.debug(String.format("No pending tx log entries to recover, took %d ms", getRecoveryDurationMillis()));
+    }
   }
 
   private void calculateJournalFileSize(Integer maximumFileSizeInMegabytes) {
@@ -97,6 +118,18 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
     logFile.logOperation(journalEntry);
   }
 
+  /**
+   * Log several update operations of the same transaction over a transactional resource, with a single write to the journal
+   * file.
+   *
+   * @param txId transaction identifier
+   * @param journalEntries journal entries with the update operations details
+   */
+  public synchronized void logUpdateOperations(T txId, Collection<K> journalEntries) {
+    TransactionJournalFile logFile = determineLogFile(txId);
+    logFile.logOperations(journalEntries);
+  }
+
   /**
    * Logs a checkpoint operation over the transactions.
    *
@@ -109,6 +142,24 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
     logFile.logOperation(journalEntry);
     if (transactionCompletePredicate.isTransactionComplete(journalEntry)) {
       logFile.clearEntriesForTransaction(journalEntry.getTxId());
+      checkpointIfNeeded(logFile);
+    }
+  }
+
+  /**
+   * Compacts the file once it holds enough entries of finished transactions. Requiring those to outnumber the entries of the
+   * pending transactions keeps the cost of rewriting the pending ones amortized.
+   */
+  private void checkpointIfNeeded(TransactionJournalFile logFile) {
+    int obsoleteEntries = logFile.obsoleteEntries();
+    if (obsoleteEntries >= checkpointInterval && obsoleteEntries > logFile.size()) {
+      try {
+        logFile.checkpoint();
+        checkpoints++;
+      } catch (MuleRuntimeException e) {
+        // the transaction is already resolved, a failed compaction just leaves the file as it was
+        logger.warn("Could not compact tx log file: " + e.getMessage());
+      }
     }
   }
 
@@ -150,6 +201,34 @@ public class TransactionJournal<T, K extends JournalEntry<T>> {
     notCurrentLogFile.clear();
   }
 
+  /**
+   * @return the size in bytes of the journal files
+   */
+  public long getJournalSizeInBytes() {
+    return currentLogFile.fileLength() + notCurrentLogFile.fileLength();
+  }
+
+  /**
+   * @return the number of entries of transactions which are not yet complete
+   */
+  public synchronized int getPendingEntries() {
+    return currentLogFile.size() + notCurrentLogFile.size();
+  }
+
+  /**
+   * @return the number of times a journal file has been compacted
+   */
+  public synchronized long getCheckpoints() {
+    return checkpoints;
+  }
+
+  /**
+   * @return the time it took to load the pending transaction entries from the journal files on creation
+   */
+  public long getRecoveryDurationMillis() {
+    return currentLogFile.getRecoveryDurationMillis() + notCurrentLogFile.getRecoveryDurationMillis();
+  }
+
   private TransactionJournalFile determineLogFile(T txId) {
     final TransactionJournalFile logFile = determineLogFileWithoutModifyingCurrent(txId);
     if (logFile != null) {
@@ -6,12 +6,18 @@
  */
 package org.mule.runtime.core.internal.util.journal;
 
+import static java.lang.System.currentTimeMillis;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
 import org.mule.runtime.api.exception.MuleRuntimeException;
 
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 
 import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.EOFException;
@@ -20,6 +26,7 @@ import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -30,6 +37,11 @@ import org.slf4j.LoggerFactory;
 
 /**
  * Manages a transaction journal file.
+ * <p>
+ * Entries of finished transactions are only removed from the file when it is emptied, so while there are always transactions
+ * in progress the file keeps growing and recovering from it requires to read entries which are no longer relevant.
+ * {@link #checkpoint()} compacts the file by rewriting it with just the entries of the pending transactions, so recovery only
+ * needs to read that snapshot and the entries appended after it.
  *
  * @param <T> type of the transaction identifier
  * @param <K> type of the journal entry
@@ -42,6 +54,8 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
    */
   private static final int MINIMUM_ENTRIES_TO_CLEAR_FILE = 10000;
 
+  private static final String CHECKPOINT_FILE_SUFFIX = ".checkpoint";
+
   protected transient Logger logger = LoggerFactory.getLogger(getClass());
 
   private final File journalFile;
@@ -52,6 +66,8 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
 
   private DataOutputStream logFileOutputStream;
   private int journalOperations = 0;
+  private int entriesInFile = 0;
+  private long recoveryDurationMillis = 0;
 
   /**
    * @param journalFile journal file to use. Will be created if it doesn't exists. If exists then transaction entries will get
@@ -64,8 +80,12 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
     this.journalFile = journalFile;
     this.journalEntrySerializer = journalEntrySerializer;
     this.clearFileMinimumSizeInBytes = clearFileMinimumSizeInBytes;
+    // a checkpoint interrupted before replacing the journal file leaves the journal file untouched
+    FileUtils.deleteQuietly(getCheckpointFile());
     if (journalFile.exists()) {
+      long startTime = currentTimeMillis();
       loadAllEntries(transactionCompletePredicate);
+      recoveryDurationMillis = currentTimeMillis() - startTime;
     }
     createLogOutputStream();
   }
@@ -79,6 +99,70 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
     entries.put(journalEntry.getTxId(), journalEntry);
     journalEntrySerializer.serialize(journalEntry, logFileOutputStream);
     journalOperations++;
+    entriesInFile++;
+  }
+
+  /**
+   * Adds the journal entries for several operations done over a transactional resource, writing them to the file at once.
+   *
+   * @param journalEntries operations details
+   */
+  public synchronized void logOperations(Collection<K> journalEntries) {
+    ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+    DataOutputStream bufferOutputStream = new DataOutputStream(buffer);
+    for (K journalEntry : journalEntries) {
+      entries.put(journalEntry.getTxId(), journalEntry);
+      journalEntrySerializer.serialize(journalEntry, bufferOutputStream);
+    }
+    try {
+      buffer.writeTo(logFileOutputStream);
+    } catch (IOException e) {
+      throw new MuleRuntimeException(e);
+    }
+    journalOperations += journalEntries.size();
+    entriesInFile += journalEntries.size();
+  }
+
+  /**
+   * Rewrites the journal file with only the entries of the transactions which are not yet complete.
+   * <p>
+   * The snapshot is written to a separate file which then atomically replaces the journal file, so a failure at any point
+   * leaves either the previous or the compacted journal in place.
+   */
+  public synchronized void checkpoint() {
+    File checkpointFile = getCheckpointFile();
+    try (FileOutputStream checkpointFileOutputStream = new FileOutputStream(checkpointFile)) {
+      DataOutputStream checkpointOutputStream = new DataOutputStream(new BufferedOutputStream(checkpointFileOutputStream));
+      for (K journalEntry : entries.values()) {
+        journalEntrySerializer.serialize(journalEntry, checkpointOutputStream);
+      }
+      checkpointOutputStream.flush();
+      checkpointFileOutputStream.getFD().sync();
+    } catch (IOException e) {
+      FileUtils.deleteQuietly(checkpointFile);
+      throw new MuleRuntimeException(e);
+    }
+
+    close();
+    try {
+      Files.move(checkpointFile.toPath(), journalFile.toPath(), ATOMIC_MOVE, REPLACE_EXISTING);
+    } catch (IOException e) {
+      FileUtils.deleteQuietly(checkpointFile);
+      throw new MuleRuntimeException(e);
+    } finally {
+      createLogOutputStream();
+    }
+    if (logger.isDebugEnabled()) {
+      logger.debug("Compacted tx log file " + journalFile + " from " + entriesInFile + " to " + entries.size() + " entries");
+    }
+    entriesInFile = entries.size();
+  }
+
+  /**
+   * @return the number of entries in the file which belong to already complete transactions
+   */
+  public synchronized int obsoleteEntries() {
+    return entriesInFile - entries.size();
   }
 
   /**
@@ -159,6 +243,7 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
     close();
     entries.clear();
     FileUtils.deleteQuietly(journalFile);
+    entriesInFile = 0;
     createLogOutputStream();
   }
 
@@ -196,6 +281,7 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
           if (journalEntry != null) {
             this.entries.put(journalEntry.getTxId(), journalEntry);
             journalOperations++;
+            entriesInFile++;
 
             if (transactionCompletePredicate.isTransactionComplete(journalEntry)) {
               journalOperations -= this.entries.get(journalEntry.getTxId()).size();
@@ -251,5 +337,16 @@ class TransactionJournalFile<T, K extends JournalEntry<T>> {
   public long fileLength() {
     return journalFile.length();
   }
+
+  /**
+   * @return the time it took to load the pending transaction entries from the file when this journal file was created
+   */
+  public long getRecoveryDurationMillis() {
+    return recoveryDurationMillis;
+  }
+
+  private File getCheckpointFile() {
+    return new File(journalFile.getPath() + CHECKPOINT_FILE_SUFFIX);
+  }
 }
 
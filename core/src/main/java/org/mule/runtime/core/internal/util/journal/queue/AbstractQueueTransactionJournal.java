@@ -16,7 +16,9 @@ import org.mule.runtime.core.internal.util.queue.QueueStore;
 import com.google.common.collect.Multimap;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +57,18 @@ public abstract class AbstractQueueTransactionJournal<T, K extends JournalEntry<
                                                         queue.getName(), value));
   }
 
+  public void logAddAll(T txId, QueueStore queue, Collection<? extends Serializable> values) {
+    if (logger.isDebugEnabled()) {
+      logger.debug("Logging queue add operation of " + values.size() + " items for tx " + txId);
+    }
+    List<K> journalEntries = new ArrayList<>(values.size());
+    for (Serializable value : values) {
+      journalEntries.add(createUpdateJournalEntry(txId, AbstractQueueTxJournalEntry.Operation.ADD.getByteRepresentation(),
+                                                  queue.getName(), value));
+    }
+    logFile.logUpdateOperations(txId, journalEntries);
+  }
+
   public void logAddFirst(T txId, QueueStore queue, Serializable item) {
     if (logger.isDebugEnabled()) {
       logger.debug("Logging queue add first operation for tx " + txId);
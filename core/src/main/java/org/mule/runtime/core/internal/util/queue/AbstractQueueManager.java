@@ -18,6 +18,7 @@ import org.mule.runtime.core.api.util.queue.QueueManager;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.slf4j.Logger;
@@ -34,7 +35,7 @@ public abstract class AbstractQueueManager
   protected transient Logger logger = LoggerFactory.getLogger(getClass());
 
   private final ReentrantLock queuesLock = new ReentrantLock();
-  private final Map<String, CacheAwareQueueStore> queues = new HashMap<String, CacheAwareQueueStore>();
+  private final Map<String, CacheAwareQueueStore> queues = new ConcurrentHashMap<>();
   private final Map<String, QueueConfiguration> queueConfigurations = new HashMap<String, QueueConfiguration>();
   private QueueConfiguration defaultQueueConfiguration = new DefaultQueueConfiguration();
   private MuleContext muleContext;
@@ -132,7 +133,13 @@ public abstract class AbstractQueueManager
   }
 
   @Override
-  public synchronized QueueStore getQueue(String queueName) {
+  public QueueStore getQueue(String queueName) {
+    // queues already in use are looked up on every queue operation, so avoid synchronizing for them
+    QueueStore queueStore = queues.get(queueName);
+    return queueStore != null ? queueStore : createQueue(queueName);
+  }
+
+  private synchronized QueueStore createQueue(String queueName) {
     return getQueue(queueName, defineQueueConfiguration(queueName));
   }
 
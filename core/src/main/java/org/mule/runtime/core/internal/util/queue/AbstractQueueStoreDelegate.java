@@ -6,10 +6,15 @@
  */
 package org.mule.runtime.core.internal.util.queue;
 
+import static java.lang.Math.min;
+import static java.util.Collections.emptyList;
+
 import org.mule.runtime.core.api.util.queue.QueueStoreDelegate;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * Abstract queue delegate implementation that forces common queue behaviour
@@ -66,14 +71,8 @@ public abstract class AbstractQueueStoreDelegate implements QueueStoreDelegate {
   public final Serializable poll(long timeout) throws InterruptedException {
     checkInterrupted();
     synchronized (this) {
-      long l1 = timeout > 0L ? System.currentTimeMillis() : 0L;
-      long l2 = timeout;
-      while (isEmpty()) {
-        if (l2 <= 0L) {
-          return null;
-        }
-        this.wait(l2);
-        l2 = timeout - (System.currentTimeMillis() - l1);
+      if (!waitUntilNotEmpty(timeout)) {
+        return null;
       }
 
       Serializable o = removeFirst();
@@ -82,6 +81,36 @@ public abstract class AbstractQueueStoreDelegate implements QueueStoreDelegate {
     }
   }
 
+  @Override
+  public final List<Serializable> drainTo(int maxItems, long timeout) throws InterruptedException {
+    checkInterrupted();
+    synchronized (this) {
+      if (!waitUntilNotEmpty(timeout)) {
+        return emptyList();
+      }
+
+      List<Serializable> items = new ArrayList<>(min(maxItems, size()));
+      while (items.size() < maxItems && !isEmpty()) {
+        items.add(removeFirst());
+      }
+      this.notifyAll();
+      return items;
+    }
+  }
+
+  private boolean waitUntilNotEmpty(long timeout) throws InterruptedException {
+    long l1 = timeout > 0L ? System.currentTimeMillis() : 0L;
+    long l2 = timeout;
+    while (isEmpty()) {
+      if (l2 <= 0L) {
+        return false;
+      }
+      this.wait(l2);
+      l2 = timeout - (System.currentTimeMillis() - l1);
+    }
+    return true;
+  }
+
   @Override
   public final Serializable peek() throws InterruptedException {
     checkInterrupted();
@@ -7,6 +7,8 @@
 package org.mule.runtime.core.internal.util.queue;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Wrapper for QueueStore so the cache in {@link AbstractQueueManager} gets cleaned up when a
@@ -32,6 +34,11 @@ public class CacheAwareQueueStore implements QueueStore {
     queueStore.putNow(o);
   }
 
+  @Override
+  public void putAllNow(Collection<? extends Serializable> items) throws InterruptedException {
+    queueStore.putAllNow(items);
+  }
+
   @Override
   public boolean offer(Serializable o, int room, long timeout) throws InterruptedException {
     return queueStore.offer(o, room, timeout);
@@ -42,6 +49,11 @@ public class CacheAwareQueueStore implements QueueStore {
     return queueStore.poll(timeout);
   }
 
+  @Override
+  public List<Serializable> drainTo(int maxItems, long timeout) throws InterruptedException {
+    return queueStore.drainTo(maxItems, timeout);
+  }
+
   @Override
   public Serializable peek() throws InterruptedException {
     return queueStore.peek();
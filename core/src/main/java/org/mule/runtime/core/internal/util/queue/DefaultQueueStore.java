@@ -12,6 +12,8 @@ import org.mule.runtime.core.api.util.queue.QueueConfiguration;
 import org.mule.runtime.core.api.util.queue.QueueStoreDelegate;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 
 import org.apache.commons.lang3.NotImplementedException;
 
@@ -47,7 +49,7 @@ public class DefaultQueueStore implements RecoverableQueueStore {
       delegate = new DualRandomAccessFileQueueStoreDelegate(this.name, muleContext.getConfiguration().getWorkingDirectory(),
                                                             muleContext, this.config.getCapacity());
     } else {
-      delegate = new DefaultQueueStoreDelegate(this.config.getCapacity());
+      delegate = new LockFreeQueueStoreDelegate(this.config.getCapacity());
     }
   }
 
@@ -69,6 +71,10 @@ public class DefaultQueueStore implements RecoverableQueueStore {
     delegate.putNow(o);
   }
 
+  public void putAllNow(Collection<? extends Serializable> items) {
+    delegate.addAll(items);
+  }
+
   public boolean offer(Serializable o, int room, long timeout) throws InterruptedException {
     return delegate.offer(o, room, timeout);
   }
@@ -77,6 +83,10 @@ public class DefaultQueueStore implements RecoverableQueueStore {
     return delegate.poll(timeout);
   }
 
+  public List<Serializable> drainTo(int maxItems, long timeout) throws InterruptedException {
+    return delegate.drainTo(maxItems, timeout);
+  }
+
   public Serializable peek() throws InterruptedException {
     return delegate.peek();
   }
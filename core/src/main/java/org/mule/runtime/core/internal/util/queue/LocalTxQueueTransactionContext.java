@@ -6,11 +6,15 @@
  */
 package org.mule.runtime.core.internal.util.queue;
 
+import static java.util.Collections.emptyList;
+
 import org.mule.runtime.core.internal.util.journal.queue.LocalTxQueueTransactionJournal;
 import org.mule.runtime.core.api.transaction.xa.AbstractTransactionContext;
 import org.mule.runtime.core.api.transaction.xa.ResourceManagerException;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.Lock;
 
@@ -73,6 +77,21 @@ public class LocalTxQueueTransactionContext extends AbstractTransactionContext
     }
   }
 
+  @Override
+  public boolean offerAll(QueueStore queue, Collection<? extends Serializable> items, long offerTimeout)
+      throws InterruptedException {
+    final boolean lockAcquired = transactionContextAccessLock.tryLock(offerTimeout, TimeUnit.MILLISECONDS);
+    if (lockAcquired) {
+      try {
+        return delegate.offerAll(queue, items, offerTimeout);
+      } finally {
+        transactionContextAccessLock.unlock();
+      }
+    } else {
+      return false;
+    }
+  }
+
   @Override
   public void untake(QueueStore queue, Serializable item) throws InterruptedException {
     transactionContextAccessLock.lock();
@@ -106,6 +125,19 @@ public class LocalTxQueueTransactionContext extends AbstractTransactionContext
     return null;
   }
 
+  @Override
+  public List<Serializable> drainTo(QueueStore queue, int maxItems, long pollTimeout) throws InterruptedException {
+    final boolean lockAcquired = transactionContextAccessLock.tryLock(pollTimeout, TimeUnit.MILLISECONDS);
+    if (lockAcquired) {
+      try {
+        return delegate.drainTo(queue, maxItems, pollTimeout);
+      } finally {
+        transactionContextAccessLock.unlock();
+      }
+    }
+    return emptyList();
+  }
+
   @Override
   public Serializable peek(QueueStore queue) throws InterruptedException {
     transactionContextAccessLock.lock();
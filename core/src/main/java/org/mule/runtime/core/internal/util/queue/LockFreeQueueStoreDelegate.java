@@ -0,0 +1,277 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.internal.util.queue;
+
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.locks.LockSupport.park;
+import static java.util.concurrent.locks.LockSupport.parkNanos;
+import static java.util.concurrent.locks.LockSupport.unpark;
+
+import org.mule.runtime.core.api.util.queue.QueueStoreDelegate;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+/**
+ * {@link QueueStoreDelegate} for transient queues that doesn't acquire any lock.
+ * <p>
+ * Items are kept in a {@link ConcurrentLinkedDeque} so they can be restored at the front of the queue, and the capacity is
+ * enforced by reserving a slot in an atomic counter before adding an item. Threads waiting for an item or for room in the queue
+ * are parked, so the operations on a queue nobody waits on don't pay for any signalling. When an item is added only the first
+ * waiting consumer is woken up, since any of them can take it. When room is made, every waiting producer that fits is woken up,
+ * since producers may wait for different amounts of room.
+ */
+public class LockFreeQueueStoreDelegate implements QueueStoreDelegate {
+
+  private static final int SPINS_BEFORE_PARKING = 16;
+
+  private final int capacity;
+  private final ConcurrentLinkedDeque<Serializable> items = new ConcurrentLinkedDeque<>();
+  private final AtomicInteger size = new AtomicInteger();
+  private final WaitQueue consumers = new WaitQueue(false);
+  private final WaitQueue producers = new WaitQueue(true);
+
+  public LockFreeQueueStoreDelegate(int capacity) {
+    this.capacity = capacity;
+  }
+
+  @Override
+  public void putNow(Serializable o) {
+    size.incrementAndGet();
+    items.addLast(o);
+    consumers.signal();
+  }
+
+  @Override
+  public boolean offer(Serializable o, int room, long timeout) throws InterruptedException {
+    checkInterrupted();
+    if (capacity > 0) {
+      if (capacity <= room) {
+        throw new IllegalStateException("Can not add more objects than the capacity in one time");
+      }
+      if (!reserve(o != null, capacity - room, timeout)) {
+        return false;
+      }
+    } else if (o != null) {
+      size.incrementAndGet();
+    }
+
+    if (o != null) {
+      items.addLast(o);
+      consumers.signal();
+    }
+    return true;
+  }
+
+  /**
+   * Waits until the size of the queue is below the given limit, incrementing it if {@code increment} is {@code true}.
+   */
+  private boolean reserve(boolean increment, int limit, long timeout) throws InterruptedException {
+    BooleanSupplier tryReserve = () -> {
+      for (int current = size.get(); current < limit; current = size.get()) {
+        if (!increment || size.compareAndSet(current, current + 1)) {
+          return true;
+        }
+      }
+      return false;
+    };
+    // a negative timeout waits until there's room
+    return tryReserve.getAsBoolean() || (timeout != 0 && producers.await(tryReserve, () -> size.get() < limit, timeout));
+  }
+
+  @Override
+  public Serializable poll(long timeout) throws InterruptedException {
+    checkInterrupted();
+    Serializable item = removeFirst();
+    if (item == null && timeout > 0) {
+      Serializable[] holder = new Serializable[1];
+      if (consumers.await(() -> (holder[0] = removeFirst()) != null, () -> !items.isEmpty(), timeout)) {
+        item = holder[0];
+      }
+    }
+    return item;
+  }
+
+  @Override
+  public List<Serializable> drainTo(int maxItems, long timeout) throws InterruptedException {
+    List<Serializable> drained = new ArrayList<>();
+    Serializable item = poll(timeout);
+    while (item != null) {
+      drained.add(item);
+      if (drained.size() >= maxItems) {
+        break;
+      }
+      item = takeFirst();
+    }
+    if (drained.size() > 1) {
+      // producers are signalled once for the whole batch
+      producers.signal();
+    }
+    return drained;
+  }
+
+  private Serializable removeFirst() {
+    Serializable item = takeFirst();
+    if (item != null) {
+      producers.signal();
+    }
+    return item;
+  }
+
+  private Serializable takeFirst() {
+    Serializable item = items.pollFirst();
+    if (item != null) {
+      size.decrementAndGet();
+    }
+    return item;
+  }
+
+  @Override
+  public Serializable peek() throws InterruptedException {
+    checkInterrupted();
+    return items.peekFirst();
+  }
+
+  @Override
+  public void untake(Serializable item) throws InterruptedException {
+    checkInterrupted();
+    size.incrementAndGet();
+    items.addFirst(item);
+    consumers.signal();
+  }
+
+  @Override
+  public int getSize() {
+    return size.get();
+  }
+
+  @Override
+  public void clear() throws InterruptedException {
+    checkInterrupted();
+    while (removeFirst() != null) {
+      // keep removing
+    }
+  }
+
+  @Override
+  public boolean addAll(Collection<? extends Serializable> newItems) {
+    size.addAndGet(newItems.size());
+    boolean result = items.addAll(newItems);
+    consumers.signal();
+    return result;
+  }
+
+  @Override
+  public void dispose() {
+    items.clear();
+    size.set(0);
+    producers.signal();
+  }
+
+  private static void checkInterrupted() throws InterruptedException {
+    if (Thread.interrupted()) {
+      throw new InterruptedException();
+    }
+  }
+
+  /**
+   * The threads waiting for the same kind of change in the queue.
+   */
+  private static final class WaitQueue {
+
+    private final ConcurrentLinkedQueue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+    private final boolean signalAllReady;
+
+    /**
+     * @param signalAllReady whether a signal wakes up every waiter that may proceed instead of only the first one
+     */
+    private WaitQueue(boolean signalAllReady) {
+      this.signalAllReady = signalAllReady;
+    }
+
+    /**
+     * Parks the current thread until {@code condition} holds or the timeout elapses. The condition is checked after registering
+     * as a waiter, so a signal sent between a failed check and the parking is not lost.
+     * <p>
+     * When leaving, a waiter signals the others if {@code available} tells there is still something to wait for, so a signal
+     * consumed by a waiter that timed out or was interrupted is passed on.
+     *
+     * @param condition tries to perform the operation, returning whether it succeeded
+     * @param available tells, without side effects, whether this waiter may now proceed
+     * @param timeout the maximum time to wait in milliseconds, or a negative value to wait indefinitely
+     */
+    private boolean await(BooleanSupplier condition, BooleanSupplier available, long timeout) throws InterruptedException {
+      // items are usually handed over quickly, so give it a few chances before paying for parking
+      for (int i = 0; i < SPINS_BEFORE_PARKING; ++i) {
+        if (condition.getAsBoolean()) {
+          return true;
+        }
+        Thread.yield();
+      }
+
+      final Waiter waiter = new Waiter(Thread.currentThread(), available);
+      final long deadline = nanoTime() + MILLISECONDS.toNanos(timeout);
+      waiters.add(waiter);
+      try {
+        while (!condition.getAsBoolean()) {
+          if (timeout < 0) {
+            park(this);
+          } else {
+            long remaining = deadline - nanoTime();
+            if (remaining <= 0) {
+              return false;
+            }
+            parkNanos(this, remaining);
+          }
+          checkInterrupted();
+        }
+        return true;
+      } finally {
+        waiters.remove(waiter);
+        if (available.getAsBoolean()) {
+          signal();
+        }
+      }
+    }
+
+    /**
+     * Wakes up the first waiter or, if {@link #signalAllReady}, every waiter that may proceed.
+     */
+    private void signal() {
+      if (signalAllReady) {
+        for (Waiter waiter : waiters) {
+          if (waiter.available.getAsBoolean()) {
+            unpark(waiter.thread);
+          }
+        }
+      } else {
+        Waiter waiter = waiters.peek();
+        if (waiter != null) {
+          unpark(waiter.thread);
+        }
+      }
+    }
+  }
+
+  private static final class Waiter {
+
+    private final Thread thread;
+    private final BooleanSupplier available;
+
+    private Waiter(Thread thread, BooleanSupplier available) {
+      this.thread = thread;
+      this.available = available;
+    }
+  }
+}
@@ -6,18 +6,26 @@
  */
 package org.mule.runtime.core.internal.util.queue;
 
+import static java.lang.Math.min;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.sleep;
+
 import org.mule.runtime.core.internal.util.journal.queue.LocalQueueTxJournalEntry;
 import org.mule.runtime.core.internal.util.journal.queue.LocalTxQueueTransactionJournal;
 import org.mule.runtime.core.api.transaction.xa.ResourceManagerException;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
 /**
  * {@link LocalQueueTransactionContext} implementation for a persistent queue.
  */
 public class PersistentQueueTransactionContext implements LocalQueueTransactionContext {
 
+  private static final long EMPTY_QUEUE_CHECK_INTERVAL = 10;
+
   private static int lastId = 0;
   private final LocalTxQueueTransactionJournal transactionJournal;
   private final QueueProvider queueProvider;
@@ -43,6 +51,12 @@ public class PersistentQueueTransactionContext implements LocalQueueTransactionC
     return true;
   }
 
+  public boolean offerAll(QueueStore queue, Collection<? extends Serializable> items, long offerTimeout)
+      throws InterruptedException {
+    this.transactionJournal.logAddAll(txId, queue, items);
+    return true;
+  }
+
   public void untake(QueueStore queue, Serializable item) throws InterruptedException {
     this.transactionJournal.logAddFirst(txId, queue, item);
   }
@@ -64,6 +78,36 @@ public class PersistentQueueTransactionContext implements LocalQueueTransactionC
     }
   }
 
+  public List<Serializable> drainTo(QueueStore queue, int maxItems, long pollTimeout) throws InterruptedException {
+    // nobody notifies the queue store monitor when an item is added, so the first item is waited for by checking periodically
+    long start = currentTimeMillis();
+    List<Serializable> values = drainAvailable(queue, maxItems);
+    for (long remaining = pollTimeout; values.isEmpty() && remaining > 0; remaining =
+        pollTimeout - (currentTimeMillis() - start)) {
+      sleep(min(EMPTY_QUEUE_CHECK_INTERVAL, remaining));
+      values = drainAvailable(queue, maxItems);
+    }
+    return values;
+  }
+
+  private List<Serializable> drainAvailable(QueueStore queue, int maxItems) throws InterruptedException {
+    List<Serializable> values = new ArrayList<>();
+    synchronized (queue) {
+      // each removal must be logged before the item leaves the queue store, so it can be recovered
+      Serializable value;
+      while (values.size() < maxItems && (value = queue.peek()) != null) {
+        this.transactionJournal.logRemove(txId, queue, value);
+        value = queue.poll(0);
+        if (value == null) {
+          // taken by a consumer outside of the transaction
+          break;
+        }
+        values.add(value);
+      }
+    }
+    return values;
+  }
+
   public Serializable peek(QueueStore queue) throws InterruptedException {
     return queue.peek();
   }
@@ -6,12 +6,18 @@
  */
 package org.mule.runtime.core.internal.util.queue;
 
+import static java.lang.Math.min;
+import static java.lang.System.currentTimeMillis;
+import static java.lang.Thread.sleep;
+
 import org.mule.runtime.core.internal.util.journal.queue.XaQueueTxJournalEntry;
 import org.mule.runtime.core.internal.util.journal.queue.XaTxQueueTransactionJournal;
 import org.mule.runtime.core.api.transaction.xa.ResourceManagerException;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import javax.transaction.xa.Xid;
@@ -25,6 +31,8 @@ import org.apache.commons.collections.CollectionUtils;
  */
 public class PersistentXaTransactionContext implements XaQueueTransactionContext {
 
+  private static final long EMPTY_QUEUE_CHECK_INTERVAL = 10;
+
   private final XaTxQueueTransactionJournal transactionJournal;
   private final QueueProvider queueProvider;
   private Xid xid;
@@ -41,6 +49,12 @@ public class PersistentXaTransactionContext implements XaQueueTransactionContext
     return true;
   }
 
+  public boolean offerAll(QueueStore queue, Collection<? extends Serializable> items, long offerTimeout)
+      throws InterruptedException {
+    this.transactionJournal.logAddAll(xid, queue, items);
+    return true;
+  }
+
   public void untake(QueueStore queue, Serializable item) throws InterruptedException {
     this.transactionJournal.logAddFirst(xid, queue, item);
   }
@@ -62,6 +76,36 @@ public class PersistentXaTransactionContext implements XaQueueTransactionContext
     }
   }
 
+  public List<Serializable> drainTo(QueueStore queue, int maxItems, long pollTimeout) throws InterruptedException {
+    // nobody notifies the queue store monitor when an item is added, so the first item is waited for by checking periodically
+    long start = currentTimeMillis();
+    List<Serializable> values = drainAvailable(queue, maxItems);
+    for (long remaining = pollTimeout; values.isEmpty() && remaining > 0; remaining =
+        pollTimeout - (currentTimeMillis() - start)) {
+      sleep(min(EMPTY_QUEUE_CHECK_INTERVAL, remaining));
+      values = drainAvailable(queue, maxItems);
+    }
+    return values;
+  }
+
+  private List<Serializable> drainAvailable(QueueStore queue, int maxItems) throws InterruptedException {
+    List<Serializable> values = new ArrayList<>();
+    synchronized (queue) {
+      // each removal must be logged before the item leaves the queue store, so it can be recovered
+      Serializable value;
+      while (values.size() < maxItems && (value = queue.peek()) != null) {
+        this.transactionJournal.logRemove(xid, queue, value);
+        value = queue.poll(0);
+        if (value == null) {
+          // taken by a consumer outside of the transaction
+          break;
+        }
+        values.add(value);
+      }
+    }
+    return values;
+  }
+
   public Serializable peek(QueueStore queue) throws InterruptedException {
     return queue.peek();
   }
@@ -7,6 +7,8 @@
 package org.mule.runtime.core.internal.util.queue;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Internal queue interface that hold queue configuration that will execute operations directly to the queue storage. Stores
@@ -18,10 +20,14 @@ public interface QueueStore {
 
   void putNow(Serializable o) throws InterruptedException;
 
+  void putAllNow(Collection<? extends Serializable> items) throws InterruptedException;
+
   boolean offer(Serializable o, int room, long timeout) throws InterruptedException;
 
   Serializable poll(long timeout) throws InterruptedException;
 
+  List<Serializable> drainTo(int maxItems, long timeout) throws InterruptedException;
+
   Serializable peek() throws InterruptedException;
 
   void untake(Serializable item) throws InterruptedException;
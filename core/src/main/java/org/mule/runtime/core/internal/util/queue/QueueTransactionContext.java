@@ -7,6 +7,8 @@
 package org.mule.runtime.core.internal.util.queue;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Contract for a transactional context for queue operations.
@@ -15,12 +17,22 @@ public interface QueueTransactionContext {
 
   boolean offer(QueueStore queue, Serializable item, long offerTimeout) throws InterruptedException;
 
+  /**
+   * Offers all the items to the queue as a single operation, so the items are either all accepted or none is.
+   */
+  boolean offerAll(QueueStore queue, Collection<? extends Serializable> items, long offerTimeout) throws InterruptedException;
+
   void untake(QueueStore queue, Serializable item) throws InterruptedException;
 
   void clear(QueueStore queue) throws InterruptedException;
 
   Serializable poll(QueueStore queue, long pollTimeout) throws InterruptedException;
 
+  /**
+   * Polls up to {@code maxItems} items from the queue as a single operation.
+   */
+  List<Serializable> drainTo(QueueStore queue, int maxItems, long pollTimeout) throws InterruptedException;
+
   Serializable peek(QueueStore queue) throws InterruptedException;
 
   int size(QueueStore queue);
@@ -7,6 +7,8 @@
 package org.mule.runtime.core.internal.util.queue;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Once a queue operations it's executed this operation creates the correct {@link QueueTransactionContext} based on the queue
@@ -28,6 +30,12 @@ public class QueueTypeTransactionContextAdapter<T extends QueueTransactionContex
     return transactionContext.offer(queue, item, offerTimeout);
   }
 
+  public boolean offerAll(QueueStore queue, Collection<? extends Serializable> items, long offerTimeout)
+      throws InterruptedException {
+    defineDelegate(queue);
+    return transactionContext.offerAll(queue, items, offerTimeout);
+  }
+
   public void untake(QueueStore queue, Serializable item) throws InterruptedException {
     defineDelegate(queue);
     transactionContext.untake(queue, item);
@@ -43,6 +51,11 @@ public class QueueTypeTransactionContextAdapter<T extends QueueTransactionContex
     return transactionContext.poll(queue, pollTimeout);
   }
 
+  public List<Serializable> drainTo(QueueStore queue, int maxItems, long pollTimeout) throws InterruptedException {
+    defineDelegate(queue);
+    return transactionContext.drainTo(queue, maxItems, pollTimeout);
+  }
+
   public Serializable peek(QueueStore queue) throws InterruptedException {
     defineDelegate(queue);
     return transactionContext.peek(queue);
@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.core.internal.util.queue;
 
+import static java.util.Collections.emptyList;
+
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.store.ObjectStoreException;
@@ -13,6 +15,9 @@ import org.mule.runtime.core.api.util.queue.Queue;
 import org.mule.runtime.core.api.store.DeserializationPostInitialisable;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +47,22 @@ public class TransactionAwareQueueStore implements Queue {
     offer(item, Long.MAX_VALUE);
   }
 
+  @Override
+  public void putAll(Collection<? extends Serializable> items) throws InterruptedException, ObjectStoreException {
+    if (transactionContextProvider.isTransactional()) {
+      if (!transactionContextProvider.getTransactionalContext().offerAll(queue, items, Long.MAX_VALUE)) {
+        throw new IllegalStateException("Can not add more objects than the capacity in one transaction");
+      }
+    } else if (queue.getCapacity() > 0) {
+      // each item has to wait for room in the queue
+      for (Serializable item : items) {
+        queue.offer(item, 0, Long.MAX_VALUE);
+      }
+    } else {
+      queue.putAllNow(items);
+    }
+  }
+
   @Override
   public void clear() throws InterruptedException {
     if (transactionContextProvider.isTransactional()) {
@@ -92,6 +113,33 @@ public class TransactionAwareQueueStore implements Queue {
     }
   }
 
+  @Override
+  public List<Serializable> drainTo(int maxItems, long timeout) throws InterruptedException {
+    try {
+      List<Serializable> items;
+      if (transactionContextProvider.isTransactional()) {
+        items = transactionContextProvider.getTransactionalContext().drainTo(queue, maxItems, timeout);
+      } else {
+        items = queue.drainTo(maxItems, timeout);
+      }
+
+      List<Serializable> processedItems = new ArrayList<>(items.size());
+      for (Serializable item : items) {
+        Serializable processedItem = postProcessIfNeeded(item);
+        if (processedItem != null) {
+          processedItems.add(processedItem);
+        }
+      }
+      return processedItems;
+    } catch (InterruptedException iex) {
+      if (!muleContext.isStopping()) {
+        throw iex;
+      }
+      // if stopping, ignore
+      return emptyList();
+    }
+  }
+
   @Override
   public Serializable peek() throws InterruptedException {
     if (transactionContextProvider.isTransactional()) {
@@ -11,6 +11,7 @@ import org.mule.runtime.core.api.transaction.xa.ResourceManagerException;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -40,6 +41,25 @@ public class TransientQueueTransactionContext implements LocalQueueTransactionCo
     }
   }
 
+  public boolean offerAll(QueueStore queue, Collection<? extends Serializable> items, long offerTimeout)
+      throws InterruptedException {
+    initializeAdded();
+
+    List<Serializable> queueAdded = lookupAddedQueue(queue);
+    int capacity = queue.getCapacity();
+    if (capacity > 0 && queueAdded.size() + items.size() > capacity) {
+      // the items would never fit in the queue at once
+      return false;
+    }
+    // wait for enough room for all of them
+    if (items.isEmpty() || queue.offer(null, queueAdded.size() + items.size() - 1, offerTimeout)) {
+      queueAdded.addAll(items);
+      return true;
+    } else {
+      return false;
+    }
+  }
+
   public void untake(QueueStore queue, Serializable item) throws InterruptedException {
     initializeAdded();
 
@@ -81,6 +101,15 @@ public class TransientQueueTransactionContext implements LocalQueueTransactionCo
     return value;
   }
 
+  public List<Serializable> drainTo(QueueStore queue, int maxItems, long pollTimeout) throws InterruptedException {
+    List<Serializable> values = queue.drainTo(maxItems, pollTimeout);
+    if (!values.isEmpty()) {
+      initializeRemoved();
+      lookupRemovedQueue(queue).addAll(values);
+    }
+    return values;
+  }
+
   public Serializable peek(QueueStore queue) throws InterruptedException {
     return queue.peek();
   }
@@ -104,9 +133,7 @@ public class TransientQueueTransactionContext implements LocalQueueTransactionCo
           QueueStore queue = entry.getKey();
           List<Serializable> queueAdded = entry.getValue();
           if (queueAdded != null && queueAdded.size() > 0) {
-            for (Serializable object : queueAdded) {
-              queue.putNow(object);
-            }
+            queue.putAllNow(queueAdded);
           }
         }
       }
@@ -126,12 +153,10 @@ public class TransientQueueTransactionContext implements LocalQueueTransactionCo
         QueueStore queue = entry.getKey();
         List<Serializable> queueRemoved = entry.getValue();
         if (queueRemoved != null && queueRemoved.size() > 0) {
-          for (Serializable id : queueRemoved) {
-            try {
-              queue.putNow(id);
-            } catch (InterruptedException e) {
-              throw new MuleRuntimeException(e);
-            }
+          try {
+            queue.putAllNow(queueRemoved);
+          } catch (InterruptedException e) {
+            throw new MuleRuntimeException(e);
           }
         }
       }
@@ -9,6 +9,8 @@ package org.mule.runtime.core.internal.util.queue;
 import org.mule.runtime.core.api.transaction.xa.ResourceManagerException;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Adapter for {@link TransientQueueTransactionContext} to an {@link XaQueueTransactionContext}
@@ -26,6 +28,12 @@ public class TransientXaTransactionAdapter implements XaQueueTransactionContext
     return adaptedTransactionContext.offer(queue, item, offerTimeout);
   }
 
+  @Override
+  public boolean offerAll(QueueStore queue, Collection<? extends Serializable> items, long offerTimeout)
+      throws InterruptedException {
+    return adaptedTransactionContext.offerAll(queue, items, offerTimeout);
+  }
+
   @Override
   public void untake(QueueStore queue, Serializable item) throws InterruptedException {
     adaptedTransactionContext.untake(queue, item);
@@ -41,6 +49,11 @@ public class TransientXaTransactionAdapter implements XaQueueTransactionContext
     return adaptedTransactionContext.poll(queue, pollTimeout);
   }
 
+  @Override
+  public List<Serializable> drainTo(QueueStore queue, int maxItems, long pollTimeout) throws InterruptedException {
+    return adaptedTransactionContext.drainTo(queue, maxItems, pollTimeout);
+  }
+
   @Override
   public Serializable peek(QueueStore queue) throws InterruptedException {
     return adaptedTransactionContext.peek(queue);
@@ -11,6 +11,8 @@ import org.mule.runtime.core.api.transaction.xa.AbstractXaTransactionContext;
 import org.mule.runtime.core.api.transaction.xa.ResourceManagerException;
 
 import java.io.Serializable;
+import java.util.Collection;
+import java.util.List;
 
 import javax.transaction.xa.Xid;
 
@@ -69,6 +71,12 @@ public class XaQueueTypeTransactionContextAdapter extends AbstractXaTransactionC
     return delegate.offer(queue, item, offerTimeout);
   }
 
+  @Override
+  public boolean offerAll(QueueStore queue, Collection<? extends Serializable> items, long offerTimeout)
+      throws InterruptedException {
+    return delegate.offerAll(queue, items, offerTimeout);
+  }
+
   @Override
   public void untake(QueueStore queue, Serializable item) throws InterruptedException {
     delegate.untake(queue, item);
@@ -84,6 +92,11 @@ public class XaQueueTypeTransactionContextAdapter extends AbstractXaTransactionC
     return delegate.poll(queue, pollTimeout);
   }
 
+  @Override
+  public List<Serializable> drainTo(QueueStore queue, int maxItems, long pollTimeout) throws InterruptedException {
+    return delegate.drainTo(queue, maxItems, pollTimeout);
+  }
+
   @Override
   public Serializable peek(QueueStore queue) throws InterruptedException {
     return delegate.peek(queue);
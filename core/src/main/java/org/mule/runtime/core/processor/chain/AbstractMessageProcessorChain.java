@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.core.processor.chain;
 
+import static java.lang.System.nanoTime;
 import static org.apache.commons.lang3.StringUtils.replace;
 import static org.mule.runtime.core.api.Event.setCurrentEvent;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
@@ -23,6 +24,7 @@ import static reactor.core.publisher.Flux.from;
 import static reactor.core.publisher.Flux.just;
 import static reactor.core.publisher.Mono.empty;
 
+import org.mule.runtime.api.component.location.ComponentLocation;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Startable;
@@ -37,6 +39,8 @@ import org.mule.runtime.core.api.construct.FlowConstruct;
 import org.mule.runtime.core.api.construct.Pipeline;
 import org.mule.runtime.core.api.exception.MessagingExceptionHandler;
 import org.mule.runtime.core.api.exception.MessagingExceptionHandlerAware;
+import org.mule.runtime.core.api.management.stats.FlowConstructStatistics;
+import org.mule.runtime.core.api.management.stats.ProcessorStatistics;
 import org.mule.runtime.core.api.processor.MessageProcessorChain;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
@@ -104,7 +108,7 @@ public abstract class AbstractMessageProcessorChain extends AbstractAnnotatedObj
   protected Event doProcess(Event event) throws MuleException {
     for (Processor processor : getProcessorsToExecute()) {
       setCurrentEvent(event);
-      event = messageProcessorExecutionTemplate.execute(processor, event);
+      event = execute(processor, event);
       if (event == null) {
         return null;
       }
@@ -112,6 +116,25 @@ public abstract class AbstractMessageProcessorChain extends AbstractAnnotatedObj
     return event;
   }
 
+  private Event execute(Processor processor, Event event) throws MuleException {
+    ProcessorStatistics processorStatistics = getProcessorStatistics(processor);
+    if (processorStatistics == null) {
+      return messageProcessorExecutionTemplate.execute(processor, event);
+    }
+
+    // The processor runs in the calling thread, so the event doesn't wait to be processed.
+    long startedNanos = nanoTime();
+    try {
+      Event result = messageProcessorExecutionTemplate.execute(processor, event);
+      processorStatistics.addExecution(0, nanoTime() - startedNanos);
+      return result;
+    } catch (MessagingException | RuntimeException e) {
+      processorStatistics.addExecution(0, nanoTime() - startedNanos);
+      processorStatistics.incErrors();
+      throw e;
+    }
+  }
+
   @Override
   public Publisher<Event> apply(Publisher<Event> publisher) {
     List<BiFunction<Processor, ReactiveProcessor, ReactiveProcessor>> interceptors = resolveInterceptors();
@@ -150,23 +173,25 @@ public abstract class AbstractMessageProcessorChain extends AbstractAnnotatedObj
 
     // #3 Apply processing strategy. This is done here to ensure notifications and interceptors do not execute on async processor
     // threads which may be limited to avoid deadlocks.
-    // Use anonymous ReactiveProcessor to apply processing strategy to processor + previous interceptors
-    // while using the processing type of the processor itself.
-    if (flowConstruct instanceof Pipeline) {
-      interceptors
-          .add((processor, next) -> ((Pipeline) flowConstruct).getProcessingStrategy().onProcessor(new ReactiveProcessor() {
-
-            @Override
-            public Publisher<Event> apply(Publisher<Event> eventPublisher) {
-              return next.apply(eventPublisher);
-            }
-
-            @Override
-            public ProcessingType getProcessingType() {
-              return processor.getProcessingType();
-            }
-          }));
-    }
+    // When processor statistics are enabled for the flow, also time the processor, including the time the event waits for the
+    // processing strategy to execute it. This is resolved on each assembly so statistics can be toggled at runtime.
+    interceptors.add((processor, next) -> stream -> {
+      ProcessorStatistics processorStatistics = getProcessorStatistics(processor);
+      if (processorStatistics == null) {
+        return applyProcessingStrategy(processor, next).apply(stream);
+      }
+
+      // The chain is assembled for each event (see #8), so the timer only measures a single event at a time.
+      ProcessorTimer timer = new ProcessorTimer(processorStatistics);
+      return from(stream)
+          .doOnNext(event -> timer.published())
+          .transform(applyProcessingStrategy(processor, eventPublisher -> from(eventPublisher)
+              .doOnNext(event -> timer.started())
+              .transform(next)
+              .doOnNext(result -> timer.completed())
+              .doOnComplete(timer::completed)
+              .doOnError(e -> timer.failed())));
+    });
 
     // #4 Update ThreadLocal event after processor execution once back on flow thread.
     interceptors.add((processor, next) -> stream -> from(stream)
@@ -218,6 +243,39 @@ public abstract class AbstractMessageProcessorChain extends AbstractAnnotatedObj
     return interceptors;
   }
 
+  private ReactiveProcessor applyProcessingStrategy(Processor processor, ReactiveProcessor next) {
+    if (flowConstruct instanceof Pipeline) {
+      // Use anonymous ReactiveProcessor to apply processing strategy to processor + previous interceptors
+      // while using the processing type of the processor itself.
+      return ((Pipeline) flowConstruct).getProcessingStrategy().onProcessor(new ReactiveProcessor() {
+
+        @Override
+        public Publisher<Event> apply(Publisher<Event> eventPublisher) {
+          return next.apply(eventPublisher);
+        }
+
+        @Override
+        public ProcessingType getProcessingType() {
+          return processor.getProcessingType();
+        }
+      });
+    } else {
+      return next;
+    }
+  }
+
+  private ProcessorStatistics getProcessorStatistics(Processor processor) {
+    if (flowConstruct == null || !(processor instanceof AnnotatedObject)) {
+      return null;
+    }
+    FlowConstructStatistics statistics = flowConstruct.getStatistics();
+    ComponentLocation location = ((AnnotatedObject) processor).getLocation();
+    if (statistics == null || location == null || !statistics.isProcessorStatisticsEnabled()) {
+      return null;
+    }
+    return statistics.getProcessorStatistics(location);
+  }
+
   private Function<MessagingException, MessagingException> updateMessagingException(Processor processor) {
     return exception -> ExceptionUtils.updateMessagingException(LOGGER, processor, exception, muleContext.getErrorTypeLocator(),
                                                                 muleContext.getErrorTypeRepository(), flowConstruct, muleContext);
@@ -286,6 +344,42 @@ public abstract class AbstractMessageProcessorChain extends AbstractAnnotatedObj
     }
   }
 
+  /**
+   * Measures the execution of a processor for a single event, recording it into the {@link ProcessorStatistics} of the
+   * processor.
+   */
+  private static final class ProcessorTimer {
+
+    private final ProcessorStatistics statistics;
+    private long publishedNanos;
+    private long startedNanos = -1;
+
+    private ProcessorTimer(ProcessorStatistics statistics) {
+      this.statistics = statistics;
+    }
+
+    private void published() {
+      publishedNanos = nanoTime();
+    }
+
+    private void started() {
+      startedNanos = nanoTime();
+    }
+
+    private void completed() {
+      // a processor may complete with or without a result, but the execution is recorded once
+      if (startedNanos >= 0) {
+        statistics.addExecution(startedNanos - publishedNanos, nanoTime() - startedNanos);
+        startedNanos = -1;
+      }
+    }
+
+    private void failed() {
+      completed();
+      statistics.incErrors();
+    }
+  }
+
   protected List<Processor> getProcessorsToExecute() {
     return processors;
   }
@@ -6,6 +6,10 @@
  */
 package org.mule.runtime.core.registry;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
 import static org.mule.runtime.core.api.registry.TransformerResolver.RegistryAction.ADDED;
 
 import org.mule.runtime.api.exception.MuleException;
@@ -28,6 +32,7 @@ import org.mule.runtime.core.api.transformer.Converter;
 import org.mule.runtime.core.api.transformer.Transformer;
 import org.mule.runtime.core.api.transformer.TransformerException;
 import org.mule.runtime.core.api.config.i18n.CoreMessages;
+import org.mule.runtime.core.internal.registry.DataTypePairCache;
 import org.mule.runtime.core.internal.registry.TypeBasedTransformerResolver;
 import org.mule.runtime.core.api.util.StringUtils;
 import org.mule.runtime.core.api.util.UUID;
@@ -41,7 +46,7 @@ import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.Optional;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
@@ -63,21 +68,21 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
   private DefaultRegistryBroker registry;
 
   /**
-   * We cache transformer searches so that we only search once
+   * We cache transformer searches so that we only search once. Pairs for which no transformer could be resolved are cached as
+   * {@link Optional#empty()}, so impossible conversions don't search again either.
    */
-  protected ConcurrentHashMap/* <String, Transformer> */ exactTransformerCache =
-      new ConcurrentHashMap/* <String, Transformer> */(8);
-  protected ConcurrentHashMap/* Map<String, List<Transformer>> */ transformerListCache =
-      new ConcurrentHashMap/* <String, List<Transformer>> */(8);
+  protected DataTypePairCache<Optional<Transformer>> exactTransformerCache = new DataTypePairCache<>();
+  protected DataTypePairCache<List<Transformer>> transformerListCache = new DataTypePairCache<>();
 
   private MuleContext muleContext;
 
-  private final ReadWriteLock transformerResolversLock = new ReentrantReadWriteLock();
+  private final Object transformerResolversLock = new Object();
 
   /**
-   * Transformer transformerResolvers are registered on context start, then they are not unregistered.
+   * Transformer transformerResolvers are registered on context start, then they are not unregistered. The list is replaced on
+   * each registration so it can be iterated without locking.
    */
-  private List<TransformerResolver> transformerResolvers = new ArrayList<>();
+  private volatile List<TransformerResolver> transformerResolvers = emptyList();
 
   private final ReadWriteLock transformersLock = new ReentrantReadWriteLock();
 
@@ -142,43 +147,30 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
    */
   @Override
   public Transformer lookupTransformer(DataType source, DataType result) throws TransformerException {
-    final String dataTypePairHash = getDataTypeSourceResultPairHash(source, result);
-    Transformer cachedTransformer = (Transformer) exactTransformerCache.get(dataTypePairHash);
-    if (cachedTransformer != null) {
-      return cachedTransformer;
+    Optional<Transformer> cachedTransformer = exactTransformerCache.get(source, result);
+    if (cachedTransformer == null) {
+      long generation = exactTransformerCache.getGeneration();
+      Transformer trans = resolveTransformer(source, result);
+      cachedTransformer = exactTransformerCache.put(source, result, trans != null ? of(trans) : empty(), generation);
     }
 
-    Transformer trans = resolveTransformer(source, result);
-
-    if (trans != null) {
-      Transformer concurrentlyAddedTransformer = (Transformer) exactTransformerCache.putIfAbsent(dataTypePairHash, trans);
-      if (concurrentlyAddedTransformer != null) {
-        return concurrentlyAddedTransformer;
-      } else {
-        return trans;
-      }
+    if (cachedTransformer.isPresent()) {
+      return cachedTransformer.get();
     } else {
       throw new TransformerException(CoreMessages.noTransformerFoundForMessage(source, result));
     }
   }
 
   protected Transformer resolveTransformer(DataType source, DataType result) throws TransformerException {
-    Lock readLock = transformerResolversLock.readLock();
-    readLock.lock();
-
-    try {
-      for (TransformerResolver resolver : transformerResolvers) {
-        try {
-          Transformer trans = resolver.resolve(source, result);
-          if (trans != null) {
-            return trans;
-          }
-        } catch (ResolverException e) {
-          throw new TransformerException(CoreMessages.noTransformerFoundForMessage(source, result), e);
+    for (TransformerResolver resolver : transformerResolvers) {
+      try {
+        Transformer trans = resolver.resolve(source, result);
+        if (trans != null) {
+          return trans;
         }
+      } catch (ResolverException e) {
+        throw new TransformerException(CoreMessages.noTransformerFoundForMessage(source, result), e);
       }
-    } finally {
-      readLock.unlock();
     }
 
     return null;
@@ -189,13 +181,12 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
    */
   @Override
   public List<Transformer> lookupTransformers(DataType source, DataType result) {
-    final String dataTypePairHash = getDataTypeSourceResultPairHash(source, result);
-
-    List<Transformer> results = (List<Transformer>) transformerListCache.get(dataTypePairHash);
+    List<Transformer> results = transformerListCache.get(source, result);
     if (results != null) {
       return results;
     }
 
+    long generation = transformerListCache.getGeneration();
     results = new ArrayList<>(2);
 
     Lock readLock = transformersLock.readLock();
@@ -215,13 +206,7 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
       readLock.unlock();
     }
 
-    List<Transformer> concurrentlyAddedTransformers =
-        (List<Transformer>) transformerListCache.putIfAbsent(dataTypePairHash, results);
-    if (concurrentlyAddedTransformers != null) {
-      return concurrentlyAddedTransformers;
-    } else {
-      return results;
-    }
+    return transformerListCache.put(source, result, results, generation);
   }
 
   /**
@@ -250,20 +235,10 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
 
   public void notifyTransformerResolvers(Transformer t, TransformerResolver.RegistryAction action) {
     if (t instanceof Converter) {
-      Lock transformerResolversReadLock = transformerResolversLock.readLock();
-      transformerResolversReadLock.lock();
-      try {
-
-        for (TransformerResolver resolver : transformerResolvers) {
-          resolver.transformerChange(t, action);
-        }
-      } finally {
-        transformerResolversReadLock.unlock();
+      for (TransformerResolver resolver : transformerResolvers) {
+        resolver.transformerChange(t, action);
       }
 
-      transformerListCache.clear();
-      exactTransformerCache.clear();
-
       Lock transformersWriteLock = transformersLock.writeLock();
       transformersWriteLock.lock();
       try {
@@ -275,7 +250,12 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
       } finally {
         transformersWriteLock.unlock();
       }
+
+      // cleared once the transformers are updated so a concurrent lookup cannot cache a result computed with the old ones
+      transformerListCache.clear();
     }
+    // any transformer may be resolved for a pair that was cached as not resolvable, or be the one that was cached for a pair
+    exactTransformerCache.clear();
   }
 
   /**
@@ -433,8 +413,8 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
         registerTransformerResolver((TransformerResolver) value);
       }
 
-      if (value instanceof Converter) {
-        notifyTransformerResolvers((Converter) value, ADDED);
+      if (value instanceof Transformer) {
+        notifyTransformerResolvers((Transformer) value, ADDED);
       }
     }
   }
@@ -451,14 +431,14 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
   }
 
   public void registerTransformerResolver(TransformerResolver value) {
-    Lock lock = transformerResolversLock.writeLock();
-    lock.lock();
-    try {
-      transformerResolvers.add(value);
-      Collections.sort(transformerResolvers, new TransformerResolverComparator());
-    } finally {
-      lock.unlock();
+    synchronized (transformerResolversLock) {
+      List<TransformerResolver> resolvers = new ArrayList<>(transformerResolvers);
+      resolvers.add(value);
+      Collections.sort(resolvers, new TransformerResolverComparator());
+      transformerResolvers = unmodifiableList(resolvers);
     }
+    // the new resolver may find transformers for pairs that were not resolved before
+    exactTransformerCache.clear();
   }
 
   /**
@@ -542,10 +522,6 @@ public class MuleRegistryHelper implements MuleRegistry, RegistryProvider {
     return false;
   }
 
-  private String getDataTypeSourceResultPairHash(DataType source, DataType result) {
-    return source.getClass().getName() + source.hashCode() + ":" + result.getClass().getName() + result.hashCode();
-  }
-
   private class TransformerResolverComparator implements Comparator<TransformerResolver> {
 
     @Override
@@ -6,11 +6,16 @@
  */
 package org.mule.runtime.core.routing;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
 import static java.lang.String.format;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.mule.runtime.api.exception.ExceptionHelper.getRootMuleException;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.api.Event.getVariableValueOrNull;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.util.StringUtils.DASH;
 import static org.mule.runtime.core.api.context.notification.MuleContextNotification.CONTEXT_STARTED;
 import static org.mule.runtime.core.routing.UntilSuccessful.DEFAULT_PROCESS_ATTEMPT_COUNT_PROPERTY_VALUE;
@@ -38,8 +43,17 @@ import org.mule.runtime.core.internal.message.DefaultExceptionPayload;
 import org.mule.runtime.core.internal.message.InternalMessage;
 import org.mule.runtime.core.api.message.ErrorBuilder;
 import org.mule.runtime.core.api.retry.policy.RetryPolicyExhaustedException;
+import org.mule.runtime.core.internal.util.TimingWheel;
 
 import java.io.Serializable;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -52,16 +66,42 @@ import org.slf4j.LoggerFactory;
  * After that it will asynchronously try to process the message through the internal route. If route was not successfully executed
  * after the configured retry count then the message will be routed to the defined dead letter queue route or in case there is no
  * dead letter queue route then it will be handled by the flow exception strategy.
+ * <p>
+ * Pending retries are kept in a {@link TimingWheel} driven by a single periodic task, and at most
+ * {@link #MAX_CONCURRENT_REDELIVERIES_PROPERTY} of them are processed concurrently. The updated attempt count of a failed event
+ * is kept in memory and written to the object store along with the other updates of the same tick, so a crash may cause some
+ * extra attempts. The object store has no atomic replace, so an event is rewritten by removing and storing it again: a crash
+ * between those two operations loses that event.
  */
 public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntilSuccessfulProcessingStrategy
     implements Initialisable, Disposable, Startable, Stoppable, MessagingExceptionHandlerAware {
 
+  /**
+   * The maximum amount of events that are processed concurrently by each until-successful router. Defaults to twice the amount
+   * of available processors.
+   */
+  static final String MAX_CONCURRENT_REDELIVERIES_PROPERTY = SYSTEM_PROPERTY_PREFIX + "untilSuccessful.maxConcurrentRedeliveries";
+
   private static final String UNTIL_SUCCESSFUL_MSG_PREFIX = "until-successful retries exhausted. Last exception message was: %s";
+  private static final int TIMING_WHEEL_SIZE = 512;
+  private static final long MIN_TICK_MILLIS = 10;
+  private static final long MAX_TICK_MILLIS = 1000;
+
   protected transient Logger logger = LoggerFactory.getLogger(getClass());
   private MessagingExceptionHandler messagingExceptionHandler;
-  private Scheduler pool;
+  private volatile Scheduler pool;
   private MuleContextNotificationListener<MuleContextNotification> contextStartListener;
 
+  private final int maxConcurrentRedeliveries =
+      max(1, getInteger(MAX_CONCURRENT_REDELIVERIES_PROPERTY, getRuntime().availableProcessors() * 2));
+  private final Queue<Serializable> readyEvents = new ConcurrentLinkedQueue<>();
+  private final Map<Serializable, Event> pendingUpdates = new ConcurrentHashMap<>();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder processAttempts = new LongAdder();
+  private final LongAdder exhaustedRetries = new LongAdder();
+  private TimingWheel<Serializable> retryWheel;
+  private ScheduledFuture<?> ticker;
+
   @Override
   public void initialise() throws InitialisationException {
     if (getUntilSuccessfulConfiguration().getObjectStore() == null) {
@@ -74,9 +114,6 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
       @Override
       public void onNotification(MuleContextNotification notification) {
         if (notification.getAction() == CONTEXT_STARTED) {
-          muleContext.unregisterListener(this);
-          contextStartListener = null;
-
           scheduleAllPendingEventsForProcessing();
         }
       }
@@ -93,12 +130,131 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
   public void start() {
     pool = muleContext.getSchedulerService().ioScheduler(muleContext.getSchedulerBaseConfig()
         .withName(format("%s.%s", getUntilSuccessfulConfiguration().getFlowConstruct().getName(), "until-successful")));
+
+    // a tenth of the retry period is precise enough, without waking up too often for long periods
+    final long tickMillis =
+        min(MAX_TICK_MILLIS, max(MIN_TICK_MILLIS, getUntilSuccessfulConfiguration().getMillisBetweenRetries() / 10));
+    retryWheel = new TimingWheel<>(tickMillis, TIMING_WHEEL_SIZE, readyEvents::add);
+    ticker = pool.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, MILLISECONDS);
+
+    // when the context is starting, the pending events are scheduled once it has started
+    if (muleContext.isStarted()) {
+      scheduleAllPendingEventsForProcessing();
+    }
   }
 
   @Override
   public void stop() {
-    pool.stop();
+    final Scheduler stoppedPool = pool;
+    // no more events are dispatched from now on, the running ones are allowed to finish when stopping the pool
     pool = null;
+    ticker.cancel(false);
+    ticker = null;
+    stoppedPool.stop();
+    flushPendingUpdates();
+    // the events are still in the object store, so they are scheduled again when started
+    retryWheel.clear();
+    readyEvents.clear();
+  }
+
+  private void tick() {
+    try {
+      retryWheel.advance();
+      flushPendingUpdates();
+      dispatchReadyEvents();
+    } catch (Exception e) {
+      logger.error("Failure processing until successful pending retries", e);
+    }
+  }
+
+  /**
+   * Writes the incremented attempt count of the events that failed since the last flush to the object store. Each event is
+   * removed and stored again, which is not atomic.
+   */
+  private void flushPendingUpdates() {
+    for (Serializable eventStoreKey : pendingUpdates.keySet()) {
+      // done while holding the entry so that a concurrent successful attempt doesn't have its removal overwritten
+      pendingUpdates.computeIfPresent(eventStoreKey, (key, event) -> {
+        try {
+          getUntilSuccessfulConfiguration().getObjectStore().remove(key);
+          getUntilSuccessfulConfiguration().getObjectStore().store(key, event);
+          return null;
+        } catch (ObjectStoreException ose) {
+          logger.error("Failed to increment failure count for event stored with key: " + key, ose);
+          return event;
+        }
+      });
+    }
+  }
+
+  private void dispatchReadyEvents() {
+    final Scheduler scheduler = pool;
+    if (scheduler == null) {
+      // stopped, the events are scheduled again from the object store when started
+      return;
+    }
+
+    while (!readyEvents.isEmpty()) {
+      int current = inFlight.get();
+      if (current >= maxConcurrentRedeliveries) {
+        return;
+      }
+      if (!inFlight.compareAndSet(current, current + 1)) {
+        continue;
+      }
+
+      final Serializable eventStoreKey = readyEvents.poll();
+      if (eventStoreKey == null) {
+        inFlight.decrementAndGet();
+        return;
+      }
+      try {
+        scheduler.execute(() -> {
+          try {
+            doProcess(eventStoreKey);
+          } finally {
+            inFlight.decrementAndGet();
+            dispatchReadyEvents();
+          }
+        });
+      } catch (RejectedExecutionException e) {
+        // the event is already stored, so it is just kept ready to be dispatched again on the next tick
+        inFlight.decrementAndGet();
+        readyEvents.add(eventStoreKey);
+        if (logger.isDebugEnabled()) {
+          logger.debug("Could not dispatch until successful event stored with key: " + eventStoreKey, e);
+        }
+        return;
+      }
+    }
+  }
+
+  /**
+   * @return the amount of events waiting for an attempt to be processed
+   */
+  public int getPendingRetries() {
+    return (retryWheel != null ? retryWheel.size() : 0) + readyEvents.size();
+  }
+
+  /**
+   * @return the amount of events being currently processed
+   */
+  public int getInFlightRedeliveries() {
+    return inFlight.get();
+  }
+
+  /**
+   * @return the total amount of attempts to process an event, including the successful ones
+   */
+  public long getProcessAttempts() {
+    return processAttempts.sum();
+  }
+
+  /**
+   * @return the amount of events that were sent to the dead letter queue or exception strategy after exhausting their retries
+   */
+  public long getExhaustedRetries() {
+    return exhaustedRetries.sum();
   }
 
   @Override
@@ -117,16 +273,13 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
   }
 
   private void scheduleAllPendingEventsForProcessing() {
+    if (pool == null) {
+      // stopped, the events are scheduled when started
+      return;
+    }
     try {
-      for (final Serializable eventStoreKey : getUntilSuccessfulConfiguration().getObjectStore().allKeys()) {
-        try {
-          scheduleForProcessing(eventStoreKey, true);
-        } catch (final Exception e) {
-          logger
-              .error(createStaticMessage("Failed to schedule for processing event stored with key: " + eventStoreKey).toString(),
-                     e);
-        }
-      }
+      readyEvents.addAll(getUntilSuccessfulConfiguration().getObjectStore().allKeys());
+      dispatchReadyEvents();
     } catch (Exception e) {
       logger.warn("Failure during scheduling of until successful previous jobs " + e.getMessage());
       if (logger.isDebugEnabled()) {
@@ -139,13 +292,18 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
     if (firstTime) {
       submitForProcessing(eventStoreKey);
     } else {
-      this.pool.schedule(() -> doProcess(eventStoreKey), getUntilSuccessfulConfiguration().getMillisBetweenRetries(),
-                         MILLISECONDS);
+      final long millisBetweenRetries = getUntilSuccessfulConfiguration().getMillisBetweenRetries();
+      if (millisBetweenRetries > 0) {
+        retryWheel.schedule(eventStoreKey, millisBetweenRetries);
+      } else {
+        submitForProcessing(eventStoreKey);
+      }
     }
   }
 
   protected void submitForProcessing(final Serializable eventStoreKey) {
-    this.pool.execute(() -> doProcess(eventStoreKey));
+    readyEvents.add(eventStoreKey);
+    dispatchReadyEvents();
   }
 
   protected void doProcess(final Serializable eventStoreKey) {
@@ -162,7 +320,7 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
   private void incrementProcessAttemptCountAndRescheduleOrRemoveFromStore(final Serializable eventStoreKey,
                                                                           Exception lastException) {
     try {
-      final Event event = getUntilSuccessfulConfiguration().getObjectStore().remove(eventStoreKey);
+      final Event event = retrieveEvent(eventStoreKey);
 
       final Integer configuredAttempts = getVariableValueOrNull(PROCESS_ATTEMPT_COUNT_PROPERTY_NAME, event);
       final Integer deliveryAttemptCount =
@@ -173,9 +331,13 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
         // we store the incremented version unless the max attempt count has been reached
         incrementedEvent = Event.builder(incrementedEvent)
             .addVariable(PROCESS_ATTEMPT_COUNT_PROPERTY_NAME, deliveryAttemptCount + 1).build();
-        getUntilSuccessfulConfiguration().getObjectStore().store(eventStoreKey, incrementedEvent);
+        // persisted on the next tick, together with the other updates
+        pendingUpdates.put(eventStoreKey, incrementedEvent);
         this.scheduleForProcessing(eventStoreKey, false);
       } else {
+        pendingUpdates.remove(eventStoreKey);
+        getUntilSuccessfulConfiguration().getObjectStore().remove(eventStoreKey);
+        exhaustedRetries.increment();
         abandonRetries(event, incrementedEvent, lastException);
       }
     } catch (final ObjectStoreException ose) {
@@ -273,9 +435,17 @@ public class AsynchronousUntilSuccessfulProcessingStrategy extends AbstractUntil
     }
   }
 
+  private Event retrieveEvent(final Serializable eventStoreKey) throws ObjectStoreException {
+    // an update not yet flushed is more recent than the stored event
+    final Event pendingEvent = pendingUpdates.get(eventStoreKey);
+    return pendingEvent != null ? pendingEvent : getUntilSuccessfulConfiguration().getObjectStore().retrieve(eventStoreKey);
+  }
+
   private void retrieveAndProcessEvent(final Serializable eventStoreKey) throws ObjectStoreException {
-    final Event persistedEvent = getUntilSuccessfulConfiguration().getObjectStore().retrieve(eventStoreKey);
+    final Event persistedEvent = retrieveEvent(eventStoreKey);
+    processAttempts.increment();
     processEvent(persistedEvent);
+    pendingUpdates.remove(eventStoreKey);
     removeFromStore(eventStoreKey);
   }
 
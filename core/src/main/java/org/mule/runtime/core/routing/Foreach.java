@@ -87,10 +87,8 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     }
     requestBuilder.addVariable(parentMessageProp, message);
     final Builder responseBuilder = Event.builder(doProcess(requestBuilder.build()));
-    if (transformed) {
-      responseBuilder.message(transformBack(message));
-    } else {
-      responseBuilder.message(message);
+    if (!isCollectResults()) {
+      responseBuilder.message(transformed ? transformBack(message) : message);
     }
     if (previousCounterVar != null) {
       responseBuilder.addVariable(counterVariableName, previousCounterVar);
@@ -119,6 +117,20 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     }
   }
 
+  /**
+   * @return whether the response message is the aggregation of the results of each iteration instead of the original message
+   */
+  protected boolean isCollectResults() {
+    return false;
+  }
+
+  /**
+   * Template method so subclasses can further configure the splitter that generates the message for each element.
+   *
+   * @param splitter the splitter used by this {@code foreach}
+   */
+  protected void configureSplitter(AbstractMessageSequenceSplitter splitter) {}
+
   private Message transformPayloadIfNeeded(Message message) throws TransformerException {
     Object payload = message.getPayload().getValue();
     if (payload instanceof Document || payload.getClass().getName().startsWith("org.dom4j.")) {
@@ -160,6 +172,12 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
         return previousResult != null ? previousResult.getVariableNames() : emptySet();
       }
 
+      @Override
+      protected Event reduceSingleResult(Event originalEvent, Event resultEvent) {
+        // as the RouterResultsHandler does, the result of a single iteration is kept as is, including its removed variables
+        return resultEvent;
+      }
+
     };
     if (isXPathExpression(expressionConfig.getExpression())) {
       xpathCollection = true;
@@ -167,6 +185,11 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     splitter.setBatchSize(batchSize);
     splitter.setCounterVariableName(counterVariableName);
     splitter.setMuleContext(muleContext);
+    if (!isCollectResults()) {
+      // the results of each iteration are not returned, so there's no need to keep them around
+      splitter.setResultsReducer(this::accumulateVariables);
+    }
+    configureSplitter(splitter);
 
     List<Processor> chainProcessors = new ArrayList<>();
     chainProcessors.add(splitter);
@@ -176,6 +199,15 @@ public class Foreach extends AbstractMessageProcessorOwner implements Initialisa
     super.initialise();
   }
 
+  private Event accumulateVariables(Event accumulated, Event resultEvent) {
+    final Builder builder = Event.builder(accumulated);
+    for (String flowVarName : resultEvent.getVariableNames()) {
+      builder.addVariable(flowVarName, resultEvent.getVariable(flowVarName).getValue(),
+                          resultEvent.getVariable(flowVarName).getDataType());
+    }
+    return builder.build();
+  }
+
   private boolean isXPathExpression(String expression) {
     return expression.matches("^xpath\\(.+\\)$") || expression.matches("^xpath3\\(.+\\)$");
   }
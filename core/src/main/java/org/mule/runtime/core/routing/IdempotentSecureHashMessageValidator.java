@@ -7,15 +7,15 @@
 package org.mule.runtime.core.routing;
 
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.streaming.bytes.CursorStreamProvider;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.routing.RoutingException;
-import org.mule.runtime.core.api.transformer.TransformerException;
-import org.mule.runtime.core.transformer.simple.ByteArrayToHexString;
+import org.mule.runtime.core.internal.keygenerator.MessageDigestMuleEventKeyGenerator;
 import org.mule.runtime.core.transformer.simple.SerializableToByteArray;
 
+import java.io.NotSerializableException;
 import java.security.MessageDigest;
-import java.security.NoSuchAlgorithmException;
 
 /**
  * <code>IdempotentSecureHashMessageValidator</code> ensures that only unique messages are received by a service. It does this by
@@ -24,6 +24,9 @@ import java.security.NoSuchAlgorithmException;
  * representing the message, so any leading or trailing spaces or extraneous bytes (like padding) can produce different hash
  * values for the same semantic message content. Care should be taken to ensure that messages do not contain extraneous bytes.
  * This class is useful when the message does not support unique identifiers.
+ * <p>
+ * {@link CursorStreamProvider} payloads are digested incrementally through a cursor, without loading them in memory, and
+ * {@link MessageDigest} instances are reused on a per thread basis.
  */
 
 public class IdempotentSecureHashMessageValidator extends IdempotentMessageValidator {
@@ -31,35 +34,42 @@ public class IdempotentSecureHashMessageValidator extends IdempotentMessageValid
   private String messageDigestAlgorithm = "SHA-256";
 
   private final SerializableToByteArray objectToByteArray = new SerializableToByteArray();
-  private final ByteArrayToHexString byteArrayToHexString = new ByteArrayToHexString();
+  private MessageDigestMuleEventKeyGenerator keyGenerator = createKeyGenerator(messageDigestAlgorithm);
 
   @Override
   protected String getIdForEvent(Event event) throws MuleException {
     try {
-      Object payload = event.getMessage().getPayload().getValue();
-      byte[] bytes = (byte[]) objectToByteArray.transform(payload);
-      MessageDigest md = MessageDigest.getInstance(messageDigestAlgorithm);
-      byte[] digestedBytes = md.digest(bytes);
-      return (String) byteArrayToHexString.transform(digestedBytes);
-    } catch (NoSuchAlgorithmException nsa) {
-      throw new RoutingException(this, nsa);
-    } catch (TransformerException te) {
-      throw new RoutingException(this, te);
+      return (String) keyGenerator.generateKey(event);
+    } catch (NotSerializableException e) {
+      throw new RoutingException(this, e.getCause());
     }
   }
 
+  private MessageDigestMuleEventKeyGenerator createKeyGenerator(String algorithm) {
+    MessageDigestMuleEventKeyGenerator generator = new MessageDigestMuleEventKeyGenerator(algorithm) {
+
+      @Override
+      protected byte[] toBytes(Event event, Object payload) throws MuleException {
+        return (byte[]) objectToByteArray.transform(payload);
+      }
+    };
+    generator.setMuleContext(muleContext);
+    return generator;
+  }
+
   public String getMessageDigestAlgorithm() {
     return messageDigestAlgorithm;
   }
 
   public void setMessageDigestAlgorithm(String messageDigestAlgorithm) {
     this.messageDigestAlgorithm = messageDigestAlgorithm;
+    keyGenerator = createKeyGenerator(messageDigestAlgorithm);
   }
 
   @Override
   public void setMuleContext(MuleContext context) {
     super.setMuleContext(context);
     objectToByteArray.setMuleContext(muleContext);
-    byteArrayToHexString.setMuleContext(muleContext);
+    keyGenerator.setMuleContext(muleContext);
   }
 }
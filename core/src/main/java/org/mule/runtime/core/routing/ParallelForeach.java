@@ -0,0 +1,62 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.core.routing;
+
+import static java.lang.Runtime.getRuntime;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.routing.outbound.AbstractMessageSequenceSplitter;
+
+/**
+ * A {@link Foreach} that processes the elements of the collection concurrently.
+ * <p>
+ * Up to {@link #setMaxConcurrency(int) maxConcurrency} elements are processed at the same time, each one with the same
+ * {@code GroupCorrelation} sequence it would have when iterating sequentially. Elements are taken from the collection as the
+ * bound allows, so the whole collection is not split upfront.
+ * <p>
+ * Since elements are processed at the same time, flow variables set while processing an element are not visible when
+ * processing the others. When {@link #setCollectResults(boolean) collectResults} is set, the resulting message has a collection
+ * of the {@link Message}s returned for each element, in the same order as the elements. Otherwise, the {@link Processor} next to
+ * this one receives the original message, like with {@link Foreach}.
+ *
+ * @since 4.0
+ */
+public class ParallelForeach extends Foreach {
+
+  private int maxConcurrency = getRuntime().availableProcessors();
+  private boolean collectResults = false;
+
+  @Override
+  protected void configureSplitter(AbstractMessageSequenceSplitter splitter) {
+    splitter.setMaxConcurrency(maxConcurrency);
+    if (collectResults) {
+      splitter.setResultsHandler(new DefaultRouterResultsHandler(true));
+    }
+  }
+
+  @Override
+  protected boolean isCollectResults() {
+    return collectResults;
+  }
+
+  /**
+   * @param maxConcurrency the maximum amount of elements to process at the same time. Defaults to the amount of available
+   *        processors.
+   */
+  public void setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  /**
+   * @param collectResults whether the response message is a collection of the results of processing each element, in the order
+   *        of the elements. Defaults to {@code false}.
+   */
+  public void setCollectResults(boolean collectResults) {
+    this.collectResults = collectResults;
+  }
+}
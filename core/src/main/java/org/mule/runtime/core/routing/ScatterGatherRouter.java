@@ -7,9 +7,15 @@
 
 package org.mule.runtime.core.routing;
 
+import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.time.Duration.ofMillis;
 import static java.util.Collections.emptyList;
+import static java.util.Comparator.comparing;
 import static java.util.stream.Collectors.toList;
+import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
 import static org.mule.runtime.core.api.config.i18n.CoreMessages.noEndpointsForRouter;
+import static org.mule.runtime.core.api.management.stats.RouterStatistics.TYPE_OUTBOUND;
 import static org.mule.runtime.core.api.processor.MessageProcessors.newChain;
 import static org.mule.runtime.core.api.processor.MessageProcessors.newExplicitChain;
 import static org.mule.runtime.core.api.processor.MessageProcessors.processToApply;
@@ -18,8 +24,10 @@ import static org.mule.runtime.core.api.rx.Exceptions.checkedFunction;
 import static org.mule.runtime.core.internal.util.ProcessingStrategyUtils.isSynchronousProcessing;
 import static org.mule.runtime.core.routing.AbstractRoutingStrategy.validateMessageIsNotConsumable;
 import static reactor.core.publisher.Flux.from;
-import static reactor.core.publisher.Flux.fromIterable;
 import static reactor.core.publisher.Flux.just;
+import static reactor.core.publisher.Flux.range;
+import static reactor.core.publisher.Mono.defer;
+import static reactor.core.publisher.Mono.empty;
 import static reactor.core.scheduler.Schedulers.fromExecutorService;
 
 import org.mule.runtime.api.exception.MuleException;
@@ -28,16 +36,23 @@ import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.api.util.Preconditions;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.construct.Pipeline;
+import org.mule.runtime.core.api.exception.MessagingException;
+import org.mule.runtime.core.api.management.stats.RouterStatistics;
 import org.mule.runtime.core.api.processor.MessageRouter;
 import org.mule.runtime.core.api.processor.Processor;
 import org.mule.runtime.core.api.processor.ReactiveProcessor;
 import org.mule.runtime.core.api.routing.AggregationContext;
 import org.mule.runtime.core.api.routing.RoutePathNotFoundException;
+import org.mule.runtime.core.api.routing.RouterStatisticsRecorder;
 import org.mule.runtime.core.api.scheduler.SchedulerService;
+import org.mule.runtime.core.api.util.Pair;
 import org.mule.runtime.core.processor.AbstractMessageProcessorOwner;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeoutException;
 
 import javax.inject.Inject;
 
@@ -45,12 +60,23 @@ import org.apache.commons.collections.CollectionUtils;
 import org.reactivestreams.Publisher;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * <p>
  * The <code>Scatter-Gather</code> router will broadcast copies of the current message to every endpoint registered with the
  * router in parallel.
  * <p>
+ * Routes are joined reactively: up to {@link #setMaxConcurrency(int) maxConcurrency} routes run at the same time, each one is
+ * cancelled if it doesn't complete within the {@link #setTimeout(long) timeout}, and no thread waits for the others while they
+ * run. The timeout bounds each route on its own, counting from the moment the route starts, so a route waiting for a free slot
+ * is not charged for the time it spends queued. By default all routes have to succeed. When a {@link #setQuorum(int) quorum}
+ * is set, the router completes as soon as that many routes succeed, cancelling the remaining ones and tolerating failures of
+ * the others.
+ * <p>
+ * The time each route takes is recorded in the {@link RouterStatistics}, when enabled, under the name {@code route-<index>}.
+ * <p>
  * For advanced use cases, a custom {@link AggregationStrategy} can be applied to customize the logic used to aggregate the route
  * responses back into one single element or to throw exception
  * <p>
@@ -59,10 +85,12 @@ import org.slf4j.LoggerFactory;
  * 
  * @since 3.5.0
  */
-public class ScatterGatherRouter extends AbstractMessageProcessorOwner implements MessageRouter {
+public class ScatterGatherRouter extends AbstractMessageProcessorOwner implements MessageRouter, RouterStatisticsRecorder {
 
   private static final Logger logger = LoggerFactory.getLogger(ScatterGatherRouter.class);
 
+  private static final String ROUTE_NAME_PREFIX = "route-";
+
   @Inject
   private SchedulerService schedulerService;
 
@@ -72,10 +100,21 @@ public class ScatterGatherRouter extends AbstractMessageProcessorOwner implement
   private boolean parallel = true;
 
   /**
-   * Timeout in milliseconds to be applied to each route. Values lower or equal to zero means no timeout
+   * Timeout in milliseconds to be applied to each route, counting from the moment the route starts. Values lower or equal to
+   * zero means no timeout
    */
   private long timeout = 0;
 
+  /**
+   * The maximum amount of routes to run at the same time. Values lower or equal to zero means all the routes.
+   */
+  private int maxConcurrency = 0;
+
+  /**
+   * The amount of routes that need to succeed. Values lower or equal to zero means all the routes.
+   */
+  private int quorum = 0;
+
   /**
    * The routes that the message will be sent to
    */
@@ -91,11 +130,18 @@ public class ScatterGatherRouter extends AbstractMessageProcessorOwner implement
    */
   private List<Processor> routeChains = emptyList();
 
+  /**
+   * The names the routes are recorded under in the {@link RouterStatistics}, by route index
+   */
+  private List<String> routeNames = emptyList();
+
   /**
    * The aggregation strategy. By default is this instance
    */
   private AggregationStrategy aggregationStrategy;
 
+  private RouterStatistics routerStatistics = new RouterStatistics(TYPE_OUTBOUND);
+
   private Scheduler scheduler;
   private reactor.core.scheduler.Scheduler reactorScheduler;
 
@@ -115,11 +161,57 @@ public class ScatterGatherRouter extends AbstractMessageProcessorOwner implement
     return from(publisher).doOnNext(checkedConsumer(event -> {
       assertMorethanOneRoute();
       validateMessageIsNotConsumable(event.getMessage());
-    })).concatMap(event -> from(fromIterable(routeChains).concatMap(processor -> just(event).transform(scheduleRoute(processor))))
-        .collectList()
+    })).concatMap(event -> gather(event)
         .map(checkedFunction(list -> aggregationStrategy.aggregate(new AggregationContext(event, list)))));
   }
 
+  private Mono<List<Event>> gather(Event event) {
+    int concurrency = parallel ? (maxConcurrency > 0 ? maxConcurrency : routeChains.size()) : 1;
+    if (quorum <= 0) {
+      // the aggregation strategy expects the results in the order of the routes
+      return range(0, routeChains.size()).flatMapSequential(index -> routeResult(index, event), concurrency).collectList();
+    }
+
+    Map<Integer, Throwable> failures = new ConcurrentSkipListMap<>();
+    Flux<Pair<Integer, Event>> results = range(0, routeChains.size())
+        .flatMap(index -> routeResult(index, event).map(result -> new Pair<>(index, result)).onErrorResume(e -> {
+          failures.put(index, e);
+          return empty();
+        }), concurrency);
+    // once the quorum is reached the remaining routes are cancelled
+    return results.take(quorum).collectList().map(checkedFunction(quorumResults -> {
+      if (quorumResults.size() < quorum) {
+        throw new CompositeRoutingException(failures);
+      }
+      return quorumResults.stream().sorted(comparing(Pair::getFirst)).map(Pair::getSecond).collect(toList());
+    }));
+  }
+
+  private Mono<Event> routeResult(int index, Event event) {
+    Processor route = routeChains.get(index);
+    String routeName = routeNames.get(index);
+    return defer(() -> {
+      long startNanos = nanoTime();
+      Mono<Event> result = just(event).transform(scheduleRoute(route)).next();
+      if (timeout != Long.MAX_VALUE) {
+        result = result.timeout(ofMillis(timeout)).onErrorMap(TimeoutException.class, e -> routeTimeout(index, event, e));
+      }
+      return result.doOnSuccess(routeEvent -> recordRouteLatency(routeName, startNanos));
+    });
+  }
+
+  private MessagingException routeTimeout(int index, Event event, TimeoutException cause) {
+    return new MessagingException(createStaticMessage(format("Route %d did not complete within %d milliseconds", index, timeout)),
+                                  event, cause, this);
+  }
+
+  private void recordRouteLatency(String routeName, long startNanos) {
+    if (routerStatistics != null && routerStatistics.isEnabled()) {
+      routerStatistics.incrementRoutedMessage(routeName);
+      routerStatistics.recordRouteLatency(routeName, nanoTime() - startNanos);
+    }
+  }
+
   private ReactiveProcessor scheduleRoute(Processor route) {
     if (!isSynchronousProcessing(flowConstruct) && flowConstruct instanceof Pipeline) {
       // If an async processing strategy is in use then use it to schedule scatter-gather route
@@ -142,6 +234,11 @@ public class ScatterGatherRouter extends AbstractMessageProcessorOwner implement
       if (timeout <= 0) {
         timeout = Long.MAX_VALUE;
       }
+
+      Preconditions.checkState(quorum <= routes.size(), "The quorum cannot be greater than the amount of routes");
+      if (routerStatistics != null && muleContext.getStatistics() != null) {
+        routerStatistics.setEnabled(muleContext.getStatistics().isEnabled());
+      }
     } catch (Exception e) {
       throw new InitialisationException(e, this);
     }
@@ -197,6 +294,10 @@ public class ScatterGatherRouter extends AbstractMessageProcessorOwner implement
     Preconditions.checkState(routes.size() > 1, "At least 2 routes are required for ScatterGather");
     // Wrap in explicit chain
     routeChains = routes.stream().map(route -> newChain(newExplicitChain(route))).collect(toList());
+    routeNames = new ArrayList<>(routes.size());
+    for (int i = 0; i < routes.size(); ++i) {
+      routeNames.add(ROUTE_NAME_PREFIX + i);
+    }
   }
 
   private void checkNotInitialised() {
@@ -217,6 +318,10 @@ public class ScatterGatherRouter extends AbstractMessageProcessorOwner implement
     this.parallel = parallel;
   }
 
+  /**
+   * @param timeout the time in milliseconds each route has to complete, counting from the moment the route starts. Values lower
+   *        or equal to zero means no timeout
+   */
   public void setTimeout(long timeout) {
     this.timeout = timeout;
   }
@@ -225,4 +330,21 @@ public class ScatterGatherRouter extends AbstractMessageProcessorOwner implement
     this.routes = routes;
   }
 
+  public void setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  public void setQuorum(int quorum) {
+    this.quorum = quorum;
+  }
+
+  @Override
+  public void setRouterStatistics(RouterStatistics routerStatistics) {
+    this.routerStatistics = routerStatistics;
+  }
+
+  public RouterStatistics getRouterStatistics() {
+    return routerStatistics;
+  }
+
 }
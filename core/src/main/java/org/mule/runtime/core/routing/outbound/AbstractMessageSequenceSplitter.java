@@ -8,10 +8,20 @@ package org.mule.runtime.core.routing.outbound;
 
 import static java.util.Collections.emptySet;
 import static java.util.stream.Collectors.toList;
+import static org.mule.runtime.core.api.Event.setCurrentEvent;
+import static org.mule.runtime.core.api.rx.Exceptions.rxExceptionToMuleException;
+import static reactor.core.publisher.Flux.fromIterable;
+import static reactor.core.publisher.Mono.empty;
+import static reactor.core.publisher.Mono.error;
+import static reactor.core.publisher.Mono.fromCallable;
+import static reactor.core.scheduler.Schedulers.fromExecutorService;
 
 import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.api.lifecycle.Startable;
+import org.mule.runtime.api.lifecycle.Stoppable;
 import org.mule.runtime.api.message.Message;
 import org.mule.runtime.api.metadata.TypedValue;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.Acceptor;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.Event.Builder;
@@ -26,24 +36,48 @@ import org.mule.runtime.core.routing.MessageSequence;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.BinaryOperator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 /**
  * Base implementation of a {@link Message} splitter, that converts its payload in a {@link MessageSequence}, and process each
  * element of it. Implementations must implement {@link #splitMessageIntoSequence(Event)} and determine how the message is split.
  * <p>
+ * Parts are processed one after the other unless a {@link #setMaxConcurrency(int) maxConcurrency} greater than one is set, in
+ * which case up to that amount of parts are processed at the same time on an IO scheduler. Parts are still created lazily as the
+ * sequence is consumed, and the results are kept in the order of the sequence.
+ * <p>
+ * By default the results of all the parts are kept to be aggregated by the {@link RouterResultsHandler}. When a
+ * {@link #setResultsReducer(BinaryOperator) resultsReducer} is set, each result is instead folded as soon as it is available and
+ * then discarded, so that splitting arbitrarily large sequences, such as the ones backed by an iterator or a cursor, runs in
+ * constant memory.
+ * <p>
  * <b>EIP Reference:</b> <a href="http://www.eaipatterns.com/Sequencer.html">http://www .eaipatterns.com/Sequencer.html</a>
  * 
  * @author flbulgarelli
  * @see AbstractSplitter
  */
 public abstract class AbstractMessageSequenceSplitter extends AbstractInterceptingMessageProcessor
-    implements MuleContextAware {
+    implements MuleContextAware, Startable, Stoppable {
+
+  /**
+   * A {@link #setResultsReducer(BinaryOperator) resultsReducer} that discards the result of each part, so the split event is
+   * returned once all the parts are processed.
+   */
+  public static final BinaryOperator<Event> DISCARD_RESULTS = (accumulated, resultEvent) -> accumulated;
 
   protected RouterResultsHandler resultsHandler = new DefaultRouterResultsHandler();
   protected int batchSize;
   protected String counterVariableName;
+  protected int maxConcurrency = 1;
+  protected BinaryOperator<Event> resultsReducer;
   protected Acceptor filterOnErrorTypeAcceptor = new Acceptor() {
 
     @Override
@@ -57,11 +91,38 @@ public abstract class AbstractMessageSequenceSplitter extends AbstractIntercepti
     }
   };
 
+  private Scheduler partsScheduler;
+  private reactor.core.scheduler.Scheduler partsReactorScheduler;
+
+  @Override
+  public void start() throws MuleException {
+    if (maxConcurrency > 1) {
+      partsScheduler = muleContext.getSchedulerService().ioScheduler(getLocation() != null
+          ? muleContext.getSchedulerBaseConfig().withName(getLocation().getLocation()) : muleContext.getSchedulerBaseConfig());
+      partsReactorScheduler = fromExecutorService(partsScheduler);
+    }
+  }
+
+  @Override
+  public void stop() throws MuleException {
+    if (partsScheduler != null) {
+      partsScheduler.stop();
+      partsScheduler = null;
+    }
+    if (partsReactorScheduler != null) {
+      partsReactorScheduler.dispose();
+      partsReactorScheduler = null;
+    }
+  }
+
   @Override
   public final Event process(Event event) throws MuleException {
     if (isSplitRequired(event)) {
       MessageSequence<?> seq = splitMessageIntoSequence(event);
       if (!seq.isEmpty()) {
+        if (resultsReducer != null) {
+          return reduceParts(seq, event);
+        }
         return resultsHandler.aggregateResults(processParts(seq, event), event);
       } else {
         logger.warn("Splitter returned no results. If this is not expected, please check your split expression");
@@ -86,31 +147,51 @@ public abstract class AbstractMessageSequenceSplitter extends AbstractIntercepti
   protected abstract MessageSequence<?> splitMessageIntoSequence(Event event) throws MuleException;
 
   protected List<Event> processParts(MessageSequence<?> seq, Event originalEvent) throws MuleException {
+    if (maxConcurrency > 1) {
+      return block(processPartsConcurrently(seq, originalEvent, true).collectList());
+    }
+
     List<Event> resultEvents = new ArrayList<>();
-    int correlationSequence = 0;
-    MessageSequence<?> messageSequence = seq;
-    if (batchSize > 1) {
-      messageSequence = new PartitionedMessageSequence<>(seq, batchSize);
+    processPartsSequentially(seq, originalEvent, resultEvents::add);
+    return resultEvents;
+  }
+
+  private Event reduceParts(MessageSequence<?> seq, Event originalEvent) throws MuleException {
+    // only the accumulated result is kept, so the memory used doesn't depend on the size of the sequence
+    ResultsAccumulator accumulator = new ResultsAccumulator(originalEvent);
+    if (maxConcurrency > 1) {
+      block(processPartsConcurrently(seq, originalEvent, false).doOnNext(accumulator::add).then());
+    } else {
+      processPartsSequentially(seq, originalEvent, accumulator::add);
     }
+    return accumulator.getResult();
+  }
+
+  /**
+   * Provides the result of this splitter when a {@link #setResultsReducer(BinaryOperator) resultsReducer} is set and only one of
+   * the parts produced a result. By default, that result is folded into the split event as any other.
+   *
+   * @param originalEvent the split event
+   * @param resultEvent the result of the only part that produced one
+   * @return the result of this splitter
+   */
+  protected Event reduceSingleResult(Event originalEvent, Event resultEvent) {
+    return resultsReducer.apply(originalEvent, resultEvent);
+  }
+
+  private void processPartsSequentially(MessageSequence<?> seq, Event originalEvent, Consumer<Event> resultConsumer)
+      throws MuleException {
+    MessageSequence<?> messageSequence = partition(seq);
+    int correlationSequence = 0;
     Integer count = messageSequence.size();
     Event lastResult = null;
     for (; messageSequence.hasNext();) {
       correlationSequence++;
 
-      final Builder builder = Event.builder(originalEvent);
-
-      propagateFlowVars(lastResult, builder);
-      if (counterVariableName != null) {
-        builder.addVariable(counterVariableName, correlationSequence);
-      }
-
-      builder.groupCorrelation(new GroupCorrelation(count, correlationSequence));
-      initEventBuilder(messageSequence.next(), originalEvent, builder, resolvePropagatedFlowVars(lastResult));
-
       try {
-        Event resultEvent = processNext(builder.build());
+        Event resultEvent = processNext(createPart(messageSequence, originalEvent, lastResult, correlationSequence, count));
         if (resultEvent != null) {
-          resultEvents.add(resultEvent);
+          resultConsumer.accept(resultEvent);
           lastResult = resultEvent;
         }
       } catch (MessagingException e) {
@@ -122,7 +203,59 @@ public abstract class AbstractMessageSequenceSplitter extends AbstractIntercepti
     if (correlationSequence == 1) {
       logger.debug("Splitter only returned a single result. If this is not expected, please check your split expression");
     }
-    return resultEvents;
+  }
+
+  private Flux<Event> processPartsConcurrently(MessageSequence<?> seq, Event originalEvent, boolean ordered) {
+    MessageSequence<?> messageSequence = partition(seq);
+    Integer count = messageSequence.size();
+    // Parts are built as the concurrency bound allows, so the sequence is never fully materialized. Since parts run at the same
+    // time, there is no previous result to propagate flow variables from.
+    Iterable<Event> parts = () -> new Iterator<Event>() {
+
+      private int correlationSequence = 0;
+
+      @Override
+      public boolean hasNext() {
+        return messageSequence.hasNext();
+      }
+
+      @Override
+      public Event next() {
+        return createPart(messageSequence, originalEvent, null, ++correlationSequence, count);
+      }
+    };
+
+    Function<Event, Mono<Event>> partProcessor =
+        part -> fromCallable(() -> processNext(part)).subscribeOn(partsReactorScheduler)
+            .onErrorResume(MessagingException.class, e -> filterOnErrorTypeAcceptor.accept(e.getEvent()) ? empty() : error(e));
+    return ordered ? fromIterable(parts).flatMapSequential(partProcessor, maxConcurrency)
+        : fromIterable(parts).flatMap(partProcessor, maxConcurrency);
+  }
+
+  private MessageSequence<?> partition(MessageSequence<?> seq) {
+    return batchSize > 1 ? new PartitionedMessageSequence<>(seq, batchSize) : seq;
+  }
+
+  private <T> T block(Mono<T> result) throws MuleException {
+    try {
+      return result.block();
+    } catch (Throwable e) {
+      throw rxExceptionToMuleException(e);
+    }
+  }
+
+  private Event createPart(MessageSequence<?> messageSequence, Event originalEvent, Event lastResult, int correlationSequence,
+                           Integer count) {
+    final Builder builder = Event.builder(originalEvent);
+
+    propagateFlowVars(lastResult, builder);
+    if (counterVariableName != null) {
+      builder.addVariable(counterVariableName, correlationSequence);
+    }
+
+    builder.groupCorrelation(new GroupCorrelation(count, correlationSequence));
+    initEventBuilder(messageSequence.next(), originalEvent, builder, resolvePropagatedFlowVars(lastResult));
+    return builder.build();
   }
 
   protected Set<String> resolvePropagatedFlowVars(Event lastResult) {
@@ -159,6 +292,47 @@ public abstract class AbstractMessageSequenceSplitter extends AbstractIntercepti
     }
   }
 
+  /**
+   * Folds the results of the parts with the {@link #resultsReducer}. The first result is held until the second one arrives, so
+   * a single result can be handled through {@link #reduceSingleResult(Event, Event)}.
+   */
+  private class ResultsAccumulator {
+
+    private final Event originalEvent;
+    private Event firstResult;
+    private Event accumulated;
+    private int results;
+
+    private ResultsAccumulator(Event originalEvent) {
+      this.originalEvent = originalEvent;
+      this.accumulated = originalEvent;
+    }
+
+    private void add(Event resultEvent) {
+      if (++results == 1) {
+        firstResult = resultEvent;
+        return;
+      }
+
+      if (results == 2) {
+        accumulated = resultsReducer.apply(accumulated, firstResult);
+        firstResult = null;
+      }
+      accumulated = resultsReducer.apply(accumulated, resultEvent);
+    }
+
+    private Event getResult() {
+      if (results == 1) {
+        return reduceSingleResult(originalEvent, firstResult);
+      }
+      if (results > 1) {
+        // as the RouterResultsHandler does with aggregated results
+        setCurrentEvent(accumulated);
+      }
+      return accumulated;
+    }
+  }
+
   /**
    * Split the elements in groups of the specified size
    */
@@ -169,4 +343,30 @@ public abstract class AbstractMessageSequenceSplitter extends AbstractIntercepti
   public void setCounterVariableName(String counterVariableName) {
     this.counterVariableName = counterVariableName;
   }
+
+  /**
+   * Sets the maximum amount of parts to process at the same time. Values lower than two mean sequential processing. Must be set
+   * before this splitter is started.
+   */
+  public void setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  public void setResultsHandler(RouterResultsHandler resultsHandler) {
+    this.resultsHandler = resultsHandler;
+  }
+
+  /**
+   * Sets a function that folds the result of each part into the result of this splitter, instead of keeping all of them for the
+   * {@link RouterResultsHandler}. The function receives the accumulated result, which starts being the split event, and the
+   * result of a part, and returns the new accumulated result. When parts are processed concurrently, the results are folded in
+   * the order they complete. A single result is handled by {@link #reduceSingleResult(Event, Event)}.
+   *
+   * @param resultsReducer the function to fold the results with, or {@code null} to aggregate them with the
+   *        {@link RouterResultsHandler}
+   * @see #DISCARD_RESULTS
+   */
+  public void setResultsReducer(BinaryOperator<Event> resultsReducer) {
+    this.resultsReducer = resultsReducer;
+  }
 }
@@ -42,6 +42,27 @@ public interface DeploymentListener {
 
   }
 
+  /**
+   * Notifies that a phase of the deployment of a given application has finished.
+   *
+   * @param artifactName the name of the application being deployed
+   * @param phase the deployment phase that was executed
+   * @param elapsedMillis the time spent on the phase, in milliseconds
+   */
+  default void onDeploymentPhaseCompleted(String artifactName, DeploymentPhase phase, long elapsedMillis) {
+
+  }
+
+  /**
+   * Notifies the total time spent deploying a given application, whether the deployment succeeded or not.
+   *
+   * @param artifactName the name of the application being deployed
+   * @param elapsedMillis the time spent deploying the application, in milliseconds
+   */
+  default void onDeploymentCompleted(String artifactName, long elapsedMillis) {
+
+  }
+
   /**
    * Notifies that an un-deployment for a given application has started.
    *
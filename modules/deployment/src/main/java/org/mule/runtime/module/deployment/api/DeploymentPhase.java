@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.api;
+
+/**
+ * Phases executed by the container in order to deploy an artifact.
+ *
+ * @since 4.0
+ */
+public enum DeploymentPhase {
+
+  /**
+   * The artifact resources are installed and its class loaders created.
+   */
+  INSTALL,
+
+  /**
+   * The artifact is initialised.
+   */
+  INIT,
+
+  /**
+   * The artifact is started.
+   */
+  START
+}
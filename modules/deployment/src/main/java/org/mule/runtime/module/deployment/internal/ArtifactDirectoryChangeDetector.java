@@ -0,0 +1,345 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static org.apache.commons.lang3.StringUtils.removeEnd;
+import static org.apache.commons.lang3.StringUtils.removeEndIgnoreCase;
+import static org.mule.runtime.module.deployment.internal.DefaultArchiveDeployer.JAR_FILE_SUFFIX;
+import static org.mule.runtime.module.deployment.internal.DeploymentDirectoryWatcher.ARTIFACT_ANCHOR_SUFFIX;
+
+import org.mule.runtime.module.artifact.Artifact;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Detects changes on the artifact deployment directories using the file system {@link WatchService}.
+ * <p/>
+ * Watches the applications and domains directories and the directories containing the resource files of each deployed artifact,
+ * keeping track of the names of the artifacts affected by each event. This allows the {@link DeploymentDirectoryWatcher} to skip
+ * the directory scan when nothing has changed and to only check the timestamps of the modified artifacts.
+ * <p/>
+ * When the platform does not provide a native {@link WatchService} the detector is not started and the directories must be
+ * scanned periodically instead.
+ *
+ * @since 4.0
+ */
+public class ArtifactDirectoryChangeDetector {
+
+  private static final String POLLING_WATCH_SERVICE_CLASS = "PollingWatchService";
+
+  private static final Logger logger = LoggerFactory.getLogger(ArtifactDirectoryChangeDetector.class);
+
+  private final Path appsDir;
+  private final Path domainsDir;
+  private final Map<WatchKey, Path> watchedDirs = new ConcurrentHashMap<>();
+  private final Map<Path, WatchKey> watchKeys = new ConcurrentHashMap<>();
+  private final Object watchLock = new Object();
+  private final Object changesLock = new Object();
+
+  private volatile WatchService watchService;
+  private Set<String> changedApplications = new HashSet<>();
+  private Set<String> changedDomains = new HashSet<>();
+  private boolean unknownChanges;
+
+  public ArtifactDirectoryChangeDetector(File appsDir, File domainsDir) {
+    this.appsDir = appsDir.toPath().toAbsolutePath();
+    this.domainsDir = domainsDir.toPath().toAbsolutePath();
+  }
+
+  /**
+   * Starts watching the deployment directories.
+   *
+   * @return true if the directories are being watched, false if a native {@link WatchService} is not available and the caller
+   *         must fall back to scanning the directories.
+   */
+  public boolean start() {
+    try {
+      WatchService newWatchService = FileSystems.getDefault().newWatchService();
+      if (newWatchService.getClass().getSimpleName().equals(POLLING_WATCH_SERVICE_CLASS)) {
+        // Polling based implementations scan less frequently than the deployment directory watcher does
+        newWatchService.close();
+        return false;
+      }
+
+      watchService = newWatchService;
+      register(appsDir);
+      register(domainsDir);
+      return true;
+    } catch (IOException | UnsupportedOperationException e) {
+      logger.warn("Unable to watch the deployment directories for changes, falling back to polling", e);
+      stop();
+      return false;
+    }
+  }
+
+  /**
+   * Stops watching the deployment directories, releasing the underlying {@link WatchService}.
+   */
+  public void stop() {
+    WatchService currentWatchService = watchService;
+    watchService = null;
+    synchronized (watchLock) {
+      watchedDirs.clear();
+      watchKeys.clear();
+    }
+
+    if (currentWatchService != null) {
+      try {
+        currentWatchService.close();
+      } catch (IOException e) {
+        logger.debug("Error closing the deployment directories watch service", e);
+      }
+    }
+  }
+
+  /**
+   * @return true if the deployment directories are being watched, false otherwise.
+   */
+  public boolean isWatching() {
+    return watchService != null;
+  }
+
+  /**
+   * Starts watching the directories containing the resource files of the given artifact.
+   *
+   * @param artifact artifact to watch. Non null.
+   */
+  public void watch(Artifact artifact) {
+    if (!isWatching() || artifact.getResourceFiles() == null) {
+      return;
+    }
+
+    for (File resourceFile : artifact.getResourceFiles()) {
+      watch(resourceFile.getParentFile(), artifact.getArtifactName());
+    }
+  }
+
+  /**
+   * Stops watching the directories containing the resource files of the given artifact, cancelling their watch keys.
+   * <p/>
+   * The applications and domains directories are always kept watched.
+   *
+   * @param artifact artifact that is no longer deployed. Non null.
+   */
+  public void unwatch(Artifact artifact) {
+    if (!isWatching() || artifact.getResourceFiles() == null) {
+      return;
+    }
+
+    for (File resourceFile : artifact.getResourceFiles()) {
+      File dir = resourceFile.getParentFile();
+      if (dir != null) {
+        unregister(dir.toPath().toAbsolutePath());
+      }
+    }
+  }
+
+  /**
+   * Starts watching the file that tracks an artifact which failed to deploy, so fixing it triggers a new deployment attempt.
+   *
+   * @param zombieFile the artifact file whose modification triggers the redeployment. It may be the artifact directory, its
+   *        archive or any of its resource files.
+   */
+  public void watchZombie(File zombieFile) {
+    if (!isWatching()) {
+      return;
+    }
+
+    watch(zombieFile.isDirectory() ? zombieFile : zombieFile.getParentFile(), zombieFile.getName());
+  }
+
+  private void watch(File dir, String artifactName) {
+    if (dir != null && dir.isDirectory()) {
+      try {
+        register(dir.toPath().toAbsolutePath());
+      } catch (IOException e) {
+        logger.warn("Unable to watch resources of artifact '{}', changes will be detected on the next full scan", artifactName,
+                    e);
+        markUnknownChanges();
+      }
+    }
+  }
+
+  /**
+   * Waits until a change is detected on any of the watched directories.
+   *
+   * @param timeoutMillis maximum time to wait, in milliseconds
+   */
+  public void awaitChanges(long timeoutMillis) {
+    WatchService currentWatchService = watchService;
+    if (currentWatchService == null) {
+      return;
+    }
+
+    try {
+      WatchKey key = currentWatchService.poll(timeoutMillis, MILLISECONDS);
+      if (key != null) {
+        processKey(key);
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } catch (ClosedWatchServiceException e) {
+      // Stopped while waiting
+    }
+  }
+
+  /**
+   * Returns the changes detected since the last invocation and resets them.
+   *
+   * @return the detected changes, null if the directories are not being watched and thus any artifact may have changed.
+   */
+  public ArtifactChanges consumeChanges() {
+    WatchService currentWatchService = watchService;
+    if (currentWatchService == null) {
+      return null;
+    }
+
+    try {
+      WatchKey key;
+      while ((key = currentWatchService.poll()) != null) {
+        processKey(key);
+      }
+    } catch (ClosedWatchServiceException e) {
+      return null;
+    }
+
+    synchronized (changesLock) {
+      ArtifactChanges changes = new ArtifactChanges(changedApplications, changedDomains, unknownChanges);
+      changedApplications = new HashSet<>();
+      changedDomains = new HashSet<>();
+      unknownChanges = false;
+      return changes;
+    }
+  }
+
+  private void register(Path dir) throws IOException {
+    synchronized (watchLock) {
+      WatchService currentWatchService = watchService;
+      if (currentWatchService != null && !watchKeys.containsKey(dir)) {
+        WatchKey key = dir.register(currentWatchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+        watchedDirs.put(key, dir);
+        watchKeys.put(dir, key);
+      }
+    }
+  }
+
+  private void unregister(Path dir) {
+    if (dir.equals(appsDir) || dir.equals(domainsDir)) {
+      return;
+    }
+
+    synchronized (watchLock) {
+      WatchKey key = watchKeys.remove(dir);
+      if (key != null) {
+        watchedDirs.remove(key);
+        key.cancel();
+      }
+    }
+  }
+
+  private void processKey(WatchKey key) {
+    Path dir = watchedDirs.get(key);
+
+    for (WatchEvent<?> event : key.pollEvents()) {
+      if (dir == null || event.kind() == OVERFLOW) {
+        markUnknownChanges();
+      } else {
+        recordChange(dir.resolve((Path) event.context()));
+      }
+    }
+
+    if (!key.reset()) {
+      synchronized (watchLock) {
+        if (watchedDirs.remove(key) != null) {
+          watchKeys.remove(dir, key);
+        }
+      }
+    }
+  }
+
+  private void recordChange(Path changedPath) {
+    synchronized (changesLock) {
+      if (changedPath.startsWith(appsDir) && !changedPath.equals(appsDir)) {
+        changedApplications.add(getArtifactName(appsDir.relativize(changedPath)));
+      } else if (changedPath.startsWith(domainsDir) && !changedPath.equals(domainsDir)) {
+        changedDomains.add(getArtifactName(domainsDir.relativize(changedPath)));
+      } else {
+        unknownChanges = true;
+      }
+    }
+  }
+
+  private void markUnknownChanges() {
+    synchronized (changesLock) {
+      unknownChanges = true;
+    }
+  }
+
+  private String getArtifactName(Path relativePath) {
+    String fileName = relativePath.getName(0).toString();
+    return removeEndIgnoreCase(removeEnd(fileName, ARTIFACT_ANCHOR_SUFFIX), JAR_FILE_SUFFIX);
+  }
+
+  /**
+   * Changes detected on the deployment directories between two invocations of {@link #consumeChanges()}.
+   */
+  public static class ArtifactChanges {
+
+    private final Set<String> applications;
+    private final Set<String> domains;
+    private final boolean unknownChanges;
+
+    ArtifactChanges(Set<String> applications, Set<String> domains, boolean unknownChanges) {
+      this.applications = unmodifiableSet(applications);
+      this.domains = unmodifiableSet(domains);
+      this.unknownChanges = unknownChanges;
+    }
+
+    /**
+     * @return true if no change was detected.
+     */
+    public boolean isEmpty() {
+      return !unknownChanges && applications.isEmpty() && domains.isEmpty();
+    }
+
+    /**
+     * @param artifactName name of the application to check
+     * @return true if the given application may have changed.
+     */
+    public boolean isApplicationChanged(String artifactName) {
+      return unknownChanges || applications.contains(artifactName);
+    }
+
+    /**
+     * @param artifactName name of the domain to check
+     * @return true if the given domain may have changed.
+     */
+    public boolean isDomainChanged(String artifactName) {
+      return unknownChanges || domains.contains(artifactName);
+    }
+  }
+}
@@ -10,6 +10,7 @@ import org.mule.runtime.api.config.custom.CustomizationService;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.module.deployment.api.DeploymentListener;
 import org.mule.runtime.module.deployment.api.DeploymentListenerManager;
+import org.mule.runtime.module.deployment.api.DeploymentPhase;
 
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
@@ -66,6 +67,28 @@ public class CompositeDeploymentListener implements DeploymentListener, Deployme
     }
   }
 
+  @Override
+  public void onDeploymentPhaseCompleted(String artifactName, DeploymentPhase phase, long elapsedMillis) {
+    for (DeploymentListener listener : deploymentListeners) {
+      try {
+        listener.onDeploymentPhaseCompleted(artifactName, phase, elapsedMillis);
+      } catch (Throwable t) {
+        logNotificationProcessingError(artifactName, listener, "onDeploymentPhaseCompleted", t);
+      }
+    }
+  }
+
+  @Override
+  public void onDeploymentCompleted(String artifactName, long elapsedMillis) {
+    for (DeploymentListener listener : deploymentListeners) {
+      try {
+        listener.onDeploymentCompleted(artifactName, elapsedMillis);
+      } catch (Throwable t) {
+        logNotificationProcessingError(artifactName, listener, "onDeploymentCompleted", t);
+      }
+    }
+  }
+
   @Override
   public void onUndeploymentStart(String artifactName) {
     for (DeploymentListener listener : deploymentListeners) {
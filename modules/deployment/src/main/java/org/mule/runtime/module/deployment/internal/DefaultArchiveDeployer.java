@@ -27,6 +27,7 @@ import java.net.URI;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.apache.commons.beanutils.BeanPropertyValueEqualsPredicate;
 import org.apache.commons.beanutils.BeanToPropertyValueTransformer;
@@ -45,7 +46,7 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
 
   private final ArtifactDeployer<T> deployer;
   private final ArtifactArchiveInstaller artifactArchiveInstaller;
-  private final Map<String, ZombieFile> artifactZombieMap = new HashMap<String, ZombieFile>();
+  private final Map<String, ZombieFile> artifactZombieMap = new ConcurrentHashMap<>();
   private final File artifactDir;
   private final ObservableList<T> artifacts;
   private final ArtifactDeploymentTemplate deploymentTemplate;
@@ -173,8 +174,7 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
   public Map<URI, Long> getArtifactsZombieMap() {
     Map<URI, Long> result = new HashMap<URI, Long>();
 
-    for (String artifact : artifactZombieMap.keySet()) {
-      ZombieFile file = artifactZombieMap.get(artifact);
+    for (ZombieFile file : artifactZombieMap.values()) {
       result.put(file.uri, file.originalTimestamp);
     }
     return result;
@@ -304,7 +304,6 @@ public class DefaultArchiveDeployer<T extends DeployableArtifact> implements Arc
   }
 
   private void addZombieFile(String artifactName, File marker) {
-    // no sync required as deploy operations are single-threaded
     if (marker == null) {
       return;
     }
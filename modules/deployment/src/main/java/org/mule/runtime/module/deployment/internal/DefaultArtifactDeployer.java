@@ -6,9 +6,17 @@
  */
 package org.mule.runtime.module.deployment.internal;
 
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.module.deployment.api.DeploymentPhase.INIT;
+import static org.mule.runtime.module.deployment.api.DeploymentPhase.INSTALL;
+import static org.mule.runtime.module.deployment.api.DeploymentPhase.START;
+
 import org.mule.runtime.api.i18n.I18nMessageFactory;
 import org.mule.runtime.deployment.model.api.DeploymentException;
 import org.mule.runtime.deployment.model.api.DeployableArtifact;
+import org.mule.runtime.module.deployment.api.DeploymentListener;
+import org.mule.runtime.module.deployment.api.DeploymentPhase;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -17,23 +25,69 @@ public class DefaultArtifactDeployer<T extends DeployableArtifact> implements Ar
 
   protected transient final Logger logger = LoggerFactory.getLogger(getClass());
 
+  private final DeploymentListener deploymentListener;
+
+  public DefaultArtifactDeployer() {
+    this(new NullDeploymentListener());
+  }
+
+  /**
+   * Creates a deployer that reports the time spent on each {@link DeploymentPhase} to the given listener.
+   *
+   * @param deploymentListener listener to notify about the deployment phases. Non null.
+   */
+  public DefaultArtifactDeployer(DeploymentListener deploymentListener) {
+    this.deploymentListener = deploymentListener;
+  }
+
   public void deploy(T artifact) {
+    final long deploymentStart = nanoTime();
+    DeploymentException failure = null;
     try {
+      long phaseStart = deploymentStart;
       artifact.install();
+      phaseStart = notifyPhaseCompleted(artifact, INSTALL, phaseStart);
       artifact.init();
+      phaseStart = notifyPhaseCompleted(artifact, INIT, phaseStart);
       artifact.start();
+      notifyPhaseCompleted(artifact, START, phaseStart);
     } catch (Throwable t) {
       artifact.dispose();
 
       if (t instanceof DeploymentException) {
-        throw ((DeploymentException) t);
+        failure = (DeploymentException) t;
+      } else {
+        final String msg = String.format("Failed to deploy artifact [%s]", artifact.getArtifactName());
+        failure = new DeploymentException(I18nMessageFactory.createStaticMessage(msg), t);
       }
+      throw failure;
+    } finally {
+      notifyDeploymentCompleted(artifact, deploymentStart, failure);
+    }
+  }
 
-      final String msg = String.format("Failed to deploy artifact [%s]", artifact.getArtifactName());
-      throw new DeploymentException(I18nMessageFactory.createStaticMessage(msg), t);
+  /**
+   * Notifies the completion of the deployment without hiding its failure: if the deployment failed, an error thrown by the
+   * listener is added as suppressed to the deployment failure instead of replacing it.
+   */
+  private void notifyDeploymentCompleted(T artifact, long deploymentStart, DeploymentException failure) {
+    try {
+      deploymentListener.onDeploymentCompleted(artifact.getArtifactName(), NANOSECONDS.toMillis(nanoTime() - deploymentStart));
+    } catch (Throwable t) {
+      if (failure == null) {
+        throw t;
+      }
+      failure.addSuppressed(t);
     }
   }
 
+  private long notifyPhaseCompleted(T artifact, DeploymentPhase phase, long phaseStart) {
+    final long phaseEnd = nanoTime();
+    deploymentListener.onDeploymentPhaseCompleted(artifact.getArtifactName(), phase,
+                                                  NANOSECONDS.toMillis(phaseEnd - phaseStart));
+    return phaseEnd;
+  }
+
   public void undeploy(T artifact) {
     try {
       tryToStopArtifact(artifact);
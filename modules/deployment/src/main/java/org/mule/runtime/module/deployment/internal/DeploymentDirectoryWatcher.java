@@ -26,6 +26,7 @@ import org.mule.runtime.deployment.model.api.DeploymentException;
 import org.mule.runtime.deployment.model.api.application.Application;
 import org.mule.runtime.deployment.model.api.domain.Domain;
 import org.mule.runtime.module.artifact.Artifact;
+import org.mule.runtime.module.deployment.internal.ArtifactDirectoryChangeDetector.ArtifactChanges;
 import org.mule.runtime.module.deployment.internal.util.DebuggableReentrantLock;
 import org.mule.runtime.module.deployment.internal.util.ElementAddedEvent;
 import org.mule.runtime.module.deployment.internal.util.ElementRemovedEvent;
@@ -34,6 +35,7 @@ import org.mule.runtime.module.deployment.internal.util.ObservableList;
 import java.beans.PropertyChangeEvent;
 import java.beans.PropertyChangeListener;
 import java.io.File;
+import java.net.URI;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -43,6 +45,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 
 import org.apache.commons.beanutils.BeanPropertyValueEqualsPredicate;
@@ -60,19 +63,25 @@ import org.slf4j.LoggerFactory;
  * It will deploy the applications at the container startup process. It will periodically scan the artifact directories in order
  * to process new deployments, remove artifacts that were previously deployed but the anchor file was removed and redeploy those
  * applications which configuration has changed.
+ * <p/>
+ * When the file system supports it, the artifact directories are watched using an {@link ArtifactDirectoryChangeDetector} so the
+ * scan is executed as soon as a change happens and only when something has changed.
  */
 public class DeploymentDirectoryWatcher implements Runnable {
 
   public static final String ARTIFACT_ANCHOR_SUFFIX = "-anchor.txt";
   public static final String CHANGE_CHECK_INTERVAL_PROPERTY = "mule.launcher.changeCheckInterval";
+  public static final String WATCH_SERVICE_DISABLED_PROPERTY = "mule.launcher.watchService.disabled";
   public static final IOFileFilter ZIP_ARTIFACT_FILTER =
       new AndFileFilter(new SuffixFileFilter(JAR_FILE_SUFFIX, INSENSITIVE), FileFileFilter.FILE);
   protected static final int DEFAULT_CHANGES_CHECK_INTERVAL_MS = 5000;
+  // Gives some time for a burst of file system events to complete before scanning
+  private static final int WATCHED_CHANGES_DELAY_MS = 200;
 
   protected transient final Logger logger = LoggerFactory.getLogger(getClass());
 
   private final ReentrantLock deploymentLock;
-  private final ArchiveDeployer<Domain> domainArchiveDeployer;
+  protected final ArchiveDeployer<Domain> domainArchiveDeployer;
   protected final ArchiveDeployer<Application> applicationArchiveDeployer;
   protected final Supplier<SchedulerService> schedulerServiceSupplier;
   private final ArtifactTimestampListener<Application> applicationTimestampListener;
@@ -81,6 +90,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
   private final ObservableList<Domain> domains;
   private final File appsDir;
   private final File domainsDir;
+  private final ArtifactDirectoryChangeDetector changeDetector;
   private ScheduledExecutorService artifactDirMonitorTimer;
 
   protected volatile boolean dirty;
@@ -96,7 +106,13 @@ public class DeploymentDirectoryWatcher implements Runnable {
     this.applicationArchiveDeployer = applicationArchiveDeployer;
     this.applications = applications;
     this.domains = domains;
+    this.changeDetector = new ArtifactDirectoryChangeDetector(appsDir, domainsDir);
     applications.addPropertyChangeListener(e -> {
+      if (e instanceof ElementAddedEvent) {
+        changeDetector.watch((Artifact) e.getNewValue());
+      } else if (e instanceof ElementRemovedEvent) {
+        changeDetector.unwatch((Artifact) e.getNewValue());
+      }
       if (e instanceof ElementAddedEvent || e instanceof ElementRemovedEvent) {
         if (logger.isDebugEnabled()) {
           logger.debug("Deployed applications set has been modified, flushing state.");
@@ -105,6 +121,11 @@ public class DeploymentDirectoryWatcher implements Runnable {
       }
     });
     domains.addPropertyChangeListener(e -> {
+      if (e instanceof ElementAddedEvent) {
+        changeDetector.watch((Artifact) e.getNewValue());
+      } else if (e instanceof ElementRemovedEvent) {
+        changeDetector.unwatch((Artifact) e.getNewValue());
+      }
       if (e instanceof ElementAddedEvent || e instanceof ElementRemovedEvent) {
         if (logger.isDebugEnabled()) {
           logger.debug("Deployed applications set has been modified, flushing state.");
@@ -185,6 +206,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
    * Stops the deployment scan service.
    */
   public void stop() {
+    changeDetector.stop();
     stopAppDirMonitorTimer();
 
     deploymentLock.lock();
@@ -223,11 +245,42 @@ public class DeploymentDirectoryWatcher implements Runnable {
     // TODO MULE-12337 migrate this to an scheduler
     artifactDirMonitorTimer = newSingleThreadScheduledExecutor(new ArtifactDeployerMonitorThreadFactory());
 
-    artifactDirMonitorTimer.scheduleWithFixedDelay(this, 0, reloadIntervalMs, MILLISECONDS);
+    if (!Boolean.getBoolean(WATCH_SERVICE_DISABLED_PROPERTY) && startChangeDetector()) {
+      artifactDirMonitorTimer.scheduleWithFixedDelay(() -> {
+        changeDetector.awaitChanges(reloadIntervalMs);
+        run();
+      }, 0, WATCHED_CHANGES_DELAY_MS, MILLISECONDS);
+
+      if (logger.isInfoEnabled()) {
+        logger.info(miniSplash("Mule is up and kicking (watching for changes)"));
+      }
+    } else {
+      artifactDirMonitorTimer.scheduleWithFixedDelay(this, 0, reloadIntervalMs, MILLISECONDS);
+
+      if (logger.isInfoEnabled()) {
+        logger.info(miniSplash(format("Mule is up and kicking (every %dms)", reloadIntervalMs)));
+      }
+    }
+  }
 
-    if (logger.isInfoEnabled()) {
-      logger.info(miniSplash(format("Mule is up and kicking (every %dms)", reloadIntervalMs)));
+  private boolean startChangeDetector() {
+    if (!changeDetector.start()) {
+      return false;
+    }
+
+    deploymentLock.lock();
+    try {
+      // Artifacts deployed during startup were added before the detector was started
+      for (Domain domain : domains) {
+        changeDetector.watch(domain);
+      }
+      for (Application application : applications) {
+        changeDetector.watch(application);
+      }
+    } finally {
+      deploymentLock.unlock();
     }
+    return true;
   }
 
   protected void deployPackedApps(String[] zips) {
@@ -274,6 +327,15 @@ public class DeploymentDirectoryWatcher implements Runnable {
         return;
       }
 
+      final ArtifactChanges changes = changeDetector.consumeChanges();
+      // artifacts that failed to deploy are checked on every cycle, as the file fixing them may not be watched
+      if (changes != null && changes.isEmpty() && !dirty && !hasZombieArtifacts()) {
+        if (logger.isDebugEnabled()) {
+          logger.debug("No changes detected on the deployment directories");
+        }
+        return;
+      }
+
       undeployRemovedApps();
 
       undeployRemovedDomains();
@@ -283,7 +345,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
 
       final String[] domainZips = domainsDir.list(ZIP_ARTIFACT_FILTER);
 
-      redeployModifiedDomains();
+      redeployModifiedDomains(changes);
 
       deployPackedDomains(domainZips);
 
@@ -294,7 +356,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
 
       deployExplodedDomains(domains);
 
-      redeployModifiedApplications();
+      redeployModifiedApplications(changes);
 
       // list new apps
       String[] apps = appsDir.list(DirectoryFileFilter.DIRECTORY);
@@ -309,6 +371,8 @@ public class DeploymentDirectoryWatcher implements Runnable {
       }
 
       deployExplodedApps(apps);
+
+      watchZombieArtifacts();
     } catch (Exception e) {
       // preserve the flag for the thread
       Thread.currentThread().interrupt();
@@ -320,6 +384,20 @@ public class DeploymentDirectoryWatcher implements Runnable {
     }
   }
 
+  private boolean hasZombieArtifacts() {
+    return !applicationArchiveDeployer.getArtifactsZombieMap().isEmpty()
+        || !domainArchiveDeployer.getArtifactsZombieMap().isEmpty();
+  }
+
+  private void watchZombieArtifacts() {
+    for (URI zombieFile : domainArchiveDeployer.getArtifactsZombieMap().keySet()) {
+      changeDetector.watchZombie(new File(zombieFile));
+    }
+    for (URI zombieFile : applicationArchiveDeployer.getArtifactsZombieMap().keySet()) {
+      changeDetector.watchZombie(new File(zombieFile));
+    }
+  }
+
   public <T extends Artifact> T findArtifact(String artifactName, ObservableList<T> artifacts) {
     return (T) find(artifacts, new BeanPropertyValueEqualsPredicate(ARTIFACT_NAME_PROPERTY, artifactName));
   }
@@ -385,7 +463,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
     return anchors;
   }
 
-  private void deployExplodedDomains(String[] domains) {
+  protected void deployExplodedDomains(String[] domains) {
     for (String addedDomain : domains) {
       try {
         if (domainArchiveDeployer.isUpdatedZombieArtifact(addedDomain)) {
@@ -397,7 +475,7 @@ public class DeploymentDirectoryWatcher implements Runnable {
     }
   }
 
-  private void deployPackedDomains(String[] zips) {
+  protected void deployPackedDomains(String[] zips) {
     for (String zip : zips) {
       try {
         domainArchiveDeployer.deployPackagedArtifact(zip);
@@ -433,20 +511,23 @@ public class DeploymentDirectoryWatcher implements Runnable {
     return appNames.toArray(new String[appNames.size()]);
   }
 
-  private void redeployModifiedDomains() {
-    Collection redeployableDomains = getArtifactsToRedeploy(domains);
+  private void redeployModifiedDomains(ArtifactChanges changes) {
+    Collection redeployableDomains =
+        getArtifactsToRedeploy(domains, domain -> changes == null || changes.isDomainChanged(domain.getArtifactName()));
     redeployModifiedArtifacts(redeployableDomains, domainTimestampListener, domainArchiveDeployer);
   }
 
-  private void redeployModifiedApplications() {
-    Collection redeployableApplications = getArtifactsToRedeploy(applications);
+  private void redeployModifiedApplications(ArtifactChanges changes) {
+    Collection redeployableApplications = getArtifactsToRedeploy(applications, application -> changes == null
+        || changes.isApplicationChanged(application.getArtifactName()));
     redeployModifiedArtifacts(redeployableApplications, applicationTimestampListener, applicationArchiveDeployer);
   }
 
-  private <T extends DeployableArtifact> Collection getArtifactsToRedeploy(Collection<T> collection) {
+  private <T extends DeployableArtifact> Collection getArtifactsToRedeploy(Collection<T> collection,
+                                                                           Predicate<T> changedArtifactPredicate) {
     return select(collection,
                   object -> ((DeployableArtifactDescriptor) ((DeployableArtifact) object).getDescriptor())
-                      .isRedeploymentEnabled());
+                      .isRedeploymentEnabled() && changedArtifactPredicate.test((T) object));
   }
 
   private <T extends Artifact> void redeployModifiedArtifacts(Collection<T> artifacts,
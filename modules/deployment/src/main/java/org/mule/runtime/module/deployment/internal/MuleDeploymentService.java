@@ -85,8 +85,8 @@ public class MuleDeploymentService implements DeploymentService {
     domainFactory.setMuleContextListenerFactory(new DeploymentMuleContextListenerFactory(domainDeploymentListener));
     applicationFactory.setMuleContextListenerFactory(new DeploymentMuleContextListenerFactory(applicationDeploymentListener));
 
-    ArtifactDeployer<Application> applicationMuleDeployer = new DefaultArtifactDeployer<>();
-    ArtifactDeployer<Domain> domainMuleDeployer = new DefaultArtifactDeployer<>();
+    ArtifactDeployer<Application> applicationMuleDeployer = new DefaultArtifactDeployer<>(applicationDeploymentListener);
+    ArtifactDeployer<Domain> domainMuleDeployer = new DefaultArtifactDeployer<>(domainDeploymentListener);
 
     this.applicationDeployer = new DefaultArchiveDeployer<>(applicationMuleDeployer, applicationFactory, applications,
                                                             NOP_ARTIFACT_DEPLOYMENT_TEMPLATE);
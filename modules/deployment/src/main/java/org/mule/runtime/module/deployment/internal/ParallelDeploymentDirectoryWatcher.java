@@ -7,6 +7,10 @@
 
 package org.mule.runtime.module.deployment.internal;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.scheduler.SchedulerConfig.config;
 
 import org.mule.runtime.api.scheduler.Scheduler;
@@ -24,68 +28,126 @@ import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.Supplier;
 
 /**
- * Provides parallel deployment of Mule applications.
+ * Provides parallel deployment of Mule domains and applications.
+ * <p/>
+ * Artifacts are deployed following their dependencies: all the domains are deployed concurrently first, and once every domain
+ * deployment has finished the applications, which may depend on any of them, are deployed concurrently. The number of artifacts
+ * deployed at the same time is bounded by the available processors and memory, unless configured through
+ * {@link #MAX_CONCURRENT_DEPLOYMENTS_PROPERTY}.
  *
  * @since 3.8.2
  */
 public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatcher {
 
-  private Scheduler threadPoolExecutor;
+  public static final String MAX_CONCURRENT_DEPLOYMENTS_PROPERTY = SYSTEM_PROPERTY_PREFIX + "deployment.parallel.maxConcurrency";
+
+  /**
+   * Rough estimation of the heap required to deploy an artifact, used to avoid exhausting memory when deploying in parallel.
+   */
+  private static final long ESTIMATED_DEPLOYMENT_MEMORY = 128 * 1024 * 1024;
+
+  private final int maxConcurrentDeployments;
 
   public ParallelDeploymentDirectoryWatcher(ArchiveDeployer<Domain> domainArchiveDeployer,
                                             ArchiveDeployer<Application> applicationArchiveDeployer,
                                             ObservableList<Domain> domains, ObservableList<Application> applications,
                                             Supplier<SchedulerService> schedulerServiceSupplier, ReentrantLock deploymentLock) {
     super(domainArchiveDeployer, applicationArchiveDeployer, domains, applications, schedulerServiceSupplier, deploymentLock);
+    this.maxConcurrentDeployments = getMaxConcurrentDeployments();
   }
 
-  @Override
-  protected void deployPackedApps(String[] zips) {
-    if (zips.length == 0) {
-      return;
+  static int getMaxConcurrentDeployments() {
+    Integer configuredValue = getInteger(MAX_CONCURRENT_DEPLOYMENTS_PROPERTY);
+    if (configuredValue != null && configuredValue > 0) {
+      return configuredValue;
     }
 
+    final Runtime runtime = Runtime.getRuntime();
+    final long memoryBound = runtime.maxMemory() / ESTIMATED_DEPLOYMENT_MEMORY;
+    return (int) max(1, min(runtime.availableProcessors(), memoryBound));
+  }
+
+  @Override
+  protected void deployPackedDomains(String[] zips) {
     List<Callable<Object>> tasks = new ArrayList<>(zips.length);
     for (final String zip : zips) {
-      tasks.add(() -> {
-        try {
-          applicationArchiveDeployer.deployPackagedArtifact(zip);
-        } catch (Exception e) {
-          // Ignore and continue
-        }
-        return null;
-      });
+      tasks.add(deploymentTask("domain", zip, () -> domainArchiveDeployer.deployPackagedArtifact(zip)));
     }
 
     waitForTasksToFinish(tasks);
   }
 
+  @Override
+  protected void deployExplodedDomains(String[] domains) {
+    List<Callable<Object>> tasks = new ArrayList<>(domains.length);
+    for (final String addedDomain : domains) {
+      if (domainArchiveDeployer.isUpdatedZombieArtifact(addedDomain)) {
+        tasks.add(deploymentTask("domain", addedDomain, () -> domainArchiveDeployer.deployExplodedArtifact(addedDomain)));
+      }
+    }
+
+    waitForTasksToFinish(tasks);
+  }
+
+  @Override
+  protected void deployPackedApps(String[] zips) {
+    List<Callable<Object>> tasks = new ArrayList<>(zips.length);
+    for (final String zip : zips) {
+      tasks.add(deploymentTask("application", zip, () -> applicationArchiveDeployer.deployPackagedArtifact(zip)));
+    }
+
+    waitForTasksToFinish(tasks);
+  }
 
   @Override
   protected void deployExplodedApps(String[] apps) {
     List<Callable<Object>> tasks = new ArrayList<>(apps.length);
-
     for (final String addedApp : apps) {
       if (applicationArchiveDeployer.isUpdatedZombieArtifact(addedApp)) {
-        tasks.add(() -> {
-          try {
-            applicationArchiveDeployer.deployExplodedArtifact(addedApp);
-          } catch (Exception e) {
-            // Ignore and continue
-          }
-          return null;
-        });
+        tasks.add(deploymentTask("application", addedApp, () -> applicationArchiveDeployer.deployExplodedArtifact(addedApp)));
       }
     }
 
-    if (!tasks.isEmpty()) {
-      waitForTasksToFinish(tasks);
-    }
+    waitForTasksToFinish(tasks);
+  }
+
+  /**
+   * Creates a task that deploys an artifact, logging any failure so the deployment of the remaining artifacts continues.
+   */
+  private Callable<Object> deploymentTask(String artifactType, String artifactName, ArtifactDeployment deployment) {
+    return () -> {
+      try {
+        deployment.deploy();
+      } catch (Exception e) {
+        logger.error("Error deploying {} '{}'", artifactType, artifactName, e);
+      }
+      return null;
+    };
+  }
+
+  @FunctionalInterface
+  private interface ArtifactDeployment {
+
+    void deploy() throws Exception;
   }
 
   private void waitForTasksToFinish(List<Callable<Object>> tasks) {
-    this.threadPoolExecutor =
-        schedulerServiceSupplier.get().ioScheduler(config().withName("parallelDeployment").withMaxConcurrentTasks(20));
+    if (tasks.isEmpty()) {
+      return;
+    }
+
+    if (tasks.size() == 1) {
+      // No need to hand over a single deployment to another thread
+      try {
+        tasks.get(0).call();
+      } catch (Exception e) {
+        // Not thrown, failures are logged by the task itself
+      }
+      return;
+    }
+
+    Scheduler threadPoolExecutor = schedulerServiceSupplier.get()
+        .ioScheduler(config().withName("parallelDeployment").withMaxConcurrentTasks(min(tasks.size(), maxConcurrentDeployments)));
     try {
       final List<Future<Object>> futures = threadPoolExecutor.invokeAll(tasks);
 
@@ -93,7 +155,7 @@ public class ParallelDeploymentDirectoryWatcher extends DeploymentDirectoryWatch
         try {
           future.get();
         } catch (ExecutionException e) {
-          // Ignore and continue with the next one
+          // Not thrown, failures are logged by the task itself
         }
       }
 
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.module.deployment.internal.DeploymentDirectoryWatcher.ARTIFACT_ANCHOR_SUFFIX;
+
+import org.mule.runtime.deployment.model.api.application.Application;
+import org.mule.runtime.module.deployment.internal.ArtifactDirectoryChangeDetector.ArtifactChanges;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.probe.JUnitProbe;
+import org.mule.tck.probe.PollingProber;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+
+import org.apache.commons.io.FileUtils;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class ArtifactDirectoryChangeDetectorTestCase extends AbstractMuleTestCase {
+
+  private static final String APP_NAME = "app";
+  private static final String DOMAIN_NAME = "domain";
+  private static final int TIMEOUT = 5000;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private File appsFolder;
+  private File domainsFolder;
+  private ArtifactDirectoryChangeDetector changeDetector;
+
+  @Before
+  public void setUp() throws Exception {
+    appsFolder = temporaryFolder.newFolder("apps");
+    domainsFolder = temporaryFolder.newFolder("domains");
+    changeDetector = new ArtifactDirectoryChangeDetector(appsFolder, domainsFolder);
+    assumeTrue(changeDetector.start());
+  }
+
+  @After
+  public void tearDown() {
+    changeDetector.stop();
+  }
+
+  @Test
+  public void noChanges() throws Exception {
+    ArtifactChanges changes = changeDetector.consumeChanges();
+
+    assertThat(changes.isEmpty(), is(true));
+  }
+
+  @Test
+  public void detectsRemovedAnchor() throws Exception {
+    File anchor = new File(appsFolder, APP_NAME + ARTIFACT_ANCHOR_SUFFIX);
+    FileUtils.touch(anchor);
+    changeDetector.consumeChanges();
+
+    anchor.delete();
+
+    assertApplicationChanged(APP_NAME);
+  }
+
+  @Test
+  public void detectsNewDomain() throws Exception {
+    new File(domainsFolder, DOMAIN_NAME).mkdir();
+
+    new PollingProber(TIMEOUT, 50).check(new JUnitProbe() {
+
+      @Override
+      protected boolean test() throws Exception {
+        ArtifactChanges changes = changeDetector.consumeChanges();
+        return changes.isDomainChanged(DOMAIN_NAME) && !changes.isApplicationChanged(DOMAIN_NAME);
+      }
+    });
+  }
+
+  @Test
+  public void detectsModifiedArtifactResource() throws Exception {
+    File appFolder = new File(appsFolder, APP_NAME);
+    File configFile = new File(appFolder, "mule-config.xml");
+    FileUtils.write(configFile, "<mule/>");
+
+    Application application = mock(Application.class);
+    when(application.getArtifactName()).thenReturn(APP_NAME);
+    when(application.getResourceFiles()).thenReturn(new File[] {configFile});
+    changeDetector.watch(application);
+    changeDetector.consumeChanges();
+
+    FileUtils.write(configFile, "<mule></mule>");
+
+    assertApplicationChanged(APP_NAME);
+  }
+
+  @Test
+  public void ignoresResourcesOfUnwatchedArtifact() throws Exception {
+    File appFolder = new File(appsFolder, APP_NAME);
+    File configFile = new File(appFolder, "mule-config.xml");
+    FileUtils.write(configFile, "<mule/>");
+
+    Application application = mock(Application.class);
+    when(application.getArtifactName()).thenReturn(APP_NAME);
+    when(application.getResourceFiles()).thenReturn(new File[] {configFile});
+    changeDetector.watch(application);
+    changeDetector.consumeChanges();
+    changeDetector.unwatch(application);
+
+    FileUtils.write(configFile, "<mule></mule>");
+    changeDetector.awaitChanges(500);
+    assertThat(changeDetector.consumeChanges().isApplicationChanged(APP_NAME), is(false));
+
+    changeDetector.watch(application);
+    FileUtils.write(configFile, "<mule/>");
+    assertApplicationChanged(APP_NAME);
+  }
+
+  @Test
+  public void detectsModifiedZombieArtifactResource() throws Exception {
+    File configFolder = new File(new File(appsFolder, APP_NAME), "config");
+    File configFile = new File(configFolder, "mule-config.xml");
+    FileUtils.write(configFile, "<mule/>");
+
+    changeDetector.watchZombie(configFile);
+    changeDetector.consumeChanges();
+
+    FileUtils.write(configFile, "<mule></mule>");
+
+    assertApplicationChanged(APP_NAME);
+  }
+
+  @Test
+  public void noChangesWhenStopped() throws Exception {
+    changeDetector.stop();
+
+    assertThat(changeDetector.consumeChanges(), is(nullValue()));
+  }
+
+  private void assertApplicationChanged(String appName) {
+    new PollingProber(TIMEOUT, 50).check(new JUnitProbe() {
+
+      @Override
+      protected boolean test() throws Exception {
+        changeDetector.awaitChanges(50);
+        return changeDetector.consumeChanges().isApplicationChanged(appName);
+      }
+    });
+  }
+}
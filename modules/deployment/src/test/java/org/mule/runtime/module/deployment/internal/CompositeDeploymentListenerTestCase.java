@@ -10,6 +10,7 @@ import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.mule.runtime.module.deployment.api.DeploymentPhase.INIT;
 import org.mule.runtime.api.config.custom.CustomizationService;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.module.deployment.api.DeploymentListener;
@@ -75,6 +76,22 @@ public class CompositeDeploymentListenerTestCase extends AbstractMuleTestCase {
     verify(listener2, times(1)).onDeploymentFailure(APP_NAME, DEPLOYMENT_EXCEPTION);
   }
 
+  @Test
+  public void testNotifiesDeploymentPhaseCompleted() throws Exception {
+    compositeDeploymentListener.onDeploymentPhaseCompleted(APP_NAME, INIT, 10);
+
+    verify(listener1, times(1)).onDeploymentPhaseCompleted(APP_NAME, INIT, 10);
+    verify(listener2, times(1)).onDeploymentPhaseCompleted(APP_NAME, INIT, 10);
+  }
+
+  @Test
+  public void testNotifiesDeploymentCompleted() throws Exception {
+    compositeDeploymentListener.onDeploymentCompleted(APP_NAME, 10);
+
+    verify(listener1, times(1)).onDeploymentCompleted(APP_NAME, 10);
+    verify(listener2, times(1)).onDeploymentCompleted(APP_NAME, 10);
+  }
+
   @Test
   public void testNotifiesUndeploymentStart() throws Exception {
     compositeDeploymentListener.onUndeploymentStart(APP_NAME);
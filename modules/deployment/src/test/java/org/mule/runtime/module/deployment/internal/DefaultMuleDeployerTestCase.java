@@ -6,14 +6,25 @@
  */
 package org.mule.runtime.module.deployment.internal;
 
+import static org.hamcrest.Matchers.arrayContaining;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertThat;
 import static org.junit.Assert.fail;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Matchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.module.deployment.api.DeploymentPhase.INIT;
+import static org.mule.runtime.module.deployment.api.DeploymentPhase.INSTALL;
+import static org.mule.runtime.module.deployment.api.DeploymentPhase.START;
 
 import org.mule.runtime.deployment.model.api.application.Application;
 import org.mule.runtime.deployment.model.api.DeploymentException;
+import org.mule.runtime.module.deployment.api.DeploymentListener;
 import org.mule.tck.junit4.AbstractMuleTestCase;
 import org.mule.tck.size.SmallTest;
 
@@ -36,4 +47,58 @@ public class DefaultMuleDeployerTestCase extends AbstractMuleTestCase {
 
     verify(app, times(1)).dispose();
   }
+
+  @Test
+  public void notifiesDeploymentPhases() throws Exception {
+    DeploymentListener listener = mock(DeploymentListener.class);
+    DefaultArtifactDeployer deployer = new DefaultArtifactDeployer(listener);
+    Application app = mock(Application.class);
+    when(app.getArtifactName()).thenReturn("app");
+
+    deployer.deploy(app);
+
+    verify(listener).onDeploymentPhaseCompleted(eq("app"), eq(INSTALL), anyLong());
+    verify(listener).onDeploymentPhaseCompleted(eq("app"), eq(INIT), anyLong());
+    verify(listener).onDeploymentPhaseCompleted(eq("app"), eq(START), anyLong());
+    verify(listener).onDeploymentCompleted(eq("app"), anyLong());
+  }
+
+  @Test
+  public void notifiesDeploymentCompletedOnFailure() throws Exception {
+    DeploymentListener listener = mock(DeploymentListener.class);
+    DefaultArtifactDeployer deployer = new DefaultArtifactDeployer(listener);
+    Application app = mock(Application.class);
+    when(app.getArtifactName()).thenReturn("app");
+    doThrow(new IllegalStateException()).when(app).init();
+
+    try {
+      deployer.deploy(app);
+      fail("Deployment is supposed to fail");
+    } catch (DeploymentException expected) {
+    }
+
+    verify(listener).onDeploymentPhaseCompleted(eq("app"), eq(INSTALL), anyLong());
+    verify(listener, never()).onDeploymentPhaseCompleted(eq("app"), eq(START), anyLong());
+    verify(listener).onDeploymentCompleted(eq("app"), anyLong());
+  }
+
+  @Test
+  public void listenerFailureDoesNotHideDeploymentFailure() throws Exception {
+    DeploymentListener listener = mock(DeploymentListener.class);
+    DefaultArtifactDeployer deployer = new DefaultArtifactDeployer(listener);
+    Application app = mock(Application.class);
+    when(app.getArtifactName()).thenReturn("app");
+    IllegalStateException deploymentFailure = new IllegalStateException();
+    doThrow(deploymentFailure).when(app).init();
+    IllegalStateException listenerFailure = new IllegalStateException();
+    doThrow(listenerFailure).when(listener).onDeploymentCompleted(eq("app"), anyLong());
+
+    try {
+      deployer.deploy(app);
+      fail("Deployment is supposed to fail");
+    } catch (DeploymentException expected) {
+      assertThat(expected.getCause(), sameInstance(deploymentFailure));
+      assertThat(expected.getSuppressed(), arrayContaining(sameInstance(listenerFailure)));
+    }
+  }
 }
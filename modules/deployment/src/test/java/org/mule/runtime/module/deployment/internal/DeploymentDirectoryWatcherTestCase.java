@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.deployment.internal;
+
+import static java.util.Collections.singletonMap;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.mule.runtime.module.deployment.internal.DeploymentDirectoryWatcher.CHANGE_CHECK_INTERVAL_PROPERTY;
+
+import org.mule.runtime.deployment.model.api.application.Application;
+import org.mule.runtime.deployment.model.api.domain.Domain;
+import org.mule.runtime.module.deployment.internal.util.DebuggableReentrantLock;
+import org.mule.runtime.module.deployment.internal.util.ObservableList;
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.junit4.rule.SystemProperty;
+import org.mule.tck.size.SmallTest;
+
+import java.io.File;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+@SmallTest
+public class DeploymentDirectoryWatcherTestCase extends AbstractMuleTestCase {
+
+  private static final String APP_NAME = "app";
+  private static final int TIMEOUT = 5000;
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Rule
+  public SystemProperty changeCheckInterval = new SystemProperty(CHANGE_CHECK_INTERVAL_PROPERTY, "10");
+
+  private final ArchiveDeployer<Domain> domainDeployer = mock(ArchiveDeployer.class);
+  private final ArchiveDeployer<Application> applicationDeployer = mock(ArchiveDeployer.class);
+  private DeploymentDirectoryWatcher watcher;
+
+  @Before
+  public void setUp() throws Exception {
+    when(domainDeployer.getDeploymentDirectory()).thenReturn(temporaryFolder.newFolder("domains"));
+    when(applicationDeployer.getDeploymentDirectory()).thenReturn(temporaryFolder.newFolder("apps"));
+    watcher = new DeploymentDirectoryWatcher(domainDeployer, applicationDeployer, new ObservableList<>(), new ObservableList<>(),
+                                             () -> null, new DebuggableReentrantLock());
+  }
+
+  @After
+  public void tearDown() {
+    watcher.stop();
+  }
+
+  @Test
+  public void redeploysFixedZombieApplicationWithoutWatchedChanges() throws Exception {
+    File appFolder = new File(applicationDeployer.getDeploymentDirectory(), APP_NAME);
+    appFolder.mkdir();
+    when(applicationDeployer.getArtifactsZombieMap()).thenReturn(singletonMap(appFolder.toURI(), appFolder.lastModified()));
+
+    // the fix of the application is a change on a nested file, which is not reported by the watched directories
+    AtomicBoolean fixed = new AtomicBoolean(false);
+    when(applicationDeployer.isUpdatedZombieArtifact(APP_NAME)).thenAnswer(invocation -> fixed.get());
+
+    watcher.start();
+    verify(applicationDeployer, never()).deployExplodedArtifact(APP_NAME);
+
+    fixed.set(true);
+
+    verify(applicationDeployer, timeout(TIMEOUT)).deployExplodedArtifact(APP_NAME);
+  }
+}
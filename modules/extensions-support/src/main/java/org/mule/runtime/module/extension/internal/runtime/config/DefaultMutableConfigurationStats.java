@@ -18,8 +18,9 @@ import java.util.concurrent.atomic.AtomicInteger;
 final class DefaultMutableConfigurationStats implements MutableConfigurationStats {
 
   private final AtomicInteger inflightOperations = new AtomicInteger(0);
+  private final AtomicInteger pendingOperations = new AtomicInteger(0);
   private final TimeSupplier timeSupplier;
-  private long lastUsedMillis;
+  private volatile long lastUsedMillis;
 
   /**
    * Creates a new instance using the given {@code timeSupplier} to obtain the current time and update the
@@ -62,7 +63,10 @@ final class DefaultMutableConfigurationStats implements MutableConfigurationStat
   @Override
   public int addInflightOperation() {
     updateLastUsed();
-    return inflightOperations.incrementAndGet();
+    int inflight = inflightOperations.incrementAndGet();
+    // the operation is counted as inflight before releasing its pending mark, so it never looks idle in between
+    pendingOperations.getAndUpdate(pending -> pending > 0 ? pending - 1 : 0);
+    return inflight;
   }
 
   /**
@@ -73,4 +77,28 @@ final class DefaultMutableConfigurationStats implements MutableConfigurationStat
     updateLastUsed();
     return inflightOperations.decrementAndGet();
   }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int addPendingOperation() {
+    return pendingOperations.incrementAndGet();
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int discountPendingOperation() {
+    return pendingOperations.updateAndGet(pending -> pending > 0 ? pending - 1 : 0);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public int getPendingOperations() {
+    return pendingOperations.get();
+  }
 }
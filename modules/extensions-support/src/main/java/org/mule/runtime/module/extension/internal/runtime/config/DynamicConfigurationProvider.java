@@ -6,15 +6,17 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.config;
 
+import static java.lang.Integer.getInteger;
 import static java.util.Optional.ofNullable;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.mule.runtime.api.i18n.I18nMessageFactory.createStaticMessage;
+import static org.mule.runtime.core.api.config.MuleProperties.SYSTEM_PROPERTY_PREFIX;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
 import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
-import static org.mule.runtime.core.api.util.collection.Collectors.toImmutableList;
 import static org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolvingContext.from;
 import static org.slf4j.LoggerFactory.getLogger;
 import org.mule.runtime.api.connection.ConnectionProvider;
@@ -25,6 +27,7 @@ import org.mule.runtime.api.lifecycle.InitialisationException;
 import org.mule.runtime.api.lifecycle.Startable;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.scheduler.Scheduler;
 import org.mule.runtime.core.api.Event;
 import org.mule.runtime.core.api.MuleContext;
 import org.mule.runtime.core.api.util.Pair;
@@ -38,13 +41,19 @@ import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSet;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult;
 import org.mule.runtime.module.extension.internal.runtime.resolver.ValueResolver;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
 
+import com.google.common.collect.ImmutableList;
 import org.slf4j.Logger;
 
 /**
@@ -55,23 +64,64 @@ import org.slf4j.Logger;
  * {@link #resolverSet#resolve(Object)}, the resulting {@link ResolverSetResult} might not end up generating a new instance. This
  * is so because {@link ResolverSetResult} instances are put in a cache to guarantee that equivalent evaluations of the
  * {@code resolverSet} return the same instance.
+ * <p>
+ * The cache is lock free: hits only touch the cached entry, while misses and evictions are atomic on a per key basis, so
+ * resolving a configuration never waits on an expiration sweep. New instances are created outside of the cache, so their
+ * lifecycle doesn't block the resolution of other keys. The amount of cached instances can be bounded through the
+ * {@link #MAX_CACHED_INSTANCES_PROPERTY} system property, in which case the least recently used idle instances are evicted and
+ * disposed asynchronously once the bound is exceeded. The recency of bounded caches is kept in an access ordered map whose lock
+ * is only held to move a single entry.
  *
  * @since 4.0.0
  */
 public final class DynamicConfigurationProvider extends LifecycleAwareConfigurationProvider
     implements ExpirableConfigurationProvider {
 
+  /**
+   * System property to set the maximum amount of configuration instances each provider keeps. Non positive values (the default)
+   * mean that the instances are only discarded when they expire.
+   */
+  public static final String MAX_CACHED_INSTANCES_PROPERTY = SYSTEM_PROPERTY_PREFIX + "dynamicConfig.maxCachedInstances";
+
   private static final Logger LOGGER = getLogger(DynamicConfigurationProvider.class);
 
   private final ConfigurationInstanceFactory configurationInstanceFactory;
   private final ResolverSet resolverSet;
   private final ConnectionProviderValueResolver connectionProviderResolver;
   private final ExpirationPolicy expirationPolicy;
+  private final int maxCachedInstances;
 
-  private final Map<Pair<ResolverSetResult, ResolverSetResult>, ConfigurationInstance> cache = new ConcurrentHashMap<>();
-  private final ReadWriteLock cacheLock = new ReentrantReadWriteLock();
-  private final Lock cacheReadLock = cacheLock.readLock();
-  private final Lock cacheWriteLock = cacheLock.writeLock();
+  private final Map<Pair<ResolverSetResult, ResolverSetResult>, CacheEntry> cache = new ConcurrentHashMap<>();
+  // least recently used first, only maintained when the cache is bounded
+  private final LinkedHashMap<Pair<ResolverSetResult, ResolverSetResult>, CacheEntry> recency =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final AtomicBoolean evicting = new AtomicBoolean(false);
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+
+  private volatile Scheduler disposalScheduler;
+
+  /**
+   * Creates a new instance
+   *
+   * @param name this provider's name
+   * @param extensionModel the model that owns the {@code configurationModel}
+   * @param configurationModel the model for the returned configurations
+   * @param resolverSet the {@link ResolverSet} that provides the configuration's parameter values
+   * @param connectionProviderResolver a {@link ValueResolver} used to obtain a {@link ConnectionProvider}
+   * @param expirationPolicy the {@link ExpirationPolicy} for the unused instances
+   */
+  public DynamicConfigurationProvider(String name,
+                                      ExtensionModel extensionModel,
+                                      ConfigurationModel configurationModel,
+                                      ResolverSet resolverSet,
+                                      ConnectionProviderValueResolver connectionProviderResolver,
+                                      ExpirationPolicy expirationPolicy,
+                                      MuleContext muleContext) {
+    this(name, extensionModel, configurationModel, resolverSet, connectionProviderResolver, expirationPolicy,
+         getInteger(MAX_CACHED_INSTANCES_PROPERTY, 0), muleContext);
+  }
 
   /**
    * Creates a new instance
@@ -82,6 +132,7 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
    * @param resolverSet the {@link ResolverSet} that provides the configuration's parameter values
    * @param connectionProviderResolver a {@link ValueResolver} used to obtain a {@link ConnectionProvider}
    * @param expirationPolicy the {@link ExpirationPolicy} for the unused instances
+   * @param maxCachedInstances the maximum amount of instances to keep. Non positive values mean no bound
    */
   public DynamicConfigurationProvider(String name,
                                       ExtensionModel extensionModel,
@@ -89,6 +140,7 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
                                       ResolverSet resolverSet,
                                       ConnectionProviderValueResolver connectionProviderResolver,
                                       ExpirationPolicy expirationPolicy,
+                                      int maxCachedInstances,
                                       MuleContext muleContext) {
     super(name, extensionModel, configurationModel, muleContext);
     configurationInstanceFactory =
@@ -96,6 +148,7 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     this.resolverSet = resolverSet;
     this.connectionProviderResolver = connectionProviderResolver;
     this.expirationPolicy = expirationPolicy;
+    this.maxCachedInstances = maxCachedInstances;
   }
 
   /**
@@ -117,41 +170,132 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     });
   }
 
-  private ConfigurationInstance getConfiguration(Pair<ResolverSetResult, ResolverSetResult> resolverSetResult, Event event)
-      throws Exception {
-    ConfigurationInstance configuration;
-    cacheReadLock.lock();
+  private ConfigurationInstance getConfiguration(Pair<ResolverSetResult, ResolverSetResult> resolverSetResult, Event event) {
+    CacheEntry entry = cache.get(resolverSetResult);
+    if (entry != null && entry.touch()) {
+      hits.increment();
+      recordAccess(resolverSetResult, entry);
+      return entry.configuration;
+    }
+
+    CacheEntry created;
     try {
-      configuration = cache.get(resolverSetResult);
-      if (configuration != null) {
-        // important to account between the boundaries of the lock to prevent race condition
-        updateUsageStatistic(configuration);
-        return configuration;
+      created = new CacheEntry(createConfiguration(resolverSetResult.getFirst(), event));
+    } catch (MuleException e) {
+      throw new MuleRuntimeException(e);
+    }
+    created.touch();
+
+    CacheEntry current;
+    while ((current = cache.putIfAbsent(resolverSetResult, created)) != null) {
+      // some other thread may have beaten us to it, unless that instance was evicted in the meantime
+      if (current.touch()) {
+        unregisterConfiguration(created.configuration);
+        disposeDiscarded(created.configuration);
+        hits.increment();
+        recordAccess(resolverSetResult, current);
+        return current.configuration;
+      }
+      if (cache.replace(resolverSetResult, current, created)) {
+        break;
+      }
+    }
+
+    misses.increment();
+    recordAccess(resolverSetResult, created);
+    if (maxCachedInstances > 0 && cache.size() > maxCachedInstances) {
+      evictLeastRecentlyUsed(created);
+    }
+
+    return created.configuration;
+  }
+
+  private void recordAccess(Pair<ResolverSetResult, ResolverSetResult> key, CacheEntry entry) {
+    if (maxCachedInstances > 0 && !entry.isEvicted()) {
+      synchronized (recency) {
+        // re-inserting an existing mapping moves it to the end in an access ordered map
+        recency.put(key, entry);
       }
-    } finally {
-      cacheReadLock.unlock();
+    }
+  }
+
+  private void forgetAccess(Pair<ResolverSetResult, ResolverSetResult> key, CacheEntry entry) {
+    if (maxCachedInstances > 0) {
+      synchronized (recency) {
+        recency.remove(key, entry);
+      }
+    }
+  }
+
+  /**
+   * Evicts the least recently used idle instances until the cache is back within its bound.
+   *
+   * @param inUse the entry about to be handed out, which is never evicted
+   */
+  private void evictLeastRecentlyUsed(CacheEntry inUse) {
+    // a single thread sweeps at a time, the others just carry on while the cache is momentarily above its bound
+    if (!evicting.compareAndSet(false, true)) {
+      return;
     }
 
-    cacheWriteLock.lock();
     try {
-      // re-check in case some other thread beat us to it...
-      configuration = cache.get(resolverSetResult);
-      if (configuration == null) {
-        configuration = createConfiguration(resolverSetResult.getFirst(), event);
-        cache.put(resolverSetResult, configuration);
+      List<Entry<Pair<ResolverSetResult, ResolverSetResult>, CacheEntry>> evicted = new ArrayList<>();
+      synchronized (recency) {
+        Iterator<Entry<Pair<ResolverSetResult, ResolverSetResult>, CacheEntry>> iterator = recency.entrySet().iterator();
+        while (iterator.hasNext() && cache.size() - evicted.size() > maxCachedInstances) {
+          Entry<Pair<ResolverSetResult, ResolverSetResult>, CacheEntry> entry = iterator.next();
+          if (entry.getValue().isEvicted()) {
+            // evicted by the expiration monitor after its last access was recorded
+            iterator.remove();
+          } else if (entry.getValue() != inUse && entry.getValue().evictIf(this::isIdle)) {
+            iterator.remove();
+            evicted.add(entry);
+          }
+        }
       }
 
-      // accounting here for the same reasons as above
-      updateUsageStatistic(configuration);
-      return configuration;
+      for (Entry<Pair<ResolverSetResult, ResolverSetResult>, CacheEntry> entry : evicted) {
+        removeEvicted(entry.getKey(), entry.getValue());
+        disposeDiscarded(entry.getValue().configuration);
+      }
     } finally {
-      cacheWriteLock.unlock();
+      evicting.set(false);
     }
   }
 
-  private void updateUsageStatistic(ConfigurationInstance configuration) {
-    MutableConfigurationStats stats = (MutableConfigurationStats) configuration.getStatistics();
-    stats.updateLastUsed();
+  private boolean evict(Pair<ResolverSetResult, ResolverSetResult> key, CacheEntry entry,
+                        Predicate<ConfigurationInstance> condition) {
+    if (entry.evictIf(condition)) {
+      forgetAccess(key, entry);
+      removeEvicted(key, entry);
+      return true;
+    }
+
+    return false;
+  }
+
+  private void removeEvicted(Pair<ResolverSetResult, ResolverSetResult> key, CacheEntry entry) {
+    cache.remove(key, entry);
+    unregisterConfiguration(entry.configuration);
+    evictions.increment();
+  }
+
+  private void disposeDiscarded(ConfigurationInstance configuration) {
+    Runnable disposal = () -> withContextClassLoader(getExtensionClassLoader(), () -> {
+      try {
+        stopIfNeeded(configuration);
+      } catch (Exception e) {
+        LOGGER.warn("Exception while stopping discarded " + configuration.toString(), e);
+      }
+      disposeIfNeeded(configuration, LOGGER);
+    });
+
+    Scheduler scheduler = disposalScheduler;
+    if (scheduler != null) {
+      scheduler.execute(disposal);
+    } else {
+      disposal.run();
+    }
   }
 
   private ConfigurationInstance createConfiguration(ResolverSetResult result, Event event) throws MuleException {
@@ -202,15 +346,14 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
 
   @Override
   public List<ConfigurationInstance> getExpired() {
-    cacheWriteLock.lock();
-    try {
-      return cache.entrySet().stream().filter(entry -> isExpired(entry.getValue())).map(entry -> {
-        cache.remove(entry.getKey());
-        return entry.getValue();
-      }).collect(toImmutableList());
-    } finally {
-      cacheWriteLock.unlock();
-    }
+    ImmutableList.Builder<ConfigurationInstance> expired = ImmutableList.builder();
+    cache.forEach((key, entry) -> {
+      if (evict(key, entry, this::isExpired)) {
+        expired.add(entry.configuration);
+      }
+    });
+
+    return expired.build();
   }
 
   private boolean isExpired(ConfigurationInstance configuration) {
@@ -218,6 +361,39 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
     return stats.getInflightOperations() == 0 && expirationPolicy.isExpired(stats.getLastUsedMillis(), MILLISECONDS);
   }
 
+  private boolean isIdle(ConfigurationInstance configuration) {
+    MutableConfigurationStats stats = (MutableConfigurationStats) configuration.getStatistics();
+    return stats.getInflightOperations() == 0 && stats.getPendingOperations() == 0;
+  }
+
+  /**
+   * @return the amount of times a cached {@link ConfigurationInstance} was returned
+   */
+  public long getCacheHits() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the amount of times a new {@link ConfigurationInstance} had to be created
+   */
+  public long getCacheMisses() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the amount of {@link ConfigurationInstance}s discarded, either because they expired or to keep the cache bounded
+   */
+  public long getCacheEvictions() {
+    return evictions.sum();
+  }
+
+  /**
+   * @return the amount of {@link ConfigurationInstance}s currently cached
+   */
+  public int getCachedInstancesCount() {
+    return cache.size();
+  }
+
   @Override
   protected void doInitialise() {
     try {
@@ -232,5 +408,67 @@ public final class DynamicConfigurationProvider extends LifecycleAwareConfigurat
   public void start() throws MuleException {
     super.start();
     startIfNeeded(connectionProviderResolver);
+    if (maxCachedInstances > 0) {
+      disposalScheduler = muleContext.getSchedulerService().ioScheduler(muleContext.getSchedulerBaseConfig()
+          .withName(getName() + ".evicted.disposal").withShutdownTimeout(30, SECONDS));
+    }
+  }
+
+  @Override
+  public void stop() throws MuleException {
+    Scheduler scheduler = disposalScheduler;
+    disposalScheduler = null;
+    if (scheduler != null) {
+      scheduler.stop();
+    }
+    super.stop();
+  }
+
+  /**
+   * A cached {@link ConfigurationInstance}.
+   * <p>
+   * Each hit marks a pending operation on the instance and then bumps the {@link #accessStamp}, and eviction only succeeds if the
+   * stamp didn't change since the eviction condition was evaluated. This way, an evicted instance is never handed out again
+   * without having to lock the whole cache. The pending operation is turned into an inflight one once the operation executes,
+   * so the least recently used eviction never disposes an instance between it being handed out and its operation starting.
+   * An instance handed out for an operation that never starts is only discarded once it expires.
+   */
+  private static final class CacheEntry {
+
+    private static final long EVICTED = -1;
+
+    private final ConfigurationInstance configuration;
+    private final AtomicLong accessStamp = new AtomicLong(0);
+
+    private CacheEntry(ConfigurationInstance configuration) {
+      this.configuration = configuration;
+    }
+
+    private boolean touch() {
+      MutableConfigurationStats stats = (MutableConfigurationStats) configuration.getStatistics();
+      stats.updateLastUsed();
+      // marked before bumping the stamp, so an eviction which already evaluated the instance as idle fails
+      stats.addPendingOperation();
+
+      long stamp;
+      do {
+        stamp = accessStamp.get();
+        if (stamp == EVICTED) {
+          stats.discountPendingOperation();
+          return false;
+        }
+      } while (!accessStamp.compareAndSet(stamp, stamp + 1));
+
+      return true;
+    }
+
+    private boolean isEvicted() {
+      return accessStamp.get() == EVICTED;
+    }
+
+    private boolean evictIf(Predicate<ConfigurationInstance> condition) {
+      long stamp = accessStamp.get();
+      return stamp != EVICTED && condition.test(configuration) && accessStamp.compareAndSet(stamp, EVICTED);
+    }
   }
 }
@@ -33,8 +33,8 @@ import org.mule.runtime.extension.api.runtime.ConfigurationProvider;
 
 import org.slf4j.Logger;
 
-import java.util.LinkedList;
-import java.util.List;
+import java.util.Collection;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * Base class for implementations of {@link ConfigurationProvider} which keep track of the {@link ConfigurationInstance} they
@@ -53,7 +53,7 @@ public abstract class LifecycleAwareConfigurationProvider extends AbstractAnnota
   private final String name;
   private final ExtensionModel extensionModel;
   private final ConfigurationModel configurationModel;
-  private final List<ConfigurationInstance> configurationInstances = new LinkedList<>();
+  private final Collection<ConfigurationInstance> configurationInstances = new ConcurrentLinkedQueue<>();
   private final ClassLoader extensionClassLoader;
   protected final SimpleLifecycleManager lifecycleManager;
   protected final MuleContext muleContext;
@@ -161,6 +161,16 @@ public abstract class LifecycleAwareConfigurationProvider extends AbstractAnnota
     configurationInstances.add(configuration);
   }
 
+  /**
+   * Implementations are to invoke this method when a {@link ConfigurationInstance} previously passed to
+   * {@link #registerConfiguration(ConfigurationInstance)} is discarded, so that the lifecycle is no longer propagated to it
+   *
+   * @param configuration a discarded {@link ConfigurationInstance}
+   */
+  protected void unregisterConfiguration(ConfigurationInstance configuration) {
+    configurationInstances.remove(configuration);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -35,4 +35,24 @@ public interface MutableConfigurationStats extends ConfigurationStats {
    * @return the new value
    */
   int discountInflightOperation();
+
+  /**
+   * Records that the configuration was handed out for an operation which didn't start yet. The next
+   * {@link #addInflightOperation()} turns it into an inflight operation.
+   *
+   * @return the new amount of pending operations
+   */
+  int addPendingOperation();
+
+  /**
+   * Discards an operation recorded through {@link #addPendingOperation()} which is not going to start
+   *
+   * @return the new amount of pending operations
+   */
+  int discountPendingOperation();
+
+  /**
+   * @return the amount of operations for which the configuration was handed out but which didn't start yet
+   */
+  int getPendingOperations();
 }
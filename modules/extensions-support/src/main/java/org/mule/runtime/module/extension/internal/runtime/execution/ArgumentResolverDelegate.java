@@ -20,8 +20,7 @@ interface ArgumentResolverDelegate {
    * Returns an object array with the argument values of the given {@code executionContext}
    *
    * @param executionContext the {@link ExecutionContext context} of an {@link ComponentModel} being currently executed
-   * @param parameterTypes
    * @return an object array
    */
-  Object[] resolve(ExecutionContext executionContext, Class<?>[] parameterTypes);
+  Object[] resolve(ExecutionContext executionContext);
 }
@@ -87,6 +87,7 @@ public final class MethodArgumentResolverDelegate implements ArgumentResolverDel
   private final Method method;
   private final JavaTypeLoader typeLoader = new JavaTypeLoader(this.getClass().getClassLoader());
   private ArgumentResolver<?>[] argumentResolvers;
+  private Object[] primitiveDefaultValues;
   private Map<java.lang.reflect.Parameter, ParameterGroupArgumentResolver<?>> parameterGroupResolvers;
 
   /**
@@ -105,10 +106,12 @@ public final class MethodArgumentResolverDelegate implements ArgumentResolverDel
 
     if (isEmpty(parameterTypes)) {
       argumentResolvers = new ArgumentResolver[] {};
+      primitiveDefaultValues = new Object[] {};
       return;
     }
 
     argumentResolvers = new ArgumentResolver[parameterTypes.length];
+    primitiveDefaultValues = new Object[parameterTypes.length];
     Annotation[][] parameterAnnotations = method.getParameterAnnotations();
     Parameter[] parameters = method.getParameters();
     parameterGroupResolvers = getParameterGroupResolvers(parameterGroupModels);
@@ -156,32 +159,25 @@ public final class MethodArgumentResolverDelegate implements ArgumentResolverDel
       }
 
       argumentResolvers[i] = argumentResolver;
+      primitiveDefaultValues[i] = resolvePrimitiveTypeDefaultValue(parameterType);
     }
   }
 
+  /**
+   * {@inheritDoc}
+   * <p>
+   * Arguments which resolve to {@code null} are replaced by the default value of the parameter's type, which was computed when
+   * this delegate was created.
+   */
   @Override
-  public Object[] resolve(ExecutionContext executionContext, Class<?>[] parameterTypes) {
-
-    Object[] parameterValues = new Object[argumentResolvers.length];
-    int i = 0;
-    for (ArgumentResolver<?> argumentResolver : argumentResolvers) {
-      parameterValues[i++] = argumentResolver.resolve(executionContext);
+  public Object[] resolve(ExecutionContext executionContext) {
+    final Object[] parameterValues = new Object[argumentResolvers.length];
+    for (int i = 0; i < argumentResolvers.length; i++) {
+      final Object parameterValue = argumentResolvers[i].resolve(executionContext);
+      parameterValues[i] = parameterValue != null ? parameterValue : primitiveDefaultValues[i];
     }
 
-    return resolvePrimitiveTypes(parameterTypes, parameterValues);
-  }
-
-  private Object[] resolvePrimitiveTypes(Class<?>[] parametersType, Object[] parameterValues) {
-    Object[] resolvedParameters = new Object[parameterValues.length];
-    for (int i = 0; i < parameterValues.length; i++) {
-      Object parameterValue = parameterValues[i];
-      if (parameterValue == null) {
-        resolvedParameters[i] = resolvePrimitiveTypeDefaultValue(parametersType[i]);
-      } else {
-        resolvedParameters[i] = parameterValue;
-      }
-    }
-    return resolvedParameters;
+    return parameterValues;
   }
 
   private Object resolvePrimitiveTypeDefaultValue(Class<?> type) {
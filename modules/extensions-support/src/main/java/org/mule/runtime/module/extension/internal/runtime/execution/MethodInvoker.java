@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.execution;
+
+import static java.lang.invoke.MethodHandles.publicLookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
+import static org.slf4j.LoggerFactory.getLogger;
+import static org.springframework.util.ReflectionUtils.invokeMethod;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import org.slf4j.Logger;
+
+/**
+ * Invokes a {@link Method} on a fixed target instance.
+ * <p>
+ * The invocation is performed through a {@link MethodHandle} which is bound to the target instance and adapted once to take the
+ * arguments as an {@code Object[]}, so the access checks and argument validations of {@link Method#invoke(Object, Object...)}
+ * are done once when the invoker is created instead of on each invocation. If the method is not accessible through a public
+ * lookup, it falls back to reflective invocation.
+ * <p>
+ * On both cases, exceptions are propagated with the same semantics as {@link org.springframework.util.ReflectionUtils}: unchecked
+ * exceptions are thrown as is, while checked ones are wrapped into an {@link UndeclaredThrowableException}.
+ *
+ * @since 4.0
+ */
+public final class MethodInvoker {
+
+  private static final Logger LOGGER = getLogger(MethodInvoker.class);
+
+  private final Method method;
+  private final Object target;
+  private final MethodHandle methodHandle;
+
+  /**
+   * Creates a new instance
+   *
+   * @param method the {@link Method} to invoke
+   * @param target the instance on which the {@code method} is invoked. Ignored for static methods.
+   */
+  public MethodInvoker(Method method, Object target) {
+    this.method = method;
+    this.target = target;
+    this.methodHandle = createMethodHandle(method, target);
+  }
+
+  private static MethodHandle createMethodHandle(Method method, Object target) {
+    try {
+      MethodHandle handle = publicLookup().unreflect(method);
+      if (!isStatic(method.getModifiers())) {
+        handle = handle.bindTo(target);
+      }
+
+      return handle.asSpreader(Object[].class, method.getParameterCount())
+          .asType(methodType(Object.class, Object[].class));
+    } catch (IllegalAccessException | IllegalArgumentException e) {
+      if (LOGGER.isDebugEnabled()) {
+        LOGGER.debug("Method '{}' cannot be invoked through a method handle, falling back to reflection", method, e);
+      }
+      return null;
+    }
+  }
+
+  /**
+   * Invokes the method with the given {@code arguments}
+   *
+   * @param arguments the arguments to pass to the method, which should match its parameter types
+   * @return the value returned by the method, or {@code null} if the method is {@code void}
+   */
+  public Object invoke(Object[] arguments) {
+    if (methodHandle == null) {
+      return invokeMethod(method, target, arguments);
+    }
+
+    try {
+      return (Object) methodHandle.invokeExact(arguments);
+    } catch (RuntimeException | Error e) {
+      throw e;
+    } catch (Throwable t) {
+      throw new UndeclaredThrowableException(t);
+    }
+  }
+
+  /**
+   * @return the invoked {@link Method}
+   */
+  public Method getMethod() {
+    return method;
+  }
+}
@@ -6,6 +6,9 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.execution;
 
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.stream;
 import static org.apache.commons.lang3.ArrayUtils.isEmpty;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
@@ -13,7 +16,6 @@ import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
 import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
 import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
 import static org.slf4j.LoggerFactory.getLogger;
-import static org.springframework.util.ReflectionUtils.invokeMethod;
 
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.lifecycle.InitialisationException;
@@ -27,7 +29,7 @@ import org.mule.runtime.extension.api.runtime.operation.ExecutionContext;
 import org.mule.runtime.module.extension.internal.runtime.operation.ReflectiveMethodOperationExecutor;
 
 import java.lang.reflect.Method;
-import java.util.HashMap;
+import java.lang.reflect.Parameter;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
@@ -36,6 +38,9 @@ import org.slf4j.Logger;
 
 /**
  * Executes a task associated to a {@link ExecutionContext} by invoking a given {@link Method}
+ * <p>
+ * The method is invoked through a {@link MethodInvoker} and the context {@link ClassLoader} is only switched to the extension's
+ * one when it is not already set.
  *
  * @param <M> the generic type of the associated {@link ComponentModel}
  * @since 4.0
@@ -48,7 +53,7 @@ public class ReflectiveMethodComponentExecutor<M extends ComponentModel>
     private static final Object[] EMPTY = new Object[] {};
 
     @Override
-    public Object[] resolve(ExecutionContext executionContext, Class<?>[] parameterTypes) {
+    public Object[] resolve(ExecutionContext executionContext) {
       return EMPTY;
     }
   }
@@ -56,8 +61,9 @@ public class ReflectiveMethodComponentExecutor<M extends ComponentModel>
   private static final Logger LOGGER = getLogger(ReflectiveMethodOperationExecutor.class);
   private static final ArgumentResolverDelegate NO_ARGS_DELEGATE = new NoArgumentsResolverDelegate();
 
-  private final Method method;
+  private final String[] parameterNames;
   private final Object componentInstance;
+  private final MethodInvoker methodInvoker;
   private final ArgumentResolverDelegate argumentResolverDelegate;
   private final ClassLoader extensionClassLoader;
 
@@ -65,8 +71,9 @@ public class ReflectiveMethodComponentExecutor<M extends ComponentModel>
 
   public ReflectiveMethodComponentExecutor(List<ParameterGroupModel> parameterGroupModels, Method method,
                                            Object componentInstance) {
-    this.method = method;
+    this.parameterNames = stream(method.getParameters()).map(Parameter::getName).toArray(String[]::new);
     this.componentInstance = componentInstance;
+    this.methodInvoker = new MethodInvoker(method, componentInstance);
     argumentResolverDelegate = isEmpty(method.getParameterTypes())
         ? NO_ARGS_DELEGATE
         : new MethodArgumentResolverDelegate(parameterGroupModels, method);
@@ -74,13 +81,16 @@ public class ReflectiveMethodComponentExecutor<M extends ComponentModel>
   }
 
   public Object execute(ExecutionContext<M> executionContext) throws Exception {
+    if (currentThread().getContextClassLoader() == extensionClassLoader) {
+      return methodInvoker.invoke(getParameterValues(executionContext));
+    }
+
     return withContextClassLoader(extensionClassLoader,
-                                  () -> invokeMethod(method, componentInstance,
-                                                     getParameterValues(executionContext, method.getParameterTypes())));
+                                  () -> methodInvoker.invoke(getParameterValues(executionContext)));
   }
 
-  private Object[] getParameterValues(ExecutionContext<M> executionContext, Class<?>[] parameterTypes) {
-    return argumentResolverDelegate.resolve(executionContext, parameterTypes);
+  private Object[] getParameterValues(ExecutionContext<M> executionContext) {
+    return argumentResolverDelegate.resolve(executionContext);
   }
 
   @Override
@@ -114,17 +124,21 @@ public class ReflectiveMethodComponentExecutor<M extends ComponentModel>
   @Override
   public Function<ExecutionContext<OperationModel>, Map<String, Object>> createArgumentResolver(OperationModel operationModel) {
     return ec -> {
-      return withContextClassLoader(extensionClassLoader,
-                                    () -> {
-                                      final Object[] resolved =
-                                          getParameterValues((ExecutionContext<M>) ec, method.getParameterTypes());
-
-                                      final Map<String, Object> resolvedParams = new HashMap<>();
-                                      for (int i = 0; i < method.getParameterCount(); ++i) {
-                                        resolvedParams.put(method.getParameters()[i].getName(), resolved[i]);
-                                      }
-                                      return resolvedParams;
-                                    });
+      if (currentThread().getContextClassLoader() == extensionClassLoader) {
+        return resolveArguments((ExecutionContext<M>) ec);
+      }
+
+      return withContextClassLoader(extensionClassLoader, () -> resolveArguments((ExecutionContext<M>) ec));
     };
   }
+
+  private Map<String, Object> resolveArguments(ExecutionContext<M> executionContext) {
+    final Object[] resolved = getParameterValues(executionContext);
+
+    final Map<String, Object> resolvedParams = newHashMapWithExpectedSize(parameterNames.length);
+    for (int i = 0; i < parameterNames.length; ++i) {
+      resolvedParams.put(parameterNames[i], resolved[i]);
+    }
+    return resolvedParams;
+  }
 }
@@ -6,8 +6,6 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
-import static java.util.Collections.unmodifiableMap;
-
 import java.util.Map;
 
 /**
@@ -33,18 +31,28 @@ public class HashedResolverSetResult extends ResolverSetResult {
    */
   public static final class Builder extends ResolverSetResult.Builder {
 
-    private int hashCode = 1;
+    private int hashCode = 0;
 
     private Builder() {
       super();
     }
 
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    Builder staticValues(Map<String, Object> staticValues, int staticValuesHash) {
+      super.staticValues(staticValues, staticValuesHash);
+      hashCode += staticValuesHash;
+      return this;
+    }
+
     /**
      * {@inheritDoc}
      */
     public Builder add(String key, Object value) {
       super.add(key, value);
-      hashCode = calculateValueHash(hashCode, value);
+      hashCode += calculateEntryHash(key, value);
       return this;
     }
 
@@ -53,7 +61,7 @@ public class HashedResolverSetResult extends ResolverSetResult {
      */
     @Override
     public ResolverSetResult build() {
-      return new HashedResolverSetResult(unmodifiableMap(values), hashCode);
+      return new HashedResolverSetResult(buildResultMap(), hashCode);
     }
   }
 
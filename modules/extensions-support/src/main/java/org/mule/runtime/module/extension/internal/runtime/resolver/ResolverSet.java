@@ -6,7 +6,9 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static java.util.Collections.unmodifiableMap;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.module.extension.internal.runtime.resolver.ResolverSetResult.calculateEntryHash;
 import org.mule.runtime.api.exception.MuleException;
 import org.mule.runtime.api.exception.MuleRuntimeException;
 import org.mule.runtime.api.lifecycle.Initialisable;
@@ -23,7 +25,9 @@ import org.mule.runtime.module.extension.internal.runtime.objectbuilder.ObjectBu
 
 import com.google.common.collect.ImmutableMap;
 
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
@@ -37,6 +41,10 @@ import java.util.function.Function;
  * {@link ValueResolver}s but evaluated many times. With this goal in mind is that the return value of this resolver will always
  * be a {@link ResolverSetResult} which then can be used by a {@link ObjectBuilder} to generate an actual object.
  * <p>
+ * Resolvers which are known to always return the same value are only evaluated once, and their values are shared by all the
+ * returned {@link ResolverSetResult}s. If all the resolvers are of that kind, then the same {@link ResolverSetResult} is returned
+ * on every resolution.
+ * <p>
  * Instances of this class are to be considered thread safe and reusable
  *
  * @since 3.7.0
@@ -47,6 +55,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
   private boolean dynamic = false;
   private final MuleContext muleContext;
   private Function<Event, Optional<ConfigurationInstance>> configProvider;
+  private volatile StaticResolution staticResolution;
 
   public ResolverSet(MuleContext muleContext) {
     this.muleContext = muleContext;
@@ -68,6 +77,7 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
     if (resolvers.put(key, resolver) != null) {
       throw new IllegalStateException("A value was already given for key " + key);
     }
+    staticResolution = null;
 
     if (resolver.isDynamic()) {
       dynamic = true;
@@ -94,15 +104,47 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
    */
   @Override
   public ResolverSetResult resolve(ValueResolvingContext context) throws MuleException {
-    ResolverSetResult.Builder builder = getResolverSetBuilder();
+    StaticResolution resolution = getStaticResolution(context);
+    if (resolution.staticResult != null) {
+      return resolution.staticResult;
+    }
 
-    for (Map.Entry<String, ValueResolver> entry : resolvers.entrySet()) {
+    ResolverSetResult.Builder builder = getResolverSetBuilder().staticValues(resolution.values, resolution.valuesHash);
+    for (Map.Entry<String, ValueResolver> entry : resolution.dynamicResolvers) {
       builder.add(entry.getKey(), resolveValue(entry.getValue(), context));
     }
 
     return builder.build();
   }
 
+  private StaticResolution getStaticResolution(ValueResolvingContext context) throws MuleException {
+    StaticResolution resolution = staticResolution;
+    if (resolution == null) {
+      resolution = new StaticResolution(context);
+      staticResolution = resolution;
+    }
+    return resolution;
+  }
+
+  /**
+   * Whether the given {@code resolver} is known to return the same value on every resolution, so it can be cached.
+   */
+  private static boolean isConstant(ValueResolver<?> resolver) {
+    if (resolver instanceof TypeSafeValueResolverWrapper) {
+      return isConstant(((TypeSafeValueResolverWrapper<?>) resolver).getDelegate());
+    }
+
+    return resolver instanceof StaticValueResolver || resolver instanceof StaticLiteralValueResolver;
+  }
+
+  /**
+   * Whether the given constant {@code value} needs to be processed on each resolution, as in the case of streams
+   */
+  private static boolean requiresResolution(Object value) {
+    return value instanceof ValueResolver || value instanceof CursorProvider
+        || (value instanceof TypedValue && ((TypedValue) value).getValue() instanceof CursorProvider);
+  }
+
   private Object resolveValue(ValueResolver<?> resolver, ValueResolvingContext context)
       throws MuleException {
     Object value = resolver.resolve(context);
@@ -146,4 +188,35 @@ public class ResolverSet implements ValueResolver<ResolverSetResult>, Initialisa
     return ResolverSetResult.newBuilder();
   }
 
+  /**
+   * Splits the resolvers between those which values can be cached and those which need to be evaluated on each resolution.
+   */
+  private class StaticResolution {
+
+    private final Map<String, Object> values;
+    private final int valuesHash;
+    private final List<Map.Entry<String, ValueResolver>> dynamicResolvers = new ArrayList<>();
+    private final ResolverSetResult staticResult;
+
+    private StaticResolution(ValueResolvingContext context) throws MuleException {
+      Map<String, Object> staticValues = new LinkedHashMap<>();
+      int staticValuesHash = 0;
+      for (Map.Entry<String, ValueResolver> entry : resolvers.entrySet()) {
+        if (isConstant(entry.getValue())) {
+          Object value = entry.getValue().resolve(context);
+          if (!requiresResolution(value)) {
+            staticValues.put(entry.getKey(), value);
+            staticValuesHash += calculateEntryHash(entry.getKey(), value);
+            continue;
+          }
+        }
+        dynamicResolvers.add(entry);
+      }
+
+      values = unmodifiableMap(staticValues);
+      valuesHash = staticValuesHash;
+      staticResult = dynamicResolvers.isEmpty() ? getResolverSetBuilder().staticValues(values, valuesHash).build() : null;
+    }
+  }
+
 }
@@ -6,15 +6,20 @@
  */
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
+import static com.google.common.collect.Iterators.concat;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.unmodifiableMap;
 import static org.mule.runtime.api.util.Preconditions.checkArgument;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 
 import com.google.common.base.Objects;
 
-import java.util.HashMap;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * This class represents the outcome of the evaluation of a {@link ResolverSet}. This class maps a set of {@link ParameterModel}
@@ -35,9 +40,23 @@ public class ResolverSetResult {
   public static class Builder {
 
     LinkedHashMap<String, Object> values = new LinkedHashMap<>();
+    Map<String, Object> staticValues = emptyMap();
 
     Builder() {}
 
+    /**
+     * Sets values which are shared by all the results of a {@link ResolverSet}. Those values are not copied into the built
+     * {@link ResolverSetResult}, which will instead be backed by the given {@code staticValues}.
+     *
+     * @param staticValues an immutable {@link Map} with values which keys will not be {@link #add(String, Object) added}
+     * @param staticValuesHash the sum of the {@link #calculateEntryHash(String, Object) entry hashes} of the {@code staticValues}
+     * @return this builder
+     */
+    Builder staticValues(Map<String, Object> staticValues, int staticValuesHash) {
+      this.staticValues = staticValues;
+      return this;
+    }
+
     /**
      * Adds a new result {@code value} for the given {@code key}
      *
@@ -58,7 +77,11 @@ public class ResolverSetResult {
      * @return the build instance
      */
     public ResolverSetResult build() {
-      return new ResolverSetResult(unmodifiableMap(values));
+      return new ResolverSetResult(buildResultMap());
+    }
+
+    Map<String, Object> buildResultMap() {
+      return staticValues.isEmpty() ? unmodifiableMap(values) : new CompositeResultMap(staticValues, values);
     }
   }
 
@@ -74,7 +97,7 @@ public class ResolverSetResult {
   private final Map<String, Object> evaluationResult;
 
   ResolverSetResult(Map<String, Object> evaluationResult) {
-    this.evaluationResult = new HashMap<>(evaluationResult);
+    this.evaluationResult = evaluationResult;
   }
 
   /**
@@ -112,18 +135,77 @@ public class ResolverSetResult {
 
   @Override
   public int hashCode() {
-    int hashcode = 1;
-    for (Object val : evaluationResult.values()) {
-      hashcode = calculateValueHash(hashcode, val);
+    int hashcode = 0;
+    for (Map.Entry<String, Object> entry : evaluationResult.entrySet()) {
+      hashcode += calculateEntryHash(entry.getKey(), entry.getValue());
     }
     return hashcode;
   }
 
-  static int calculateValueHash(int hashcode, Object val) {
-    return 31 * hashcode + (val == null ? 0 : val.hashCode());
+  /**
+   * Calculates the contribution of an entry to the {@link #hashCode()}. Contributions are added so the result does not depend on
+   * the order in which the values were resolved.
+   */
+  static int calculateEntryHash(String key, Object value) {
+    return key.hashCode() ^ (value == null ? 0 : value.hashCode());
   }
 
+  /**
+   * @return an immutable view of the resolved values
+   */
   public Map<String, Object> asMap() {
     return evaluationResult;
   }
+
+  /**
+   * An immutable {@link Map} which exposes the static values shared by all the results of a {@link ResolverSet} together with the
+   * values resolved for a particular result, without copying the former.
+   */
+  private static final class CompositeResultMap extends AbstractMap<String, Object> {
+
+    private final Map<String, Object> staticValues;
+    private final Map<String, Object> dynamicValues;
+    private Set<Entry<String, Object>> entrySet;
+
+    private CompositeResultMap(Map<String, Object> staticValues, Map<String, Object> dynamicValues) {
+      this.staticValues = staticValues;
+      this.dynamicValues = dynamicValues;
+    }
+
+    @Override
+    public Object get(Object key) {
+      Object value = dynamicValues.get(key);
+      return value != null || dynamicValues.containsKey(key) ? value : staticValues.get(key);
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+      return dynamicValues.containsKey(key) || staticValues.containsKey(key);
+    }
+
+    @Override
+    public int size() {
+      return staticValues.size() + dynamicValues.size();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+      if (entrySet == null) {
+        entrySet = new AbstractSet<Entry<String, Object>>() {
+
+          @Override
+          public Iterator<Entry<String, Object>> iterator() {
+            return concat(unmodifiableMap(staticValues).entrySet().iterator(),
+                          unmodifiableMap(dynamicValues).entrySet().iterator());
+          }
+
+          @Override
+          public int size() {
+            return CompositeResultMap.this.size();
+          }
+        };
+      }
+      return entrySet;
+    }
+  }
 }
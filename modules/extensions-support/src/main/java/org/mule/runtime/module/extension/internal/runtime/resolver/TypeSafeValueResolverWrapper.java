@@ -69,6 +69,10 @@ public class TypeSafeValueResolverWrapper<T> implements ValueResolver<T>, Initia
     this.transformationService = transformationService;
   }
 
+  ValueResolver getDelegate() {
+    return valueResolverDelegate;
+  }
+
   @FunctionalInterface
   private interface Resolver<T> {
 
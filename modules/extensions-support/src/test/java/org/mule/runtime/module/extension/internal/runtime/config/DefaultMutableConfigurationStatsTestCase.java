@@ -45,4 +45,19 @@ public class DefaultMutableConfigurationStatsTestCase extends AbstractMuleTestCa
     assertThat(stats.discountInflightOperation(), is(0));
     assertThat(stats.getInflightOperations(), is(0));
   }
+
+  @Test
+  public void pendingOperationStartsAsInflight() {
+    assertThat(stats.addPendingOperation(), is(1));
+    assertThat(stats.addInflightOperation(), is(1));
+    assertThat(stats.getPendingOperations(), is(0));
+    assertThat(stats.getInflightOperations(), is(1));
+  }
+
+  @Test
+  public void discountPendingOperation() {
+    stats.addPendingOperation();
+    assertThat(stats.discountPendingOperation(), is(0));
+    assertThat(stats.discountPendingOperation(), is(0));
+  }
 }
@@ -191,6 +191,130 @@ public class DynamicConfigurationProviderTestCase extends AbstractConfigurationP
     assertThat(configs, containsInAnyOrder(instance1, instance2));
   }
 
+  @Test
+  public void expiredAreNoLongerCached() throws Exception {
+    HeisenbergExtension instance = (HeisenbergExtension) provider.get(event).getValue();
+
+    DynamicConfigurationProvider provider = (DynamicConfigurationProvider) this.provider;
+    timeSupplier.move(10, MINUTES);
+    assertThat(provider.getExpired().size(), is(1));
+    assertThat(provider.getExpired().isEmpty(), is(true));
+
+    mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+    assertThat(provider.get(event).getValue(), is(not(sameInstance(instance))));
+    assertThat(provider.getCacheEvictions(), is(1L));
+  }
+
+  @Test
+  public void cacheStatistics() throws Exception {
+    provider.get(event);
+    provider.get(event);
+    makeAlternateInstance();
+
+    DynamicConfigurationProvider provider = (DynamicConfigurationProvider) this.provider;
+    assertThat(provider.getCacheHits(), is(1L));
+    assertThat(provider.getCacheMisses(), is(2L));
+    assertThat(provider.getCacheEvictions(), is(0L));
+    assertThat(provider.getCachedInstancesCount(), is(2));
+  }
+
+  @Test
+  public void evictLeastRecentlyUsedWhenBounded() throws Exception {
+    DynamicConfigurationProvider boundedProvider = createBoundedProvider(1);
+
+    try {
+      ConfigurationInstance configuration1 = boundedProvider.get(event);
+      HeisenbergExtension instance1 = (HeisenbergExtension) configuration1.getValue();
+      executeOperation(configuration1);
+
+      timeSupplier.move(1, MINUTES);
+      ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
+      mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+      when(resolverSet.resolve(from(event))).thenReturn(alternateResult);
+      HeisenbergExtension instance2 = (HeisenbergExtension) boundedProvider.get(event).getValue();
+
+      assertThat(boundedProvider.getCachedInstancesCount(), is(1));
+      assertThat(boundedProvider.getCacheEvictions(), is(1L));
+      assertThat(boundedProvider.get(event).getValue(), is(sameInstance(instance2)));
+
+      mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+      when(resolverSet.resolve(from(event))).thenReturn(resolverSetResult);
+      assertThat(boundedProvider.get(event).getValue(), is(not(sameInstance(instance1))));
+    } finally {
+      boundedProvider.stop();
+      boundedProvider.dispose();
+    }
+  }
+
+  @Test
+  public void returnedInstanceIsNotEvictedWhenTheOthersAreBusy() throws Exception {
+    DynamicConfigurationProvider boundedProvider = createBoundedProvider(1);
+
+    try {
+      ConfigurationInstance busyInstance = boundedProvider.get(event);
+      ((MutableConfigurationStats) busyInstance.getStatistics()).addInflightOperation();
+
+      timeSupplier.move(1, MINUTES);
+      ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
+      mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+      when(resolverSet.resolve(from(event))).thenReturn(alternateResult);
+      ConfigurationInstance newInstance = boundedProvider.get(event);
+
+      assertThat(boundedProvider.getCacheEvictions(), is(0L));
+      assertThat(boundedProvider.getCachedInstancesCount(), is(2));
+      assertThat(boundedProvider.get(event), is(sameInstance(newInstance)));
+    } finally {
+      boundedProvider.stop();
+      boundedProvider.dispose();
+    }
+  }
+
+  @Test
+  public void handedOutInstanceIsNotEvictedBeforeItsOperationStarts() throws Exception {
+    DynamicConfigurationProvider boundedProvider = createBoundedProvider(1);
+
+    try {
+      ConfigurationInstance handedOut = boundedProvider.get(event);
+
+      timeSupplier.move(1, MINUTES);
+      ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
+      mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+      when(resolverSet.resolve(from(event))).thenReturn(alternateResult);
+      executeOperation(boundedProvider.get(event));
+
+      assertThat(boundedProvider.getCacheEvictions(), is(0L));
+      assertThat(boundedProvider.getCachedInstancesCount(), is(2));
+
+      executeOperation(handedOut);
+      ResolverSetResult anotherResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
+      mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
+      when(resolverSet.resolve(from(event))).thenReturn(anotherResult);
+      boundedProvider.get(event);
+
+      assertThat(boundedProvider.getCacheEvictions(), is(2L));
+      assertThat(boundedProvider.getCachedInstancesCount(), is(1));
+    } finally {
+      boundedProvider.stop();
+      boundedProvider.dispose();
+    }
+  }
+
+  private void executeOperation(ConfigurationInstance configuration) {
+    MutableConfigurationStats stats = (MutableConfigurationStats) configuration.getStatistics();
+    stats.addInflightOperation();
+    stats.discountInflightOperation();
+  }
+
+  private DynamicConfigurationProvider createBoundedProvider(int maxCachedInstances) throws Exception {
+    DynamicConfigurationProvider boundedProvider =
+        new DynamicConfigurationProvider(CONFIG_NAME, extensionModel, configurationModel, resolverSet,
+                                         connectionProviderResolver, expirationPolicy, maxCachedInstances, muleContext);
+    muleContext.getInjector().inject(boundedProvider);
+    boundedProvider.initialise();
+    boundedProvider.start();
+    return boundedProvider;
+  }
+
   private HeisenbergExtension makeAlternateInstance() throws Exception {
     ResolverSetResult alternateResult = mock(ResolverSetResult.class, Mockito.RETURNS_DEEP_STUBS);
     mockConfigurationInstance(configurationModel, MODULE_CLASS.newInstance());
@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.module.extension.internal.runtime.execution;
+
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.Assert.assertThat;
+
+import org.mule.tck.junit4.AbstractMuleTestCase;
+import org.mule.tck.size.SmallTest;
+
+import java.io.IOException;
+import java.lang.reflect.UndeclaredThrowableException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+@SmallTest
+public class MethodInvokerTestCase extends AbstractMuleTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final Target target = new Target();
+
+  @Test
+  public void invokeWithPrimitiveArguments() throws Exception {
+    MethodInvoker invoker = new MethodInvoker(Target.class.getMethod("add", int.class, long.class), target);
+
+    assertThat(invoker.invoke(new Object[] {1, 2L}), is(3L));
+  }
+
+  @Test
+  public void invokeVoidMethod() throws Exception {
+    MethodInvoker invoker = new MethodInvoker(Target.class.getMethod("touch"), target);
+
+    assertThat(invoker.invoke(new Object[] {}), is(nullValue()));
+    assertThat(target.touched, is(true));
+  }
+
+  @Test
+  public void invokeStaticMethod() throws Exception {
+    MethodInvoker invoker = new MethodInvoker(Target.class.getMethod("echo", String.class), null);
+
+    assertThat(invoker.invoke(new Object[] {"hello"}), is("hello"));
+  }
+
+  @Test
+  public void runtimeExceptionIsPropagated() throws Exception {
+    MethodInvoker invoker = new MethodInvoker(Target.class.getMethod("failUnchecked"), target);
+
+    expectedException.expect(IllegalStateException.class);
+    invoker.invoke(new Object[] {});
+  }
+
+  @Test
+  public void checkedExceptionIsWrapped() throws Exception {
+    MethodInvoker invoker = new MethodInvoker(Target.class.getMethod("failChecked"), target);
+
+    expectedException.expect(UndeclaredThrowableException.class);
+    expectedException.expectCause(instanceOf(IOException.class));
+    invoker.invoke(new Object[] {});
+  }
+
+  public static class Target {
+
+    private boolean touched = false;
+
+    public long add(int a, long b) {
+      return a + b;
+    }
+
+    public void touch() {
+      touched = true;
+    }
+
+    public static String echo(String value) {
+      return value;
+    }
+
+    public void failUnchecked() {
+      throw new IllegalStateException();
+    }
+
+    public void failChecked() throws IOException {
+      throw new IOException();
+    }
+  }
+}
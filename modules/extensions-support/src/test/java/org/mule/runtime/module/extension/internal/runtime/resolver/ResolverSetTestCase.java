@@ -7,8 +7,12 @@
 package org.mule.runtime.module.extension.internal.runtime.resolver;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.mule.test.module.extension.internal.util.ExtensionsTestUtils.getParameter;
 import org.mule.runtime.api.lifecycle.Lifecycle;
@@ -100,6 +104,49 @@ public class ResolverSetTestCase extends AbstractMuleTestCase {
     assertThat(set.isDynamic(), is(true));
   }
 
+  @Test
+  public void staticResolversResolvedOnce() throws Exception {
+    ResolverSet staticSet = new ResolverSet(muleContext);
+    staticSet.add("myName", new StaticValueResolver<>(NAME));
+    staticSet.add("age", new StaticValueResolver<>(AGE));
+
+    ResolverSetResult result = staticSet.resolve(resolvingContext);
+
+    assertThat(result.get("myName"), is(NAME));
+    assertThat(result.get("age"), is(AGE));
+    assertThat(staticSet.resolve(resolvingContext), is(sameInstance(result)));
+  }
+
+  @Test
+  public void onlyDynamicResolversResolvedPerEvent() throws Exception {
+    ValueResolver dynamicResolver = getResolver(AGE);
+    when(dynamicResolver.isDynamic()).thenReturn(true);
+
+    ResolverSet mixedSet = new ResolverSet(muleContext);
+    mixedSet.add("myName", new StaticValueResolver<>(NAME));
+    mixedSet.add("age", dynamicResolver);
+
+    ResolverSetResult first = mixedSet.resolve(resolvingContext);
+    ResolverSetResult second = mixedSet.resolve(resolvingContext);
+
+    assertThat(first, is(not(sameInstance(second))));
+    assertThat(second.get("myName"), is(NAME));
+    assertThat(second.get("age"), is(AGE));
+    assertThat(second.asMap().size(), is(2));
+    verify(dynamicResolver, times(2)).resolve(resolvingContext);
+  }
+
+  @Test
+  public void addingResolverAfterResolution() throws Exception {
+    ResolverSet staticSet = new ResolverSet(muleContext);
+    staticSet.add("myName", new StaticValueResolver<>(NAME));
+    staticSet.resolve(resolvingContext);
+
+    staticSet.add("age", new StaticValueResolver<>(AGE));
+
+    assertThat(staticSet.resolve(resolvingContext).get("age"), is(AGE));
+  }
+
   private void assertResult(ResolverSetResult result, Map<ParameterModel, ValueResolver> mapping) throws Exception {
     assertThat(result, is(notNullValue()));
     for (Map.Entry<ParameterModel, ValueResolver> entry : mapping.entrySet()) {
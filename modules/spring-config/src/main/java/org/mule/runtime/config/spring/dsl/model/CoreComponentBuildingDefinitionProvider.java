@@ -166,6 +166,7 @@ import org.mule.runtime.core.routing.IdempotentSecureHashMessageValidator;
 import org.mule.runtime.core.routing.MessageChunkAggregator;
 import org.mule.runtime.core.routing.MessageChunkSplitter;
 import org.mule.runtime.core.routing.MessageProcessorExpressionPair;
+import org.mule.runtime.core.routing.ParallelForeach;
 import org.mule.runtime.core.routing.Resequencer;
 import org.mule.runtime.core.routing.RoundRobin;
 import org.mule.runtime.core.routing.ScatterGatherRouter;
@@ -253,6 +254,7 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
   private static final String TRY = "try";
   private static final String UNTIL_SUCCESSFUL = "until-successful";
   private static final String FOREACH = "foreach";
+  private static final String PARALLEL_FOREACH = "parallel-foreach";
   private static final String FIRST_SUCCESSFUL = "first-successful";
   private static final String ROUND_ROBIN = "round-robin";
   private static final String CHOICE = "choice";
@@ -437,6 +439,8 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withTypeDefinition(fromType(ScatterGatherRouter.class)).withObjectFactoryType(ScatterGatherRouterFactoryBean.class)
         .withSetterParameterDefinition("parallel", fromSimpleParameter("parallel").build())
         .withSetterParameterDefinition("timeout", fromSimpleParameter("timeout").build())
+        .withSetterParameterDefinition("maxConcurrency", fromSimpleParameter("maxConcurrency").build())
+        .withSetterParameterDefinition("quorum", fromSimpleParameter("quorum").build())
         .withSetterParameterDefinition("aggregationStrategy", fromChildConfiguration(AggregationStrategy.class).build())
         .withSetterParameterDefinition(MESSAGE_PROCESSORS, fromChildCollectionConfiguration(Processor.class).build())
         .asScope().build());
@@ -486,6 +490,17 @@ public class CoreComponentBuildingDefinitionProvider implements ComponentBuildin
         .withSetterParameterDefinition(MESSAGE_PROCESSORS, fromChildCollectionConfiguration(Processor.class).build())
         .withSetterParameterDefinition("ignoreErrorType", fromSimpleParameter("ignoreErrorType").build())
         .build());
+    componentBuildingDefinitions
+        .add(baseDefinition.withIdentifier(PARALLEL_FOREACH).withTypeDefinition(fromType(ParallelForeach.class))
+            .withSetterParameterDefinition("collectionExpression", fromSimpleParameter("collection").build())
+            .withSetterParameterDefinition("batchSize", fromSimpleParameter("batchSize").build())
+            .withSetterParameterDefinition("rootMessageVariableName", fromSimpleParameter("rootMessageVariableName").build())
+            .withSetterParameterDefinition("counterVariableName", fromSimpleParameter("counterVariableName").build())
+            .withSetterParameterDefinition("maxConcurrency", fromSimpleParameter("maxConcurrency").build())
+            .withSetterParameterDefinition("collectResults", fromSimpleParameter("collectResults").build())
+            .withSetterParameterDefinition(MESSAGE_PROCESSORS, fromChildCollectionConfiguration(Processor.class).build())
+            .withSetterParameterDefinition("ignoreErrorType", fromSimpleParameter("ignoreErrorType").build())
+            .build());
     componentBuildingDefinitions
         .add(baseDefinition.withIdentifier(FIRST_SUCCESSFUL).withTypeDefinition(fromType(FirstSuccessful.class))
             .withSetterParameterDefinition("failureExpression",
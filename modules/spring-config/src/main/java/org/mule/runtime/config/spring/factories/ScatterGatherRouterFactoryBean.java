@@ -25,6 +25,8 @@ public class ScatterGatherRouterFactoryBean extends AbstractAnnotatedObject
 
   private boolean parallel = true;
   private long timeout = 0;
+  private int maxConcurrency = 0;
+  private int quorum = 0;
   private List<Processor> messageProcessors;
   private AggregationStrategy aggregationStrategy;
   private MuleContext muleContext;
@@ -35,6 +37,8 @@ public class ScatterGatherRouterFactoryBean extends AbstractAnnotatedObject
     ScatterGatherRouter sg = new ScatterGatherRouter();
     sg.setParallel(parallel);
     sg.setTimeout(timeout);
+    sg.setMaxConcurrency(maxConcurrency);
+    sg.setQuorum(quorum);
     sg.setMuleContext(muleContext);
     sg.setFlowConstruct(flowConstruct);
 
@@ -72,6 +76,14 @@ public class ScatterGatherRouterFactoryBean extends AbstractAnnotatedObject
     this.timeout = timeout;
   }
 
+  public void setMaxConcurrency(int maxConcurrency) {
+    this.maxConcurrency = maxConcurrency;
+  }
+
+  public void setQuorum(int quorum) {
+    this.quorum = quorum;
+  }
+
   public void setAggregationStrategy(AggregationStrategy aggregationStrategy) {
     this.aggregationStrategy = aggregationStrategy;
   }
@@ -119,6 +119,24 @@ public class EventBenchmark extends AbstractBenchmark {
     return Event.builder(eventWith100VariablesProperties).addVariable(KEY, VALUE).build();
   }
 
+  @Benchmark
+  public Event removeEventVariableEventWith50VariablesProperties() {
+    return Event.builder(eventWith50VariablesProperties).removeVariable("FlOwVaRiAbLeKeY25").build();
+  }
+
+  @Benchmark
+  public Event addEventVariablesInChainEventWith50VariablesProperties() {
+    Event current = eventWith50VariablesProperties;
+    for (int j = 1; j <= 10; j++) {
+      current = Event.builder(current).addVariable(KEY + j, VALUE).build();
+    }
+    return current;
+  }
+
+  @Benchmark
+  public Object getEventVariableEventWith50VariablesProperties() {
+    return eventWith50VariablesProperties.getVariable("flowvariablekey25").getValue();
+  }
 
   @Benchmark
   public Event copyWith10FlowVarsAnd10PropertiesWrite1OfEach() throws Exception {
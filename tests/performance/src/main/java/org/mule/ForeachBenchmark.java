@@ -0,0 +1,123 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.lang.Thread.sleep;
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.IntStream.range;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.disposeIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.initialiseIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.startIfNeeded;
+import static org.mule.runtime.core.api.lifecycle.LifecycleUtils.stopIfNeeded;
+
+import org.mule.runtime.api.exception.MuleException;
+import org.mule.runtime.core.api.Event;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.construct.Flow;
+import org.mule.runtime.core.api.processor.Processor;
+import org.mule.runtime.core.api.scheduler.SchedulerService;
+import org.mule.runtime.core.routing.Foreach;
+import org.mule.runtime.core.routing.ParallelForeach;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+@OutputTimeUnit(MILLISECONDS)
+public class ForeachBenchmark extends AbstractBenchmark {
+
+  private static final Logger LOGGER = LoggerFactory.getLogger(ForeachBenchmark.class);
+
+  private static final Processor blockingProcessor = new Processor() {
+
+    @Override
+    public Event process(Event event) throws MuleException {
+      try {
+        sleep(1);
+      } catch (InterruptedException e) {
+        throw new RuntimeException(e);
+      }
+      return event;
+    }
+
+    @Override
+    public ProcessingType getProcessingType() {
+      return ProcessingType.BLOCKING;
+    }
+  };
+
+  @Param({"100"})
+  public int elements;
+
+  @Param({"16"})
+  public int maxConcurrency;
+
+  private MuleContext muleContext;
+  private Flow flow;
+  private Foreach foreach;
+  private ParallelForeach parallelForeach;
+  private ParallelForeach parallelForeachCollectingResults;
+  private Event event;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    flow = createFlow(muleContext);
+    muleContext.getRegistry().registerFlowConstruct(flow);
+
+    foreach = new Foreach();
+    parallelForeach = new ParallelForeach();
+    parallelForeach.setMaxConcurrency(maxConcurrency);
+    parallelForeachCollectingResults = new ParallelForeach();
+    parallelForeachCollectingResults.setMaxConcurrency(maxConcurrency);
+    parallelForeachCollectingResults.setCollectResults(true);
+    for (Foreach processor : new Foreach[] {foreach, parallelForeach, parallelForeachCollectingResults}) {
+      processor.setMessageProcessors(singletonList(blockingProcessor));
+      initialiseIfNeeded(processor, muleContext, flow);
+      startIfNeeded(processor);
+    }
+
+    List<Integer> payload = range(0, elements).boxed().collect(toList());
+    event = createEvent(flow, payload);
+  }
+
+  @TearDown
+  public void teardown() throws MuleException {
+    for (Foreach processor : new Foreach[] {foreach, parallelForeach, parallelForeachCollectingResults}) {
+      stopIfNeeded(processor);
+      disposeIfNeeded(processor, LOGGER);
+    }
+    SchedulerService schedulerService = muleContext.getRegistry().lookupObject(SchedulerService.class);
+    muleContext.dispose();
+    stopIfNeeded(schedulerService);
+  }
+
+  @Benchmark
+  public Event foreach() throws MuleException {
+    return foreach.process(event);
+  }
+
+  @Benchmark
+  public Event parallelForeach() throws MuleException {
+    return parallelForeach.process(event);
+  }
+
+  @Benchmark
+  public Event parallelForeachCollectingResults() throws MuleException {
+    return parallelForeachCollectingResults.process(event);
+  }
+
+}
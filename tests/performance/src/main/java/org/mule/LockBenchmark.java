@@ -0,0 +1,68 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.runtime.api.lock.LockFactory;
+import org.mule.runtime.core.api.MuleContext;
+
+import java.util.UUID;
+import java.util.concurrent.locks.Lock;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+@OutputTimeUnit(NANOSECONDS)
+@Threads(8)
+public class LockBenchmark extends AbstractBenchmark {
+
+  private static final String SHARED_KEY = "shared";
+
+  private MuleContext muleContext;
+  private LockFactory lockFactory;
+
+  @State(Scope.Thread)
+  public static class ThreadKey {
+
+    private final String key = UUID.randomUUID().toString();
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    lockFactory = muleContext.getLockFactory();
+  }
+
+  @TearDown
+  public void teardown() {
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public Lock lockDistinctKeys(ThreadKey threadKey) {
+    return lockUnlock(threadKey.key);
+  }
+
+  @Benchmark
+  public Lock lockSharedKey() {
+    return lockUnlock(SHARED_KEY);
+  }
+
+  private Lock lockUnlock(String key) {
+    Lock lock = lockFactory.createLock(key);
+    lock.lock();
+    lock.unlock();
+    return lock;
+  }
+}
@@ -34,6 +34,11 @@ public class MessageBenchmark extends AbstractBenchmark {
     return of(PAYLOAD);
   }
 
+  @Benchmark
+  public DataType createMessageAndResolveDataType() {
+    return of(PAYLOAD).getPayload().getDataType();
+  }
+
   @Benchmark
   public Message createMessageWithDataType() {
     return Message.builder().payload(PAYLOAD).mediaType(MediaType.TEXT).build();
@@ -44,6 +49,11 @@ public class MessageBenchmark extends AbstractBenchmark {
     return Message.builder(message).build();
   }
 
+  @Benchmark
+  public DataType copyMessageAndResolveDataType() {
+    return Message.builder(message).build().getPayload().getDataType();
+  }
+
   @Benchmark
   public Message copyMessageWith20Properties() {
     return Message.builder(messageWith20Properties).build();
@@ -0,0 +1,117 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Collections.emptyList;
+import static java.util.Optional.empty;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.core.api.util.ClassUtils.withContextClassLoader;
+import static org.mule.runtime.module.extension.internal.loader.java.MuleExtensionAnnotationParser.getParamNames;
+import static org.springframework.util.ReflectionUtils.invokeMethod;
+
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.module.extension.internal.runtime.DefaultExecutionContext;
+import org.mule.runtime.module.extension.internal.runtime.execution.MethodArgumentResolverDelegate;
+import org.mule.runtime.module.extension.internal.runtime.execution.MethodInvoker;
+import org.mule.runtime.module.extension.internal.runtime.execution.ReflectiveMethodComponentExecutor;
+import org.mule.test.heisenberg.extension.HeisenbergOperations;
+import org.mule.test.petstore.extension.PetStoreOperations;
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+
+/**
+ * Compares the cost of executing extension operations by invoking their method reflectively, as done before
+ * {@link MethodInvoker} was introduced, against executing them through a {@link ReflectiveMethodComponentExecutor}.
+ * <p>
+ * Both paths resolve the arguments from the same execution context and only switch the context {@link ClassLoader} when it is
+ * not the extension's one, so the difference is just the cost of the invocation.
+ */
+@OutputTimeUnit(NANOSECONDS)
+public class OperationInvocationBenchmark extends AbstractBenchmark {
+
+  private HeisenbergOperations heisenbergOperations;
+  private PetStoreOperations petStoreOperations;
+  private Method killMethod;
+  private Method describeMethod;
+  private ClassLoader heisenbergClassLoader;
+  private ClassLoader petStoreClassLoader;
+  private MethodArgumentResolverDelegate killArgumentResolver;
+  private MethodArgumentResolverDelegate describeArgumentResolver;
+  private ReflectiveMethodComponentExecutor<OperationModel> killExecutor;
+  private ReflectiveMethodComponentExecutor<OperationModel> describeExecutor;
+  private DefaultExecutionContext<OperationModel> killContext;
+  private DefaultExecutionContext<OperationModel> describeContext;
+
+  @Setup
+  public void setup() throws Exception {
+    heisenbergOperations = new HeisenbergOperations();
+    petStoreOperations = new PetStoreOperations();
+    killMethod = HeisenbergOperations.class.getMethod("kill", String.class, String.class);
+    describeMethod = PetStoreOperations.class.getMethod("describeSerializedAnimal", Serializable.class);
+    heisenbergClassLoader = HeisenbergOperations.class.getClassLoader();
+    petStoreClassLoader = PetStoreOperations.class.getClassLoader();
+
+    killArgumentResolver = new MethodArgumentResolverDelegate(emptyList(), killMethod);
+    describeArgumentResolver = new MethodArgumentResolverDelegate(emptyList(), describeMethod);
+    killExecutor = new ReflectiveMethodComponentExecutor<>(emptyList(), killMethod, heisenbergOperations);
+    describeExecutor = new ReflectiveMethodComponentExecutor<>(emptyList(), describeMethod, petStoreOperations);
+
+    killContext = createExecutionContext(killMethod, "Tuco", "Say hello to my little friend");
+    describeContext = createExecutionContext(describeMethod, "Dog");
+  }
+
+  private DefaultExecutionContext<OperationModel> createExecutionContext(Method method, Object... arguments) {
+    final List<String> paramNames = getParamNames(method);
+    final Map<String, Object> parameters = new HashMap<>();
+    for (int i = 0; i < arguments.length; ++i) {
+      parameters.put(paramNames.get(i), arguments[i]);
+    }
+    return new DefaultExecutionContext<>(null, empty(), parameters, null, null, null, null, null);
+  }
+
+  @Benchmark
+  public Object heisenbergReflectiveInvocation() throws Exception {
+    return withExtensionClassLoader(heisenbergClassLoader, () -> invokeMethod(killMethod, heisenbergOperations,
+                                                                              killArgumentResolver.resolve(killContext)));
+  }
+
+  @Benchmark
+  public Object heisenbergExecutor() throws Exception {
+    return killExecutor.execute(killContext);
+  }
+
+  @Benchmark
+  public Object petStoreReflectiveInvocation() throws Exception {
+    return withExtensionClassLoader(petStoreClassLoader, () -> invokeMethod(describeMethod, petStoreOperations,
+                                                                            describeArgumentResolver.resolve(describeContext)));
+  }
+
+  @Benchmark
+  public Object petStoreExecutor() throws Exception {
+    return describeExecutor.execute(describeContext);
+  }
+
+  /**
+   * Same context {@link ClassLoader} handling as the {@link ReflectiveMethodComponentExecutor}
+   */
+  private Object withExtensionClassLoader(ClassLoader extensionClassLoader, Callable<Object> callable) throws Exception {
+    if (currentThread().getContextClassLoader() == extensionClassLoader) {
+      return callable.call();
+    }
+    return withContextClassLoader(extensionClassLoader, callable);
+  }
+}
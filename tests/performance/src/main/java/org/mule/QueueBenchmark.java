@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.util.queue.Queue;
+import org.mule.runtime.core.api.util.queue.QueueManager;
+import org.mule.runtime.core.api.util.queue.QueueSession;
+
+import java.io.Serializable;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+@OutputTimeUnit(NANOSECONDS)
+public class QueueBenchmark extends AbstractBenchmark {
+
+  private static final String QUEUE_NAME = "benchmarkQueue";
+  private static final long POLL_TIMEOUT = 10;
+
+  private MuleContext muleContext;
+  private QueueManager queueManager;
+
+  @State(Scope.Thread)
+  public static class ThreadSession {
+
+    private QueueSession session;
+    private Queue queue;
+
+    @Setup
+    public void setup(QueueBenchmark benchmark) {
+      session = benchmark.queueManager.getQueueSession();
+      queue = session.getQueue(QUEUE_NAME);
+    }
+  }
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    queueManager = muleContext.getQueueManager();
+  }
+
+  @TearDown
+  public void teardown() {
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public Serializable putTake(ThreadSession threadSession) throws Exception {
+    threadSession.queue.put(VALUE);
+    return threadSession.queue.take();
+  }
+
+  @Benchmark
+  public Serializable transactionalPutTake(ThreadSession threadSession) throws Exception {
+    threadSession.session.begin();
+    threadSession.queue.put(VALUE);
+    threadSession.session.commit();
+
+    threadSession.session.begin();
+    Serializable value = threadSession.queue.take();
+    threadSession.session.commit();
+    return value;
+  }
+
+  @Benchmark
+  @Group("producerConsumer")
+  @GroupThreads(4)
+  public void put(ThreadSession threadSession) throws Exception {
+    threadSession.queue.put(VALUE);
+  }
+
+  @Benchmark
+  @Group("producerConsumer")
+  @GroupThreads(4)
+  public Serializable poll(ThreadSession threadSession) throws Exception {
+    return threadSession.queue.poll(POLL_TIMEOUT);
+  }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright (c) MuleSoft, Inc.  All rights reserved.  http://www.mulesoft.com
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.mule.runtime.api.message.Message.of;
+import static org.mule.runtime.api.metadata.DataType.BYTE_ARRAY;
+import static org.mule.runtime.api.metadata.DataType.INPUT_STREAM;
+import static org.mule.runtime.api.metadata.DataType.STRING;
+
+import org.mule.runtime.api.message.Message;
+import org.mule.runtime.api.metadata.DataType;
+import org.mule.runtime.core.api.MuleContext;
+import org.mule.runtime.core.api.transformer.Transformer;
+import org.mule.runtime.core.api.transformer.TransformerException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+
+@OutputTimeUnit(NANOSECONDS)
+public class TransformationBenchmark extends AbstractBenchmark {
+
+  private static final DataType UNRESOLVABLE = DataType.fromType(TransformationBenchmark.class);
+
+  private MuleContext muleContext;
+  private Message stringMessage;
+  private Message bytesMessage;
+
+  @Setup
+  public void setup() throws Exception {
+    muleContext = createMuleContextWithServices();
+    muleContext.start();
+    stringMessage = of(PAYLOAD);
+    bytesMessage = of(PAYLOAD.getBytes());
+  }
+
+  @TearDown
+  public void teardown() {
+    muleContext.dispose();
+  }
+
+  @Benchmark
+  public Message internalTransformStringToBytes() throws TransformerException {
+    return muleContext.getTransformationService().internalTransform(stringMessage, BYTE_ARRAY);
+  }
+
+  @Benchmark
+  public Message internalTransformBytesToString() throws TransformerException {
+    return muleContext.getTransformationService().internalTransform(bytesMessage, STRING);
+  }
+
+  @Benchmark
+  public Transformer lookupTransformer() throws TransformerException {
+    return muleContext.getRegistry().lookupTransformer(INPUT_STREAM, BYTE_ARRAY);
+  }
+
+  @Benchmark
+  public Object lookupUnresolvableTransformer() {
+    try {
+      return muleContext.getRegistry().lookupTransformer(UNRESOLVABLE, INPUT_STREAM);
+    } catch (TransformerException e) {
+      return e;
+    }
+  }
+}
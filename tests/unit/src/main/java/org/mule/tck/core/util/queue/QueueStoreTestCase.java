@@ -6,6 +6,7 @@
  */
 package org.mule.tck.core.util.queue;
 
+import static java.util.Arrays.asList;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsNull.nullValue;
 import static org.junit.Assert.assertThat;
@@ -21,6 +22,7 @@ import org.mule.tck.junit4.AbstractMuleContextTestCase;
 
 import java.io.Serializable;
 import java.util.ArrayList;
+import java.util.List;
 
 import org.hamcrest.core.Is;
 import org.junit.Rule;
@@ -132,6 +134,31 @@ public abstract class QueueStoreTestCase extends AbstractMuleContextTestCase {
     }
   }
 
+  @Test
+  public void putAllThenDrainInOrder() throws Exception {
+    QueueStore queue = createQueue();
+    queue.putAllNow(asList(VALUE, ANOTHER_VALUE));
+    List<Serializable> drained = queue.drainTo(NUMBER_OF_ITEMS, SHORT_POLL_TIMEOUT);
+    assertThat(drained, is(asList(VALUE, ANOTHER_VALUE)));
+    assertThat(queue.getSize(), is(0));
+  }
+
+  @Test
+  public void drainDoesNotTakeMoreThanMaxItems() throws Exception {
+    QueueStore queue = createQueue();
+    for (int i = 0; i < NUMBER_OF_ITEMS; i++) {
+      queue.putNow(String.valueOf(i));
+    }
+    assertThat(queue.drainTo(2, SHORT_POLL_TIMEOUT), is(asList("0", "1")));
+    assertThat(queue.getSize(), is(NUMBER_OF_ITEMS - 2));
+  }
+
+  @Test
+  public void drainEmptyQueueReturnsEmptyList() throws Exception {
+    QueueStore queue = createQueue();
+    assertThat(queue.drainTo(NUMBER_OF_ITEMS, SHORT_POLL_TIMEOUT).isEmpty(), is(true));
+  }
+
   protected QueueStore createQueue() {
     return createQueueWithCapacity(MAXIMUM_CAPACITY);
   }